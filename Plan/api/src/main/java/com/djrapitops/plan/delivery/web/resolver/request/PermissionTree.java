@@ -0,0 +1,99 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web.resolver.request;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Prefix tree of granted permissions.
+ * <p>
+ * A permission is granted if it or one of its parents (part before a '.') has been granted, eg. a grant
+ * {@code page.player} grants {@code page.player} and {@code page.player.thing}, but not {@code page.players}.
+ * <p>
+ * The tree is immutable after it has been compiled, and checking a permission does not allocate.
+ *
+ * @author AuroraLS3
+ */
+final class PermissionTree {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+
+    private PermissionTree(Node root) {
+        this.root = root;
+    }
+
+    static PermissionTree compile(Collection<String> grants) {
+        Node root = new Node();
+        for (String grant : grants) {
+            if (grant == null) continue;
+            Node node = root;
+            for (int i = 0; i < grant.length(); i++) {
+                node = node.getOrCreateChild(grant.charAt(i));
+            }
+            node.granted = true;
+        }
+        return new PermissionTree(root);
+    }
+
+    boolean isGranted(String permission) {
+        Node node = root;
+        for (int i = 0; i < permission.length(); i++) {
+            char character = permission.charAt(i);
+            // Parent permission was granted, eg. page.player for page.player.thing
+            if (node.granted && character == '.') return true;
+            node = node.getChild(character);
+            if (node == null) return false;
+        }
+        return node.granted;
+    }
+
+    private static final class Node {
+        // Sorted, children[i] is the child for keys[i]
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private boolean granted;
+
+        Node getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrCreateChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) return children[index];
+
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+}
\ No newline at end of file
@@ -25,19 +25,22 @@ public final class WebUser {
     private final String username;
     private final UUID playerUUID;
     private final Set<String> permissions;
+    private final PermissionTree permissionTree;
 
     public WebUser(String playerName) {
         this.playerName = playerName;
         this.playerUUID = null;
         this.username = playerName;
-        this.permissions = new HashSet<>();
+        this.permissions = Collections.emptySet();
+        this.permissionTree = PermissionTree.compile(permissions);
     }
 
     public WebUser(String playerName, UUID playerUUID, String username, Collection<String> permissions) {
         this.playerName = playerName;
         this.playerUUID = playerUUID;
         this.username = username;
-        this.permissions = new HashSet<>(permissions);
+        this.permissions = Collections.unmodifiableSet(new HashSet<>(permissions));
+        this.permissionTree = PermissionTree.compile(this.permissions);
     }
 
     /**
@@ -53,17 +56,11 @@ public final class WebUser {
      */
     @Deprecated
     public WebUser(String playerName, String... permissions) {
-        this(playerName);
-        this.permissions.addAll(Arrays.asList(permissions));
+        this(playerName, null, playerName, Arrays.asList(permissions));
     }
 
     public boolean hasPermission(String permission) {
-        for (String grant : permissions) {
-            String substitute = permission.replace(grant, "");
-            // Last character is . so it is a sub-permission of the parent, eg. page.player, page.player.thing -> .thing
-            if (substitute.isEmpty() || substitute.startsWith(".")) return true;
-        }
-        return false;
+        return permissionTree.isGranted(permission);
     }
 
     public boolean hasPermission(Supplier<String> permissionSupplier) {
@@ -82,6 +79,11 @@ public final class WebUser {
         return Optional.ofNullable(playerUUID);
     }
 
+    /**
+     * Get the permissions granted to the user.
+     *
+     * @return Unmodifiable set of granted permissions.
+     */
     public Set<String> getPermissions() {
         return permissions;
     }
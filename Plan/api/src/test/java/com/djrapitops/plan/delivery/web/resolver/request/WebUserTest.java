@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web.resolver.request;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WebUser} permission checks.
+ *
+ * @author AuroraLS3
+ */
+class WebUserTest {
+
+    private WebUser userWith(String... permissions) {
+        return new WebUser("Test", null, "Test", List.of(permissions));
+    }
+
+    @Test
+    void grantedPermissionIsGranted() {
+        assertTrue(userWith("page.player").hasPermission("page.player"));
+    }
+
+    @Test
+    void subPermissionOfGrantIsGranted() {
+        WebUser user = userWith("page.player");
+        assertTrue(user.hasPermission("page.player.thing"));
+        assertTrue(user.hasPermission("page.player.thing.other"));
+    }
+
+    @Test
+    void parentOfGrantIsNotGranted() {
+        assertFalse(userWith("page.player.thing").hasPermission("page.player"));
+    }
+
+    @Test
+    void permissionWithGrantAsPrefixIsNotGranted() {
+        assertFalse(userWith("page.player").hasPermission("page.players"));
+    }
+
+    @Test
+    void otherPermissionIsNotGranted() {
+        WebUser user = userWith("page.player", "access.network");
+        assertFalse(user.hasPermission("page.server"));
+        assertFalse(user.hasPermission("access"));
+        assertTrue(user.hasPermission("access.network"));
+    }
+
+    @Test
+    void userWithoutPermissionsHasNoPermissions() {
+        assertFalse(new WebUser("").hasPermission("page"));
+    }
+
+    @Test
+    void permissionsCanNotBeModified() {
+        WebUser user = userWith("page");
+        assertThrows(UnsupportedOperationException.class, () -> user.getPermissions().add("access"));
+    }
+}
\ No newline at end of file
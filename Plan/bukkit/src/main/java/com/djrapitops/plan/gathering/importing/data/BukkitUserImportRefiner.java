@@ -58,7 +58,7 @@ public class BukkitUserImportRefiner {
     private void processMissingIdentifiers() {
         List<UserImportData> invalidData = new ArrayList<>();
 
-        importers.parallelStream().forEach(importer -> {
+        importers.stream().forEach(importer -> {
             String name = importer.getName();
             UUID uuid = importer.getUuid();
 
@@ -89,7 +89,7 @@ public class BukkitUserImportRefiner {
             addMissingUUIDsOverFetcher();
         }
 
-        foundUUIDs.entrySet().parallelStream()
+        foundUUIDs.entrySet().stream()
                 .forEach(entry -> {
                     UserImportData userImportData = entry.getKey();
                     UUID uuid = UUID.fromString(entry.getValue());
@@ -106,7 +106,7 @@ public class BukkitUserImportRefiner {
         Map<String, String> result;
 
         try {
-            result = uuidFetcher.call().entrySet().parallelStream()
+            result = uuidFetcher.call().entrySet().stream()
                     .collect(Collectors.toMap(entry -> entry.getValue().toString(), Map.Entry::getKey));
         } catch (Exception e) {
             return;
@@ -134,7 +134,7 @@ public class BukkitUserImportRefiner {
     private void addFoundUUIDs(Map<String, String> foundUUIDs) {
         List<UserImportData> found = new ArrayList<>();
 
-        missingUUIDs.entrySet().parallelStream().forEach(entry -> {
+        missingUUIDs.entrySet().stream().forEach(entry -> {
             UserImportData importer = entry.getKey();
             String name = entry.getValue();
 
@@ -161,7 +161,7 @@ public class BukkitUserImportRefiner {
     private void processMissingNames() {
         findMissingNames();
 
-        foundNames.entrySet().parallelStream().forEach(entry -> entry.getKey().setName(entry.getValue()));
+        foundNames.entrySet().stream().forEach(entry -> entry.getKey().setName(entry.getValue()));
 
         importers.removeAll(missingNames.keySet());
     }
@@ -169,7 +169,7 @@ public class BukkitUserImportRefiner {
     private void findMissingNames() {
         Map<String, String> result = new HashMap<>();
 
-        missingNames.values().parallelStream().forEach(uuid -> {
+        missingNames.values().stream().forEach(uuid -> {
             String name = getNameByOfflinePlayer(uuid);
 
             result.put(uuid, name);
@@ -181,7 +181,7 @@ public class BukkitUserImportRefiner {
     private void addFoundNames(Map<String, String> foundNames) {
         List<UserImportData> found = new ArrayList<>();
 
-        missingNames.entrySet().parallelStream().forEach(entry -> {
+        missingNames.entrySet().stream().forEach(entry -> {
             UserImportData importer = entry.getKey();
             String uuid = entry.getValue();
 
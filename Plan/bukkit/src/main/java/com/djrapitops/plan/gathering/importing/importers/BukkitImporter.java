@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.importing.importers;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
 import com.djrapitops.plan.gathering.importing.data.BukkitUserImportRefiner;
@@ -29,11 +30,11 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.utilities.java.Lists;
 
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -44,6 +45,9 @@ import java.util.stream.Collectors;
  */
 public abstract class BukkitImporter implements Importer {
 
+    private static final int CHUNK_SIZE = 500;
+    private static final int REPORT_PROGRESS_EVERY_CHUNKS = 10;
+
     protected final Supplier<ServerUUID> serverUUID;
     private final GeolocationCache geolocationCache;
     private final DBSystem dbSystem;
@@ -73,11 +77,16 @@ public abstract class BukkitImporter implements Importer {
 
     @Override
     public final void processImport() {
+        processImport((processed, total) -> {});
+    }
+
+    @Override
+    public final void processImport(BiConsumer<Integer, Integer> progressListener) {
         ExecutorService service = Executors.newCachedThreadPool();
 
         try {
             service.submit(this::processServerData);
-            service.submit(this::processUserData);
+            service.submit(() -> processUserData(progressListener));
         } finally {
             shutdownService(service);
         }
@@ -98,7 +107,7 @@ public abstract class BukkitImporter implements Importer {
         });
     }
 
-    private void processUserData() {
+    private void processUserData(BiConsumer<Integer, Integer> progressListener) {
         List<UserImportData> userImportData = getUserImportData();
 
         if (userImportData == null || userImportData.isEmpty()) {
@@ -106,46 +115,76 @@ public abstract class BukkitImporter implements Importer {
         }
 
         BukkitUserImportRefiner userImportRefiner = new BukkitUserImportRefiner(userImportData);
-        userImportData = userImportRefiner.refineData();
+        Map<UUID, UserImportData> byUUID = new LinkedHashMap<>();
+        for (UserImportData data : userImportRefiner.refineData()) {
+            byUUID.put(data.getUuid(), data); // Last one of duplicates is used
+        }
+        List<UserImportData> refinedData = new ArrayList<>(byUUID.values());
 
         Database db = dbSystem.getDatabase();
-
-        Set<UUID> existingUUIDs = db.query(UserIdentifierQueries.fetchAllPlayerUUIDs());
-        Set<UUID> existingUserInfoTableUUIDs = db.query(UserIdentifierQueries.fetchPlayerUUIDsOfServer(serverUUID.get()));
-
-        Map<UUID, BaseUser> users = new HashMap<>();
-        List<UserInfo> userInfo = new ArrayList<>();
-        Map<UUID, List<Nickname>> nickNames = new HashMap<>();
-        List<FinishedSession> sessions = new ArrayList<>();
-        Map<UUID, List<GeoInfo>> geoInfo = new HashMap<>();
-
-        userImportData.parallelStream().forEach(data -> {
-            UUID uuid = data.getUuid();
-
-            if (!existingUUIDs.contains(uuid)) {
-                users.put(uuid, toBaseUser(data));
-            }
-
-            if (!existingUserInfoTableUUIDs.contains(uuid)) {
-                userInfo.add(toUserInfo(data));
+        int total = refinedData.size();
+        int processed = 0;
+        int chunkCount = 0;
+        CompletableFuture<?> previousChunk = CompletableFuture.completedFuture(null);
+        for (List<UserImportData> chunk : Lists.partition(refinedData, CHUNK_SIZE)) {
+            // Next chunk is prepared while previous one is being stored.
+            Transaction storeChunk = toTransaction(chunk);
+            waitFor(previousChunk);
+            if (chunkCount > 0 && chunkCount % REPORT_PROGRESS_EVERY_CHUNKS == 0) {
+                progressListener.accept(processed, total);
             }
+            previousChunk = db.executeTransaction(storeChunk);
+            processed += chunk.size();
+            chunkCount++;
+        }
+        waitFor(previousChunk);
+        progressListener.accept(processed, total);
+    }
 
-            nickNames.put(uuid, data.getNicknames());
-            geoInfo.put(uuid, convertGeoInfo(data));
-            sessions.add(toSession(data));
-        });
+    private Transaction toTransaction(List<UserImportData> chunk) {
+        Map<String, String> countries = geolocationCache.getCountries(chunk.stream()
+                .flatMap(data -> data.getIps().stream())
+                .collect(Collectors.toList()));
+
+        List<UUID> playerUUIDs = Lists.map(chunk, UserImportData::getUuid);
+        Map<UUID, BaseUser> users = chunk.parallelStream()
+                .collect(Collectors.toConcurrentMap(UserImportData::getUuid, this::toBaseUser));
+        Map<UUID, UserInfo> userInfo = chunk.parallelStream()
+                .collect(Collectors.toConcurrentMap(UserImportData::getUuid, this::toUserInfo));
+        Map<UUID, List<Nickname>> nickNames = chunk.parallelStream()
+                .collect(Collectors.toConcurrentMap(UserImportData::getUuid, UserImportData::getNicknames));
+        Map<UUID, List<GeoInfo>> geoInfo = chunk.parallelStream()
+                .collect(Collectors.toConcurrentMap(UserImportData::getUuid, data -> convertGeoInfo(data, countries)));
+        List<FinishedSession> sessions = chunk.parallelStream()
+                .map(this::toSession)
+                .collect(Collectors.toList());
 
-        db.executeTransaction(new Transaction() {
+        return new Transaction() {
             @Override
             protected void performOperations() {
+                Set<UUID> existingUUIDs = query(UserIdentifierQueries.fetchExistingPlayerUUIDs(playerUUIDs));
+                Set<UUID> existingUserInfoTableUUIDs = query(UserIdentifierQueries.fetchPlayerUUIDsOfServer(serverUUID.get(), playerUUIDs));
+                users.keySet().removeAll(existingUUIDs);
+                userInfo.keySet().removeAll(existingUserInfoTableUUIDs);
+
                 execute(LargeStoreQueries.storeAllCommonUserInformation(users.values()));
                 execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
-                Map<ServerUUID, List<UserInfo>> userInformation = Collections.singletonMap(serverUUID.get(), userInfo);
+                Map<ServerUUID, List<UserInfo>> userInformation = Collections.singletonMap(serverUUID.get(), new ArrayList<>(userInfo.values()));
                 execute(LargeStoreQueries.storePerServerUserInformation(userInformation));
                 execute(LargeStoreQueries.storeAllNicknameData(Collections.singletonMap(serverUUID.get(), nickNames)));
                 execute(LargeStoreQueries.storeAllGeoInformation(geoInfo));
             }
-        });
+        };
+    }
+
+    private void waitFor(CompletableFuture<?> chunkStorage) {
+        try {
+            chunkStorage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new DBOpException("Storing imported users failed: " + e.getCause().getMessage(), e.getCause());
+        }
     }
 
     private void shutdownService(ExecutorService service) {
@@ -191,11 +230,11 @@ public abstract class BukkitImporter implements Importer {
         return new FinishedSession(userImportData.getUuid(), serverUUID.get(), 0L, 0L, 0, extraData);
     }
 
-    private List<GeoInfo> convertGeoInfo(UserImportData userImportData) {
+    private List<GeoInfo> convertGeoInfo(UserImportData userImportData, Map<String, String> countries) {
         long date = System.currentTimeMillis();
 
         return userImportData.getIps().stream()
-                .map(geolocationCache::getCountry)
+                .map(countries::get)
                 .filter(Objects::nonNull)
                 .map(geoLocation -> new GeoInfo(geoLocation, date))
                 .collect(Collectors.toList());
@@ -20,8 +20,11 @@ import com.djrapitops.plan.PlanPlugin;
 import com.djrapitops.plan.api.events.PlanBukkitEnableEvent;
 import com.djrapitops.plan.capability.CapabilitySvc;
 import com.djrapitops.plan.gathering.listeners.bukkit.*;
+import com.djrapitops.plan.gathering.timed.EntityChunkCounter;
+import com.djrapitops.plan.gathering.timed.TickDurationRecorder;
 import net.playeranalytics.plugin.server.Listeners;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 
 import javax.inject.Inject;
 
@@ -36,6 +39,9 @@ public class BukkitListenerSystem extends ListenerSystem {
     private final WorldChangeListener worldChangeListener;
     private final DeathEventListener deathEventListener;
     private final BukkitAFKListener afkListener;
+    private final ChunkCountListener chunkCountListener;
+    private final TickDurationRecorder tickDurationRecorder;
+    private final EntityChunkCounter<World> entityChunkCounter;
 
     @Inject
     public BukkitListenerSystem(
@@ -46,7 +52,10 @@ public class BukkitListenerSystem extends ListenerSystem {
             GameModeChangeListener gamemodeChangeListener,
             WorldChangeListener worldChangeListener,
             DeathEventListener deathEventListener,
-            BukkitAFKListener afkListener
+            BukkitAFKListener afkListener,
+            ChunkCountListener chunkCountListener,
+            TickDurationRecorder tickDurationRecorder,
+            EntityChunkCounter<World> entityChunkCounter
     ) {
         this.listeners = listeners;
         this.status = status;
@@ -57,6 +66,9 @@ public class BukkitListenerSystem extends ListenerSystem {
         this.worldChangeListener = worldChangeListener;
         this.deathEventListener = deathEventListener;
         this.afkListener = afkListener;
+        this.chunkCountListener = chunkCountListener;
+        this.tickDurationRecorder = tickDurationRecorder;
+        this.entityChunkCounter = entityChunkCounter;
     }
 
     @Override
@@ -67,12 +79,23 @@ public class BukkitListenerSystem extends ListenerSystem {
         listeners.registerListener(worldChangeListener);
         listeners.registerListener(deathEventListener);
         listeners.registerListener(afkListener);
+        listeners.registerListener(chunkCountListener);
+        entityChunkCounter.setTrackingChunks(true);
+        if (PaperTickDurationListener.isAvailable()) {
+            listeners.registerListener(new PaperTickDurationListener(tickDurationRecorder));
+        }
+        if (PaperEntityCountListener.isAvailable()) {
+            listeners.registerListener(new PaperEntityCountListener(entityChunkCounter));
+            entityChunkCounter.setTrackingEntities(true);
+        }
         status.setCountKicks(true);
     }
 
     @Override
     protected void unregisterListeners() {
         listeners.unregisterListeners();
+        entityChunkCounter.setTrackingChunks(false);
+        entityChunkCounter.setTrackingEntities(false);
     }
 
     @Override
@@ -0,0 +1,58 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.bukkit;
+
+import com.djrapitops.plan.gathering.timed.EntityChunkCounter;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import javax.inject.Inject;
+
+/**
+ * Event Listener that keeps loaded chunk count up to date in {@link EntityChunkCounter}.
+ *
+ * @author AuroraLS3
+ */
+public class ChunkCountListener implements Listener {
+
+    private final EntityChunkCounter<World> entityChunkCounter;
+
+    @Inject
+    public ChunkCountListener(EntityChunkCounter<World> entityChunkCounter) {
+        this.entityChunkCounter = entityChunkCounter;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        entityChunkCounter.chunkLoaded(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        entityChunkCounter.chunkUnloaded(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        entityChunkCounter.worldUnloaded(event.getWorld());
+    }
+}
@@ -17,11 +17,8 @@
 package com.djrapitops.plan.gathering.listeners.bukkit;
 
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.cache.WorldCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
-import com.djrapitops.plan.identification.ServerInfo;
-import com.djrapitops.plan.settings.config.WorldAliasSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import org.bukkit.entity.Player;
@@ -41,21 +38,15 @@ import java.util.UUID;
  */
 public class GameModeChangeListener implements Listener {
 
-    private final WorldAliasSettings worldAliasSettings;
-    private final ServerInfo serverInfo;
-    private final DBSystem dbSystem;
+    private final WorldCache worldCache;
     private final ErrorLogger errorLogger;
 
     @Inject
     public GameModeChangeListener(
-            WorldAliasSettings worldAliasSettings,
-            ServerInfo serverInfo,
-            DBSystem dbSystem,
+            WorldCache worldCache,
             ErrorLogger errorLogger
     ) {
-        this.worldAliasSettings = worldAliasSettings;
-        this.serverInfo = serverInfo;
-        this.dbSystem = dbSystem;
+        this.worldCache = worldCache;
         this.errorLogger = errorLogger;
     }
 
@@ -78,8 +69,7 @@ public class GameModeChangeListener implements Listener {
         String gameMode = event.getNewGameMode().name();
         String worldName = player.getWorld().getName();
 
-        dbSystem.getDatabase().executeTransaction(new StoreWorldNameTransaction(serverInfo.getServerUUID(), worldName));
-        worldAliasSettings.addWorld(worldName);
+        worldCache.registerWorld(worldName);
 
         Optional<ActiveSession> cachedSession = SessionCache.getCachedSession(uuid);
         cachedSession.ifPresent(session -> session.changeState(worldName, gameMode, time));
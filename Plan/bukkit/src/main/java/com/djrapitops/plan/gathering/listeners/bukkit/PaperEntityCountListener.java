@@ -0,0 +1,61 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.bukkit;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.djrapitops.plan.gathering.timed.EntityChunkCounter;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Event Listener for Paper entity add and remove events, keeps entity count up to date in {@link EntityChunkCounter}.
+ * <p>
+ * Only registered when the event classes are available, see {@link #isAvailable()}.
+ *
+ * @author AuroraLS3
+ */
+public class PaperEntityCountListener implements Listener {
+
+    private final EntityChunkCounter<World> entityChunkCounter;
+
+    public PaperEntityCountListener(EntityChunkCounter<World> entityChunkCounter) {
+        this.entityChunkCounter = entityChunkCounter;
+    }
+
+    public static boolean isAvailable() {
+        try {
+            Class.forName("com.destroystokyo.paper.event.entity.EntityAddToWorldEvent");
+            Class.forName("com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAdd(EntityAddToWorldEvent event) {
+        entityChunkCounter.entityAdded(event.getEntity().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        entityChunkCounter.entityRemoved(event.getEntity().getWorld());
+    }
+}
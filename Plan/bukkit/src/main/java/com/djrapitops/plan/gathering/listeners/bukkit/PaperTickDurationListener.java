@@ -0,0 +1,53 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.bukkit;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.djrapitops.plan.gathering.timed.TickDurationRecorder;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Event Listener for Paper ServerTickEndEvents.
+ * <p>
+ * Only registered when the event class is available, see {@link #isAvailable()}.
+ *
+ * @author AuroraLS3
+ */
+public class PaperTickDurationListener implements Listener {
+
+    private final TickDurationRecorder tickDurationRecorder;
+
+    public PaperTickDurationListener(TickDurationRecorder tickDurationRecorder) {
+        this.tickDurationRecorder = tickDurationRecorder;
+    }
+
+    public static boolean isAvailable() {
+        try {
+            Class.forName("com.destroystokyo.paper.event.server.ServerTickEndEvent");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        tickDurationRecorder.recordTick(event.getTickDuration());
+    }
+}
@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
@@ -39,9 +40,10 @@ public class BukkitDBSystem extends DBSystem {
             MySQLDB mySQLDB,
             SQLiteDB.Factory sqLiteDB,
             PlanConfig config,
-            PluginLogger logger
+            PluginLogger logger,
+            PlanMetrics metrics
     ) {
-        super(config, locale, sqLiteDB, logger);
+        super(config, locale, sqLiteDB, logger, metrics);
 
         databases.add(mySQLDB);
         databases.add(sqLiteDB.usingDefaultFile());
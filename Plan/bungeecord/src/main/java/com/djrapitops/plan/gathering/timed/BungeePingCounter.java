@@ -30,6 +30,7 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
@@ -104,7 +105,8 @@ public class BungeePingCounter extends TaskSystem.Task implements Listener {
                     continue;
                 }
                 history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
+                // Samples are combined to fewer rows while the database is falling behind.
+                if (history.size() >= 30 && (history.size() >= 300 || !dbSystem.getDatabase().shouldDefer(TransactionPriority.SAMPLED_METRICS))) {
                     dbSystem.getDatabase().executeTransaction(
                             new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
                     );
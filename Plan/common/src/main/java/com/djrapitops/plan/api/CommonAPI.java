@@ -87,7 +87,7 @@ public class CommonAPI implements PlanAPI {
 
     @Override
     public UUID playerNameToUUID(String playerName) {
-        return uuidUtility.getUUIDOf(playerName);
+        return uuidUtility.getKnownUUIDOf(playerName);
     }
 
     @Override
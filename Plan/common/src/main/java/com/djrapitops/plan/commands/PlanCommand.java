@@ -122,6 +122,7 @@ public class PlanCommand {
                 .subcommand(cancelCommand())
 
                 .subcommand(infoCommand())
+                .subcommand(metricsCommand())
                 .subcommand(reloadCommand())
                 .subcommand(disableCommand())
                 .subcommand(databaseCommand())
@@ -301,6 +302,16 @@ public class PlanCommand {
                 .build();
     }
 
+    private Subcommand metricsCommand() {
+        return Subcommand.builder()
+                .aliases("metrics")
+                .requirePermission(Permissions.METRICS)
+                .description(locale.getString(HelpLang.METRICS))
+                .inDepthDescription(locale.getString(DeepHelpLang.METRICS))
+                .onCommand(statusCommands::onMetrics)
+                .build();
+    }
+
     private Subcommand reloadCommand() {
         return Subcommand.builder()
                 .aliases("reload")
@@ -32,26 +32,34 @@ import org.jetbrains.annotations.NotNull;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * In charge of holding tab completion data for commands, as tab completion is done on server thread.
+ * <p>
+ * Identifiers are kept sorted, so that matches of a search are found from a single range of the set
+ * and tab completion cost depends on the amount of matches rather than the amount of identifiers.
  *
  * @author AuroraLS3
  */
 @Singleton
 public class TabCompleteCache implements SubSystem {
 
+    static final int MAX_MATCHES = 100;
+
+    // Identifiers starting with the same characters regardless of case are next to each other in this order.
+    static final Comparator<String> IDENTIFIER_ORDER = String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
     private final Processing processing;
     private final PlanFiles files;
     private final DBSystem dbSystem;
     private final ServerSensor<?> serverSensor;
 
-    private final Set<String> playerIdentifiers;
-    private final Set<String> serverIdentifiers;
-    private final Set<String> userIdentifiers;
-    private final Set<String> backupFileNames;
-    private final Set<String> webGroupIdentifiers;
+    private final NavigableSet<String> playerIdentifiers;
+    private final NavigableSet<String> serverIdentifiers;
+    private final NavigableSet<String> userIdentifiers;
+    private final NavigableSet<String> backupFileNames;
+    private final NavigableSet<String> webGroupIdentifiers;
 
     @Inject
     public TabCompleteCache(
@@ -64,11 +72,11 @@ public class TabCompleteCache implements SubSystem {
         this.files = files;
         this.dbSystem = dbSystem;
         this.serverSensor = serverSensor;
-        playerIdentifiers = new HashSet<>();
-        serverIdentifiers = new HashSet<>();
-        userIdentifiers = new HashSet<>();
-        backupFileNames = new HashSet<>();
-        webGroupIdentifiers = new HashSet<>();
+        playerIdentifiers = new ConcurrentSkipListSet<>(IDENTIFIER_ORDER);
+        serverIdentifiers = new ConcurrentSkipListSet<>(IDENTIFIER_ORDER);
+        userIdentifiers = new ConcurrentSkipListSet<>(IDENTIFIER_ORDER);
+        backupFileNames = new ConcurrentSkipListSet<>(IDENTIFIER_ORDER);
+        webGroupIdentifiers = new ConcurrentSkipListSet<>(IDENTIFIER_ORDER);
     }
 
     @Override
@@ -118,6 +126,16 @@ public class TabCompleteCache implements SubSystem {
         serverIdentifiers.clear();
         userIdentifiers.clear();
         backupFileNames.clear();
+        webGroupIdentifiers.clear();
+    }
+
+    /**
+     * Add a player name to tab completion, for example when a new player joins.
+     *
+     * @param playerName Name of the player.
+     */
+    public void addPlayerIdentifier(String playerName) {
+        if (playerName != null) playerIdentifiers.add(playerName);
     }
 
     public List<String> getMatchingServerIdentifiers(@Untrusted String searchFor) {
@@ -142,14 +160,19 @@ public class TabCompleteCache implements SubSystem {
     }
 
     @NotNull
-    List<String> findMatches(Collection<String> searchList, @Untrusted String searchFor) {
-        List<String> filtered = searchList.stream()
-                .filter(identifier -> searchFor == null || searchFor.isEmpty() || identifier.startsWith(searchFor))
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .collect(Collectors.toList());
-        if (filtered.size() >= 100) {
-            return Collections.emptyList();
+    List<String> findMatches(NavigableSet<String> searchList, @Untrusted String searchFor) {
+        String prefix = searchFor != null ? searchFor : "";
+        List<String> matches = new ArrayList<>();
+        // Everything starting with the prefix (ignoring case) is after the prefix, and before the first identifier that doesn't start with it.
+        for (String identifier : searchList.tailSet(prefix, true)) {
+            if (!identifier.regionMatches(true, 0, prefix, 0, prefix.length())) break;
+            if (!identifier.startsWith(prefix)) continue;
+
+            matches.add(identifier);
+            if (matches.size() >= MAX_MATCHES) {
+                return Collections.emptyList();
+            }
         }
-        return filtered;
+        return matches;
     }
 }
@@ -45,6 +45,7 @@ import com.djrapitops.plan.settings.locale.lang.HelpLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
@@ -153,14 +154,22 @@ public class DataUtilityCommands {
         sender.send(locale.getString(CommandLang.PROGRESS_START));
 
         Map<UUID, String> players = dbSystem.getDatabase().query(UserIdentifierQueries.fetchAllPlayerNames());
+        Map<UUID, Long> lastSeen = dbSystem.getDatabase().query(SessionQueries.lastSeenOfAllPlayers());
         int outOf = players.size();
         int failed = 0;
 
         int current = 1;
         for (Map.Entry<UUID, String> entry : players.entrySet()) {
+            UUID playerUUID = entry.getKey();
+            long playerLastSeen = lastSeen.getOrDefault(playerUUID, 0L);
             try {
-                if (exportPlayerJSON) exporter.exportPlayerJSON(entry.getKey(), entry.getValue());
-                if (exportPlayerHTML) exporter.exportPlayerPage(entry.getKey(), entry.getValue());
+                // Players that have not been seen since their last export are skipped
+                if (exportPlayerJSON && !exporter.isPlayerJSONUpToDate(playerUUID, playerLastSeen)) {
+                    exporter.exportPlayerJSON(playerUUID, entry.getValue());
+                }
+                if (exportPlayerHTML && !exporter.isPlayerPageUpToDate(playerUUID, playerLastSeen)) {
+                    exporter.exportPlayerPage(playerUUID, entry.getValue());
+                }
             } catch (ExportException e) {
                 failed++;
             }
@@ -169,6 +178,11 @@ public class DataUtilityCommands {
                 sender.send(locale.getString(CommandLang.PROGRESS, current, outOf));
             }
         }
+        try {
+            exporter.saveManifest();
+        } catch (ExportException ignored) {
+            // Players are exported again next time.
+        }
         sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         if (failed != 0) {
             sender.send(locale.getString(CommandLang.PROGRESS_FAIL));
@@ -192,7 +206,7 @@ public class DataUtilityCommands {
             Importer importer = foundImporter.get();
             processing.submitNonCritical(() -> {
                 sender.send(locale.getString(CommandLang.PROGRESS_START));
-                importer.processImport();
+                importer.processImport((processed, total) -> sender.send(locale.getString(CommandLang.PROGRESS, processed, total)));
                 sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
             });
         } else {
@@ -28,6 +28,7 @@ import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.identification.UUIDUtility;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.query.QuerySvc;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -42,11 +43,13 @@ import com.djrapitops.plan.storage.database.SQLiteDB;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
+import com.djrapitops.plan.storage.database.transactions.CopyCheckpoint;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.*;
 import com.djrapitops.plan.storage.database.transactions.patches.BadFabricJoinAddressValuePatch;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import net.playeranalytics.plugin.player.UUIDFetcher;
@@ -55,6 +58,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -63,6 +67,7 @@ import java.util.stream.Collectors;
 public class DatabaseCommands {
 
     private static final String SUPPORTED_DB_OPTIONS = "<MySQL/SQLite>";
+    private static final int UUID_LOOKUP_BATCH_SIZE = 1000;
 
     private final Locale locale;
     private final Confirmation confirmation;
@@ -74,6 +79,7 @@ public class DatabaseCommands {
     private final QuerySvc queryService;
     private final ServerInfo serverInfo;
     private final Identifiers identifiers;
+    private final UUIDUtility uuidUtility;
     private final PluginStatusCommands statusCommands;
     private final ErrorLogger errorLogger;
     private final Processing processing;
@@ -94,6 +100,7 @@ public class DatabaseCommands {
             ServerInfo serverInfo,
             Formatters formatters,
             Identifiers identifiers,
+            UUIDUtility uuidUtility,
             PluginStatusCommands statusCommands,
             ErrorLogger errorLogger,
             Processing processing
@@ -108,6 +115,7 @@ public class DatabaseCommands {
         this.queryService = queryService;
         this.serverInfo = serverInfo;
         this.identifiers = identifiers;
+        this.uuidUtility = uuidUtility;
         this.statusCommands = statusCommands;
         this.errorLogger = errorLogger;
 
@@ -199,7 +207,8 @@ public class DatabaseCommands {
             fromDB.init();
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getType().getName()));
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            CopyCheckpoint checkpoint = CopyCheckpoint.load(getCopyCheckpointFile(toDB.getType()), "restore:" + backupDBFile.getName());
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, checkpoint)).get();
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -242,7 +251,9 @@ public class DatabaseCommands {
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getName()));
 
-            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase)).get();
+            // Move can be resumed from the checkpoint if the server stops during it.
+            CopyCheckpoint checkpoint = CopyCheckpoint.load(getCopyCheckpointFile(toDB), "move:" + fromDB.getName());
+            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase, checkpoint)).get();
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
 
@@ -259,6 +270,10 @@ public class DatabaseCommands {
     }
 
 
+    private Path getCopyCheckpointFile(DBType toDB) {
+        return files.getDataDirectory().resolve("db-copy-to-" + toDB.getConfigName() + ".checkpoint");
+    }
+
     public void onClear(CMDSender sender, @Untrusted Arguments arguments) {
         DBType fromDB = arguments.get(0).flatMap(DBType::getForName)
                 .orElseThrow(() -> new IllegalArgumentException(locale.getString(CommandLang.FAIL_INCORRECT_DB, arguments.get(0).orElse(SUPPORTED_DB_OPTIONS))));
@@ -284,6 +299,7 @@ public class DatabaseCommands {
             fromDatabase.executeTransaction(new RemoveEverythingTransaction())
                     .get(); // Wait for completion
             queryService.dataCleared();
+            uuidUtility.clearCache();
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
 
             // Reload plugin to register the server into the database
@@ -359,6 +375,7 @@ public class DatabaseCommands {
             queryService.playerRemoved(playerToRemove);
             database.executeTransaction(new RemovePlayerTransaction(playerToRemove))
                     .get(); // Wait for completion
+            uuidUtility.playerRemoved(playerToRemove);
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
@@ -424,7 +441,7 @@ public class DatabaseCommands {
             List<String> playerNames = baseUsersByUUID.values().stream().map(BaseUser::getName).collect(Collectors.toList());
             sender.send("Performing lookup for " + playerNames.size() + " uuids from Mojang..");
             sender.send("Preparation estimated complete at: " + clock.apply(System.currentTimeMillis() + playerNames.size() * 100L) + " (due to request rate limiting)");
-            Map<String, UUID> onlineUUIDsOfPlayers = getUUIDViaUUIDFetcher(playerNames);
+            Map<String, UUID> onlineUUIDsOfPlayers = getUUIDViaUUIDFetcher(sender, playerNames);
 
             if (onlineUUIDsOfPlayers.isEmpty()) {
                 sender.send(locale.getString(CommandLang.PROGRESS_FAIL, "Did not get any UUIDs from Mojang."));
@@ -436,7 +453,8 @@ public class DatabaseCommands {
             int combine = 0;
             int move = 0;
 
-            List<Transaction> transactions = new ArrayList<>();
+            List<UUID> removedUUIDs = new ArrayList<>();
+            Map<UUID, UUID> newUUIDs = new HashMap<>();
 
             for (BaseUser user : baseUsersByUUID.values()) {
                 String playerName = user.getName();
@@ -445,19 +463,17 @@ public class DatabaseCommands {
 
                 if (actualUUID == null) {
                     offlineOnlyUsers++;
-                    if (removeOfflinePlayers) transactions.add(new RemovePlayerTransaction(recordedUUID));
+                    if (removeOfflinePlayers) removedUUIDs.add(recordedUUID);
                 }
                 if (actualUUID == null || recordedUUID.equals(actualUUID)) {
                     continue;
                 }
-                BaseUser alreadyExistingProfile = baseUsersByUUID.get(actualUUID);
-                if (alreadyExistingProfile == null) {
-                    move++;
-                    transactions.add(new ChangeUserUUIDTransaction(recordedUUID, actualUUID));
-                } else {
+                if (baseUsersByUUID.containsKey(actualUUID)) {
                     combine++;
-                    transactions.add(new CombineUserTransaction(recordedUUID, actualUUID));
+                } else {
+                    move++;
                 }
+                newUUIDs.put(recordedUUID, actualUUID);
             }
 
             MessageBuilder prompt = sender.buildMessage()
@@ -471,8 +487,10 @@ public class DatabaseCommands {
 
             confirmation.confirm(sender, prompt, choice -> {
                 if (Boolean.TRUE.equals(choice)) {
-                    transactions.forEach(dbSystem.getDatabase()::executeTransaction);
-                    dbSystem.getDatabase().executeTransaction(new Transaction() {
+                    Database database = dbSystem.getDatabase();
+                    if (!removedUUIDs.isEmpty()) database.executeTransaction(new RemovePlayersTransaction(removedUUIDs));
+                    database.executeTransaction(new ConvertUserUUIDsTransaction(newUUIDs));
+                    database.executeTransaction(new Transaction() {
                         @Override
                         protected void performOperations() {
                             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
@@ -486,14 +504,25 @@ public class DatabaseCommands {
         });
     }
 
-    private Map<String, UUID> getUUIDViaUUIDFetcher(List<String> playerNames) {
-        try {
-            return new UUIDFetcher(playerNames).call();
-        } catch (Exception | NoClassDefFoundError failure) {
-            errorLogger.error(failure, ErrorContext.builder()
-                    .related("Migrating offline uuids to online uuids")
-                    .build());
-            return new HashMap<>();
+    private Map<String, UUID> getUUIDViaUUIDFetcher(CMDSender sender, List<String> playerNames) {
+        Map<String, UUID> uuidsOfPlayers = new HashMap<>();
+        List<List<String>> batches = Lists.partition(playerNames, UUID_LOOKUP_BATCH_SIZE);
+        int processed = 0;
+        for (List<String> batch : batches) {
+            try {
+                uuidsOfPlayers.putAll(new UUIDFetcher(batch).call());
+            } catch (Exception | NoClassDefFoundError failure) {
+                errorLogger.error(failure, ErrorContext.builder()
+                        .related("Migrating offline uuids to online uuids")
+                        .build());
+                // Partial results would count players of failed batches as offline only.
+                return new HashMap<>();
+            }
+            processed += batch.size();
+            if (batches.size() > 1) {
+                sender.send(locale.getString(CommandLang.PROGRESS, processed, playerNames.size()));
+            }
         }
+        return uuidsOfPlayers;
     }
 }
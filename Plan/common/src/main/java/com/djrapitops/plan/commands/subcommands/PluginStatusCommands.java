@@ -30,11 +30,14 @@ import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import com.djrapitops.plan.version.VersionChecker;
 import net.playeranalytics.plugin.PluginInformation;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 
 @Singleton
 public class PluginStatusCommands {
@@ -47,6 +50,7 @@ public class PluginStatusCommands {
     private final Status status;
     private final VersionChecker versionChecker;
     private final ErrorLogger errorLogger;
+    private final PlanMetrics metrics;
 
     @Inject
     public PluginStatusCommands(
@@ -57,7 +61,8 @@ public class PluginStatusCommands {
             DBSystem dbSystem,
             Status status,
             VersionChecker versionChecker,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            PlanMetrics metrics
     ) {
         this.plugin = plugin;
         this.pluginInformation = pluginInformation;
@@ -67,6 +72,7 @@ public class PluginStatusCommands {
         this.status = status;
         this.versionChecker = versionChecker;
         this.errorLogger = errorLogger;
+        this.metrics = metrics;
     }
 
     public void onReload(CMDSender sender) {
@@ -123,4 +129,25 @@ public class PluginStatusCommands {
         };
         sender.send(messages);
     }
+
+    public void onMetrics(CMDSender sender) {
+        List<String> messages = new ArrayList<>();
+        messages.add(locale.getString(CommandLang.HEADER_METRICS));
+        messages.add("");
+        metrics.getGauges().forEach((name, value) -> messages.add("  §2" + name + ": §f" + formatDecimal(value)));
+        metrics.getCounters().forEach((name, value) -> messages.add("  §2" + name + ": §f" + value));
+        metrics.getHistograms().forEach((name, histogram) -> {
+            long count = histogram.getCount();
+            if (count == 0) return;
+            messages.add("  §2" + name + ": §f" + count + "x §7avg §f" + formatDecimal(histogram.getAverageMs())
+                    + "ms §7p95 §f" + formatDecimal(histogram.getPercentileMs(0.95))
+                    + "ms §7max §f" + formatDecimal(histogram.getMaxMs()) + "ms");
+        });
+        messages.add(">");
+        sender.send(messages.toArray(new String[0]));
+    }
+
+    private String formatDecimal(double value) {
+        return String.format(java.util.Locale.ROOT, "%.2f", value);
+    }
 }
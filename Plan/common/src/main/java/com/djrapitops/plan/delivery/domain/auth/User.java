@@ -38,6 +38,8 @@ public class User implements Comparable<User> {
     private final String passwordHash;
     private String permissionGroup;
     private final Collection<String> permissions;
+    // Permissions are compiled once per loaded user, WebUser is immutable so a racy initialization is safe.
+    private WebUser webUser;
 
     public User(@Untrusted String username, String linkedTo, UUID linkedToUUID, String passwordHash, String permissionGroup, Collection<String> permissions) {
         this.username = username;
@@ -53,7 +55,10 @@ public class User implements Comparable<User> {
     }
 
     public WebUser toWebUser() {
-        return new WebUser(linkedTo, linkedToUUID, username, permissions);
+        if (webUser == null) {
+            webUser = new WebUser(linkedTo, linkedToUUID, username, permissions);
+        }
+        return webUser;
     }
 
     @Untrusted
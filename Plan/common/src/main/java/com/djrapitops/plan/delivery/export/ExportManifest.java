@@ -0,0 +1,193 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.export;
+
+import com.djrapitops.plan.storage.file.PlanFiles;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps track of what has been exported, so that unchanged files are not written again.
+ * <p>
+ * Each written file is stored with the hash of its contents, and each exported server or player with the data
+ * generation (the latest data date) the files were built from. The manifest is kept in the Plan folder, so that
+ * it survives restarts.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class ExportManifest {
+
+    // Time relative values, like activity index, change even if the data does not.
+    private static final long MAX_GENERATION_AGE = TimeUnit.DAYS.toMillis(1L);
+
+    private static final String FILE_ENTRY = "F";
+    private static final String GENERATION_ENTRY = "G";
+
+    private final PlanFiles files;
+
+    private final Map<String, String> fileHashes = new ConcurrentHashMap<>();
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+    private final AtomicBoolean loaded = new AtomicBoolean(false);
+    private final AtomicBoolean unsaved = new AtomicBoolean(false);
+
+    @Inject
+    public ExportManifest(PlanFiles files) {
+        this.files = files;
+    }
+
+    static String hash(byte[] content) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+        }
+    }
+
+    private static String toKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Check if a file already has the given contents.
+     *
+     * @param file Path to the exported file.
+     * @param hash Hash of the new contents, see {@link #hash(byte[])}.
+     * @return true if the file exists and was last written with the same contents.
+     */
+    boolean isUnchanged(Path file, String hash) {
+        loadIfNotLoaded();
+        return hash.equals(fileHashes.get(toKey(file))) && Files.exists(file);
+    }
+
+    void fileWritten(Path file, String hash) {
+        loadIfNotLoaded();
+        if (!hash.equals(fileHashes.put(toKey(file), hash))) unsaved.set(true);
+    }
+
+    /**
+     * Check if the exported files of a server or player were built from the latest data.
+     *
+     * @param source     Identifier of the server or player, eg. "server/{uuid}".
+     * @param generation Latest data date of the source.
+     * @return true if the source has been exported after the data was last changed, during the last day.
+     */
+    public boolean isUpToDate(String source, long generation) {
+        loadIfNotLoaded();
+        Generation exported = generations.get(source);
+        return exported != null
+                && exported.generation >= generation
+                && System.currentTimeMillis() - exported.exportedAt < MAX_GENERATION_AGE;
+    }
+
+    /**
+     * Mark the files of a server or player exported.
+     *
+     * @param source     Identifier of the server or player, eg. "server/{uuid}".
+     * @param generation Latest data date the files were built from.
+     */
+    public void exported(String source, long generation) {
+        loadIfNotLoaded();
+        generations.put(source, new Generation(generation, System.currentTimeMillis()));
+        unsaved.set(true);
+    }
+
+    private Path getManifestFile() {
+        return files.getDataDirectory().resolve("export_manifest.txt");
+    }
+
+    private void loadIfNotLoaded() {
+        if (loaded.get()) return;
+        synchronized (this) {
+            if (loaded.get()) return;
+            load();
+            loaded.set(true);
+        }
+    }
+
+    private void load() {
+        Path manifestFile = getManifestFile();
+        if (!Files.exists(manifestFile)) return;
+
+        try (BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] split = line.split("\t", 4);
+                if (FILE_ENTRY.equals(split[0]) && split.length == 3) {
+                    fileHashes.put(split[2], split[1]);
+                } else if (GENERATION_ENTRY.equals(split[0]) && split.length == 4) {
+                    generations.put(split[3], new Generation(Long.parseLong(split[1]), Long.parseLong(split[2])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Corrupted manifest, everything is exported again.
+            fileHashes.clear();
+            generations.clear();
+        }
+    }
+
+    /**
+     * Write the manifest to disk if it has changed.
+     *
+     * @throws IOException If the manifest can not be written.
+     */
+    public synchronized void save() throws IOException {
+        if (!unsaved.getAndSet(false)) return;
+
+        Path manifestFile = getManifestFile();
+        Path temporary = manifestFile.resolveSibling(manifestFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : fileHashes.entrySet()) {
+                writer.write(FILE_ENTRY + '\t' + entry.getValue() + '\t' + entry.getKey());
+                writer.newLine();
+            }
+            for (Map.Entry<String, Generation> entry : generations.entrySet()) {
+                Generation generation = entry.getValue();
+                writer.write(GENERATION_ENTRY + '\t' + generation.generation + '\t' + generation.exportedAt + '\t' + entry.getKey());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            unsaved.set(true);
+            throw e;
+        }
+        FileExporter.move(temporary, manifestFile);
+    }
+
+    private static class Generation {
+        private final long generation;
+        private final long exportedAt;
+
+        private Generation(long generation, long exportedAt) {
+            this.generation = generation;
+            this.exportedAt = exportedAt;
+        }
+    }
+}
\ No newline at end of file
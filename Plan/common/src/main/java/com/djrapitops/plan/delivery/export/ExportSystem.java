@@ -17,6 +17,7 @@
 package com.djrapitops.plan.delivery.export;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.exceptions.ExportException;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
 
 import javax.inject.Inject;
@@ -52,7 +53,11 @@ public class ExportSystem implements SubSystem {
 
     @Override
     public void disable() {
-        // Nothing to disable
+        try {
+            exporter.saveManifest();
+        } catch (ExportException ignored) {
+            // Files are exported again on next enable.
+        }
     }
 
     public Exporter getExporter() {
@@ -43,6 +43,7 @@ public class ExportTask extends PluginRunnable {
     public void run() {
         try {
             exportAction.accept(exporter);
+            exporter.saveManifest();
         } catch (ExportException e) {
             errorLogger.warn(e, ErrorContext.builder().related(getClass()).build());
         } catch (DBOpException dbException) {
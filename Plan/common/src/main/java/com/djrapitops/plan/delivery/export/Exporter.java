@@ -22,6 +22,11 @@ import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -39,12 +44,19 @@ import java.util.UUID;
 @Singleton
 public class Exporter extends FileExporter {
 
+    private static final String SERVER_PAGE = "server-page/";
+    private static final String SERVER_JSON = "server-json/";
+    private static final String PLAYER_PAGE = "player-page/";
+    private static final String PLAYER_JSON = "player-json/";
+
     private final PlanConfig config;
     private final PlayerJSONExporter playerJSONExporter;
     private final PlayerPageExporter playerPageExporter;
     private final PlayersPageExporter playersPageExporter;
     private final ServerPageExporter serverPageExporter;
     private final NetworkPageExporter networkPageExporter;
+    private final DBSystem dbSystem;
+    private final ExportManifest manifest;
 
     private final Set<ServerUUID> failedServers;
     private final ReactExporter reactExporter;
@@ -57,8 +69,11 @@ public class Exporter extends FileExporter {
             PlayersPageExporter playersPageExporter,
             ServerPageExporter serverPageExporter,
             NetworkPageExporter networkPageExporter,
-            ReactExporter reactExporter
+            ReactExporter reactExporter,
+            DBSystem dbSystem,
+            ExportManifest manifest
     ) {
+        super(manifest);
         this.config = config;
         this.playerJSONExporter = playerJSONExporter;
         this.playerPageExporter = playerPageExporter;
@@ -66,12 +81,16 @@ public class Exporter extends FileExporter {
         this.serverPageExporter = serverPageExporter;
         this.networkPageExporter = networkPageExporter;
         this.reactExporter = reactExporter;
+        this.dbSystem = dbSystem;
+        this.manifest = manifest;
 
         failedServers = new HashSet<>();
     }
 
     /**
      * Export a page of a server.
+     * <p>
+     * The page is not rendered again if the data of the server has not changed since it was last exported.
      *
      * @param server Server which page is going to be exported
      * @return false if the page was not exported due to previous failure or is disabled in config.
@@ -82,12 +101,17 @@ public class Exporter extends FileExporter {
         if (failedServers.contains(serverUUID) || config.isFalse(ExportSettings.SERVER_PAGE)) return false;
 
         try {
+            String source = SERVER_PAGE + serverUUID;
+            long generation = getDataGeneration(server);
+            if (manifest.isUpToDate(source, generation)) return true;
+
             Path toDirectory = config.getPageExportPath();
             if (server.isProxy()) {
                 networkPageExporter.export(toDirectory, server);
             } else {
                 serverPageExporter.export(toDirectory, server);
             }
+            manifest.exported(source, generation);
             return true;
         } catch (IOException | NotFoundException e) {
             failedServers.add(serverUUID);
@@ -100,12 +124,17 @@ public class Exporter extends FileExporter {
         if (failedServers.contains(serverUUID) || config.isFalse(ExportSettings.SERVER_JSON)) return false;
 
         try {
+            String source = SERVER_JSON + serverUUID;
+            long generation = getDataGeneration(server);
+            if (manifest.isUpToDate(source, generation)) return true;
+
             Path toDirectory = config.getJSONExportPath().resolve(toFileName(server.getName()));
             if (server.isProxy()) {
                 networkPageExporter.exportJSON(new ExportPaths(), toDirectory, server);
             } else {
                 serverPageExporter.exportJSON(toDirectory, server);
             }
+            manifest.exported(source, generation);
             return true;
         } catch (IOException | NotFoundException e) {
             failedServers.add(serverUUID);
@@ -126,7 +155,9 @@ public class Exporter extends FileExporter {
         if (config.isFalse(ExportSettings.PLAYER_PAGES)) return false;
 
         try {
+            long exportedAt = System.currentTimeMillis();
             playerPageExporter.export(toDirectory, playerUUID);
+            manifest.exported(PLAYER_PAGE + playerUUID, exportedAt);
             return true;
         } catch (IOException | NotFoundException e) {
             throw new ExportException("Failed to export player: " + playerName + ", " + e.toString(), e);
@@ -158,13 +189,70 @@ public class Exporter extends FileExporter {
         if (config.isFalse(ExportSettings.PLAYER_JSON)) return false;
 
         try {
+            long exportedAt = System.currentTimeMillis();
             playerJSONExporter.export(toDirectory, playerUUID, playerName);
+            manifest.exported(PLAYER_JSON + playerUUID, exportedAt);
             return true;
         } catch (IOException e) {
             throw new ExportException("Failed to export player: " + playerName + ", " + e.toString(), e);
         }
     }
 
+    /**
+     * Check if the page of a player has been exported after the player was last seen.
+     *
+     * @param playerUUID UUID of the player.
+     * @param lastSeen   Epoch ms when the player was last seen.
+     * @return true if the page does not need to be exported again.
+     */
+    public boolean isPlayerPageUpToDate(UUID playerUUID, long lastSeen) {
+        return manifest.isUpToDate(PLAYER_PAGE + playerUUID, lastSeen);
+    }
+
+    /**
+     * Check if the Raw Data JSON of a player has been exported after the player was last seen.
+     *
+     * @param playerUUID UUID of the player.
+     * @param lastSeen   Epoch ms when the player was last seen.
+     * @return true if the json does not need to be exported again.
+     */
+    public boolean isPlayerJSONUpToDate(UUID playerUUID, long lastSeen) {
+        return manifest.isUpToDate(PLAYER_JSON + playerUUID, lastSeen);
+    }
+
+    private long getDataGeneration(Server server) {
+        Database db = dbSystem.getDatabase();
+        if (!server.isProxy()) {
+            return getDataGeneration(db, server.getUuid());
+        }
+        // Network page contains data of all servers
+        long generation = 0L;
+        for (ServerUUID serverUUID : db.query(ServerQueries.fetchServerNames()).keySet()) {
+            generation = Math.max(generation, getDataGeneration(db, serverUUID));
+        }
+        return generation;
+    }
+
+    private long getDataGeneration(Database db, ServerUUID serverUUID) {
+        return Math.max(
+                db.query(TPSQueries.fetchLastStoredTpsDate(serverUUID)).orElse(0L),
+                db.query(SessionQueries.lastSessionEnd(serverUUID))
+        );
+    }
+
+    /**
+     * Save the export manifest so that unchanged files are not exported again after a restart.
+     *
+     * @throws ExportException If the manifest could not be written.
+     */
+    public void saveManifest() throws ExportException {
+        try {
+            manifest.save();
+        } catch (IOException e) {
+            throw new ExportException("Failed to save export manifest: " + e.toString(), e);
+        }
+    }
+
     public void exportReact() throws ExportException {
         Path toDirectory = config.getPageExportPath();
 
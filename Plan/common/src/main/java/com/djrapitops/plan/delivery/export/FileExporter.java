@@ -23,19 +23,20 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.storage.file.Resource;
+import com.djrapitops.plan.utilities.java.ThrowingSupplier;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
-import java.nio.file.OpenOption;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Code that handles writing the actual files that are exported.
@@ -44,21 +45,26 @@ import java.util.List;
  */
 abstract class FileExporter {
 
-    private static final OpenOption[] OPEN_OPTIONS = {StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE};
+    private final ExportManifest manifest;
 
-    private static void copy(InputStream in, OutputStream out) throws IOException {
-        int read;
-        byte[] bytes = new byte[1024];
+    protected FileExporter(ExportManifest manifest) {
+        this.manifest = manifest;
+    }
 
-        while ((read = in.read(bytes)) != -1) {
-            out.write(bytes, 0, read);
+    static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
     void export(Path to, List<String> content) throws IOException {
-        Path dir = to.getParent();
-        if (!Files.isSymbolicLink(dir)) Files.createDirectories(dir);
-        Files.write(to, content, StandardCharsets.UTF_8, OPEN_OPTIONS);
+        StringBuilder lines = new StringBuilder();
+        for (String line : content) {
+            lines.append(line).append(System.lineSeparator());
+        }
+        export(to, lines.toString().getBytes(StandardCharsets.UTF_8));
     }
 
     void export(Path to, String content) throws IOException {
@@ -70,28 +76,56 @@ abstract class FileExporter {
     }
 
     void export(Path to, WebResource resource) throws IOException {
+        export(to, resource.asBytes());
+    }
+
+    /**
+     * Write a file, unless it already has the same contents.
+     * <p>
+     * The contents are written to a temporary file first and then moved in place, so that a file that is being
+     * served is never seen half written.
+     *
+     * @param to       Path to the exported file.
+     * @param resource Contents of the file.
+     * @throws IOException If the file can not be written.
+     */
+    void export(Path to, byte[] resource) throws IOException {
+        String hash = ExportManifest.hash(resource);
+        if (manifest.isUnchanged(to, hash)) return;
+
         Path dir = to.getParent();
         if (!Files.isSymbolicLink(dir) && !Files.isDirectory(dir)) {
             Files.createDirectories(dir);
         }
 
-        try (
-                InputStream in = resource.asStream();
-                OutputStream out = Files.newOutputStream(to, OPEN_OPTIONS)
-        ) {
-            copy(in, out);
+        // Thread in the name keeps parallel exports of the same file apart.
+        Path temporary = to.resolveSibling(to.getFileName() + "." + Thread.currentThread().getId() + ".tmp");
+        try {
+            Files.write(temporary, resource);
+            move(temporary, to);
+        } finally {
+            Files.deleteIfExists(temporary);
         }
+        manifest.fileWritten(to, hash);
     }
 
-    void export(Path to, byte[] resource) throws IOException {
-        Path dir = to.getParent();
-        if (!Files.isSymbolicLink(dir)) Files.createDirectories(dir);
-
-        try (
-                InputStream in = new ByteArrayInputStream(resource);
-                OutputStream out = Files.newOutputStream(to, OPEN_OPTIONS)
-        ) {
-            copy(in, out);
+    /**
+     * Export multiple files in parallel.
+     *
+     * @param exports Paths to export to, and what to write to each.
+     * @throws IOException If any of the files can not be written.
+     */
+    void exportInParallel(Map<Path, ThrowingSupplier<byte[], IOException>> exports) throws IOException {
+        try {
+            exports.entrySet().parallelStream().forEach(export -> {
+                try {
+                    export(export.getKey(), export.getValue().get());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
@@ -109,13 +143,12 @@ abstract class FileExporter {
         placeholderReplacer.put("PLAN_ADDRESS", config.get(WebserverSettings.EXTERNAL_LINK));
         redirectPageHtml = placeholderReplacer.apply(redirectPageHtml);
 
+        byte[] redirectPage = redirectPageHtml.getBytes(StandardCharsets.UTF_8);
+        Map<Path, ThrowingSupplier<byte[], IOException>> exports = new HashMap<>();
         for (String redirection : redirections) {
-            exportReactRedirect(toDirectory, redirectPageHtml, redirection);
+            exports.put(toDirectory.resolve(redirection).resolve("index.html"), () -> redirectPage);
         }
-    }
-
-    private void exportReactRedirect(Path toDirectory, String redirectHtml, String path) throws IOException {
-        export(toDirectory.resolve(path).resolve("index.html"), redirectHtml);
+        exportInParallel(exports);
     }
 
 }
\ No newline at end of file
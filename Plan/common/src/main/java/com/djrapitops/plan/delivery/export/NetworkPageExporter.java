@@ -54,8 +54,10 @@ public class NetworkPageExporter extends FileExporter {
             PlanFiles files,
             PlanConfig config,
             DBSystem dbSystem,
-            RootJSONResolver jsonHandler
+            RootJSONResolver jsonHandler,
+            ExportManifest manifest
     ) {
+        super(manifest);
         this.files = files;
         this.config = config;
         this.dbSystem = dbSystem;
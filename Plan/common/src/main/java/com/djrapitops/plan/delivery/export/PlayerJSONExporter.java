@@ -41,8 +41,10 @@ public class PlayerJSONExporter extends FileExporter {
     @Inject
     public PlayerJSONExporter(
             DBSystem dbSystem,
-            ResponseFactory responseFactory
+            ResponseFactory responseFactory,
+            ExportManifest manifest
     ) {
+        super(manifest);
         this.dbSystem = dbSystem;
         this.responseFactory = responseFactory;
     }
@@ -57,8 +57,10 @@ public class PlayersPageExporter extends FileExporter {
             PlanFiles files,
             PlanConfig config, DBSystem dbSystem,
             RootJSONResolver jsonHandler,
-            ServerInfo serverInfo
+            ServerInfo serverInfo,
+            ExportManifest manifest
     ) {
+        super(manifest);
         this.files = files;
         this.config = config;
         this.dbSystem = dbSystem;
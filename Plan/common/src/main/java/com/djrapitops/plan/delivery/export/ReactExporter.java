@@ -26,17 +26,16 @@ import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.settings.locale.LangCode;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.storage.file.Resource;
+import com.djrapitops.plan.utilities.java.ThrowingSupplier;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,8 +57,10 @@ public class ReactExporter extends FileExporter {
             PlanFiles files,
             PlanConfig config,
             RootJSONResolver jsonHandler,
-            AssetVersions assetVersions
+            AssetVersions assetVersions,
+            ExportManifest manifest
     ) {
+        super(manifest);
         this.files = files;
         this.config = config;
         this.jsonHandler = jsonHandler;
@@ -95,33 +96,38 @@ public class ReactExporter extends FileExporter {
     }
 
     private void exportStaticBundle(Path toDirectory) throws IOException {
-        deleteOldStaticBundleFiles(toDirectory);
         List<String> paths = assetVersions.getAssetPaths().stream()
                 .filter(path -> path.contains("static"))
                 .map(path -> path.replace(',', '.'))
                 .collect(Collectors.toList());
+        Map<Path, ThrowingSupplier<byte[], IOException>> exports = new HashMap<>();
         for (String path : paths) {
-            Path to = toDirectory.resolve(path);
-            Resource resource = files.getResourceFromJar("web/" + path);
-            // Make static asset loading work with subdirectory addresses
-            if (path.endsWith(".css") || "asset-manifest.json".equals(path)) {
-                String contents = resource.asString();
-                String withReplacedStatic = StringUtils.replace(contents, "/static", getBasePath() + "/static");
-                export(to, withReplacedStatic);
-            } else if (path.endsWith(".js")) {
-                String withReplacedConstants = StringUtils.replaceEach(
-                        resource.asString(),
-                        new String[]{"PLAN_BASE_ADDRESS", "PLAN_EXPORTED_VERSION", ".p=\"/\""},
-                        new String[]{config.get(WebserverSettings.EXTERNAL_LINK), "true", ".p=\"" + getBasePath() + "/\""}
-                );
-                export(to, withReplacedConstants);
-            } else {
-                export(to, resource);
-            }
+            exports.put(toDirectory.resolve(path), () -> getStaticBundleFile(path));
         }
+        deleteOldStaticBundleFiles(toDirectory, exports.keySet());
+        exportInParallel(exports);
     }
 
-    private void deleteOldStaticBundleFiles(Path toDirectory) throws IOException {
+    private byte[] getStaticBundleFile(String path) throws IOException {
+        Resource resource = files.getResourceFromJar("web/" + path);
+        // Make static asset loading work with subdirectory addresses
+        if (path.endsWith(".css") || "asset-manifest.json".equals(path)) {
+            String contents = resource.asString();
+            String withReplacedStatic = StringUtils.replace(contents, "/static", getBasePath() + "/static");
+            return withReplacedStatic.getBytes(StandardCharsets.UTF_8);
+        } else if (path.endsWith(".js")) {
+            String withReplacedConstants = StringUtils.replaceEach(
+                    resource.asString(),
+                    new String[]{"PLAN_BASE_ADDRESS", "PLAN_EXPORTED_VERSION", ".p=\"/\""},
+                    new String[]{config.get(WebserverSettings.EXTERNAL_LINK), "true", ".p=\"" + getBasePath() + "/\""}
+            );
+            return withReplacedConstants.getBytes(StandardCharsets.UTF_8);
+        } else {
+            return resource.asBytes();
+        }
+    }
+
+    private void deleteOldStaticBundleFiles(Path toDirectory, Set<Path> currentFiles) throws IOException {
         Set<Path> filesToDelete;
         Path staticDirectory = toDirectory.resolve("static");
         if (!Files.isDirectory(staticDirectory)) return;
@@ -131,6 +137,8 @@ public class ReactExporter extends FileExporter {
                         String filePath = path.toFile().getPath();
                         return filePath.contains(".chunk") || filePath.contains("main.");
                     })
+                    // Files of the current bundle are kept, so that unchanged files are not written again
+                    .filter(path -> !currentFiles.contains(path))
                     .collect(Collectors.toSet());
         }
         for (Path path : filesToDelete) {
@@ -60,8 +60,10 @@ public class ServerPageExporter extends FileExporter {
             PlanConfig config,
             DBSystem dbSystem,
             RootJSONResolver jsonHandler,
-            ServerInfo serverInfo // To know if current server is a Proxy
+            ServerInfo serverInfo, // To know if current server is a Proxy
+            ExportManifest manifest
     ) {
+        super(manifest);
         this.files = files;
         this.config = config;
         this.dbSystem = dbSystem;
@@ -18,6 +18,8 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.RetentionData;
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto;
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListPageDto;
 import com.djrapitops.plan.delivery.domain.datatransfer.ServerDto;
 import com.djrapitops.plan.delivery.domain.mutators.PlayerKillMutator;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
@@ -47,6 +49,9 @@ import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePage;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
 import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
 import com.djrapitops.plan.utilities.dev.Untrusted;
@@ -150,6 +155,60 @@ public class JSONFactory {
         );
     }
 
+    public PlayerListPageDto serverPlayersTablePage(ServerUUID serverUUID, PlayersTablePageRequest request) {
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+
+        Database database = dbSystem.getDatabase();
+
+        PlayersTablePage page = database.query(PlayersTablePageQuery.ofServer(serverUUID, System.currentTimeMillis(), playtimeThreshold, request));
+        PlayerListDto playerList = new PlayersTableJSONCreator(
+                page.getPlayers(),
+                database.query(new ExtensionServerTableDataQuery(serverUUID, page.getPlayerUUIDs())),
+                openPlayerLinksInNewTab,
+                formatters, locale
+        ).toPlayerList();
+        return new PlayerListPageDto(playerList, page.getNext().map(PlayersTablePageRequest.Cursor::toString).orElse(null));
+    }
+
+    public PlayerListPageDto networkPlayersTablePage(PlayersTablePageRequest request) {
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+
+        Database database = dbSystem.getDatabase();
+
+        PlayersTablePage page = database.query(PlayersTablePageQuery.ofNetwork(System.currentTimeMillis(), playtimeThreshold, request));
+        List<UUID> playerUUIDs = page.getPlayerUUIDs();
+
+        List<ServerUUID> mainServerUUIDs = database.query(ServerQueries.fetchProxyServers())
+                .stream()
+                .map(Server::getUuid)
+                .collect(Collectors.toList());
+        if (mainServerUUIDs.isEmpty()) mainServerUUIDs.add(serverInfo.getServerUUID());
+
+        Map<UUID, ExtensionTabData> allPluginData = new HashMap<>();
+        for (ServerUUID serverUUID : mainServerUUIDs) {
+            Map<UUID, ExtensionTabData> pluginData = database.query(new ExtensionServerTableDataQuery(serverUUID, playerUUIDs));
+            for (Map.Entry<UUID, ExtensionTabData> entry : pluginData.entrySet()) {
+                ExtensionTabData alreadyIncludedData = allPluginData.get(entry.getKey());
+                if (alreadyIncludedData == null) {
+                    allPluginData.put(entry.getKey(), entry.getValue());
+                } else {
+                    alreadyIncludedData.combine(entry.getValue());
+                }
+            }
+        }
+
+        PlayerListDto playerList = new PlayersTableJSONCreator(
+                page.getPlayers(),
+                allPluginData,
+                openPlayerLinksInNewTab,
+                formatters, locale,
+                true // players page
+        ).toPlayerList();
+        return new PlayerListPageDto(playerList, page.getNext().map(PlayersTablePageRequest.Cursor::toString).orElse(null));
+    }
+
     public List<RetentionData> playerRetentionAsJSONMap(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
         return db.query(PlayerRetentionQueries.fetchRetentionData(serverUUID));
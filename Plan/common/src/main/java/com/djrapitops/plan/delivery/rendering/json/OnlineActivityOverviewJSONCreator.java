@@ -28,9 +28,12 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.MemoizingQueryContext;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.SessionAggregate;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.Window;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
@@ -74,15 +77,16 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
     }
 
     public Map<String, Object> createJSONAsMap(ServerUUID serverUUID) {
+        // Equal queries of different sections are only run once.
+        MemoizingQueryContext queries = new MemoizingQueryContext(dbSystem.getDatabase());
+        long now = System.currentTimeMillis();
         Map<String, Object> serverOverview = new HashMap<>();
-        serverOverview.put("numbers", createNumbersMap(serverUUID));
-        serverOverview.put("insights", createInsightsMap(serverUUID));
+        serverOverview.put("numbers", createNumbersMap(serverUUID, queries, now));
+        serverOverview.put("insights", createInsightsMap(serverUUID, queries, now));
         return serverOverview;
     }
 
-    private Map<String, Object> createNumbersMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        long now = System.currentTimeMillis();
+    private Map<String, Object> createNumbersMap(ServerUUID serverUUID, MemoizingQueryContext queries, long now) {
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long halfMonthAgo = now - TimeUnit.DAYS.toMillis(15L);
@@ -92,47 +96,62 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
 
         Map<String, Object> numbers = new HashMap<>();
 
-        numbers.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now, serverUUID)));
+        Window month = Window.of(monthAgo, now);
+        Window week = Window.of(weekAgo, now);
+        Window day = Window.of(dayAgo, now);
+        Window monthFirstHalf = Window.of(monthAgo, halfMonthAgo);
+        Window monthSecondHalf = Window.of(halfMonthAgo, now);
+        Map<Window, SessionAggregate> sessionAggregates = queries.query(WindowedAggregateQueries.sessionAggregates(serverUUID,
+                month, week, day, monthFirstHalf, monthSecondHalf));
+        Map<Window, Integer> newPlayerCounts = queries.query(WindowedAggregateQueries.newPlayerCounts(serverUUID,
+                month, week, day, monthFirstHalf, monthSecondHalf));
+        SessionAggregate sessionsMonth = sessionAggregates.get(month);
+        SessionAggregate sessionsWeek = sessionAggregates.get(week);
+        SessionAggregate sessionsDay = sessionAggregates.get(day);
+        SessionAggregate sessionsBefore = sessionAggregates.get(monthFirstHalf);
+        SessionAggregate sessionsAfter = sessionAggregates.get(monthSecondHalf);
+
+        numbers.put("unique_players_30d", sessionsMonth.getUniquePlayers());
         numbers.put("unique_players_30d_trend", new Trend(
-                db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, halfMonthAgo, serverUUID)),
-                db.query(PlayerCountQueries.uniquePlayerCount(halfMonthAgo, now, serverUUID)),
+                sessionsBefore.getUniquePlayers(),
+                sessionsAfter.getUniquePlayers(),
                 false
         ));
-        numbers.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        numbers.put("unique_players_24h", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now, serverUUID)));
+        numbers.put("unique_players_7d", sessionsWeek.getUniquePlayers());
+        numbers.put("unique_players_24h", sessionsDay.getUniquePlayers());
 
-        numbers.put("unique_players_30d_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("unique_players_30d_avg", queries.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
         numbers.put("unique_players_30d_avg_trend", new Trend(
-                db.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(PlayerCountQueries.averageUniquePlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
+                queries.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
+                queries.query(PlayerCountQueries.averageUniquePlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
                 false
         ));
-        numbers.put("unique_players_7d_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("unique_players_24h_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("unique_players_7d_avg", queries.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("unique_players_24h_avg", queries.query(PlayerCountQueries.averageUniquePlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
 
-        Integer new30d = db.query(PlayerCountQueries.newPlayerCount(monthAgo, now, serverUUID));
-        Integer new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        Integer new1d = db.query(PlayerCountQueries.newPlayerCount(dayAgo, now, serverUUID));
+        Integer new30d = newPlayerCounts.get(month);
+        Integer new7d = newPlayerCounts.get(week);
+        Integer new1d = newPlayerCounts.get(day);
         numbers.put("new_players_30d", new30d);
         numbers.put("new_players_30d_trend", new Trend(
-                db.query(PlayerCountQueries.newPlayerCount(monthAgo, halfMonthAgo, serverUUID)),
-                db.query(PlayerCountQueries.newPlayerCount(halfMonthAgo, now, serverUUID)),
+                newPlayerCounts.get(monthFirstHalf),
+                newPlayerCounts.get(monthSecondHalf),
                 false
         ));
         numbers.put("new_players_7d", new7d);
         numbers.put("new_players_24h", new1d);
 
-        numbers.put("new_players_30d_avg", db.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("new_players_30d_avg", queries.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
         numbers.put("new_players_30d_avg_trend", new Trend(
-                db.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(PlayerCountQueries.averageNewPlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
+                queries.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
+                queries.query(PlayerCountQueries.averageNewPlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
                 false
         ));
-        numbers.put("new_players_7d_avg", db.query(PlayerCountQueries.averageNewPlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("new_players_24h_avg", db.query(PlayerCountQueries.averageNewPlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("new_players_7d_avg", queries.query(PlayerCountQueries.averageNewPlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("new_players_24h_avg", queries.query(PlayerCountQueries.averageNewPlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
 
-        int retained30d = db.query(PlayerCountQueries.retainedPlayerCount(monthAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        int retained30d = queries.query(PlayerCountQueries.retainedPlayerCount(monthAgo, now, serverUUID));
+        int retained7d = queries.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
         double retentionPercentage30d = Percentage.calculate(retained30d, new30d, -1);
         double retentionPercentage7d = Percentage.calculate(retained7d, new7d, -1);
         numbers.put("new_players_retention_30d", retained30d);
@@ -141,58 +160,50 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         numbers.put("new_players_retention_7d_perc", percentageFormatter.apply(retentionPercentage7d));
 
         int prediction1d = RetentionData.countRetentionPrediction(
-                db.query(ActivityIndexQueries.activityIndexForNewPlayers(dayAgo, now, serverUUID, playThreshold)),
-                db.query(ActivityIndexQueries.averageActivityIndexForRetainedPlayers(monthAgo, now, serverUUID, playThreshold)),
-                db.query(ActivityIndexQueries.averageActivityIndexForNonRetainedPlayers(monthAgo, now, serverUUID, playThreshold))
+                queries.query(ActivityIndexQueries.activityIndexForNewPlayers(dayAgo, now, serverUUID, playThreshold)),
+                queries.query(ActivityIndexQueries.averageActivityIndexForRetainedPlayers(monthAgo, now, serverUUID, playThreshold)),
+                queries.query(ActivityIndexQueries.averageActivityIndexForNonRetainedPlayers(monthAgo, now, serverUUID, playThreshold))
         );
         double retentionPercentage1d = Percentage.calculate(prediction1d, new1d, -1);
         numbers.put("new_players_retention_24h", prediction1d);
         numbers.put("new_players_retention_24h_perc", percentageFormatter.apply(retentionPercentage1d));
 
-        Long playtimeMonth = db.query(SessionQueries.playtime(monthAgo, now, serverUUID));
-        Long playtimeWeek = db.query(SessionQueries.playtime(weekAgo, now, serverUUID));
-        Long playtimeDay = db.query(SessionQueries.playtime(dayAgo, now, serverUUID));
-        Long playtimeBefore = db.query(SessionQueries.playtime(monthAgo, halfMonthAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(halfMonthAgo, now, serverUUID));
+        long playtimeMonth = sessionsMonth.getPlaytime();
+        long playtimeWeek = sessionsWeek.getPlaytime();
+        long playtimeDay = sessionsDay.getPlaytime();
+        long playtimeBefore = sessionsBefore.getPlaytime();
+        long playtimeAfter = sessionsAfter.getPlaytime();
         numbers.put("playtime_30d", timeAmountFormatter.apply(playtimeMonth));
         numbers.put("playtime_30d_trend", new Trend(playtimeBefore, playtimeAfter, false, timeAmountFormatter));
         numbers.put("playtime_7d", timeAmountFormatter.apply(playtimeWeek));
         numbers.put("playtime_24h", timeAmountFormatter.apply(playtimeDay));
 
-        numbers.put("playtime_30d_avg", timeAmountFormatter.apply(db.query(SessionQueries.averagePlaytimePerDay(monthAgo, now, timeZoneOffset, serverUUID))));
+        numbers.put("playtime_30d_avg", timeAmountFormatter.apply(queries.query(SessionQueries.averagePlaytimePerDay(monthAgo, now, timeZoneOffset, serverUUID))));
         numbers.put("playtime_30d_avg_trend", new Trend(
-                db.query(SessionQueries.averagePlaytimePerDay(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(SessionQueries.averagePlaytimePerDay(halfMonthAgo, now, timeZoneOffset, serverUUID)),
+                queries.query(SessionQueries.averagePlaytimePerDay(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
+                queries.query(SessionQueries.averagePlaytimePerDay(halfMonthAgo, now, timeZoneOffset, serverUUID)),
                 false,
                 timeAmountFormatter
         ));
-        numbers.put("playtime_7d_avg", timeAmountFormatter.apply(db.query(SessionQueries.averagePlaytimePerDay(weekAgo, now, timeZoneOffset, serverUUID))));
-        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(db.query(SessionQueries.playtime(dayAgo, now, serverUUID))));
-
-        Long sessionsMonth = db.query(SessionQueries.sessionCount(monthAgo, now, serverUUID));
-        Long sessionsWeek = db.query(SessionQueries.sessionCount(weekAgo, now, serverUUID));
-        Long sessionsDay = db.query(SessionQueries.sessionCount(dayAgo, now, serverUUID));
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(monthAgo, halfMonthAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(halfMonthAgo, now, serverUUID));
-        numbers.put("sessions_30d", sessionsMonth);
-        numbers.put("sessions_30d_trend", new Trend(sessionsBefore, sessionsAfter, false));
-        numbers.put("sessions_7d", sessionsWeek);
-        numbers.put("sessions_24h", sessionsDay);
-
-        Long sessionLengthAvgMonth = sessionsMonth != 0 ? playtimeMonth / sessionsMonth : 0;
-        Long sessionLengthAvgWeek = sessionsWeek != 0 ? playtimeWeek / sessionsWeek : 0;
-        Long sessionLengthAvgDay = sessionsDay != 0 ? playtimeDay / sessionsDay : 0;
-        numbers.put("session_length_30d_avg", timeAmountFormatter.apply(sessionLengthAvgMonth));
+        numbers.put("playtime_7d_avg", timeAmountFormatter.apply(queries.query(SessionQueries.averagePlaytimePerDay(weekAgo, now, timeZoneOffset, serverUUID))));
+        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(playtimeDay));
+
+        numbers.put("sessions_30d", sessionsMonth.getSessionCount());
+        numbers.put("sessions_30d_trend", new Trend(sessionsBefore.getSessionCount(), sessionsAfter.getSessionCount(), false));
+        numbers.put("sessions_7d", sessionsWeek.getSessionCount());
+        numbers.put("sessions_24h", sessionsDay.getSessionCount());
+
+        numbers.put("session_length_30d_avg", timeAmountFormatter.apply(sessionsMonth.getAverageSessionLength()));
         numbers.put("session_length_30d_trend", new Trend(
-                sessionsBefore != 0 ? playtimeBefore / sessionsBefore : 0,
-                sessionsAfter != 0 ? playtimeAfter / sessionsAfter : 0,
+                sessionsBefore.getAverageSessionLength(),
+                sessionsAfter.getAverageSessionLength(),
                 false,
                 timeAmountFormatter
         ));
-        numbers.put("session_length_7d_avg", timeAmountFormatter.apply(sessionLengthAvgWeek));
-        numbers.put("session_length_24h_avg", timeAmountFormatter.apply(sessionLengthAvgDay));
+        numbers.put("session_length_7d_avg", timeAmountFormatter.apply(sessionsWeek.getAverageSessionLength()));
+        numbers.put("session_length_24h_avg", timeAmountFormatter.apply(sessionsDay.getAverageSessionLength()));
 
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID)));
+        TPSMutator tpsMutator = new TPSMutator(queries.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID)));
         numbers.put("average_tps", decimalFormatter.apply(tpsMutator.averageTPS()));
         numbers.put("low_tps_spikes", tpsMutator.lowTpsSpikeCount(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
         numbers.put("downtime", timeAmountFormatter.apply(tpsMutator.serverDownTime()));
@@ -200,17 +211,15 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         return numbers;
     }
 
-    private Map<String, Object> createInsightsMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        long now = System.currentTimeMillis();
+    private Map<String, Object> createInsightsMap(ServerUUID serverUUID, MemoizingQueryContext queries, long now) {
         long halfMonthAgo = now - TimeUnit.DAYS.toMillis(15L);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
         Map<String, Object> insights = new HashMap<>();
 
-        SessionsMutator sessions = new SessionsMutator(db.query(SessionQueries.fetchServerSessionsWithoutKillOrWorldData(monthAgo, now, serverUUID)));
-        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
-        Map<UUID, Long> registerDates = db.query(UserInfoQueries.fetchRegisterDates(monthAgo, now, serverUUID));
+        SessionsMutator sessions = new SessionsMutator(queries.query(SessionQueries.fetchServerSessionsWithoutKillOrWorldData(monthAgo, now, serverUUID)));
+        List<TPS> tpsData = queries.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
+        Map<UUID, Long> registerDates = queries.query(UserInfoQueries.fetchRegisterDates(monthAgo, now, serverUUID));
 
         PlayersOnlineResolver playersOnlineResolver = new PlayersOnlineResolver(new TPSMutator(tpsData));
         SessionsMutator firstSessions = sessions.filterBy(session -> {
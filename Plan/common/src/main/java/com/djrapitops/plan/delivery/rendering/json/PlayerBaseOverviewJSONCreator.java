@@ -33,6 +33,7 @@ import javax.inject.Singleton;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Playerbase Overview tab.
@@ -77,46 +78,61 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
 
         Map<String, Object> trends = new HashMap<>();
 
-        Integer playersBefore = db.query(PlayerCountQueries.newPlayerCount(0L, monthAgo, serverUUID));
-        Integer playersAfter = db.query(PlayerCountQueries.newPlayerCount(0L, now, serverUUID));
+        Supplier<Integer> playersBeforeQuery = db.queryInParallel(PlayerCountQueries.newPlayerCount(0L, monthAgo, serverUUID));
+        Supplier<Integer> playersAfterQuery = db.queryInParallel(PlayerCountQueries.newPlayerCount(0L, now, serverUUID));
+        Supplier<Integer> regularBeforeQuery = db.queryInParallel(ActivityIndexQueries.fetchRegularPlayerCount(monthAgo, serverUUID, playThreshold));
+        Supplier<Integer> regularAfterQuery = db.queryInParallel(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playThreshold));
+        Supplier<Long> avgPlaytimeBeforeQuery = db.queryInParallel(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo, serverUUID));
+        Supplier<Long> avgPlaytimeAfterQuery = db.queryInParallel(SessionQueries.averagePlaytimePerPlayer(monthAgo, now, serverUUID));
+        Supplier<Long> avgAfkBeforeQuery = db.queryInParallel(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo, serverUUID));
+        Supplier<Long> avgAfkAfterQuery = db.queryInParallel(SessionQueries.averageAfkPerPlayer(monthAgo, now, serverUUID));
+        Supplier<Long> avgRegularPlaytimeBeforeQuery = db.queryInParallel(ActivityIndexQueries.averagePlaytimePerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
+        Supplier<Long> avgRegularPlaytimeAfterQuery = db.queryInParallel(ActivityIndexQueries.averagePlaytimePerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Long> avgRegularSessionLengthBeforeQuery = db.queryInParallel(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
+        Supplier<Long> avgRegularSessionLengthAfterQuery = db.queryInParallel(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Long> avgRegularAfkBeforeQuery = db.queryInParallel(ActivityIndexQueries.averageAFKPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
+        Supplier<Long> avgRegularAfkAfterQuery = db.queryInParallel(ActivityIndexQueries.averageAFKPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+
+        Integer playersBefore = playersBeforeQuery.get();
+        Integer playersAfter = playersAfterQuery.get();
         trends.put("total_players_then", playersBefore);
         trends.put("total_players_now", playersAfter);
         trends.put("total_players_trend", new Trend(playersBefore, playersAfter, false));
 
-        Integer regularBefore = db.query(ActivityIndexQueries.fetchRegularPlayerCount(monthAgo, serverUUID, playThreshold));
-        Integer regularAfter = db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playThreshold));
+        Integer regularBefore = regularBeforeQuery.get();
+        Integer regularAfter = regularAfterQuery.get();
         trends.put("regular_players_then", regularBefore);
         trends.put("regular_players_now", regularAfter);
         trends.put("regular_players_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long avgPlaytimeBefore = db.query(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgPlaytimeAfter = db.query(SessionQueries.averagePlaytimePerPlayer(monthAgo, now, serverUUID));
+        Long avgPlaytimeBefore = avgPlaytimeBeforeQuery.get();
+        Long avgPlaytimeAfter = avgPlaytimeAfterQuery.get();
         trends.put("playtime_avg_then", timeAmount.apply(avgPlaytimeBefore));
         trends.put("playtime_avg_now", timeAmount.apply(avgPlaytimeAfter));
         trends.put("playtime_avg_trend", new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount));
 
-        Long avgAfkBefore = db.query(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgAfkAfter = db.query(SessionQueries.averageAfkPerPlayer(monthAgo, now, serverUUID));
+        Long avgAfkBefore = avgAfkBeforeQuery.get();
+        Long avgAfkAfter = avgAfkAfterQuery.get();
         double afkPercentageBefore = Percentage.calculate(avgAfkBefore, avgPlaytimeBefore);
         double afkPercentageAfter = Percentage.calculate(avgAfkAfter, avgPlaytimeAfter);
         trends.put("afk_then", percentage.apply(afkPercentageBefore));
         trends.put("afk_now", percentage.apply(afkPercentageAfter));
         trends.put("afk_trend", new Trend(afkPercentageBefore, afkPercentageAfter, Trend.REVERSED, percentage));
 
-        Long avgRegularPlaytimeBefore = db.query(ActivityIndexQueries.averagePlaytimePerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
-        Long avgRegularPlaytimeAfter = db.query(ActivityIndexQueries.averagePlaytimePerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Long avgRegularPlaytimeBefore = avgRegularPlaytimeBeforeQuery.get();
+        Long avgRegularPlaytimeAfter = avgRegularPlaytimeAfterQuery.get();
         trends.put("regular_playtime_avg_then", timeAmount.apply(avgRegularPlaytimeBefore));
         trends.put("regular_playtime_avg_now", timeAmount.apply(avgRegularPlaytimeAfter));
         trends.put("regular_playtime_avg_trend", new Trend(avgRegularPlaytimeBefore, avgRegularPlaytimeAfter, false, timeAmount));
 
-        Long avgRegularSessionLengthBefore = db.query(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
-        Long avgRegularSessionLengthAfter = db.query(ActivityIndexQueries.averageSessionLengthPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Long avgRegularSessionLengthBefore = avgRegularSessionLengthBeforeQuery.get();
+        Long avgRegularSessionLengthAfter = avgRegularSessionLengthAfterQuery.get();
         trends.put("regular_session_avg_then", timeAmount.apply(avgRegularSessionLengthBefore));
         trends.put("regular_session_avg_now", timeAmount.apply(avgRegularSessionLengthAfter));
         trends.put("regular_session_avg_trend", new Trend(avgRegularSessionLengthBefore, avgRegularSessionLengthAfter, false, timeAmount));
 
-        Long avgRegularAfkBefore = db.query(ActivityIndexQueries.averageAFKPerRegularPlayer(twoMonthsAgo, monthAgo, serverUUID, playThreshold));
-        Long avgRegularAfkAfter = db.query(ActivityIndexQueries.averageAFKPerRegularPlayer(monthAgo, now, serverUUID, playThreshold));
+        Long avgRegularAfkBefore = avgRegularAfkBeforeQuery.get();
+        Long avgRegularAfkAfter = avgRegularAfkAfterQuery.get();
         double afkRegularPercentageBefore = Percentage.calculate(avgRegularAfkBefore, avgRegularPlaytimeBefore);
         double afkRegularPercentageAfter = Percentage.calculate(avgRegularAfkAfter, avgRegularPlaytimeAfter);
         trends.put("regular_afk_avg_then", percentage.apply(afkRegularPercentageBefore));
@@ -135,15 +151,22 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
 
         Map<String, Object> insights = new HashMap<>();
 
-        int newToRegular = db.query(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, now, serverUUID, playThreshold));
-        Integer newToRegularBefore = db.query(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, halfMonthAgo, serverUUID, playThreshold));
-        Integer newToRegularAfter = db.query(ActivityIndexQueries.countNewPlayersTurnedRegular(halfMonthAgo, now, serverUUID, playThreshold));
+        Supplier<Integer> newToRegularQuery = db.queryInParallel(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Integer> newToRegularBeforeQuery = db.queryInParallel(ActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, halfMonthAgo, serverUUID, playThreshold));
+        Supplier<Integer> newToRegularAfterQuery = db.queryInParallel(ActivityIndexQueries.countNewPlayersTurnedRegular(halfMonthAgo, now, serverUUID, playThreshold));
+        Supplier<Integer> regularToInactiveQuery = db.queryInParallel(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, now, serverUUID, playThreshold));
+        Supplier<Integer> regularToInactiveBeforeQuery = db.queryInParallel(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, halfMonthAgo, serverUUID, playThreshold));
+        Supplier<Integer> regularToInactiveAfterQuery = db.queryInParallel(ActivityIndexQueries.countRegularPlayersTurnedInactive(halfMonthAgo, now, serverUUID, playThreshold));
+
+        int newToRegular = newToRegularQuery.get();
+        Integer newToRegularBefore = newToRegularBeforeQuery.get();
+        Integer newToRegularAfter = newToRegularAfterQuery.get();
         insights.put("new_to_regular", newToRegular);
         insights.put("new_to_regular_trend", new Trend(newToRegularBefore, newToRegularAfter, false));
 
-        Integer regularToInactive = db.query(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, now, serverUUID, playThreshold));
-        Integer regularToInactiveBefore = db.query(ActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, halfMonthAgo, serverUUID, playThreshold));
-        Integer regularToInactiveAfter = db.query(ActivityIndexQueries.countRegularPlayersTurnedInactive(halfMonthAgo, now, serverUUID, playThreshold));
+        Integer regularToInactive = regularToInactiveQuery.get();
+        Integer regularToInactiveBefore = regularToInactiveBeforeQuery.get();
+        Integer regularToInactiveAfter = regularToInactiveAfterQuery.get();
         insights.put("regular_to_inactive", regularToInactive);
         insights.put("regular_to_inactive_trend", new Trend(regularToInactiveBefore, regularToInactiveAfter, Trend.REVERSED));
 
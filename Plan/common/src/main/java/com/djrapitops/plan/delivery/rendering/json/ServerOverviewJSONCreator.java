@@ -32,9 +32,13 @@ import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.MemoizingQueryContext;
 import com.djrapitops.plan.storage.database.queries.ServerAggregateQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.SessionAggregate;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.Window;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
@@ -43,9 +47,11 @@ import com.djrapitops.plan.utilities.analysis.Percentage;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Server Overview tab.
@@ -90,31 +96,41 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
     }
 
     public Map<String, Object> createJSONAsMap(ServerUUID serverUUID) {
+        // Equal queries of different sections are only run once.
+        MemoizingQueryContext queries = new MemoizingQueryContext(dbSystem.getDatabase());
+        long now = System.currentTimeMillis();
         Map<String, Object> serverOverview = new HashMap<>();
-        serverOverview.put("last_7_days", createLast7DaysMap(serverUUID));
-        serverOverview.put("numbers", createNumbersMap(serverUUID));
-        serverOverview.put("weeks", createWeeksMap(serverUUID));
+        serverOverview.put("last_7_days", createLast7DaysMap(serverUUID, queries, now));
+        serverOverview.put("numbers", createNumbersMap(serverUUID, queries, now));
+        serverOverview.put("weeks", createWeeksMap(serverUUID, queries, now));
         return serverOverview;
     }
 
-    private Map<String, Object> createLast7DaysMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        long now = System.currentTimeMillis();
+    private Map<String, Object> createLast7DaysMap(ServerUUID serverUUID, MemoizingQueryContext queries, long now) {
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        sevenDays.put("unique_players_day", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID)));
+        Supplier<Integer> uniquePlayersQuery = queries.queryInParallel(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> uniquePlayersPerDayQuery = queries.queryInParallel(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID));
+        Supplier<Integer> new7dQuery = queries.queryInParallel(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> retained7dQuery = queries.queryInParallel(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        Supplier<List<TPS>> tpsDataQuery = queries.queryInParallel(TPSQueries.fetchTPSDataOfServer(weekAgo, now, serverUUID));
+
+        Integer uniquePlayers = uniquePlayersQuery.get();
+        Integer uniquePlayersPerDay = uniquePlayersPerDayQuery.get();
+        int new7d = new7dQuery.get();
+        int retained7d = retained7dQuery.get();
+        List<TPS> tpsData = tpsDataQuery.get();
 
-        int new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        sevenDays.put("unique_players", uniquePlayers);
+        sevenDays.put("unique_players_day", uniquePlayersPerDay);
         double retentionPercentage7d = Percentage.calculate(retained7d, new7d, -1);
 
         sevenDays.put("new_players", new7d);
         sevenDays.put("new_players_retention", retained7d);
         sevenDays.put("new_players_retention_perc", percentage.apply(retentionPercentage7d));
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(weekAgo, now, serverUUID)));
+        TPSMutator tpsMutator = new TPSMutator(tpsData);
         double averageTPS = tpsMutator.averageTPS();
         sevenDays.put("average_tps", averageTPS != -1 ? decimals.apply(averageTPS) : GenericLang.UNAVAILABLE.getKey());
         sevenDays.put("low_tps_spikes", tpsMutator.lowTpsSpikeCount(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
@@ -123,31 +139,45 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         return sevenDays;
     }
 
-    private Map<String, Object> createNumbersMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        long now = System.currentTimeMillis();
+    private Map<String, Object> createNumbersMap(ServerUUID serverUUID, MemoizingQueryContext queries, long now) {
         long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(ServerAggregateQueries.serverUserCount(serverUUID));
+        Supplier<Integer> userCountQuery = queries.queryInParallel(ServerAggregateQueries.serverUserCount(serverUUID));
+        Supplier<Integer> regularPlayersQuery = queries.queryInParallel(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<Optional<DateObj<Integer>>> lastPeakQuery = queries.queryInParallel(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Supplier<Optional<DateObj<Integer>>> allTimePeakQuery = queries.queryInParallel(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Supplier<Long> totalPlaytimeQuery = queries.queryInParallel(SessionQueries.playtime(0L, now, serverUUID));
+        Supplier<Long> sessionCountQuery = queries.queryInParallel(SessionQueries.sessionCount(0L, now, serverUUID));
+        Supplier<Long> playerKillsQuery = queries.queryInParallel(KillQueries.playerKillCount(0L, now, serverUUID));
+        Supplier<Long> mobKillsQuery = queries.queryInParallel(KillQueries.mobKillCount(0L, now, serverUUID));
+        Supplier<Long> deathsQuery = queries.queryInParallel(KillQueries.deathCount(0L, now, serverUUID));
+
+        Integer userCount = userCountQuery.get();
+        Integer regularPlayers = regularPlayersQuery.get();
+        Optional<DateObj<Integer>> lastPeak = lastPeakQuery.get();
+        Optional<DateObj<Integer>> allTimePeak = allTimePeakQuery.get();
+        Long totalPlaytime = totalPlaytimeQuery.get();
+        Long sessionCount = sessionCountQuery.get();
+        Long playerKills = playerKillsQuery.get();
+        Long mobKills = mobKillsQuery.get();
+        Long deaths = deathsQuery.get();
+
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold)));
-        numbers.put("online_players", getOnlinePlayers(serverUUID, db));
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        numbers.put("regular_players", regularPlayers);
+        numbers.put("online_players", getOnlinePlayers(serverUUID, queries.getDatabase()));
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now, serverUUID));
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        numbers.put("sessions", db.query(SessionQueries.sessionCount(0L, now, serverUUID)));
-        numbers.put("player_kills", db.query(KillQueries.playerKillCount(0L, now, serverUUID)));
-        numbers.put("mob_kills", db.query(KillQueries.mobKillCount(0L, now, serverUUID)));
-        numbers.put("deaths", db.query(KillQueries.deathCount(0L, now, serverUUID)));
+        numbers.put("sessions", sessionCount);
+        numbers.put("player_kills", playerKills);
+        numbers.put("mob_kills", mobKills);
+        numbers.put("deaths", deaths);
         numbers.put("current_uptime", serverUptimeCalculator.getServerUptimeMillis(serverUUID).map(timeAmount)
                 .orElse(GenericLang.UNAVAILABLE.getKey()));
 
@@ -162,9 +192,7 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
                 .orElse(GenericLang.UNKNOWN.getKey());
     }
 
-    private Map<String, Object> createWeeksMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        long now = System.currentTimeMillis();
+    private Map<String, Object> createWeeksMap(ServerUUID serverUUID, MemoizingQueryContext queries, long now) {
         long oneWeekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long twoWeeksAgo = now - TimeUnit.DAYS.toMillis(14L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
@@ -175,28 +203,46 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        Window weekBefore = Window.of(twoWeeksAgo, oneWeekAgo);
+        Window weekAfter = Window.of(oneWeekAgo, now);
+        Supplier<Map<Window, SessionAggregate>> sessionAggregatesQuery = queries.queryInParallel(WindowedAggregateQueries.sessionAggregates(serverUUID, weekBefore, weekAfter));
+        Supplier<Map<Window, Integer>> newPlayerCountsQuery = queries.queryInParallel(WindowedAggregateQueries.newPlayerCounts(serverUUID, weekBefore, weekAfter));
+        Supplier<Integer> regularBeforeQuery = queries.queryInParallel(ActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
+        Supplier<Integer> regularAfterQuery = queries.queryInParallel(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<Long> pksBeforeQuery = queries.queryInParallel(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> pksAfterQuery = queries.queryInParallel(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> mkBeforeQuery = queries.queryInParallel(KillQueries.mobKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> mkAfterQuery = queries.queryInParallel(KillQueries.mobKillCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> deathsBeforeQuery = queries.queryInParallel(KillQueries.deathCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> deathsAfterQuery = queries.queryInParallel(KillQueries.deathCount(oneWeekAgo, now, serverUUID));
+
+        Map<Window, SessionAggregate> sessionAggregates = sessionAggregatesQuery.get();
+        Map<Window, Integer> newPlayerCounts = newPlayerCountsQuery.get();
+        SessionAggregate sessionsOfWeekBefore = sessionAggregates.get(weekBefore);
+        SessionAggregate sessionsOfWeekAfter = sessionAggregates.get(weekAfter);
+
+        int uniqueBefore = sessionsOfWeekBefore.getUniquePlayers();
+        int uniqueAfter = sessionsOfWeekAfter.getUniquePlayers();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        Integer newBefore = newPlayerCounts.get(weekBefore);
+        Integer newAfter = newPlayerCounts.get(weekAfter);
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(ActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
-        int regularAfter = db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        int regularBefore = regularBeforeQuery.get();
+        int regularAfter = regularAfterQuery.get();
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now, serverUUID));
+        long playtimeBefore = sessionsOfWeekBefore.getPlaytime();
+        long playtimeAfter = sessionsOfWeekAfter.getPlaytime();
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -204,29 +250,29 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now, serverUUID));
+        long sessionsBefore = sessionsOfWeekBefore.getSessionCount();
+        long sessionsAfter = sessionsOfWeekAfter.getSessionCount();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
         weeks.put("sessions_trend", sessionsTrend);
 
-        Long pksBefore = db.query(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long pksAfter = db.query(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+        Long pksBefore = pksBeforeQuery.get();
+        Long pksAfter = pksAfterQuery.get();
         Trend pksTrend = new Trend(pksBefore, pksAfter, false);
         weeks.put("player_kills_before", pksBefore);
         weeks.put("player_kills_after", pksAfter);
         weeks.put("player_kills_trend", pksTrend);
 
-        Long mkBefore = db.query(KillQueries.mobKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long mkAfter = db.query(KillQueries.mobKillCount(oneWeekAgo, now, serverUUID));
+        Long mkBefore = mkBeforeQuery.get();
+        Long mkAfter = mkAfterQuery.get();
         Trend mkTrend = new Trend(mkBefore, mkAfter, false);
         weeks.put("mob_kills_before", mkBefore);
         weeks.put("mob_kills_after", mkAfter);
         weeks.put("mob_kills_trend", mkTrend);
 
-        Long deathsBefore = db.query(KillQueries.deathCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long deathsAfter = db.query(KillQueries.deathCount(oneWeekAgo, now, serverUUID));
+        Long deathsBefore = deathsBeforeQuery.get();
+        Long deathsAfter = deathsAfterQuery.get();
         Trend deathTrend = new Trend(deathsBefore, deathsAfter, true);
         weeks.put("deaths_before", deathsBefore);
         weeks.put("deaths_after", deathsAfter);
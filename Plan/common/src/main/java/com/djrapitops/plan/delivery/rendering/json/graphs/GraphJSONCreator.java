@@ -38,6 +38,7 @@ import com.djrapitops.plan.delivery.rendering.json.graphs.special.WorldMap;
 import com.djrapitops.plan.delivery.rendering.json.graphs.stack.StackGraph;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
@@ -66,6 +67,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -136,11 +138,16 @@ public class GraphJSONCreator {
         long lowestResolution = TimeUnit.MINUTES.toMillis(20);
         long lowResolution = TimeUnit.MINUTES.toMillis(5);
         Database db = dbSystem.getDatabase();
-        TPSMutator lowestResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServerInResolution(0, twoMonthsAgo, lowestResolution, serverUUID)));
-        TPSMutator lowResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServerInResolution(twoMonthsAgo, monthAgo, lowResolution, serverUUID)));
-        TPSMutator highResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID)));
+        Supplier<List<TPS>> lowestResolutionQuery = db.queryInParallel(TPSQueries.fetchTPSDataOfServerInResolution(0, twoMonthsAgo, lowestResolution, serverUUID));
+        Supplier<List<TPS>> lowResolutionQuery = db.queryInParallel(TPSQueries.fetchTPSDataOfServerInResolution(twoMonthsAgo, monthAgo, lowResolution, serverUUID));
+        Supplier<List<TPS>> highResolutionQuery = db.queryInParallel(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
+        Supplier<Optional<Server>> serverQuery = db.queryInParallel(ServerQueries.fetchServerMatchingIdentifier(serverUUID));
 
-        String serverName = db.query(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
+        TPSMutator lowestResolutionData = new TPSMutator(lowestResolutionQuery.get());
+        TPSMutator lowResolutionData = new TPSMutator(lowResolutionQuery.get());
+        TPSMutator highResolutionData = new TPSMutator(highResolutionQuery.get());
+
+        String serverName = serverQuery.get()
                 .map(Server::getIdentifiableName)
                 .orElse(serverUUID.toString());
 
@@ -167,7 +174,7 @@ public class GraphJSONCreator {
         )));
 
         return Maps.builder(String.class, Object.class)
-                .put("keys", new String[]{"date", "playersOnline", "tps", "cpu", "ram", "entities", "chunks", "disk"})
+                .put("keys", new String[]{"date", "playersOnline", "tps", "cpu", "ram", "entities", "chunks", "disk", "msptP95", "msptMax"})
                 .put("values", values)
                 .put("colors", Maps.builder(String.class, Object.class)
                         .put("playersOnline", theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE))
@@ -209,14 +216,14 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDayQuery = db.queryInParallel(
                 PlayerCountQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDayQuery = db.queryInParallel(
                 PlayerCountQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDayQuery.get(), newPerDayQuery.get(), TimeUnit.DAYS.toMillis(1L));
     }
 
     public String hourlyUniqueAndNewGraphJSON(ServerUUID serverUUID) {
@@ -225,14 +232,14 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDayQuery = db.queryInParallel(
                 PlayerCountQueries.hourlyUniquePlayerCounts(weekAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDayQuery = db.queryInParallel(
                 PlayerCountQueries.newPlayerCounts(weekAgo, now, timeZoneOffset, serverUUID)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDayQuery.get(), newPerDayQuery.get(), TimeUnit.HOURS.toMillis(1L));
     }
 
     public String createUniqueAndNewJSON(LineGraphFactory lineGraphs, NavigableMap<Long, Integer> uniquePerDay, NavigableMap<Long, Integer> newPerDay, long gapFillPeriod) {
@@ -257,14 +264,14 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDayQuery = db.queryInParallel(
                 PlayerCountQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDayQuery = db.queryInParallel(
                 PlayerCountQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDayQuery.get(), newPerDayQuery.get(), TimeUnit.DAYS.toMillis(1L));
     }
 
     public String hourlyUniqueAndNewGraphJSON() {
@@ -273,14 +280,14 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDayQuery = db.queryInParallel(
                 PlayerCountQueries.hourlyUniquePlayerCounts(weekAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDayQuery = db.queryInParallel(
                 PlayerCountQueries.hourlyNewPlayerCounts(weekAgo, now, timeZoneOffset)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDayQuery.get(), newPerDayQuery.get(), TimeUnit.HOURS.toMillis(1L));
     }
 
     public String serverCalendarJSON(ServerUUID serverUUID) {
@@ -288,24 +295,24 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDayQuery = db.queryInParallel(
                 PlayerCountQueries.uniquePlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDayQuery = db.queryInParallel(
                 PlayerCountQueries.newPlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Long> playtimePerDay = db.query(
+        Supplier<NavigableMap<Long, Long>> playtimePerDayQuery = db.queryInParallel(
                 SessionQueries.playtimePerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> sessionsPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> sessionsPerDayQuery = db.queryInParallel(
                 SessionQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
         return "{\"data\":" +
                 graphs.calendar().serverCalendar(
-                        uniquePerDay,
-                        newPerDay,
-                        playtimePerDay,
-                        sessionsPerDay
+                        uniquePerDayQuery.get(),
+                        newPerDayQuery.get(),
+                        playtimePerDayQuery.get(),
+                        sessionsPerDayQuery.get()
                 ).toCalendarSeries() +
                 ",\"firstDay\":" + 1 + '}';
     }
@@ -315,24 +322,24 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDayQuery = db.queryInParallel(
                 PlayerCountQueries.uniquePlayerCounts(twoYearsAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDayQuery = db.queryInParallel(
                 PlayerCountQueries.newPlayerCounts(twoYearsAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Long> playtimePerDay = db.query(
+        Supplier<NavigableMap<Long, Long>> playtimePerDayQuery = db.queryInParallel(
                 SessionQueries.playtimePerDay(twoYearsAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> sessionsPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> sessionsPerDayQuery = db.queryInParallel(
                 SessionQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset)
         );
         return "{\"data\":" +
                 graphs.calendar().serverCalendar(
-                        uniquePerDay,
-                        newPerDay,
-                        playtimePerDay,
-                        sessionsPerDay
+                        uniquePerDayQuery.get(),
+                        newPerDayQuery.get(),
+                        playtimePerDayQuery.get(),
+                        sessionsPerDayQuery.get()
                 ).toCalendarSeries() +
                 ",\"firstDay\":" + 1 + '}';
     }
@@ -353,10 +360,12 @@ public class GraphJSONCreator {
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
-        DateMap<Map<String, Integer>> activityData = new DateMap<>();
+        Map<Long, Supplier<Map<String, Integer>>> activityQueries = new HashMap<>();
         for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
+            activityQueries.put(time, db.queryInParallel(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
         }
+        DateMap<Map<String, Integer>> activityData = new DateMap<>();
+        activityQueries.forEach((time, query) -> activityData.put(time, query.get()));
 
         return createActivityGraphJSON(activityData);
     }
@@ -378,10 +387,12 @@ public class GraphJSONCreator {
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
-        DateMap<Map<String, Integer>> activityData = new DateMap<>();
+        Map<Long, Supplier<Map<String, Integer>>> activityQueries = new HashMap<>();
         for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold)));
+            activityQueries.put(time, db.queryInParallel(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold)));
         }
+        DateMap<Map<String, Integer>> activityData = new DateMap<>();
+        activityQueries.forEach((time, query) -> activityData.put(time, query.get()));
 
         return createActivityGraphJSON(activityData);
     }
@@ -534,16 +545,17 @@ public class GraphJSONCreator {
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
 
-        List<ServerSpecificLineGraph> proxyGraphs = new ArrayList<>();
+        Map<Server, Supplier<List<DateObj<Integer>>>> playersOnlineQueries = new LinkedHashMap<>();
         for (Server proxy : db.query(ServerQueries.fetchProxyServers())) {
-            ServerUUID proxyUUID = proxy.getUuid();
-            List<Double[]> points = Lists.map(
-                    db.query(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, proxyUUID)),
-                    point -> Point.fromDateObj(point).toArray()
-            );
-            proxyGraphs.add(new ServerSpecificLineGraph(points, ServerDto.fromServer(proxy)));
+            playersOnlineQueries.put(proxy, db.queryInParallel(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, proxy.getUuid())));
         }
 
+        List<ServerSpecificLineGraph> proxyGraphs = new ArrayList<>();
+        playersOnlineQueries.forEach((proxy, query) -> {
+            List<Double[]> points = Lists.map(query.get(), point -> Point.fromDateObj(point).toArray());
+            proxyGraphs.add(new ServerSpecificLineGraph(points, ServerDto.fromServer(proxy)));
+        });
+
         return new GraphCollection<>(proxyGraphs, theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE));
     }
 }
\ No newline at end of file
@@ -32,6 +32,9 @@ import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.SessionAggregate;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.Window;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 
@@ -41,6 +44,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /network-page Network Overview tab.
@@ -96,13 +100,22 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
 
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players_1d", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now)));
-        sevenDays.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now)));
-        sevenDays.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now)));
+        Window oneDay = Window.of(dayAgo, now);
+        Window oneWeek = Window.of(weekAgo, now);
+        Window oneMonth = Window.of(monthAgo, now);
+        Supplier<Map<Window, SessionAggregate>> sessionAggregatesQuery = db.queryInParallel(WindowedAggregateQueries.sessionAggregates(oneDay, oneWeek, oneMonth));
+        Supplier<Map<Window, Integer>> newPlayerCountsQuery = db.queryInParallel(WindowedAggregateQueries.newPlayerCounts(oneDay, oneWeek, oneMonth));
 
-        sevenDays.put("new_players_1d", db.query(PlayerCountQueries.newPlayerCount(dayAgo, now)));
-        sevenDays.put("new_players_7d", db.query(PlayerCountQueries.newPlayerCount(weekAgo, now)));
-        sevenDays.put("new_players_30d", db.query(PlayerCountQueries.newPlayerCount(monthAgo, now)));
+        Map<Window, SessionAggregate> sessionAggregates = sessionAggregatesQuery.get();
+        Map<Window, Integer> newPlayerCounts = newPlayerCountsQuery.get();
+
+        sevenDays.put("unique_players_1d", sessionAggregates.get(oneDay).getUniquePlayers());
+        sevenDays.put("unique_players_7d", sessionAggregates.get(oneWeek).getUniquePlayers());
+        sevenDays.put("unique_players_30d", sessionAggregates.get(oneMonth).getUniquePlayers());
+
+        sevenDays.put("new_players_1d", newPlayerCounts.get(oneDay));
+        sevenDays.put("new_players_7d", newPlayerCounts.get(oneWeek));
+        sevenDays.put("new_players_30d", newPlayerCounts.get(oneMonth));
 
         return sevenDays;
     }
@@ -115,21 +128,30 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
 
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(PlayerCountQueries.newPlayerCount(0L, now));
+        ServerUUID serverUUID = serverInfo.getServerUUID();
+        Supplier<Integer> userCountQuery = db.queryInParallel(PlayerCountQueries.newPlayerCount(0L, now));
+        Supplier<Integer> regularPlayersQuery = db.queryInParallel(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        Supplier<Optional<DateObj<Integer>>> lastPeakQuery = db.queryInParallel(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Supplier<Optional<DateObj<Integer>>> allTimePeakQuery = db.queryInParallel(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Supplier<Long> totalPlaytimeQuery = db.queryInParallel(SessionQueries.playtime(0L, now));
+        Supplier<Long> sessionCountQuery = db.queryInParallel(SessionQueries.sessionCount(0L, now));
+
+        Integer userCount = userCountQuery.get();
+        Integer regularPlayers = regularPlayersQuery.get();
+        Optional<DateObj<Integer>> lastPeak = lastPeakQuery.get();
+        Optional<DateObj<Integer>> allTimePeak = allTimePeakQuery.get();
+        Long totalPlaytime = totalPlaytimeQuery.get();
+        Long sessionCount = sessionCountQuery.get();
+
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold)));
+        numbers.put("regular_players", regularPlayers);
         numbers.put("online_players", serverSensor.getOnlinePlayerCount());
-        ServerUUID serverUUID = serverInfo.getServerUUID();
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now));
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        Long sessionCount = db.query(SessionQueries.sessionCount(0L, now));
         numbers.put("sessions", sessionCount);
         numbers.put("session_length_avg", sessionCount != 0 ? timeAmount.apply(totalPlaytime / sessionCount) : "-");
         numbers.put("current_uptime", serverUptimeCalculator.getServerUptimeMillis(serverUUID).map(timeAmount)
@@ -151,28 +173,40 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now));
+        Window weekBefore = Window.of(twoWeeksAgo, oneWeekAgo);
+        Window weekAfter = Window.of(oneWeekAgo, now);
+        Supplier<Map<Window, SessionAggregate>> sessionAggregatesQuery = db.queryInParallel(WindowedAggregateQueries.sessionAggregates(weekBefore, weekAfter));
+        Supplier<Map<Window, Integer>> newPlayerCountsQuery = db.queryInParallel(WindowedAggregateQueries.newPlayerCounts(weekBefore, weekAfter));
+        Supplier<Integer> regularBeforeQuery = db.queryInParallel(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
+        Supplier<Integer> regularAfterQuery = db.queryInParallel(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+
+        Map<Window, SessionAggregate> sessionAggregates = sessionAggregatesQuery.get();
+        Map<Window, Integer> newPlayerCounts = newPlayerCountsQuery.get();
+        SessionAggregate sessionsOfWeekBefore = sessionAggregates.get(weekBefore);
+        SessionAggregate sessionsOfWeekAfter = sessionAggregates.get(weekAfter);
+
+        int uniqueBefore = sessionsOfWeekBefore.getUniquePlayers();
+        int uniqueAfter = sessionsOfWeekAfter.getUniquePlayers();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now));
+        Integer newBefore = newPlayerCounts.get(weekBefore);
+        Integer newAfter = newPlayerCounts.get(weekAfter);
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
-        int regularAfter = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        int regularBefore = regularBeforeQuery.get();
+        int regularAfter = regularAfterQuery.get();
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now));
+        long playtimeBefore = sessionsOfWeekBefore.getPlaytime();
+        long playtimeAfter = sessionsOfWeekAfter.getPlaytime();
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -180,8 +214,8 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now));
+        long sessionsBefore = sessionsOfWeekBefore.getSessionCount();
+        long sessionsAfter = sessionsOfWeekAfter.getSessionCount();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
@@ -22,6 +22,8 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.utilities.metrics.LatencyHistogram;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -49,13 +51,15 @@ public class AsyncJSONResolverService {
     private final Map<String, Long> previousUpdates;
     private final ReentrantLock accessLock; // Access lock prevents double processing same resource
     private final Formatter<Long> httpLastModifiedFormatter;
+    private final LatencyHistogram blockingTime;
 
     @Inject
     public AsyncJSONResolverService(
             PlanConfig config,
             Formatters formatters,
             Processing processing,
-            JSONStorage jsonStorage
+            JSONStorage jsonStorage,
+            PlanMetrics metrics
     ) {
         this.config = config;
         this.processing = processing;
@@ -66,6 +70,7 @@ public class AsyncJSONResolverService {
         accessLock = new ReentrantLock();
 
         httpLastModifiedFormatter = formatters.httpLastModifiedLong();
+        blockingTime = metrics.histogram("webserver.json.blocking");
     }
 
     public <T> JSONStorage.StoredJSON resolve(
@@ -113,6 +118,7 @@ public class AsyncJSONResolverService {
 
     private JSONStorage.StoredJSON waitAndGetUpdated(Future<JSONStorage.StoredJSON> updatedJSON) {
         // If there is no version available, block thread until the new finishes being generated.
+        long start = System.nanoTime();
         try {
             return updatedJSON.get();
         } catch (InterruptedException e) {
@@ -120,6 +126,8 @@ public class AsyncJSONResolverService {
             return null;
         } catch (ExecutionException e) {
             throw new IllegalStateException(e);
+        } finally {
+            blockingTime.recordSince(start);
         }
     }
 
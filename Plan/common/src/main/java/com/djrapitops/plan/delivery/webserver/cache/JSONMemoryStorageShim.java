@@ -18,6 +18,8 @@ package com.djrapitops.plan.delivery.webserver.cache;
 
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.utilities.metrics.Counter;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
@@ -28,15 +30,28 @@ public class JSONMemoryStorageShim implements JSONStorage {
 
     private final PlanConfig config;
     private final JSONStorage underlyingStorage;
+    private final Counter hits;
+    private final Counter misses;
 
     private Cache<TimestampedIdentifier, StoredJSON> cache;
 
     public JSONMemoryStorageShim(
             PlanConfig config,
-            JSONStorage underlyingStorage
+            JSONStorage underlyingStorage,
+            PlanMetrics metrics
     ) {
         this.config = config;
         this.underlyingStorage = underlyingStorage;
+
+        hits = metrics.counter("webserver.jsonCache.memory.hits");
+        misses = metrics.counter("webserver.jsonCache.memory.misses");
+        metrics.gauge("webserver.jsonCache.memory.hitRate", this::getHitRate);
+    }
+
+    private double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total != 0 ? hitCount / (double) total : 0.0;
     }
 
     @Override
@@ -62,9 +77,11 @@ public class JSONMemoryStorageShim implements JSONStorage {
     public Optional<StoredJSON> fetchJSON(String identifier) {
         for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
             if (entry.getKey().identifier.equalsIgnoreCase(identifier)) {
+                hits.increment();
                 return Optional.of(entry.getValue());
             }
         }
+        misses.increment();
         Optional<StoredJSON> found = underlyingStorage.fetchJSON(identifier);
         found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
         return found;
@@ -73,8 +90,12 @@ public class JSONMemoryStorageShim implements JSONStorage {
     @Override
     public Optional<StoredJSON> fetchExactJson(String identifier, long timestamp) {
         StoredJSON cached = getCache().getIfPresent(new TimestampedIdentifier(identifier, timestamp));
-        if (cached != null) return Optional.of(cached);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
 
+        misses.increment();
         Optional<StoredJSON> found = underlyingStorage.fetchExactJson(identifier, timestamp);
         found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, timestamp), storedJSON));
         return found;
@@ -85,10 +106,12 @@ public class JSONMemoryStorageShim implements JSONStorage {
         for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
             TimestampedIdentifier key = entry.getKey();
             if (key.timestamp < timestamp && key.identifier.equalsIgnoreCase(identifier)) {
+                hits.increment();
                 return Optional.of(entry.getValue());
             }
         }
 
+        misses.increment();
         Optional<StoredJSON> found = underlyingStorage.fetchJsonMadeBefore(identifier, timestamp);
         found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
         return found;
@@ -99,9 +122,11 @@ public class JSONMemoryStorageShim implements JSONStorage {
         for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
             TimestampedIdentifier key = entry.getKey();
             if (key.timestamp > timestamp && key.identifier.equalsIgnoreCase(identifier)) {
+                hits.increment();
                 return Optional.of(entry.getValue());
             }
         }
+        misses.increment();
         Optional<StoredJSON> found = underlyingStorage.fetchJsonMadeAfter(identifier, timestamp);
         found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
         return found;
@@ -25,6 +25,8 @@ import com.djrapitops.plan.delivery.webserver.auth.FailReason;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
 import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.djrapitops.plan.utilities.metrics.LatencyHistogram;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpHeader;
 
@@ -41,42 +43,49 @@ public class RequestHandler {
 
     private final PassBruteForceGuard bruteForceGuard;
     private final AccessLogger accessLogger;
+    private final LatencyHistogram responseTime;
 
     @Inject
-    public RequestHandler(WebserverConfiguration webserverConfiguration, ResponseFactory responseFactory, ResponseResolver responseResolver, AccessLogger accessLogger) {
+    public RequestHandler(WebserverConfiguration webserverConfiguration, ResponseFactory responseFactory, ResponseResolver responseResolver, AccessLogger accessLogger, PlanMetrics metrics) {
         this.webserverConfiguration = webserverConfiguration;
         this.responseFactory = responseFactory;
         this.responseResolver = responseResolver;
         this.accessLogger = accessLogger;
+        responseTime = metrics.histogram("webserver.response");
 
         bruteForceGuard = new PassBruteForceGuard();
     }
 
     public Response getResponse(InternalRequest internalRequest) {
+        long start = System.nanoTime();
         @Untrusted String accessAddress = internalRequest.getAccessAddress(webserverConfiguration);
 
         Response response;
         @Untrusted Request request = null;
-        if (bruteForceGuard.shouldPreventRequest(accessAddress)) {
-            response = responseFactory.failedLoginAttempts403();
-        } else if (!webserverConfiguration.getAllowedIpList().isAllowed(accessAddress)) {
-            webserverConfiguration.getWebserverLogMessages()
-                    .warnAboutWhitelistBlock(accessAddress, internalRequest.getRequestedURIString());
-            response = responseFactory.ipWhitelist403(accessAddress);
-        } else {
-            try {
-                request = internalRequest.toRequest();
-                response = attemptToResolve(request, accessAddress);
-            } catch (WebUserAuthException thrownByAuthentication) {
-                response = processFailedAuthentication(internalRequest, accessAddress, thrownByAuthentication);
+        try {
+            if (bruteForceGuard.shouldPreventRequest(accessAddress)) {
+                response = responseFactory.failedLoginAttempts403();
+            } else if (!webserverConfiguration.getAllowedIpList().isAllowed(accessAddress)) {
+                webserverConfiguration.getWebserverLogMessages()
+                        .warnAboutWhitelistBlock(accessAddress, internalRequest.getRequestedURIString());
+                response = responseFactory.ipWhitelist403(accessAddress);
+            } else {
+                try {
+                    request = internalRequest.toRequest();
+                    response = attemptToResolve(request, accessAddress);
+                } catch (WebUserAuthException thrownByAuthentication) {
+                    response = processFailedAuthentication(internalRequest, accessAddress, thrownByAuthentication);
+                }
             }
-        }
-
-        response.getHeaders().putIfAbsent("Access-Control-Allow-Origin", webserverConfiguration.getAllowedCorsOrigin());
-        response.getHeaders().putIfAbsent("Access-Control-Allow-Methods", "GET, OPTIONS");
-        response.getHeaders().putIfAbsent("Access-Control-Allow-Credentials", "true");
-        response.getHeaders().putIfAbsent("X-Robots-Tag", "noindex, nofollow");
 
+            response.getHeaders().putIfAbsent("Access-Control-Allow-Origin", webserverConfiguration.getAllowedCorsOrigin());
+            response.getHeaders().putIfAbsent("Access-Control-Allow-Methods", "GET, OPTIONS");
+            response.getHeaders().putIfAbsent("Access-Control-Allow-Credentials", "true");
+            response.getHeaders().putIfAbsent("X-Robots-Tag", "noindex, nofollow");
+        } finally {
+            // Requests that fail with an exception are timed too.
+            responseTime.recordSince(start);
+        }
         accessLogger.log(internalRequest, request, response);
 
         return response;
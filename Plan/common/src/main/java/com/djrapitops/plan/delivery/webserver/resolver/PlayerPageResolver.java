@@ -87,7 +87,8 @@ public class PlayerPageResolver implements Resolver {
 
     private Response getResponse(@Untrusted Request request, @Untrusted String playerName) {
         @Untrusted URIPath path = request.getPath();
-        UUID playerUUID = uuidUtility.getUUIDOf(playerName);
+        // Players without data in the database do not have a page, so the request does not wait for Mojang API.
+        UUID playerUUID = uuidUtility.getKnownUUIDOf(playerName);
         if (playerUUID == null) return responseFactory.uuidNotFound404();
 
         boolean raw = path.getPart(2).map("raw"::equalsIgnoreCase).orElse(false);
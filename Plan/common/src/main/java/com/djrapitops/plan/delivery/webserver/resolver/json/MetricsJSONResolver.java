@@ -0,0 +1,75 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Resolves /v1/metrics that shows how Plan itself is performing.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+@Path("/v1/metrics")
+public class MetricsJSONResolver implements Resolver {
+
+    private final PlanMetrics metrics;
+
+    @Inject
+    public MetricsJSONResolver(PlanMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        // Metrics are diagnostic information like error logs
+        return request.getUser().orElse(new WebUser("")).hasPermission(WebPermission.ACCESS_ERRORS);
+    }
+
+    @GET
+    @Operation(
+            description = "Get counters, gauges and latency histograms of Plan's own database, cache and webserver operations",
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON))
+            },
+            requestBody = @RequestBody(content = @Content(examples = @ExampleObject()))
+    )
+    @Override
+    public Optional<Response> resolve(Request request) {
+        return Optional.of(Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(metrics.asMap())
+                .build());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListPageDto;
+import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest.Cursor;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest.SortBy;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Resolves /v1/playersTablePage JSON requests.
+ * <p>
+ * Unlike /v1/playersTable this endpoint sorts and searches in the database, so it can be used on servers with a lot
+ * of players.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+@Path("/v1/playersTablePage")
+public class PlayersTablePageJSONResolver implements Resolver {
+
+    private final Identifiers identifiers;
+    private final JSONFactory jsonFactory;
+
+    @Inject
+    public PlayersTablePageJSONResolver(
+            Identifiers identifiers,
+            JSONFactory jsonFactory
+    ) {
+        this.identifiers = identifiers;
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        if (request.getQuery().get("server").isPresent()) {
+            return user.hasPermission(WebPermission.PAGE_SERVER_PLAYERS);
+        }
+        // Assume players page
+        return user.hasPermission(WebPermission.ACCESS_PLAYERS)
+                || user.hasPermission(WebPermission.ACCESS_NETWORK) && user.hasPermission(WebPermission.PAGE_NETWORK_PLAYERS);
+    }
+
+    @GET
+    @Operation(
+            description = "Get a page of player table data for /players page or a server",
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
+                    @ApiResponse(responseCode = "400", description = "If a parameter has an invalid value")
+            },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "sort", description = "Column to sort by (optional, default last_seen)", examples = {
+                            @ExampleObject("name"),
+                            @ExampleObject("activity_index"),
+                            @ExampleObject("playtime_active"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "order", description = "asc or desc (optional, default desc)"),
+                    @Parameter(in = ParameterIn.QUERY, name = "search", description = "Part of player name to search for (optional)"),
+                    @Parameter(in = ParameterIn.QUERY, name = "after", description = "'next' value of the previous page (optional)"),
+                    @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Number of players on the page (optional, default 50, max 1000)"),
+            },
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = PlayerListPageDto.class)))
+    )
+    @Override
+    public Optional<Response> resolve(Request request) {
+        return Optional.of(getResponse(request));
+    }
+
+    private Response getResponse(@Untrusted Request request) {
+        PlayersTablePageRequest pageRequest = getPageRequest(request.getQuery());
+        PlayerListPageDto page;
+        if (request.getQuery().get("server").isPresent()) {
+            ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            page = jsonFactory.serverPlayersTablePage(serverUUID, pageRequest);
+        } else {
+            // Assume players page
+            page = jsonFactory.networkPlayersTablePage(pageRequest);
+        }
+        return Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(page)
+                .build();
+    }
+
+    private PlayersTablePageRequest getPageRequest(@Untrusted URIQuery query) {
+        @Untrusted Optional<String> sortParameter = query.get("sort");
+        SortBy sortBy = sortParameter.isPresent()
+                ? SortBy.getByName(sortParameter.get()).orElseThrow(() -> new BadRequestException("unknown 'sort' parameter."))
+                : SortBy.LAST_SEEN;
+        boolean descending = !query.get("order").map("asc"::equalsIgnoreCase).orElse(false);
+        try {
+            Cursor after = query.get("after").map(Cursor::parse).orElse(null);
+            int limit = query.get("limit").map(Integer::parseInt).orElse(PlayersTablePageRequest.DEFAULT_LIMIT);
+            return new PlayersTablePageRequest(sortBy, descending, query.get("search").orElse(null), after, limit);
+        } catch (@Untrusted IllegalArgumentException e) {
+            // NumberFormatException is also an IllegalArgumentException
+            throw new BadRequestException("Invalid parameter: " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
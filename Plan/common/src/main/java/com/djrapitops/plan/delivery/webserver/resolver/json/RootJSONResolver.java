@@ -54,6 +54,7 @@ public class RootJSONResolver {
     private final CompositeResolver.Builder readOnlyResourcesBuilder;
     private final StorePreferencesJSONResolver storePreferencesJSONResolver;
     private final PluginHistoryJSONResolver pluginHistoryJSONResolver;
+    private final MetricsJSONResolver metricsJSONResolver;
     private CompositeResolver resolver;
 
     @Inject
@@ -67,6 +68,7 @@ public class RootJSONResolver {
             SessionsJSONResolver sessionsJSONResolver,
             PlayersJSONResolver playersJSONResolver,
             PlayersTableJSONResolver playersTableJSONResolver,
+            PlayersTablePageJSONResolver playersTablePageJSONResolver,
             ServerOverviewJSONCreator serverOverviewJSONCreator,
             OnlineActivityOverviewJSONCreator onlineActivityOverviewJSONCreator,
             SessionsOverviewJSONCreator sessionsOverviewJSONCreator,
@@ -75,6 +77,7 @@ public class RootJSONResolver {
             PlayerBaseOverviewJSONCreator playerBaseOverviewJSONCreator,
             PerformanceJSONCreator performanceJSONCreator,
             ErrorsJSONResolver errorsJSONResolver,
+            MetricsJSONResolver metricsJSONResolver,
             LocaleJSONResolver localeJSONResolver,
 
             PlayerJSONResolver playerJSONResolver,
@@ -105,6 +108,7 @@ public class RootJSONResolver {
         readOnlyResourcesBuilder = CompositeResolver.builder()
                 .add("players", playersJSONResolver)
                 .add("playersTable", playersTableJSONResolver)
+                .add("playersTablePage", playersTablePageJSONResolver)
                 .add("sessions", sessionsJSONResolver)
                 .add("kills", playerKillsJSONResolver)
                 .add("graph", graphsJSONResolver)
@@ -134,6 +138,7 @@ public class RootJSONResolver {
         this.webServer = webServer;
         // These endpoints require authentication to be enabled.
         this.pluginHistoryJSONResolver = pluginHistoryJSONResolver;
+        this.metricsJSONResolver = metricsJSONResolver;
         this.webGroupJSONResolver = webGroupJSONResolver;
         this.webGroupPermissionJSONResolver = webGroupPermissionJSONResolver;
         this.webPermissionJSONResolver = webPermissionJSONResolver;
@@ -157,6 +162,7 @@ public class RootJSONResolver {
                         .add("deleteGroup", webGroupDeleteJSONResolver)
                         .add("storePreferences", storePreferencesJSONResolver)
                         .add("pluginHistory", pluginHistoryJSONResolver)
+                        .add("metrics", metricsJSONResolver)
                         .build();
             } else {
                 resolver = readOnlyResourcesBuilder.build();
@@ -20,6 +20,9 @@ import com.djrapitops.plan.exceptions.ExceptionWithContext;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
 import java.util.Optional;
 
 /**
@@ -30,6 +33,19 @@ import java.util.Optional;
 public class DBOpException extends IllegalStateException implements ExceptionWithContext {
 
     public static final String CONSTRAINT_VIOLATION = "Constraint Violation";
+
+    // SQLite result codes, https://www.sqlite.org/rescode.html
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+    private static final int SQLITE_BUSY_RECOVERY = 261;
+    private static final int SQLITE_LOCKED_SHAREDCACHE = 262;
+    private static final int SQLITE_BUSY_SNAPSHOT = 517;
+    private static final int SQLITE_LOCKED_VTAB = 518;
+    private static final int SQLITE_BUSY_TIMEOUT = 773;
+    // MySQL error codes
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_DEADLOCK = 1213;
+
     private final ErrorContext context;
 
     public DBOpException(String message) {
@@ -165,4 +181,66 @@ public class DBOpException extends IllegalStateException implements ExceptionWit
                 && getCause() != null
                 && getCause().getMessage().contains("user_id");
     }
-}
+
+    /**
+     * Check if the operation failed because connection to the database could not be established or was lost.
+     *
+     * @return true if the database was unreachable.
+     */
+    public boolean isConnectionFailure() {
+        Throwable cause = getCause();
+        while (cause != null) {
+            if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            // SQL state class 08 is reserved for connection exceptions.
+            if (cause instanceof SQLException && String.valueOf(((SQLException) cause).getSQLState()).startsWith("08")) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Check if the operation failed because other transactions were holding locks it needed.
+     * <p>
+     * Lock wait timeouts and deadlocks are not caused by the data, so the operation can succeed if it is attempted again later.
+     *
+     * @return true if the operation timed out waiting for a lock or was chosen as a deadlock victim.
+     */
+    public boolean isLockContention() {
+        Throwable cause = getCause();
+        while (cause != null) {
+            if (cause instanceof SQLTransactionRollbackException) {
+                return true;
+            }
+            if (cause instanceof SQLException && isLockContention((SQLException) cause)) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private static boolean isLockContention(SQLException cause) {
+        // SQL state 40001 is serialization failure (deadlock in MySQL).
+        if ("40001".equals(cause.getSQLState())) {
+            return true;
+        }
+        switch (cause.getErrorCode()) {
+            case SQLITE_BUSY:
+            case SQLITE_LOCKED:
+            case SQLITE_BUSY_RECOVERY:
+            case SQLITE_LOCKED_SHAREDCACHE:
+            case SQLITE_BUSY_SNAPSHOT:
+            case SQLITE_LOCKED_VTAB:
+            case SQLITE_BUSY_TIMEOUT:
+            case MYSQL_LOCK_WAIT_TIMEOUT:
+            case MYSQL_DEADLOCK:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
\ No newline at end of file
@@ -19,6 +19,8 @@ package com.djrapitops.plan.extension;
 import com.djrapitops.plan.TaskSystem;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 
@@ -34,20 +36,33 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class ExtensionServerDataUpdater extends TaskSystem.Task {
 
+    private static final int MAX_SKIPPED_UPDATES = 3;
+
     private final ExtensionSvc service;
     private final PlanConfig config;
+    private final DBSystem dbSystem;
+
+    private int skippedUpdates = 0;
 
     @Inject
     public ExtensionServerDataUpdater(
             ExtensionSvc service,
-            PlanConfig config
+            PlanConfig config,
+            DBSystem dbSystem
     ) {
         this.service = service;
         this.config = config;
+        this.dbSystem = dbSystem;
     }
 
     @Override
     public void run() {
+        // Values are refreshed on a later run if the database is behind, but not skipped indefinitely.
+        if (skippedUpdates < MAX_SKIPPED_UPDATES && dbSystem.getDatabase().shouldDefer(TransactionPriority.EXTENSION_REFRESH)) {
+            skippedUpdates++;
+            return;
+        }
+        skippedUpdates = 0;
         service.updateServerValues(CallEvents.SERVER_PERIODICAL);
     }
 
@@ -31,15 +31,16 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -57,6 +58,7 @@ public class ExtensionSvc implements ExtensionService {
     private final Processing processing;
     private final ExtensionRegister extensionRegister;
     private final UUIDUtility uuidUtility;
+    private final PlanMetrics metrics;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
@@ -72,6 +74,7 @@ public class ExtensionSvc implements ExtensionService {
             Processing processing,
             ExtensionRegister extensionRegister,
             UUIDUtility uuidUtility,
+            PlanMetrics metrics,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -82,10 +85,11 @@ public class ExtensionSvc implements ExtensionService {
         this.processing = processing;
         this.extensionRegister = extensionRegister;
         this.uuidUtility = uuidUtility;
+        this.metrics = metrics;
         this.logger = logger;
         this.errorLogger = errorLogger;
 
-        extensionGatherers = new HashMap<>();
+        extensionGatherers = new ConcurrentHashMap<>();
         enabled = new AtomicBoolean(true);
     }
 
@@ -120,7 +124,7 @@ public class ExtensionSvc implements ExtensionService {
             logger.warn("DataExtension API implementation mistake for " + pluginName + ": " + warning);
         }
 
-        DataValueGatherer gatherer = new DataValueGatherer(extension, dbSystem, componentService, serverInfo, errorLogger);
+        DataValueGatherer gatherer = new DataValueGatherer(extension, dbSystem, componentService, serverInfo, processing, metrics, logger, errorLogger);
         gatherer.storeExtensionInformation();
         extensionGatherers.put(pluginName, gatherer);
 
@@ -159,10 +163,36 @@ public class ExtensionSvc implements ExtensionService {
         return !pluginsConfig.isEnabled(pluginName);
     }
 
+    /**
+     * Update values of all extensions for a player.
+     * <p>
+     * Each extension is updated in parallel in the extension pool so that a slow extension does not delay the others.
+     *
+     * @param playerUUID UUID of the player, can be null if name is given.
+     * @param playerName Name of the player, can be null if UUID is given.
+     * @param event      Event that caused the update.
+     */
     public void updatePlayerValues(UUID playerUUID, String playerName, CallEvents event) {
         if (!enabled.get()) return; // Plugin is disabling
+        if (playerUUID == null && playerName == null) return;
+
+        if (playerUUID != null) {
+            submitPlayerValueUpdates(playerUUID, playerName, event);
+        } else {
+            // Mojang API is not waited for on the calling thread.
+            uuidUtility.getUUIDOfAsync(playerName)
+                    .thenAccept(found -> found.ifPresent(realUUID -> submitPlayerValueUpdates(realUUID, playerName, event)));
+        }
+    }
+
+    private void submitPlayerValueUpdates(UUID playerUUID, String playerName, CallEvents event) {
+        String realPlayerName = playerName != null ?
+                playerName :
+                uuidUtility.getNameOf(playerUUID).orElse(null);
+
         for (DataValueGatherer gatherer : extensionGatherers.values()) {
-            updatePlayerValues(gatherer, playerUUID, playerName, event);
+            if (gatherer.shouldSkipEvent(event)) continue;
+            processing.submitExtensionUpdate(() -> updatePlayerValues(gatherer, playerUUID, realPlayerName, event));
         }
     }
 
@@ -171,20 +201,23 @@ public class ExtensionSvc implements ExtensionService {
         if (gatherer.shouldSkipEvent(event)) return;
         if (playerUUID == null && playerName == null) return;
 
-        UUID realUUID = playerUUID != null ? playerUUID : uuidUtility.getUUIDOf(playerName);
-        if (realUUID == null) return;
-
-        String realPlayerName = playerName != null ?
-                playerName :
-                uuidUtility.getNameOf(realUUID).orElse(null);
-
-        gatherer.updateValues(realUUID, realPlayerName);
+        if (playerUUID != null) {
+            String realPlayerName = playerName != null ?
+                    playerName :
+                    uuidUtility.getNameOf(playerUUID).orElse(null);
+            gatherer.updateValues(playerUUID, realPlayerName);
+        } else {
+            // Mojang API is not waited for on the calling thread.
+            uuidUtility.getUUIDOfAsync(playerName)
+                    .thenAccept(found -> found.ifPresent(realUUID -> gatherer.updateValues(realUUID, playerName)));
+        }
     }
 
     public void updateServerValues(CallEvents event) {
         if (!enabled.get()) return; // Plugin is disabling
         for (DataValueGatherer gatherer : extensionGatherers.values()) {
-            updateServerValues(gatherer, event);
+            if (gatherer.shouldSkipEvent(event)) continue;
+            processing.submitExtensionUpdate(() -> updateServerValues(gatherer, event));
         }
     }
 
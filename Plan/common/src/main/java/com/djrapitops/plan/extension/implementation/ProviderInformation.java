@@ -120,14 +120,22 @@ public class ProviderInformation extends ExtensionDescription {
         if (!(o instanceof ProviderInformation)) return false;
         if (!super.equals(o)) return false;
         ProviderInformation that = (ProviderInformation) o;
-        return pluginName.equals(that.pluginName) &&
+        return showInPlayersTable == that.showInPlayersTable &&
+                hidden == that.hidden &&
+                isPlayerName == that.isPlayerName &&
+                percentage == that.percentage &&
+                component == that.component &&
+                pluginName.equals(that.pluginName) &&
                 Objects.equals(tab, that.tab) &&
-                Objects.equals(condition, that.condition);
+                Objects.equals(condition, that.condition) &&
+                Objects.equals(providedCondition, that.providedCondition) &&
+                formatType == that.formatType &&
+                tableColor == that.tableColor;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), pluginName, tab, condition);
+        return Objects.hash(super.hashCode(), pluginName, showInPlayersTable, tab, condition, hidden, providedCondition, formatType, isPlayerName, tableColor, percentage, component);
     }
 
     public Color getTableColor() {
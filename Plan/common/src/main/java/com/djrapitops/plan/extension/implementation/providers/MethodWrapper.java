@@ -22,7 +22,6 @@ import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,21 +32,21 @@ import java.util.Optional;
  */
 public class MethodWrapper<T> {
 
-    private final Method method;
+    private final ProviderInvoker method;
     private final Class<T> returnType;
     private final MethodType methodType;
     private boolean disabled = false;
 
-    public MethodWrapper(Method method, Class<T> returnType) {
+    public MethodWrapper(ProviderInvoker method, Class<T> returnType) {
         this.method = method;
         this.returnType = returnType;
-        methodType = MethodType.forMethod(this.method);
+        methodType = MethodType.forMethod(this.method.getMethod().getMethod());
     }
 
     public T callMethod(DataExtension extension, Parameters with) {
         if (disabled) return null;
         try {
-            return returnType.cast(with.usingOn(extension, method));
+            return returnType.cast(with.usingOn(method));
         } catch (InvocationTargetException notReadyToBeCalled) {
             Throwable cause = notReadyToBeCalled.getCause();
             if (cause instanceof NotReadyException || cause instanceof UnsupportedOperationException) {
@@ -66,7 +65,7 @@ public class MethodWrapper<T> {
     }
 
     public String getMethodName() {
-        return method.getName();
+        return method.getMethod().getMethodName();
     }
 
     public MethodType getMethodType() {
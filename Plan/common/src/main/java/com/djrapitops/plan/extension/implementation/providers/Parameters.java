@@ -16,13 +16,11 @@
  */
 package com.djrapitops.plan.extension.implementation.providers;
 
-import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.Group;
 import com.djrapitops.plan.extension.implementation.MethodType;
 import com.djrapitops.plan.identification.ServerUUID;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.UUID;
 
 public interface Parameters {
@@ -38,7 +36,7 @@ public interface Parameters {
         return new GroupParameters(serverUUID, groupName);
     }
 
-    Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException;
+    Object usingOn(ProviderInvoker method) throws InvocationTargetException, IllegalAccessException;
 
     MethodType getMethodType();
 
@@ -60,8 +58,8 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(extension);
+        public Object usingOn(ProviderInvoker method) throws InvocationTargetException, IllegalAccessException {
+            return method.invoke();
         }
 
         @Override
@@ -91,12 +89,12 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
-            Class<?> parameterType = method.getParameterTypes()[0];
+        public Object usingOn(ProviderInvoker method) throws InvocationTargetException, IllegalAccessException {
+            Class<?> parameterType = method.getParameterType();
             if (UUID.class.equals(parameterType)) {
-                return method.invoke(extension, playerUUID);
+                return method.invoke(playerUUID);
             } else {
-                return method.invoke(extension, playerName);
+                return method.invoke(playerName);
             }
         }
 
@@ -120,9 +118,9 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
+        public Object usingOn(ProviderInvoker method) throws InvocationTargetException, IllegalAccessException {
             Group group = this::getGroupName;
-            return method.invoke(extension, group);
+            return method.invoke(group);
         }
 
         public String getGroupName() {
@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.extractor.ExtensionMethod;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Provider method bound to its DataExtension so that calls do not go through reflection.
+ *
+ * @author AuroraLS3
+ */
+public class ProviderInvoker {
+
+    private final DataExtension extension;
+    private final ExtensionMethod method;
+    private final MethodHandle handle; // null if the method could not be bound, Method#invoke is used instead.
+
+    private ProviderInvoker(DataExtension extension, ExtensionMethod method, MethodHandle handle) {
+        this.extension = extension;
+        this.method = method;
+        this.handle = handle;
+    }
+
+    public static ProviderInvoker bind(DataExtension extension, ExtensionMethod method) {
+        Method reflected = method.getMethod();
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(reflected)
+                    .bindTo(extension)
+                    .asType(MethodType.genericMethodType(reflected.getParameterCount()));
+            return new ProviderInvoker(extension, method, handle);
+        } catch (IllegalAccessException notAccessible) {
+            return new ProviderInvoker(extension, method, null);
+        }
+    }
+
+    public ExtensionMethod getMethod() {
+        return method;
+    }
+
+    public Class<?> getParameterType() {
+        return method.getMethod().getParameterTypes()[0];
+    }
+
+    /**
+     * Call a method that has no parameters.
+     *
+     * @return Value returned by the method.
+     * @throws InvocationTargetException If the method throws an exception.
+     * @throws IllegalAccessException    If the method could not be accessed.
+     */
+    public Object invoke() throws InvocationTargetException, IllegalAccessException {
+        if (handle == null) return method.getMethod().invoke(extension);
+        try {
+            return (Object) handle.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Call a method that has one parameter.
+     *
+     * @param parameter Parameter to give to the method.
+     * @return Value returned by the method.
+     * @throws InvocationTargetException If the method throws an exception.
+     * @throws IllegalAccessException    If the method could not be accessed.
+     */
+    public Object invoke(Object parameter) throws InvocationTargetException, IllegalAccessException {
+        if (handle == null) return method.getMethod().invoke(extension, parameter);
+        try {
+            return (Object) handle.invokeExact(parameter);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -34,25 +34,29 @@ import com.djrapitops.plan.extension.implementation.TabInformation;
 import com.djrapitops.plan.extension.implementation.builder.*;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.providers.ProviderInvoker;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreTabInformationTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.*;
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.Counter;
+import com.djrapitops.plan.utilities.metrics.LatencyHistogram;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
+import net.playeranalytics.plugin.server.PluginLogger;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Object that can be called to place data about players to the database.
@@ -61,20 +65,39 @@ import java.util.concurrent.RejectedExecutionException;
  */
 public class DataValueGatherer {
 
+    private static final long TIME_BUDGET_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final long SLOW_CALL_THRESHOLD_MS = 500;
+    private static final int SLOW_CALLS_TO_OPEN_CIRCUIT = 3;
+    private static final long OPEN_CIRCUIT_DURATION_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final int TIMEOUTS_TO_DISABLE = 3;
+
     private final CallEvents[] callEvents;
     private final ExtensionWrapper extension;
     private final DBSystem dbSystem;
     private final ComponentSvc componentService;
     private final ServerInfo serverInfo;
+    private final Processing processing;
+    private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
     private final Set<ExtensionMethod> brokenMethods;
+    private final Map<ExtensionMethod, ProviderInvoker> invokers;
+    private final Map<String, ProviderCallStatistics> callStatistics;
+    private final Map<ExtensionMethod, AtomicBoolean> unfinishedCalls;
+    private final StoredValueCache storedValues;
+
+    private final LatencyHistogram callTimes;
+    private final Counter skippedCalls;
+    private final Counter timedOutCalls;
 
     public DataValueGatherer(
             ExtensionWrapper extension,
             DBSystem dbSystem,
             ComponentSvc componentService,
             ServerInfo serverInfo,
+            Processing processing,
+            PlanMetrics metrics,
+            PluginLogger logger,
             ErrorLogger errorLogger
     ) {
         this.callEvents = extension.getCallEvents();
@@ -82,9 +105,20 @@ public class DataValueGatherer {
         this.dbSystem = dbSystem;
         this.componentService = componentService;
         this.serverInfo = serverInfo;
+        this.processing = processing;
+        this.logger = logger;
         this.errorLogger = errorLogger;
 
-        this.brokenMethods = new HashSet<>();
+        this.brokenMethods = ConcurrentHashMap.newKeySet();
+        this.invokers = new ConcurrentHashMap<>();
+        this.callStatistics = new ConcurrentHashMap<>();
+        this.unfinishedCalls = new ConcurrentHashMap<>();
+        this.storedValues = new StoredValueCache();
+
+        String pluginName = extension.getPluginName();
+        this.callTimes = metrics.histogram("extension." + pluginName + ".call");
+        this.skippedCalls = metrics.counter("extension." + pluginName + ".skipped");
+        this.timedOutCalls = metrics.counter("extension." + pluginName + ".timedOut");
     }
 
     public boolean shouldSkipEvent(CallEvents event) {
@@ -121,65 +155,65 @@ public class DataValueGatherer {
         database.executeTransaction(new RemoveInvalidResultsTransaction(pluginName, serverUUID, extension.getInvalidatedMethods()));
     }
 
-    private void addValuesToBuilder(ExtensionDataBuilder dataBuilder, ExtensionMethods methods, Parameters parameters) {
+    private void addValuesToBuilder(ExtensionDataBuilder dataBuilder, ExtensionMethods methods, Parameters parameters, long deadlineNs) {
         for (ExtensionMethod provider : methods.getBooleanProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Boolean.class, tryToBuildBoolean(dataBuilder, parameters, provider));
+            dataBuilder.addValue(Boolean.class, tryToBuildBoolean(dataBuilder, parameters, provider, deadlineNs));
         }
         for (ExtensionMethod provider : methods.getDoubleProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Double.class, tryToBuildDouble(dataBuilder, parameters, provider));
+            dataBuilder.addValue(Double.class, tryToBuildDouble(dataBuilder, parameters, provider, deadlineNs));
         }
         for (ExtensionMethod provider : methods.getPercentageProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Double.class, tryToBuildPercentage(dataBuilder, parameters, provider));
+            dataBuilder.addValue(Double.class, tryToBuildPercentage(dataBuilder, parameters, provider, deadlineNs));
         }
         for (ExtensionMethod provider : methods.getNumberProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Long.class, tryToBuildNumber(dataBuilder, parameters, provider));
+            dataBuilder.addValue(Long.class, tryToBuildNumber(dataBuilder, parameters, provider, deadlineNs));
         }
         for (ExtensionMethod provider : methods.getStringProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(String.class, tryToBuildString(dataBuilder, parameters, provider));
+            dataBuilder.addValue(String.class, tryToBuildString(dataBuilder, parameters, provider, deadlineNs));
         }
         for (ExtensionMethod provider : methods.getComponentProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Component.class, tryToBuildComponent(dataBuilder, parameters, provider));
+            dataBuilder.addValue(Component.class, tryToBuildComponent(dataBuilder, parameters, provider, deadlineNs));
         }
         for (ExtensionMethod provider : methods.getGroupProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(String[].class, tryToBuildGroups(dataBuilder, parameters, provider));
+            dataBuilder.addValue(String[].class, tryToBuildGroups(dataBuilder, parameters, provider, deadlineNs));
         }
         for (ExtensionMethod provider : methods.getTableProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Table.class, tryToBuildTable(dataBuilder, parameters, provider));
+            dataBuilder.addValue(Table.class, tryToBuildTable(dataBuilder, parameters, provider, deadlineNs));
         }
-        addValuesToBuilder2(dataBuilder, methods, parameters);
+        addValuesToBuilder2(dataBuilder, methods, parameters, deadlineNs);
     }
 
     // TODO refactor to reduce cyclomatic complexity of the calling method
-    private void addValuesToBuilder2(ExtensionDataBuilder dataBuilder, ExtensionMethods methods, Parameters parameters) {
+    private void addValuesToBuilder2(ExtensionDataBuilder dataBuilder, ExtensionMethods methods, Parameters parameters, long deadlineNs) {
         for (ExtensionMethod provider : methods.getDataBuilderProviders()) {
             if (brokenMethods.contains(provider)) continue;
-            addDataFromAnotherBuilder(dataBuilder, parameters, provider);
+            addDataFromAnotherBuilder(dataBuilder, parameters, provider, deadlineNs);
         }
     }
 
-    private DataValue<Table> tryToBuildTable(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<Table> tryToBuildTable(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         TableProvider annotation = provider.getExistingAnnotation(TableProvider.class);
         try {
             return dataBuilder.valueBuilder(provider.getMethodName())
                     .methodName(provider)
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildTable(() -> callMethod(provider, parameters, Table.class), annotation.tableColor());
+                    .buildTable(() -> callMethod(provider, parameters, Table.class, deadlineNs), annotation.tableColor());
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private DataValue<String[]> tryToBuildGroups(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<String[]> tryToBuildGroups(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         GroupProvider annotation = provider.getExistingAnnotation(GroupProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
@@ -187,14 +221,14 @@ public class DataValueGatherer {
                     .icon(annotation.iconName(), annotation.iconFamily(), Color.NONE)
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildGroup(() -> callMethod(provider, parameters, String[].class));
+                    .buildGroup(() -> callMethod(provider, parameters, String[].class, deadlineNs));
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private DataValue<String> tryToBuildString(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<String> tryToBuildString(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         StringProvider annotation = provider.getExistingAnnotation(StringProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
@@ -206,14 +240,14 @@ public class DataValueGatherer {
                     .showAsPlayerPageLink(annotation)
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildString(() -> callMethod(provider, parameters, String.class));
+                    .buildString(() -> callMethod(provider, parameters, String.class, deadlineNs));
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private DataValue<Component> tryToBuildComponent(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<Component> tryToBuildComponent(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         ComponentProvider annotation = provider.getExistingAnnotation(ComponentProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
@@ -224,14 +258,14 @@ public class DataValueGatherer {
                     .showInPlayerTable(annotation.showInPlayerTable())
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildComponent(() -> callMethod(provider, parameters, Component.class));
+                    .buildComponent(() -> callMethod(provider, parameters, Component.class, deadlineNs));
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private DataValue<Long> tryToBuildNumber(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<Long> tryToBuildNumber(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         NumberProvider annotation = provider.getExistingAnnotation(NumberProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
@@ -243,14 +277,14 @@ public class DataValueGatherer {
                     .format(annotation.format())
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildNumber(() -> callMethod(provider, parameters, Long.class));
+                    .buildNumber(() -> callMethod(provider, parameters, Long.class, deadlineNs));
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private DataValue<Double> tryToBuildPercentage(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<Double> tryToBuildPercentage(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         PercentageProvider annotation = provider.getExistingAnnotation(PercentageProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
@@ -261,14 +295,14 @@ public class DataValueGatherer {
                     .showInPlayerTable(annotation.showInPlayerTable())
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildPercentage(() -> callMethod(provider, parameters, Double.class));
+                    .buildPercentage(() -> callMethod(provider, parameters, Double.class, deadlineNs));
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private DataValue<Double> tryToBuildDouble(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<Double> tryToBuildDouble(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         DoubleProvider annotation = provider.getExistingAnnotation(DoubleProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
@@ -279,14 +313,14 @@ public class DataValueGatherer {
                     .showInPlayerTable(annotation.showInPlayerTable())
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildDouble(() -> callMethod(provider, parameters, Double.class));
+                    .buildDouble(() -> callMethod(provider, parameters, Double.class, deadlineNs));
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private DataValue<Boolean> tryToBuildBoolean(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private DataValue<Boolean> tryToBuildBoolean(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         BooleanProvider annotation = provider.getExistingAnnotation(BooleanProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
@@ -298,16 +332,16 @@ public class DataValueGatherer {
                     .hideFromUsers(annotation)
                     .conditional(provider.getAnnotationOrNull(Conditional.class))
                     .showOnTab(provider.getAnnotationOrNull(Tab.class))
-                    .buildBooleanProvidingCondition(() -> callMethod(provider, parameters, Boolean.class), annotation.conditionName());
+                    .buildBooleanProvidingCondition(() -> callMethod(provider, parameters, Boolean.class, deadlineNs), annotation.conditionName());
         } catch (IllegalArgumentException e) {
             logFailure(e, getPluginName(), provider.getMethodName());
             return null;
         }
     }
 
-    private void addDataFromAnotherBuilder(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private void addDataFromAnotherBuilder(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider, long deadlineNs) {
         try {
-            ExtensionDataBuilder providedBuilder = callMethod(provider, parameters, ExtensionDataBuilder.class);
+            ExtensionDataBuilder providedBuilder = callMethod(provider, parameters, ExtensionDataBuilder.class, deadlineNs);
             dataBuilder.addAll(providedBuilder);
         } catch (DataExtensionMethodCallException methodError) {
             logFailure(methodError);
@@ -316,16 +350,105 @@ public class DataValueGatherer {
         }
     }
 
-    private <T> T callMethod(ExtensionMethod provider, Parameters params, Class<T> returnType) {
+    private <T> T callMethod(ExtensionMethod provider, Parameters params, Class<T> returnType, long deadlineNs) {
+        ProviderCallStatistics statistics = getCallStatistics(provider);
+        long start = System.nanoTime();
+        long remainingNs = deadlineNs - start;
+        if (!statistics.allowCall(start)) {
+            skippedCalls.increment();
+            return null;
+        }
+        if (remainingNs <= 0 || unfinishedCalls.containsKey(provider)) {
+            // Time budget of the extension has been used, or the method has not returned from last time.
+            // Rest of the values are gathered next time.
+            statistics.callSkipped();
+            skippedCalls.increment();
+            return null;
+        }
+
+        MethodWrapper<T> method = new MethodWrapper<>(getInvoker(provider), returnType);
+        AtomicBoolean started = new AtomicBoolean(false);
+        AtomicBoolean returned = new AtomicBoolean(false);
+        Future<T> call;
         try {
-            return new MethodWrapper<>(provider.getMethod(), returnType)
-                    .callMethod(extension.getExtension(), params);
-        } catch (DataExtensionMethodCallException e) {
-            brokenMethods.add(provider);
-            throw e;
+            call = processing.submitExtensionCall(() -> {
+                started.set(true);
+                try {
+                    return method.callMethod(extension.getExtension(), params);
+                } finally {
+                    returned.set(true);
+                    unfinishedCalls.remove(provider, returned);
+                }
+            });
+        } catch (RejectedExecutionException allThreadsInUse) {
+            statistics.callSkipped();
+            skippedCalls.increment();
+            return null;
+        }
+        if (call == null) throw new RejectedExecutionException("Processing has shut down");
+        try {
+            T value = call.get(remainingNs, TimeUnit.NANOSECONDS);
+            recordCall(provider, statistics, start);
+            return value;
+        } catch (TimeoutException timedOut) {
+            // Cancelling only interrupts the call, methods that ignore interrupts keep their thread.
+            call.cancel(true);
+            if (started.get()) {
+                unfinishedCalls.put(provider, returned);
+                if (returned.get()) unfinishedCalls.remove(provider, returned);
+            }
+            int timeoutsInARow = statistics.callTimedOut(start, System.nanoTime());
+            callTimes.recordSince(start);
+            timedOutCalls.increment();
+            if (timeoutsInARow >= TIMEOUTS_TO_DISABLE) {
+                brokenMethods.add(provider);
+                logger.warn(getPluginName() + "." + provider.getMethodName() + " did not return " +
+                        TIMEOUTS_TO_DISABLE + " times in a row, it will not be called until Plan is reloaded.");
+            } else {
+                logger.warn(getPluginName() + "." + provider.getMethodName() + " did not return in " +
+                        TimeUnit.NANOSECONDS.toMillis(remainingNs) + "ms, it will not be called for " +
+                        TimeUnit.MILLISECONDS.toMinutes(OPEN_CIRCUIT_DURATION_MS) + " minutes.");
+            }
+            return null;
+        } catch (ExecutionException failed) {
+            recordCall(provider, statistics, start);
+            Throwable cause = failed.getCause();
+            if (cause instanceof DataExtensionMethodCallException) {
+                brokenMethods.add(provider);
+                throw (DataExtensionMethodCallException) cause;
+            }
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException interrupted) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
         }
     }
 
+    private void recordCall(ExtensionMethod provider, ProviderCallStatistics statistics, long start) {
+        callTimes.recordSince(start);
+        if (statistics.recordCall(start, System.nanoTime())) {
+            logger.warn(getPluginName() + "." + provider.getMethodName() + " took over " + SLOW_CALL_THRESHOLD_MS +
+                    "ms " + SLOW_CALLS_TO_OPEN_CIRCUIT + " times in a row, it will not be called for " +
+                    TimeUnit.MILLISECONDS.toMinutes(OPEN_CIRCUIT_DURATION_MS) + " minutes.");
+        }
+    }
+
+    private ProviderInvoker getInvoker(ExtensionMethod provider) {
+        return invokers.computeIfAbsent(provider, method -> ProviderInvoker.bind(extension.getExtension(), method));
+    }
+
+    private ProviderCallStatistics getCallStatistics(ExtensionMethod provider) {
+        return callStatistics.computeIfAbsent(provider.getMethodName(), methodName ->
+                new ProviderCallStatistics(SLOW_CALL_THRESHOLD_MS, SLOW_CALLS_TO_OPEN_CIRCUIT, OPEN_CIRCUIT_DURATION_MS));
+    }
+
+    private long getDeadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIME_BUDGET_MS);
+    }
+
     public void updateValues(UUID playerUUID, String playerName) {
         try {
             tryToUpdateValues(playerUUID, playerName);
@@ -336,14 +459,16 @@ public class DataValueGatherer {
 
     private void tryToUpdateValues(UUID playerUUID, String playerName) {
         Parameters parameters = Parameters.player(serverInfo.getServerUUID(), playerUUID, playerName);
+        long deadlineNs = getDeadline();
         ExtensionDataBuilder dataBuilder = extension.getExtension().newExtensionDataBuilder();
 
-        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_STRING), parameters);
-        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_UUID), parameters);
+        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_STRING), parameters, deadlineNs);
+        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_UUID), parameters, deadlineNs);
 
-        gatherPlayer(parameters, (ExtDataBuilder) dataBuilder);
-
-        dbSystem.getDatabase().executeTransaction(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues()));
+        ExtensionValueBatch batch = new ExtensionValueBatch(storedValues, parameters);
+        gatherPlayer(parameters, (ExtDataBuilder) dataBuilder, batch);
+        batch.removeInvalidResults(extension.getPluginName(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues());
+        batch.execute(dbSystem.getDatabase());
     }
 
     public void updateValues() {
@@ -356,32 +481,35 @@ public class DataValueGatherer {
 
     private void tryToUpdateValues() {
         Parameters parameters = Parameters.server(serverInfo.getServerUUID());
+        long deadlineNs = getDeadline();
         ExtensionDataBuilder dataBuilder = extension.getExtension().newExtensionDataBuilder();
 
-        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.SERVER_NONE), parameters);
+        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.SERVER_NONE), parameters, deadlineNs);
 
-        gather(parameters, (ExtDataBuilder) dataBuilder);
+        ExtensionValueBatch batch = new ExtensionValueBatch(storedValues, parameters);
+        gather(parameters, (ExtDataBuilder) dataBuilder, batch);
+        batch.execute(dbSystem.getDatabase());
     }
 
 
-    private void gatherPlayer(Parameters parameters, ExtDataBuilder dataBuilder) {
+    private void gatherPlayer(Parameters parameters, ExtDataBuilder dataBuilder, ExtensionValueBatch batch) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storePlayerBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerBoolean(parameters, conditions, data, batch));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storePlayerNumber(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerNumber(parameters, conditions, data, batch));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storePlayerDouble(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerDouble(parameters, conditions, data, batch));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storePlayerString(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerString(parameters, conditions, data, batch));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storePlayerComponent(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerComponent(parameters, conditions, data, batch));
                 pair.getValue(String[].class).flatMap(data -> data.getMetadata(GroupsDataValue.class))
-                        .ifPresent(data -> storePlayerGroups(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerGroups(parameters, conditions, data, batch));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storePlayerTable(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerTable(parameters, conditions, data, batch));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError unexpectedError) {
@@ -390,22 +518,22 @@ public class DataValueGatherer {
         }
     }
 
-    private void gather(Parameters parameters, ExtDataBuilder dataBuilder) {
+    private void gather(Parameters parameters, ExtDataBuilder dataBuilder, ExtensionValueBatch batch) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storeBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storeBoolean(parameters, conditions, data, batch));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storeNumber(parameters, conditions, data));
+                        .ifPresent(data -> storeNumber(parameters, conditions, data, batch));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storeDouble(parameters, conditions, data));
+                        .ifPresent(data -> storeDouble(parameters, conditions, data, batch));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storeString(parameters, conditions, data));
+                        .ifPresent(data -> storeString(parameters, conditions, data, batch));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storeComponent(parameters, conditions, data));
+                        .ifPresent(data -> storeComponent(parameters, conditions, data, batch));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storeTable(parameters, conditions, data));
+                        .ifPresent(data -> storeTable(parameters, conditions, data, batch));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (RejectedExecutionException ignore) {
@@ -462,161 +590,179 @@ public class DataValueGatherer {
         return json;
     }
 
-    private void storeBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storeBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
         if (value) {
             conditions.conditionFulfilled(information.getProvidedCondition());
         } else {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerBooleanResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StoreServerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storeNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storeNumber(Parameters parameters, Conditions conditions, NumberDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerNumberResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StoreServerNumberResultTransaction(information, parameters, value));
     }
 
-
-    private void storeDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storeDouble(Parameters parameters, Conditions conditions, DoubleDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerDoubleResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StoreServerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storeString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storeString(Parameters parameters, Conditions conditions, StringDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storeComponent(Parameters parameters, Conditions conditions, ComponentDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storeTable(Parameters parameters, Conditions conditions, TableDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
+        List<Transaction> transactions = new ArrayList<>();
         for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
+            if (icon != null) transactions.add(new StoreIconTransaction(icon));
         }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StoreServerTableResultTransaction(information, parameters, value));
+        transactions.add(new StoreTableProviderTransaction(information, parameters, value));
+        transactions.add(new StoreServerTableResultTransaction(information, parameters, value));
+        batch.storeValue(information, value, transactions.toArray(new Transaction[0]));
     }
 
-    private void storePlayerBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storePlayerBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
         if (value) {
             conditions.conditionFulfilled(information.getProvidedCondition());
         } else {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerBooleanResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StorePlayerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storePlayerNumber(Parameters parameters, Conditions conditions, NumberDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerNumberResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StorePlayerNumberResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storePlayerDouble(Parameters parameters, Conditions conditions, DoubleDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerDoubleResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StorePlayerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storePlayerString(Parameters parameters, Conditions conditions, StringDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storePlayerComponent(Parameters parameters, Conditions conditions, ComponentDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerGroups(Parameters parameters, Conditions conditions, GroupsDataValue data) {
+    private void storePlayerGroups(Parameters parameters, Conditions conditions, GroupsDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         String[] value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerGroupsResultTransaction(information, parameters, value));
+        batch.storeProvider(information);
+        batch.storeValue(information, value, new StorePlayerGroupsResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storePlayerTable(Parameters parameters, Conditions conditions, TableDataValue data, ExtensionValueBatch batch) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
-        if (value == null) return;
+        if (value == null) {
+            batch.valueNotAvailable(information);
+            return;
+        }
 
-        Database db = dbSystem.getDatabase();
+        List<Transaction> transactions = new ArrayList<>();
         for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
+            if (icon != null) transactions.add(new StoreIconTransaction(icon));
         }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StorePlayerTableResultTransaction(information, parameters, value));
+        transactions.add(new StoreTableProviderTransaction(information, parameters, value));
+        transactions.add(new StorePlayerTableResultTransaction(information, parameters, value));
+        batch.storeValue(information, value, transactions.toArray(new Transaction[0]));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreExtensionValuesTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveInvalidResultsTransaction;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.*;
+
+/**
+ * Collects the changed values of one extension for one player or server into a single transaction.
+ * <p>
+ * Values and provider definitions that are already in the database according to {@link StoredValueCache}
+ * are skipped. The cache is updated only after the batch has been committed.
+ *
+ * @author AuroraLS3
+ */
+public class ExtensionValueBatch {
+
+    private final StoredValueCache cache;
+    private final Parameters parameters;
+
+    private final List<Transaction> transactions;
+    private final List<ProviderInformation> providersToStore;
+    private final Map<String, Object> valuesToStore;
+
+    public ExtensionValueBatch(StoredValueCache cache, Parameters parameters) {
+        this.cache = cache;
+        this.parameters = parameters;
+
+        transactions = new ArrayList<>();
+        providersToStore = new ArrayList<>();
+        valuesToStore = new HashMap<>();
+    }
+
+    public void storeProvider(ProviderInformation information) {
+        if (cache.isProviderStored(information)) return;
+
+        // Icon id is set to the Icon object by StoreIconTransaction, it is needed by StoreProviderTransaction.
+        transactions.add(new StoreIconTransaction(information.getIcon()));
+        transactions.add(new StoreProviderTransaction(information, parameters));
+        providersToStore.add(information);
+    }
+
+    public void storeValue(ProviderInformation information, Object value, Transaction... storeTransactions) {
+        String key = StoredValueCache.keyOf(parameters, information.getName());
+        Object snapshot = StoredValueCache.snapshotOf(value);
+        if (cache.isValueStored(key, snapshot)) return;
+
+        transactions.addAll(Arrays.asList(storeTransactions));
+        valuesToStore.put(key, snapshot);
+    }
+
+    public void valueNotAvailable(ProviderInformation information) {
+        // The stored value might get removed by conditional value cleaning, so it has to be written again next time.
+        cache.valueRemoved(StoredValueCache.keyOf(parameters, information.getName()));
+    }
+
+    public void removeInvalidResults(String pluginName, Collection<String> invalidatedValues) {
+        if (invalidatedValues.isEmpty()) return;
+
+        transactions.add(new RemoveInvalidResultsTransaction(pluginName, parameters.getServerUUID(), invalidatedValues));
+        cache.providersRemoved(invalidatedValues);
+    }
+
+    public boolean isEmpty() {
+        return transactions.isEmpty();
+    }
+
+    public void execute(Database database) {
+        if (isEmpty()) return;
+
+        StoreExtensionValuesTransaction transaction = new StoreExtensionValuesTransaction(transactions);
+        database.executeTransaction(transaction).thenRun(() -> {
+            if (!transaction.wasStored()) return;
+            providersToStore.forEach(cache::providerStored);
+            valuesToStore.forEach(cache::valueStored);
+        });
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call timings of a single DataExtension provider method, and a circuit breaker for it.
+ * <p>
+ * When the method is slow multiple times in a row the circuit opens and the method is not called until it closes again.
+ * After that a single slow call is enough to open it again.
+ *
+ * @author AuroraLS3
+ */
+public class ProviderCallStatistics {
+
+    private final long slowCallThresholdNs;
+    private final int slowCallsToOpen;
+    private final long openDurationNs;
+
+    private final LongAdder calls;
+    private final LongAdder totalTimeNs;
+    private final AtomicLong maxTimeNs;
+    private final LongAdder skippedCalls;
+    private final AtomicInteger consecutiveSlowCalls;
+    private final AtomicInteger consecutiveTimeouts;
+    private volatile long openUntilNs;
+    private volatile boolean open;
+
+    public ProviderCallStatistics(long slowCallThresholdMs, int slowCallsToOpen, long openDurationMs) {
+        this.slowCallThresholdNs = TimeUnit.MILLISECONDS.toNanos(slowCallThresholdMs);
+        this.slowCallsToOpen = slowCallsToOpen;
+        this.openDurationNs = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+
+        calls = new LongAdder();
+        totalTimeNs = new LongAdder();
+        maxTimeNs = new AtomicLong();
+        skippedCalls = new LongAdder();
+        consecutiveSlowCalls = new AtomicInteger();
+        consecutiveTimeouts = new AtomicInteger();
+        open = false;
+    }
+
+    /**
+     * Check if the method should be called.
+     *
+     * @param nowNs {@link System#nanoTime()}
+     * @return false if the circuit is open.
+     */
+    public boolean allowCall(long nowNs) {
+        if (open && nowNs - openUntilNs < 0) {
+            skippedCalls.increment();
+            return false;
+        }
+        open = false;
+        return true;
+    }
+
+    public void callSkipped() {
+        skippedCalls.increment();
+    }
+
+    /**
+     * Record a call.
+     *
+     * @param startNs {@link System#nanoTime()} before the call.
+     * @param endNs   {@link System#nanoTime()} after the call.
+     * @return true if this call opened the circuit.
+     */
+    public boolean recordCall(long startNs, long endNs) {
+        long durationNs = endNs - startNs;
+        calls.increment();
+        totalTimeNs.add(durationNs);
+        maxTimeNs.accumulateAndGet(durationNs, Math::max);
+        consecutiveTimeouts.set(0);
+
+        if (durationNs < slowCallThresholdNs) {
+            consecutiveSlowCalls.set(0);
+            return false;
+        }
+        if (consecutiveSlowCalls.incrementAndGet() < slowCallsToOpen) {
+            return false;
+        }
+        // Next slow call after the circuit closes opens it again.
+        consecutiveSlowCalls.set(slowCallsToOpen - 1);
+        openUntilNs = endNs + openDurationNs;
+        open = true;
+        return true;
+    }
+
+    /**
+     * Record a call that did not return before its timeout.
+     * <p>
+     * The circuit opens right away, so that a method that hangs does not keep taking threads.
+     *
+     * @param startNs {@link System#nanoTime()} before the call.
+     * @param endNs   {@link System#nanoTime()} when the caller stopped waiting.
+     * @return How many calls in a row have now timed out.
+     */
+    public int callTimedOut(long startNs, long endNs) {
+        long durationNs = endNs - startNs;
+        calls.increment();
+        totalTimeNs.add(durationNs);
+        maxTimeNs.accumulateAndGet(durationNs, Math::max);
+
+        consecutiveSlowCalls.set(slowCallsToOpen - 1);
+        openUntilNs = endNs + openDurationNs;
+        open = true;
+        return consecutiveTimeouts.incrementAndGet();
+    }
+
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    public long getSkippedCallCount() {
+        return skippedCalls.sum();
+    }
+
+    public double getAverageTimeMs() {
+        long count = calls.sum();
+        return count != 0 ? totalTimeNs.sum() / (double) count / 1_000_000.0 : 0.0;
+    }
+
+    public double getMaxTimeMs() {
+        return maxTimeNs.get() / 1_000_000.0;
+    }
+
+    public boolean isOpen() {
+        return open && System.nanoTime() - openUntilNs < 0;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.table.Table;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers what one extension has already written to the database.
+ * <p>
+ * Provider definitions are kept until they change, copies of stored values are kept for a while so that
+ * values that did not change since the last update are not written again. The values expire so that
+ * values removed from the database by other means are eventually written again.
+ *
+ * @author AuroraLS3
+ */
+public class StoredValueCache {
+
+    private final Map<String, ProviderInformation> storedProviders;
+    private final Cache<String, Object> storedValues;
+
+    public StoredValueCache() {
+        storedProviders = new ConcurrentHashMap<>();
+        storedValues = Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.MINUTES)
+                .maximumSize(50_000)
+                .build();
+    }
+
+    /**
+     * Copy a value into a form that can be compared with equals.
+     *
+     * @param value Value given by a provider.
+     * @return Immutable copy of arrays and tables, the value itself for other types.
+     */
+    static Object snapshotOf(Object value) {
+        if (value instanceof String[]) {
+            return Collections.unmodifiableList(Arrays.asList(((String[]) value).clone()));
+        }
+        if (value instanceof Table) {
+            // Table#equals only compares the first column of rows, so compare the stored form instead.
+            Table table = (Table) value;
+            List<Object> snapshot = new ArrayList<>();
+            snapshot.add(Arrays.asList(table.getColumns().clone()));
+            snapshot.add(Arrays.asList(table.getIcons().clone()));
+            snapshot.add(Arrays.asList(table.getTableColumnFormats().clone()));
+            for (Object[] row : table.getRows()) {
+                List<String> cells = new ArrayList<>(row.length);
+                for (Object cell : row) {
+                    cells.add(cell != null ? cell.toString() : null);
+                }
+                snapshot.add(cells);
+            }
+            return snapshot;
+        }
+        return value;
+    }
+
+    static String keyOf(Parameters parameters, String providerName) {
+        UUID playerUUID = parameters.getPlayerUUID();
+        return (playerUUID != null ? playerUUID.toString() : "server") + '/' + providerName;
+    }
+
+    public boolean isProviderStored(ProviderInformation information) {
+        return information.equals(storedProviders.get(information.getName()));
+    }
+
+    public void providerStored(ProviderInformation information) {
+        storedProviders.put(information.getName(), information);
+    }
+
+    public boolean isValueStored(String key, Object snapshot) {
+        Object storedValue = storedValues.getIfPresent(key);
+        return storedValue != null && storedValue.equals(snapshot);
+    }
+
+    public void valueStored(String key, Object snapshot) {
+        if (snapshot == null) return;
+        storedValues.put(key, snapshot);
+    }
+
+    public void valueRemoved(String key) {
+        storedValues.invalidate(key);
+    }
+
+    public void providersRemoved(Collection<String> providerNames) {
+        for (String providerName : providerNames) {
+            storedProviders.remove(providerName);
+            String keySuffix = '/' + providerName;
+            storedValues.asMap().keySet().removeIf(key -> key.endsWith(keySuffix));
+        }
+    }
+
+    public void clear() {
+        storedProviders.clear();
+        storedValues.invalidateAll();
+    }
+}
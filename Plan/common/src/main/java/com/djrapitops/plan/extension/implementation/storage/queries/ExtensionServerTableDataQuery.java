@@ -28,10 +28,12 @@ import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.sql.tables.extension.*;
+import org.apache.commons.text.TextStringBuilder;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -40,7 +42,7 @@ import java.util.stream.Collectors;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
 /**
- * Query Extension data of x most recent players on a server.
+ * Query Extension data of x most recent players, or of specific players, on a server.
  * <p>
  * Returns Map: Player UUID - {@link ExtensionTabData} (container for provider based data)
  *
@@ -50,14 +52,29 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
 
     private final ServerUUID serverUUID;
     private final int xMostRecentPlayers;
+    private final Collection<UUID> playerUUIDs;
 
     public ExtensionServerTableDataQuery(ServerUUID serverUUID, int xMostRecentPlayers) {
         this.serverUUID = serverUUID;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.playerUUIDs = null;
+    }
+
+    /**
+     * Query Extension data of specific players, for example one page of the players table.
+     *
+     * @param serverUUID  UUID of the Plan server.
+     * @param playerUUIDs UUIDs of the players.
+     */
+    public ExtensionServerTableDataQuery(ServerUUID serverUUID, Collection<UUID> playerUUIDs) {
+        this.serverUUID = serverUUID;
+        this.xMostRecentPlayers = playerUUIDs.size();
+        this.playerUUIDs = playerUUIDs;
     }
 
     @Override
     public Map<UUID, ExtensionTabData> executeQuery(SQLDB db) {
+        if (playerUUIDs != null && playerUUIDs.isEmpty()) return new HashMap<>();
         return combine(db.query(fetchPlayerData()), db.query(fetchPlayerGroups()));
     }
 
@@ -100,21 +117,25 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
                 "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
                 FROM + ExtensionPlayerValueTable.TABLE_NAME + " v1" +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=v1." + ExtensionPlayerValueTable.USER_UUID +
-                INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.user_id=u." + UsersTable.ID +
+                (playerUUIDs == null ? INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.user_id=u." + UsersTable.ID : "") +
                 INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionPlayerValueTable.PROVIDER_ID +
                 INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
                 LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
                 WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
                 AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
-                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?";
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?" +
+                inPlayers("v1." + ExtensionPlayerValueTable.USER_UUID);
 
         return new QueryStatement<>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, xMostRecentPlayers);       // Limit to x most recently seen players
-                statement.setString(2, serverUUID.toString());
-                statement.setBoolean(3, true);                  // Select only values that should be shown
-                statement.setBoolean(4, false);                 // Don't select player_name String values
+                int index = 1;
+                if (playerUUIDs == null) {
+                    statement.setInt(index++, xMostRecentPlayers); // Limit to x most recently seen players
+                }
+                statement.setString(index, serverUUID.toString());
+                statement.setBoolean(index + 1, true);              // Select only values that should be shown
+                statement.setBoolean(index + 2, false);             // Don't select player_name String values
             }
 
             @Override
@@ -141,17 +162,21 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
                 "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
                 FROM + ExtensionGroupsTable.TABLE_NAME + " v1" +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=v1." + ExtensionGroupsTable.USER_UUID +
-                INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.user_id=u." + UsersTable.ID +
+                (playerUUIDs == null ? INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.user_id=u." + UsersTable.ID : "") +
                 INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionGroupsTable.PROVIDER_ID +
                 INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
                 LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
-                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?";
+                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                inPlayers("v1." + ExtensionGroupsTable.USER_UUID);
 
         return new QueryStatement<>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, xMostRecentPlayers);       // Limit to x most recently seen players
-                statement.setString(2, serverUUID.toString());
+                int index = 1;
+                if (playerUUIDs == null) {
+                    statement.setInt(index++, xMostRecentPlayers); // Limit to x most recently seen players
+                }
+                statement.setString(index, serverUUID.toString());
             }
 
             @Override
@@ -161,6 +186,11 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
         };
     }
 
+    private String inPlayers(String uuidColumn) {
+        if (playerUUIDs == null) return "";
+        return AND + uuidColumn + " IN ('" + new TextStringBuilder().appendWithSeparators(playerUUIDs, "','") + "')";
+    }
+
     private Map<UUID, ExtensionTabData> extractDataByPlayer(ResultSet set) throws SQLException {
         Map<UUID, ExtensionTabData.Builder> dataByPlayer = new HashMap<>();
 
@@ -0,0 +1,64 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions;
+
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
+
+import java.util.List;
+
+/**
+ * Transaction that stores a batch of extension values of a single player or server at once.
+ * <p>
+ * Each of the given transactions is executed inside this transaction, so the whole batch uses one connection
+ * and one commit instead of one for each value.
+ *
+ * @author AuroraLS3
+ */
+public class StoreExtensionValuesTransaction extends ThrowawayTransaction {
+
+    private final List<Transaction> transactions;
+    private boolean stored;
+
+    public StoreExtensionValuesTransaction(List<Transaction> transactions) {
+        this.transactions = transactions;
+        this.stored = false;
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Transaction transaction : transactions) {
+            executeOther(transaction);
+        }
+        stored = true;
+    }
+
+    /**
+     * Check if the batch was written to the database.
+     *
+     * @return false if the transaction was dropped, skipped or failed.
+     */
+    public boolean wasStored() {
+        return wasSuccessful() && stored;
+    }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.EXTENSION_REFRESH;
+    }
+}
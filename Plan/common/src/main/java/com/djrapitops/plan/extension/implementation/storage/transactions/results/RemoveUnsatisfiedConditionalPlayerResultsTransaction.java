@@ -21,6 +21,7 @@ import com.djrapitops.plan.storage.database.sql.tables.extension.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -189,4 +190,9 @@ public class RemoveUnsatisfiedConditionalPlayerResultsTransaction extends Throwa
             }
         };
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.HOUSEKEEPING;
+    }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionTableP
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -147,4 +148,9 @@ public class RemoveUnsatisfiedConditionalServerResultsTransaction extends Throwa
             }
         };
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.HOUSEKEEPING;
+    }
 }
\ No newline at end of file
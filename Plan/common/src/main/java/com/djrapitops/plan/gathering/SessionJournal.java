@@ -0,0 +1,281 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.TaskSystem;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of active sessions, so that sessions are not lost if the server crashes.
+ * <p>
+ * Checkpoints of all active sessions are appended to a file with positional writes. Each record is
+ * {@code [payload length][CRC32 of payload][payload]} and the length is written last, so partially written
+ * records are never read. Records are followed by a zero length that marks the end of the journal.
+ * <p>
+ * The writes go to the OS page cache, so they survive a crash of the process without forcing them to disk.
+ * The file is not memory-mapped, because a mapping can not be released on demand and a mapped file can not be
+ * deleted or replaced on Windows.
+ * <p>
+ * Every checkpoint contains all active sessions, so only the latest one matters. When the file fills up the journal
+ * rolls over to a second file, which compacts the journal into the single newest checkpoint while the older file is
+ * kept as a fallback until the next rollover.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class SessionJournal {
+
+    private static final int MAX_FILE_SIZE = 1024 * 1024;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES; // length + CRC32
+    private static final String CHECKPOINT = "checkpoint";
+
+    private final Path[] journalFiles;
+
+    private FileChannel channel;
+    private int currentFile;
+    private long position;
+
+    @Inject
+    public SessionJournal(PlanFiles files) {
+        this(files.getDataDirectory());
+    }
+
+    SessionJournal(Path directory) {
+        journalFiles = new Path[]{
+                directory.resolve("session-journal-0.dat"),
+                directory.resolve("session-journal-1.dat")
+        };
+    }
+
+    public synchronized boolean isOpen() {
+        return channel != null;
+    }
+
+    /**
+     * Read the sessions in the latest checkpoint of the journal.
+     *
+     * @return Sessions that were active when the latest checkpoint was written.
+     * @throws IOException If the journal can not be read.
+     */
+    public synchronized List<FinishedSession> recover() throws IOException {
+        long latestTime = -1;
+        List<String> latestCheckpoint = Collections.emptyList();
+        for (Path journalFile : journalFiles) {
+            if (!Files.exists(journalFile)) continue;
+
+            for (List<String> checkpoint : readRecords(ByteBuffer.wrap(Files.readAllBytes(journalFile)))) {
+                long time = getCheckpointTime(checkpoint);
+                if (time > latestTime) {
+                    latestTime = time;
+                    latestCheckpoint = checkpoint;
+                }
+            }
+        }
+
+        List<FinishedSession> sessions = new ArrayList<>();
+        for (String line : latestCheckpoint.subList(Math.min(1, latestCheckpoint.size()), latestCheckpoint.size())) {
+            try {
+                FinishedSession.deserializeCSV(line).ifPresent(sessions::add);
+            } catch (Exception ignored) {
+                // Corrupted lines are skipped, CRC should prevent this.
+            }
+        }
+        return sessions;
+    }
+
+    private static List<List<String>> readRecords(ByteBuffer contents) {
+        List<List<String>> records = new ArrayList<>();
+        while (contents.remaining() >= HEADER_SIZE) {
+            int length = contents.getInt();
+            int checksum = contents.getInt();
+            if (length <= 0 || length > contents.remaining()) break;
+
+            byte[] payload = new byte[length];
+            contents.get(payload);
+            if (checksumOf(payload) != checksum) break;
+
+            records.add(Arrays.asList(new String(payload, StandardCharsets.UTF_8).split("\n")));
+        }
+        return records;
+    }
+
+    private static long getCheckpointTime(List<String> checkpoint) {
+        String[] header = checkpoint.get(0).split(";");
+        if (header.length != 2 || !CHECKPOINT.equals(header[0])) return -1;
+        try {
+            return Long.parseLong(header[1]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int checksumOf(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Remove everything from the journal and start appending new checkpoints.
+     *
+     * @throws IOException If the journal files can not be removed or created.
+     */
+    public synchronized void reset() throws IOException {
+        closeChannel();
+        for (Path journalFile : journalFiles) {
+            Files.deleteIfExists(journalFile);
+        }
+        currentFile = 0;
+        channel = open(journalFiles[currentFile]);
+        position = 0;
+    }
+
+    /**
+     * Append a checkpoint of active sessions.
+     *
+     * @param sessions Active sessions, finished at the time of the checkpoint.
+     * @param time     Time of the checkpoint.
+     * @throws IOException If the checkpoint can not be written.
+     */
+    public synchronized void checkpoint(Collection<FinishedSession> sessions, long time) throws IOException {
+        if (channel == null) return;
+
+        StringBuilder payload = new StringBuilder(CHECKPOINT).append(';').append(time);
+        for (FinishedSession session : sessions) {
+            payload.append('\n').append(session.serializeCSV().replace('\n', ' '));
+        }
+        byte[] bytes = payload.toString().getBytes(StandardCharsets.UTF_8);
+
+        int recordSize = HEADER_SIZE + bytes.length;
+        if (position > 0 && position + recordSize + Integer.BYTES > MAX_FILE_SIZE) {
+            rollover();
+        }
+        append(bytes);
+    }
+
+    private void rollover() throws IOException {
+        closeChannel();
+        currentFile = 1 - currentFile;
+        channel = open(journalFiles[currentFile]);
+        position = 0;
+    }
+
+    private void append(byte[] payload) throws IOException {
+        long at = position;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.length + Integer.BYTES);
+        record.putInt(0); // Invalidate old data if crash happens mid-write
+        record.putInt(checksumOf(payload));
+        record.put(payload);
+        record.putInt(0); // End of journal
+        record.flip();
+        write(record, at);
+
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        length.putInt(payload.length);
+        length.flip();
+        write(length, at);
+        position = at + HEADER_SIZE + payload.length;
+    }
+
+    private void write(ByteBuffer bytes, long at) throws IOException {
+        long writePosition = at;
+        while (bytes.hasRemaining()) {
+            writePosition += channel.write(bytes, writePosition);
+        }
+    }
+
+    private static FileChannel open(Path journalFile) throws IOException {
+        return FileChannel.open(journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } finally {
+            channel = null;
+        }
+    }
+
+    /**
+     * Write the journal to disk and stop appending to it.
+     * <p>
+     * Checkpoints already survive a crash of the process without this, since the OS has the written pages.
+     *
+     * @throws IOException If the journal can not be written to disk.
+     */
+    public synchronized void close() throws IOException {
+        if (channel == null) return;
+        try {
+            channel.force(false);
+        } finally {
+            closeChannel();
+        }
+    }
+
+    @Singleton
+    public static class CheckpointTask extends TaskSystem.Task {
+
+        private final SessionJournal journal;
+        private final ErrorLogger errorLogger;
+
+        @Inject
+        public CheckpointTask(SessionJournal journal, ErrorLogger errorLogger) {
+            this.journal = journal;
+            this.errorLogger = errorLogger;
+        }
+
+        @Override
+        public void run() {
+            if (!journal.isOpen()) return; // Previous journal has not been recovered yet.
+            long now = System.currentTimeMillis();
+            List<FinishedSession> sessions = new ArrayList<>();
+            SessionCache.getActiveSessions().forEach(session -> sessions.add(session.toFinishedSession(now)));
+            try {
+                journal.checkpoint(sessions, now);
+            } catch (IOException e) {
+                errorLogger.warn(e, ErrorContext.builder().related("Session journal checkpoint").build());
+            }
+        }
+
+        @Override
+        public void register(RunnableFactory runnableFactory) {
+            long period = TimeAmount.toTicks(1, TimeUnit.MINUTES);
+            runnableFactory.create(this).runTaskTimerAsynchronously(period, period);
+        }
+    }
+}
@@ -52,6 +52,7 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
     private final ServerShutdownSave serverShutdownSave;
+    private final SessionJournal sessionJournal;
 
     private final Path storeLocation;
 
@@ -62,7 +63,8 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
             DBSystem dbSystem,
             PluginLogger logger,
             ErrorLogger errorLogger,
-            ServerShutdownSave serverShutdownSave
+            ServerShutdownSave serverShutdownSave,
+            SessionJournal sessionJournal
     ) {
         this.locale = locale;
         this.dbSystem = dbSystem;
@@ -71,6 +73,32 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
         this.logger = logger;
         this.errorLogger = errorLogger;
         this.serverShutdownSave = serverShutdownSave;
+        this.sessionJournal = sessionJournal;
+    }
+
+    /**
+     * Move sessions from the session journal to unsaved-sessions.csv and start a new journal.
+     * <p>
+     * Sessions in the journal were active when the server crashed or was stopped.
+     */
+    void recoverJournaledSessions() {
+        try {
+            List<FinishedSession> journaledSessions = sessionJournal.recover().stream()
+                    .filter(session -> !isStillActive(session)) // Plugin was reloaded
+                    .collect(Collectors.toList());
+            storeFinishedSessions(journaledSessions);
+            sessionJournal.reset();
+        } catch (IOException | IllegalStateException e) {
+            errorLogger.error(e, ErrorContext.builder()
+                    .whatToDo("Sessions will not be preserved in case of a crash, check file permissions of Plan folder.")
+                    .related("Session journal").build());
+        }
+    }
+
+    private boolean isStillActive(FinishedSession session) {
+        return SessionCache.getCachedSession(session.getPlayerUUID())
+                .map(active -> active.getStart() == session.getStart())
+                .orElse(false);
     }
 
     public void storePreviouslyPreservedSessions() {
@@ -101,6 +129,7 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
     @Override
     public void run() {
         try {
+            recoverJournaledSessions();
             storePreviouslyPreservedSessions();
         } finally {
             cancel();
@@ -149,6 +178,16 @@ public class ShutdownDataPreservation extends TaskSystem.Task {
                     return session.toFinishedSession(now);
                 })
                 .collect(Collectors.toList());
+        if (sessionJournal.isOpen()) {
+            try {
+                // Appending a checkpoint is cheaper than rewriting the csv file during shutdown.
+                sessionJournal.checkpoint(finishedSessions, now);
+                sessionJournal.close();
+                return;
+            } catch (IOException e) {
+                // Fall back to csv file
+            }
+        }
         storeFinishedSessions(finishedSessions);
     }
 
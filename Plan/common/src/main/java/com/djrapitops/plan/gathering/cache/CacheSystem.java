@@ -35,6 +35,7 @@ public class CacheSystem implements SubSystem {
     private final TabCompleteCache tabCompleteCache;
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
+    private final WorldCache worldCache;
     private final GeolocationCache geolocationCache;
     private final JSONStorage jsonStorage;
 
@@ -43,12 +44,14 @@ public class CacheSystem implements SubSystem {
             TabCompleteCache tabCompleteCache,
             SessionCache sessionCache,
             NicknameCache nicknameCache,
+            WorldCache worldCache,
             GeolocationCache geolocationCache,
             JSONStorage jsonStorage
     ) {
         this.tabCompleteCache = tabCompleteCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
+        this.worldCache = worldCache;
         this.geolocationCache = geolocationCache;
         this.jsonStorage = jsonStorage;
     }
@@ -56,6 +59,7 @@ public class CacheSystem implements SubSystem {
     @Override
     public void enable() {
         nicknameCache.enable();
+        worldCache.enable();
         geolocationCache.enable();
         tabCompleteCache.enable();
         jsonStorage.enable();
@@ -63,7 +67,9 @@ public class CacheSystem implements SubSystem {
 
     @Override
     public void disable() {
-        geolocationCache.clearCache();
+        nicknameCache.disable();
+        worldCache.disable();
+        geolocationCache.disable();
     }
 
     public NicknameCache getNicknameCache() {
@@ -17,22 +17,28 @@
 package com.djrapitops.plan.gathering.cache;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.TaskSystem;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.objects.NicknameQueries;
+import com.djrapitops.plan.storage.database.transactions.events.UpdateNicknameLastUsedTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Used for caching nicknames when the player is online.
+ * <p>
+ * Nickname is stored in the database only when it changes, the last used date of an unchanged nickname is stored
+ * periodically by {@link StoreTask} for all players at once.
  *
  * @author AuroraLS3
  */
@@ -44,6 +50,7 @@ public class NicknameCache implements SubSystem {
     private final ErrorLogger errorLogger;
 
     private final Map<UUID, String> displayNames;
+    private final Map<UUID, Nickname> unsavedLastUsed;
 
     @Inject
     public NicknameCache(
@@ -54,7 +61,8 @@ public class NicknameCache implements SubSystem {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.errorLogger = errorLogger;
-        displayNames = new HashMap<>();
+        displayNames = new ConcurrentHashMap<>();
+        unsavedLastUsed = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -64,13 +72,34 @@ public class NicknameCache implements SubSystem {
 
     @Override
     public void disable() {
+        storeLastUsedDates();
         displayNames.clear();
     }
 
     public void removeDisplayName(UUID uuid) {
+        // Unsaved last used date is kept until next store
         displayNames.remove(uuid);
     }
 
+    /**
+     * Update the display name of a player in the cache.
+     * <p>
+     * First display name of a player is considered changed, since it is only cached when the player joins.
+     *
+     * @param uuid     UUID of the player.
+     * @param nickname Current display name of the player.
+     * @return true if the display name changed and should be stored in the database.
+     */
+    public boolean updateDisplayName(UUID uuid, Nickname nickname) {
+        String name = nickname.getName();
+        String previous = displayNames.put(uuid, name);
+        if (name.equals(previous)) {
+            unsavedLastUsed.merge(uuid, nickname, (one, two) -> one.getDate() >= two.getDate() ? one : two);
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Used to get the player display name in the cache.
      * <p>
@@ -81,15 +110,11 @@ public class NicknameCache implements SubSystem {
      */
     public Optional<String> getDisplayName(UUID uuid) {
         String cached = displayNames.get(uuid);
+        if (cached != null) return Optional.of(cached);
 
-        if (cached == null) {
-            Optional<String> found = getFromDatabase(uuid);
-            if (found.isPresent()) {
-                displayNames.put(uuid, found.get());
-                return found;
-            }
-        }
-        return Optional.empty();
+        Optional<String> found = getFromDatabase(uuid);
+        found.ifPresent(displayName -> displayNames.putIfAbsent(uuid, displayName));
+        return found;
     }
 
     private Optional<String> getFromDatabase(UUID uuid) {
@@ -102,4 +127,43 @@ public class NicknameCache implements SubSystem {
         }
         return Optional.empty();
     }
-}
+
+    /**
+     * Store last used dates of unchanged nicknames in the database in one transaction.
+     */
+    public void storeLastUsedDates() {
+        if (unsavedLastUsed.isEmpty()) return;
+
+        Map<UUID, Nickname> toStore = new HashMap<>();
+        for (UUID uuid : new ArrayList<>(unsavedLastUsed.keySet())) {
+            Nickname nickname = unsavedLastUsed.remove(uuid);
+            if (nickname != null) toStore.put(uuid, nickname);
+        }
+        try {
+            dbSystem.getDatabase().executeTransaction(new UpdateNicknameLastUsedTransaction(toStore));
+        } catch (DBOpException e) {
+            errorLogger.error(e);
+        }
+    }
+
+    @Singleton
+    public static class StoreTask extends TaskSystem.Task {
+        private final NicknameCache nicknameCache;
+
+        @Inject
+        public StoreTask(NicknameCache nicknameCache) {
+            this.nicknameCache = nicknameCache;
+        }
+
+        @Override
+        public void register(RunnableFactory runnableFactory) {
+            long period = TimeAmount.toTicks(5, TimeUnit.MINUTES);
+            runnableFactory.create(this).runTaskTimerAsynchronously(period, period);
+        }
+
+        @Override
+        public void run() {
+            nicknameCache.storeLastUsedDates();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.settings.config.WorldAliasSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of worlds of this server that are already stored or seen, so that world and gamemode changes do not need
+ * to query the database or walk the config.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class WorldCache implements SubSystem {
+
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final WorldAliasSettings worldAliasSettings;
+    private final Processing processing;
+    private final ErrorLogger errorLogger;
+
+    private final Set<String> storedWorlds;
+    private final Set<String> seenWorlds;
+
+    @Inject
+    public WorldCache(
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            WorldAliasSettings worldAliasSettings,
+            Processing processing,
+            ErrorLogger errorLogger
+    ) {
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.worldAliasSettings = worldAliasSettings;
+        this.processing = processing;
+        this.errorLogger = errorLogger;
+        storedWorlds = ConcurrentHashMap.newKeySet();
+        seenWorlds = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public void enable() {
+        if (serverInfo.getServer().isProxy()) return;
+        // Worlds seen before this finishes are checked by StoreWorldNameTransaction instead.
+        processing.submitNonCritical(() -> {
+            try {
+                storedWorlds.addAll(dbSystem.getDatabase().query(WorldTimesQueries.fetchWorldNames(serverInfo.getServerUUID())));
+            } catch (DBOpException e) {
+                errorLogger.error(e);
+            }
+        });
+    }
+
+    @Override
+    public void disable() {
+        storedWorlds.clear();
+        seenWorlds.clear();
+    }
+
+    /**
+     * Register a world the first time it is seen after the plugin was enabled.
+     * <p>
+     * The world is added to world aliases in the config, in case it was removed from the config, and stored in the
+     * database if it is not stored yet.
+     *
+     * @param worldName Name of the world.
+     */
+    public void registerWorld(String worldName) {
+        if (worldName == null || seenWorlds.contains(worldName)) return;
+        if (!seenWorlds.add(worldName)) return; // Another thread registered the world
+
+        if (!storedWorlds.contains(worldName)) {
+            StoreWorldNameTransaction transaction = new StoreWorldNameTransaction(serverInfo.getServerUUID(), worldName);
+            dbSystem.getDatabase().executeTransaction(transaction).thenRun(() -> {
+                if (transaction.wasSuccessful()) {
+                    storedWorlds.add(worldName);
+                } else {
+                    seenWorlds.remove(worldName); // Stored again next time the world is seen
+                }
+            });
+        }
+        worldAliasSettings.addWorld(worldName);
+    }
+}
\ No newline at end of file
@@ -21,12 +21,17 @@ import com.djrapitops.plan.delivery.domain.DateHolder;
 import java.util.Objects;
 
 /**
- * Class containing single datapoint of TPS / Players online / CPU Usage / Used Memory / Entity Count / Chunks loaded.
+ * Class containing single datapoint of TPS / Players online / CPU Usage / Used Memory / Entity Count / Chunks loaded / Tick durations.
  *
  * @author AuroraLS3
  */
 public class TPS implements DateHolder {
 
+    /**
+     * Amount of values in {@link #toArray()}.
+     */
+    public static final int ARRAY_LENGTH = 12;
+
     private final long date;
     private final double ticksPerSecond;
     private final int players;
@@ -35,6 +40,10 @@ public class TPS implements DateHolder {
     private final int entityCount;
     private final int chunksLoaded;
     private final long freeDiskSpace;
+    private final double msptP50;
+    private final double msptP95;
+    private final double msptP99;
+    private final double msptMax;
 
     /**
      * Constructor.
@@ -57,6 +66,39 @@ public class TPS implements DateHolder {
             int entityCount,
             int chunksLoaded,
             long freeDiskSpace
+    ) {
+        this(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace, -1, -1, -1, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param date           time of the TPS calculation.
+     * @param ticksPerSecond average ticksPerSecond for the last minute.
+     * @param players        players for the minute.
+     * @param cpuUsage       CPU usage for the minute
+     * @param usedMemory     used memory (megabytes) at the time of fetching
+     * @param entityCount    amount of entities at the time of fetching
+     * @param chunksLoaded   amount of chunks loaded at the time of fetching
+     * @param freeDiskSpace  free megabytes in the partition the server is running in.
+     * @param msptP50        median tick duration (milliseconds) for the minute, -1 if not measured.
+     * @param msptP95        95th percentile tick duration (milliseconds) for the minute, -1 if not measured.
+     * @param msptP99        99th percentile tick duration (milliseconds) for the minute, -1 if not measured.
+     * @param msptMax        longest tick duration (milliseconds) for the minute, -1 if not measured.
+     */
+    public TPS(
+            long date,
+            double ticksPerSecond,
+            int players,
+            double cpuUsage,
+            long usedMemory,
+            int entityCount,
+            int chunksLoaded,
+            long freeDiskSpace,
+            double msptP50,
+            double msptP95,
+            double msptP99,
+            double msptMax
     ) {
         this.date = date;
         this.ticksPerSecond = ticksPerSecond;
@@ -66,6 +108,10 @@ public class TPS implements DateHolder {
         this.entityCount = entityCount;
         this.chunksLoaded = chunksLoaded;
         this.freeDiskSpace = freeDiskSpace;
+        this.msptP50 = msptP50;
+        this.msptP95 = msptP95;
+        this.msptP99 = msptP99;
+        this.msptMax = msptMax;
     }
 
     @Override
@@ -136,6 +182,42 @@ public class TPS implements DateHolder {
         return freeDiskSpace;
     }
 
+    /**
+     * Get the median tick duration for the minute.
+     *
+     * @return Milliseconds, or -1 if the platform does not measure tick durations.
+     */
+    public double getMsptP50() {
+        return msptP50;
+    }
+
+    /**
+     * Get the 95th percentile tick duration for the minute.
+     *
+     * @return Milliseconds, or -1 if the platform does not measure tick durations.
+     */
+    public double getMsptP95() {
+        return msptP95;
+    }
+
+    /**
+     * Get the 99th percentile tick duration for the minute.
+     *
+     * @return Milliseconds, or -1 if the platform does not measure tick durations.
+     */
+    public double getMsptP99() {
+        return msptP99;
+    }
+
+    /**
+     * Get the longest tick duration for the minute.
+     *
+     * @return Milliseconds, or -1 if the platform does not measure tick durations.
+     */
+    public double getMsptMax() {
+        return msptMax;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -148,12 +230,16 @@ public class TPS implements DateHolder {
                 usedMemory == tps.usedMemory &&
                 entityCount == tps.entityCount &&
                 chunksLoaded == tps.chunksLoaded &&
-                freeDiskSpace == tps.freeDiskSpace;
+                freeDiskSpace == tps.freeDiskSpace &&
+                Double.compare(tps.msptP50, msptP50) == 0 &&
+                Double.compare(tps.msptP95, msptP95) == 0 &&
+                Double.compare(tps.msptP99, msptP99) == 0 &&
+                Double.compare(tps.msptMax, msptMax) == 0;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace);
+        return Objects.hash(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace, msptP50, msptP95, msptP99, msptMax);
     }
 
     @Override
@@ -166,7 +252,11 @@ public class TPS implements DateHolder {
                 "usedMemory=" + usedMemory + ", " +
                 "entityCount=" + entityCount + ", " +
                 "chunksLoaded=" + chunksLoaded + ", " +
-                "freeDiskSpace=" + freeDiskSpace + '}';
+                "freeDiskSpace=" + freeDiskSpace + ", " +
+                "msptP50=" + msptP50 + ", " +
+                "msptP95=" + msptP95 + ", " +
+                "msptP99=" + msptP99 + ", " +
+                "msptMax=" + msptMax + '}';
     }
 
     public Number[] toArray() {
@@ -184,7 +274,9 @@ public class TPS implements DateHolder {
                 ram >= 0 ? ram : null,
                 entities >= 0 ? entities : null,
                 chunks >= 0 ? chunks : null,
-                disk >= 0 ? disk : null
+                disk >= 0 ? disk : null,
+                msptP95 >= 0 ? msptP95 : null,
+                msptMax >= 0 ? msptMax : null
         };
     }
 }
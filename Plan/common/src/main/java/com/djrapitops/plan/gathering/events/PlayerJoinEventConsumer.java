@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.gathering.events;
 
+import com.djrapitops.plan.commands.TabCompleteCache;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.delivery.domain.ServerName;
@@ -24,12 +25,13 @@ import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.cache.WorldCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.gathering.domain.event.PlayerJoin;
 import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
-import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.identification.UUIDUtility;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -37,6 +39,7 @@ import com.djrapitops.plan.settings.config.paths.ExportSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.sql.tables.JoinAddressTable;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import org.apache.commons.lang3.StringUtils;
 
@@ -55,6 +58,9 @@ public class PlayerJoinEventConsumer {
     private final GeolocationCache geolocationCache;
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
+    private final WorldCache worldCache;
+    private final TabCompleteCache tabCompleteCache;
+    private final UUIDUtility uuidUtility;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
@@ -67,6 +73,9 @@ public class PlayerJoinEventConsumer {
             GeolocationCache geolocationCache,
             SessionCache sessionCache,
             NicknameCache nicknameCache,
+            WorldCache worldCache,
+            TabCompleteCache tabCompleteCache,
+            UUIDUtility uuidUtility,
             ExtensionSvc extensionService,
             Exporter exporter
     ) {
@@ -76,6 +85,9 @@ public class PlayerJoinEventConsumer {
         this.geolocationCache = geolocationCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
+        this.worldCache = worldCache;
+        this.tabCompleteCache = tabCompleteCache;
+        this.uuidUtility = uuidUtility;
         this.extensionService = extensionService;
         this.exporter = exporter;
     }
@@ -124,10 +136,7 @@ public class PlayerJoinEventConsumer {
     }
 
     private void storeWorldInformation(PlayerJoin join) {
-        ServerUUID serverUUID = join.getServerUUID();
-        join.getPlayer().getCurrentWorld()
-                .map(world -> new StoreWorldNameTransaction(serverUUID, world))
-                .ifPresent(dbSystem.getDatabase()::executeTransaction);
+        join.getPlayer().getCurrentWorld().ifPresent(worldCache::registerWorld);
     }
 
     private static long getRegisterDate(PlayerJoin join) {
@@ -163,6 +172,8 @@ public class PlayerJoinEventConsumer {
 
     Optional<FinishedSession> cacheActiveSession(PlayerJoin join) {
         ActiveSession session = mapToActiveSession(join);
+        tabCompleteCache.addPlayerIdentifier(join.getPlayerName());
+        uuidUtility.cachePlayer(join.getPlayerUUID(), join.getPlayerName());
         return sessionCache.cacheSession(join.getPlayerUUID(), session);
     }
 
@@ -183,15 +194,14 @@ public class PlayerJoinEventConsumer {
     private void storeNickname(PlayerJoin join) {
         join.getPlayer().getDisplayName()
                 .map(displayName -> new Nickname(displayName, join.getTime(), join.getServerUUID()))
-                .map(nickname -> new StoreNicknameTransaction(
-                        join.getPlayerUUID(), nickname,
-                        (uuid, name) -> nicknameCache.getDisplayName(join.getPlayerUUID())
-                                .map(name::equals)
-                                .orElse(false)))
+                .filter(nickname -> nicknameCache.updateDisplayName(join.getPlayerUUID(), nickname))
+                .map(nickname -> new StoreNicknameTransaction(join.getPlayerUUID(), nickname))
                 .ifPresent(dbSystem.getDatabase()::executeTransaction);
     }
 
     private void updatePlayerDataExtensionValues(PlayerJoin join) {
+        // Values are updated again when the player leaves, so this can be skipped while the database is behind.
+        if (dbSystem.getDatabase().shouldDefer(TransactionPriority.EXTENSION_REFRESH)) return;
         processing.submitNonCritical(() -> extensionService.updatePlayerValues(
                 join.getPlayerUUID(), join.getPlayerName(), CallEvents.PLAYER_JOIN)
         );
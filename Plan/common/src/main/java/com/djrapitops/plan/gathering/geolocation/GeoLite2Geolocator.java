@@ -17,14 +17,17 @@
 package com.djrapitops.plan.gathering.geolocation;
 
 import com.djrapitops.plan.exceptions.PreparationException;
+import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.Base64Util;
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Network;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
-import com.maxmind.geoip2.record.Country;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.utils.IOUtils;
@@ -39,8 +42,11 @@ import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.zip.GZIPInputStream;
 
@@ -56,15 +62,23 @@ import java.util.zip.GZIPInputStream;
 @Singleton
 public class GeoLite2Geolocator implements Geolocator {
 
+    private static final int SAVE_CACHE_EVERY_NETWORKS = 1000;
+
     private final PlanFiles files;
     private final PlanConfig config;
+    private final Processing processing;
 
     private File geolocationDB;
+    // Read without locking by lookups, which may happen on any thread.
+    private volatile DatabaseReader reader;
+    private volatile GeolocationNetworkCache networkCache;
+    private final AtomicBoolean savingNetworkCache = new AtomicBoolean(false);
 
     @Inject
-    public GeoLite2Geolocator(PlanFiles files, PlanConfig config) {
+    public GeoLite2Geolocator(PlanFiles files, PlanConfig config, Processing processing) {
         this.files = files;
         this.config = config;
+        this.processing = processing;
     }
 
     @Override
@@ -78,8 +92,10 @@ public class GeoLite2Geolocator implements Geolocator {
 
         if (geolocationDB.exists()) {
             if (geolocationDB.lastModified() >= System.currentTimeMillis() - TimeUnit.DAYS.toMillis(7L)) {
+                openDatabase();
                 return; // Database is new enough
             } else {
+                close(); // Old data is not used after it has been deleted
                 Files.delete(geolocationDB.toPath()); // Delete old data according to restriction 3. in EULA
             }
         }
@@ -87,6 +103,24 @@ public class GeoLite2Geolocator implements Geolocator {
         downloadDatabase();
         // Delete old Geolocation database file if it still exists (on success to avoid a no-file situation)
         Files.deleteIfExists(files.getFileFromPluginFolder("GeoIP.dat").toPath());
+        openDatabase();
+    }
+
+    private synchronized void openDatabase() throws IOException {
+        if (reader != null) return;
+        // Read to memory, a mapped file can not be deleted or replaced on Windows when it is refreshed.
+        DatabaseReader opened = new DatabaseReader.Builder(geolocationDB)
+                .fileMode(Reader.FileMode.MEMORY)
+                .withCache(new CHMCache())
+                .build();
+        // Cache of networks is only valid for the database it was made from.
+        long buildDate = opened.getMetadata().getBuildDate().getTime();
+        networkCache = GeolocationNetworkCache.load(getNetworkCacheFile(), buildDate);
+        reader = opened;
+    }
+
+    private Path getNetworkCacheFile() {
+        return files.getDataDirectory().resolve("geolocation-networks.dat");
     }
 
     private static String a(String c, String d) {
@@ -162,19 +196,63 @@ public class GeoLite2Geolocator implements Geolocator {
         if (inetAddress.getHostAddress().contains("127.0.0.1")) return Optional.of("Local Machine");
         if (inetAddress.isSiteLocalAddress()) return Optional.of("Local Private Network");
 
-        try (
-                // See https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
-                // for why InputStream is being used here instead.
-                InputStream in = Files.newInputStream(geolocationDB.toPath());
-                DatabaseReader reader = new DatabaseReader.Builder(in).build()
-        ) {
-            CountryResponse response = reader.country(inetAddress);
-            Country country = response.getCountry();
-            String countryName = country.getName();
+        DatabaseReader databaseReader = reader;
+        GeolocationNetworkCache cache = networkCache;
+        if (databaseReader == null || cache == null) return Optional.empty();
+
+        Optional<String> cached = cache.getCountry(inetAddress);
+        if (cached.isPresent()) return cached;
+
+        try {
+            Optional<CountryResponse> response = databaseReader.tryCountry(inetAddress);
+            if (response.isEmpty()) return Optional.empty();
 
+            String countryName = response.get().getCountry().getName();
+            Network network = response.get().getTraits().getNetwork();
+            if (countryName != null && network != null) {
+                cache.put(network.getNetworkAddress(), network.getPrefixLength(), countryName);
+                if (cache.getUnsavedCount() >= SAVE_CACHE_EVERY_NETWORKS) saveNetworkCacheLater(cache);
+            }
             return Optional.ofNullable(countryName);
         } catch (IOException | GeoIp2Exception e) {
             return Optional.empty();
         }
     }
+
+    private void saveNetworkCacheLater(GeolocationNetworkCache cache) {
+        // Lookups do not wait for the file to be written.
+        if (savingNetworkCache.getAndSet(true)) return;
+        CompletableFuture<Boolean> submitted = processing.submitNonCritical(() -> {
+            try {
+                saveNetworkCache(cache);
+            } finally {
+                savingNetworkCache.set(false);
+            }
+        });
+        if (submitted == null) savingNetworkCache.set(false);
+    }
+
+    private void saveNetworkCache(GeolocationNetworkCache cache) {
+        try {
+            cache.save();
+        } catch (IOException ignored) {
+            // Networks are geolocated again after restart.
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (networkCache != null) {
+            saveNetworkCache(networkCache);
+            networkCache = null;
+        }
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+                // Closing in-memory reader does not fail.
+            }
+            reader = null;
+        }
+    }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import net.playeranalytics.plugin.server.PluginLogger;
@@ -31,12 +32,14 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.net.UnknownHostException;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
  * This class contains the geolocation cache.
  * <p>
- * It caches all IPs with their matching country.
+ * It caches all IPs with their matching country. Networks of the IPs are cached persistently by the geolocator,
+ * see {@link GeoLite2Geolocator}.
  *
  * @author AuroraLS3
  * @author Fuzzlemann
@@ -60,7 +63,8 @@ public class GeolocationCache implements SubSystem {
             PlanConfig config,
             GeoLite2Geolocator geoLite2Geolocator,
             PluginLogger logger,
-            Processing processing
+            Processing processing,
+            PlanMetrics metrics
     ) {
         this.locale = locale;
         this.config = config;
@@ -70,7 +74,10 @@ public class GeolocationCache implements SubSystem {
 
         this.cache = Caffeine.newBuilder()
                 .expireAfterAccess(1, TimeUnit.MINUTES)
+                .recordStats()
                 .build();
+        metrics.gauge("geolocation.cache.hitRate", () -> cache.stats().hitRate());
+        metrics.gauge("geolocation.cache.size", cache::estimatedSize);
     }
 
     @Override
@@ -112,6 +119,30 @@ public class GeolocationCache implements SubSystem {
         return cache.get(ipAddress, this::getUnCachedCountry);
     }
 
+    /**
+     * Retrieves the countries of many IP Addresses at once.
+     * <p>
+     * Each distinct address is geolocated only once, and addresses that are already cached are not geolocated again.
+     *
+     * @param ipAddresses The IP Addresses for which the countries are retrieved, may contain duplicates.
+     * @return Map: IP Address - Name of the country in full length. Addresses that could not be geolocated are left out.
+     */
+    public Map<String, String> getCountries(Collection<String> ipAddresses) {
+        Set<String> distinctAddresses = new HashSet<>(ipAddresses);
+        Map<String, String> countries = new HashMap<>(cache.getAllPresent(distinctAddresses));
+        if (countries.size() == distinctAddresses.size()) return countries;
+
+        Map<String, String> found = new HashMap<>();
+        for (String ipAddress : distinctAddresses) {
+            if (countries.containsKey(ipAddress)) continue;
+            String country = getUnCachedCountry(ipAddress);
+            if (country != null) found.put(ipAddress, country);
+        }
+        cache.putAll(found);
+        countries.putAll(found);
+        return countries;
+    }
+
     /**
      * Retrieves the country in full length (e.g. United States) from the IP Address.
      */
@@ -133,6 +164,10 @@ public class GeolocationCache implements SubSystem {
     @Override
     public void disable() {
         clearCache();
+        if (inUseGeolocator != null) {
+            inUseGeolocator.close();
+            inUseGeolocator = null;
+        }
     }
 
     /**
@@ -0,0 +1,241 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.geolocation;
+
+import java.io.*;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Countries of IP networks, stored in a compact file so that addresses do not need to be geolocated again after
+ * a restart.
+ * <p>
+ * Networks are stored by their prefix, so one entry covers every address of a network reported by the geolocation
+ * database. IPv6 networks are stored by the first 64 bits, longer IPv6 prefixes are not cached.
+ * <p>
+ * The file is tied to the build date of the geolocation database, and discarded when the database is updated.
+ *
+ * @author AuroraLS3
+ */
+class GeolocationNetworkCache {
+
+    private static final int MAGIC = 0x504C4743; // "PLGC"
+    private static final int VERSION = 1;
+    private static final int MAX_NETWORKS = 250_000;
+
+    private final Path file;
+    private final long databaseBuildDate;
+
+    private final List<String> countries = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<String, Integer> countryIndexes = new ConcurrentHashMap<>();
+    // Index is the prefix length, key is the network address bits
+    private final List<ConcurrentMap<Long, Integer>> ipv4Networks = createPrefixMaps(32);
+    private final List<ConcurrentMap<Long, Integer>> ipv6Networks = createPrefixMaps(64);
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger unsaved = new AtomicInteger();
+
+    private GeolocationNetworkCache(Path file, long databaseBuildDate) {
+        this.file = file;
+        this.databaseBuildDate = databaseBuildDate;
+    }
+
+    private static List<ConcurrentMap<Long, Integer>> createPrefixMaps(int maxPrefixLength) {
+        List<ConcurrentMap<Long, Integer>> maps = new ArrayList<>(maxPrefixLength + 1);
+        for (int i = 0; i <= maxPrefixLength; i++) {
+            maps.add(new ConcurrentHashMap<>());
+        }
+        return maps;
+    }
+
+    /**
+     * Load the cache from a file.
+     *
+     * @param file              File to load from and save to.
+     * @param databaseBuildDate Build date of the geolocation database, the file is discarded if it was made with a
+     *                          different database.
+     * @return Loaded cache, or an empty cache if the file did not exist or could not be used.
+     */
+    static GeolocationNetworkCache load(Path file, long databaseBuildDate) {
+        GeolocationNetworkCache cache = new GeolocationNetworkCache(file, databaseBuildDate);
+        if (!Files.exists(file)) return cache;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != databaseBuildDate) {
+                return cache;
+            }
+            int countryCount = in.readInt();
+            for (int i = 0; i < countryCount; i++) {
+                cache.getCountryIndex(in.readUTF());
+            }
+            int networkCount = in.readInt();
+            for (int i = 0; i < networkCount; i++) {
+                boolean ipv4 = in.readBoolean();
+                int prefixLength = in.readUnsignedByte();
+                long bits = in.readLong();
+                int countryIndex = in.readUnsignedShort();
+                if (countryIndex >= countryCount || prefixLength > (ipv4 ? 32 : 64)) continue;
+                cache.putNetwork(ipv4, prefixLength, bits, countryIndex);
+            }
+            cache.unsaved.set(0);
+        } catch (IOException | UncheckedIOException e) {
+            // Corrupted or partially written file, start over.
+            return new GeolocationNetworkCache(file, databaseBuildDate);
+        }
+        return cache;
+    }
+
+    private int getCountryIndex(String country) {
+        return countryIndexes.computeIfAbsent(country, name -> {
+            synchronized (countries) {
+                countries.add(name);
+                return countries.size() - 1;
+            }
+        });
+    }
+
+    /**
+     * Find the country of an address from cached networks.
+     *
+     * @param address Address to look up.
+     * @return Country of the most specific cached network that contains the address.
+     */
+    Optional<String> getCountry(InetAddress address) {
+        boolean ipv4 = address instanceof Inet4Address;
+        long bits = toBits(address.getAddress());
+        List<ConcurrentMap<Long, Integer>> networks = ipv4 ? ipv4Networks : ipv6Networks;
+        for (int prefixLength = networks.size() - 1; prefixLength >= 0; prefixLength--) {
+            ConcurrentMap<Long, Integer> ofPrefixLength = networks.get(prefixLength);
+            if (ofPrefixLength.isEmpty()) continue;
+            Integer countryIndex = ofPrefixLength.get(bits & mask(ipv4, prefixLength));
+            if (countryIndex != null) return Optional.of(countries.get(countryIndex));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Cache the country of a network.
+     *
+     * @param networkAddress Address of the network.
+     * @param prefixLength   Length of the network prefix in bits.
+     * @param country        Country of the network.
+     */
+    void put(InetAddress networkAddress, int prefixLength, String country) {
+        boolean ipv4 = networkAddress instanceof Inet4Address;
+        if (prefixLength < 0 || prefixLength > (ipv4 ? 32 : 64) || size.get() >= MAX_NETWORKS) return;
+        putNetwork(ipv4, prefixLength, toBits(networkAddress.getAddress()) & mask(ipv4, prefixLength), getCountryIndex(country));
+    }
+
+    private void putNetwork(boolean ipv4, int prefixLength, long bits, int countryIndex) {
+        List<ConcurrentMap<Long, Integer>> networks = ipv4 ? ipv4Networks : ipv6Networks;
+        if (networks.get(prefixLength).put(bits, countryIndex) == null) {
+            size.incrementAndGet();
+            unsaved.incrementAndGet();
+        }
+    }
+
+    private static long toBits(byte[] address) {
+        // IPv4 address uses all 4 bytes, IPv6 address the first 8 bytes.
+        int length = Math.min(address.length, Long.BYTES);
+        long bits = 0L;
+        for (int i = 0; i < length; i++) {
+            bits = (bits << 8) | (address[i] & 0xFF);
+        }
+        return bits;
+    }
+
+    private static long mask(boolean ipv4, int prefixLength) {
+        if (prefixLength == 0) return 0L;
+        int totalBits = ipv4 ? 32 : 64;
+        long allBits = ipv4 ? 0xFFFFFFFFL : -1L;
+        return (allBits << (totalBits - prefixLength)) & allBits;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Get how many networks have been cached since the last save.
+     *
+     * @return Number of unsaved networks.
+     */
+    int getUnsavedCount() {
+        return unsaved.get();
+    }
+
+    /**
+     * Write the cache to the file.
+     *
+     * @throws IOException If the file can not be written.
+     */
+    synchronized void save() throws IOException {
+        if (unsaved.get() == 0) return;
+        unsaved.set(0);
+
+        List<String> countriesToWrite = new ArrayList<>(countries);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(databaseBuildDate);
+            out.writeInt(countriesToWrite.size());
+            for (String country : countriesToWrite) {
+                out.writeUTF(country);
+            }
+
+            // Networks are counted while writing, since more can be added concurrently.
+            ByteArrayOutputStream networkBytes = new ByteArrayOutputStream();
+            DataOutputStream networkOut = new DataOutputStream(networkBytes);
+            int networkCount = writeNetworks(true, ipv4Networks, countriesToWrite.size(), networkOut)
+                    + writeNetworks(false, ipv6Networks, countriesToWrite.size(), networkOut);
+            out.writeInt(networkCount);
+            networkBytes.writeTo(out);
+        }
+        // Networks of countries that were added during the save are written on the next save.
+        if (countries.size() > countriesToWrite.size()) unsaved.incrementAndGet();
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static int writeNetworks(boolean ipv4, List<ConcurrentMap<Long, Integer>> byPrefixLength, int countryCount, DataOutputStream out) throws IOException {
+        int written = 0;
+        for (int prefixLength = 0; prefixLength < byPrefixLength.size(); prefixLength++) {
+            for (Map.Entry<Long, Integer> network : byPrefixLength.get(prefixLength).entrySet()) {
+                // Countries added after the country list was written are saved next time.
+                if (network.getValue() >= countryCount) continue;
+                out.writeBoolean(ipv4);
+                out.writeByte(prefixLength);
+                out.writeLong(network.getKey());
+                out.writeShort(network.getValue());
+                written++;
+            }
+        }
+        return written;
+    }
+}
@@ -16,8 +16,19 @@
  */
 package com.djrapitops.plan.gathering.importing.importers;
 
+import java.util.function.BiConsumer;
+
 public interface Importer {
     void processImport();
 
+    /**
+     * Process the import and report how it progresses.
+     *
+     * @param progressListener Called with the number of processed users and the total number of users.
+     */
+    default void processImport(BiConsumer<Integer, Integer> progressListener) {
+        processImport();
+    }
+
     String getName();
 }
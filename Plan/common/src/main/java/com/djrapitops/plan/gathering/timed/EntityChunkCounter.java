@@ -0,0 +1,176 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.ServerSensor;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps running totals of loaded chunks and entities per world.
+ * <p>
+ * Platforms that have chunk or entity load/unload events keep the totals up to date with the event methods,
+ * and call {@link #setTrackingChunks(boolean)} / {@link #setTrackingEntities(boolean)} when they register the events.
+ * <p>
+ * The totals are reconciled with a full recount of a single world at a time on each {@link #pulse(long)},
+ * so that the cost of counting large worlds is spread out instead of happening for every world at once.
+ * When events are not available each world is recounted once per minute (sampling),
+ * otherwise recounting is only done occasionally to correct drift.
+ *
+ * @param <W> Type of the class representing a minecraft world.
+ * @author AuroraLS3
+ */
+@Singleton
+public class EntityChunkCounter<W> {
+
+    static final long SAMPLING_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1L);
+    static final long RECONCILE_INTERVAL_MS = TimeUnit.MINUTES.toMillis(30L);
+
+    private final ServerSensor<W> serverSensor;
+    private final Map<W, Counts> countsPerWorld;
+
+    private volatile boolean trackingChunks;
+    private volatile boolean trackingEntities;
+
+    @Inject
+    public EntityChunkCounter(ServerSensor<W> serverSensor) {
+        this.serverSensor = serverSensor;
+        countsPerWorld = new ConcurrentHashMap<>();
+    }
+
+    public void setTrackingChunks(boolean trackingChunks) {
+        this.trackingChunks = trackingChunks;
+    }
+
+    public void setTrackingEntities(boolean trackingEntities) {
+        this.trackingEntities = trackingEntities;
+    }
+
+    private Counts getCounts(W world) {
+        return countsPerWorld.computeIfAbsent(world, key -> new Counts());
+    }
+
+    public void chunkLoaded(W world) {
+        getCounts(world).chunks.incrementAndGet();
+    }
+
+    public void chunkUnloaded(W world) {
+        getCounts(world).chunks.decrementAndGet();
+    }
+
+    public void entityAdded(W world) {
+        getCounts(world).entities.incrementAndGet();
+    }
+
+    public void entityRemoved(W world) {
+        getCounts(world).entities.decrementAndGet();
+    }
+
+    public void worldUnloaded(W world) {
+        countsPerWorld.remove(world);
+    }
+
+    /**
+     * Recount the world that has gone the longest without a recount, if it is due.
+     * <p>
+     * Needs to be called on a thread where the platform allows counting entities and chunks.
+     *
+     * @param time Current epoch ms
+     */
+    public void pulse(long time) {
+        Set<W> worlds = new HashSet<>();
+        for (W world : serverSensor.getWorlds()) {
+            worlds.add(world);
+        }
+        countsPerWorld.keySet().retainAll(worlds);
+
+        long chunkInterval = trackingChunks ? RECONCILE_INTERVAL_MS : SAMPLING_INTERVAL_MS;
+        long entityInterval = trackingEntities ? RECONCILE_INTERVAL_MS : SAMPLING_INTERVAL_MS;
+
+        W oldestChunks = null;
+        long oldestChunksTime = Long.MAX_VALUE;
+        W oldestEntities = null;
+        long oldestEntitiesTime = Long.MAX_VALUE;
+        for (W world : worlds) {
+            Counts counts = getCounts(world);
+            if (counts.chunksCountedAt < oldestChunksTime) {
+                oldestChunks = world;
+                oldestChunksTime = counts.chunksCountedAt;
+            }
+            if (counts.entitiesCountedAt < oldestEntitiesTime) {
+                oldestEntities = world;
+                oldestEntitiesTime = counts.entitiesCountedAt;
+            }
+        }
+
+        if (oldestChunks != null && time - oldestChunksTime >= chunkInterval) {
+            Counts counts = getCounts(oldestChunks);
+            counts.chunks.set(serverSensor.getChunkCount(oldestChunks));
+            counts.chunksCountedAt = time;
+        }
+        // Only one world is counted per pulse to spread the cost.
+        if (oldestEntities != null && time - oldestEntitiesTime >= entityInterval) {
+            Counts counts = getCounts(oldestEntities);
+            counts.entities.set(serverSensor.getEntityCount(oldestEntities));
+            counts.entitiesCountedAt = time;
+        }
+    }
+
+    /**
+     * Get the amount of loaded chunks on all worlds.
+     *
+     * @return Amount of loaded chunks, or -1 if the platform can not count chunks.
+     */
+    public int getChunkCount() {
+        int total = 0;
+        for (Counts counts : countsPerWorld.values()) {
+            int chunks = counts.chunks.get();
+            if (chunks < 0 && counts.chunksCountedAt > 0 && !trackingChunks) return -1;
+            total += Math.max(chunks, 0);
+        }
+        return total;
+    }
+
+    /**
+     * Get the amount of entities on all worlds.
+     *
+     * @return Amount of entities, or -1 if the platform can not count entities.
+     */
+    public int getEntityCount() {
+        int total = 0;
+        for (Counts counts : countsPerWorld.values()) {
+            int entities = counts.entities.get();
+            if (entities < 0 && counts.entitiesCountedAt > 0 && !trackingEntities) return -1;
+            total += Math.max(entities, 0);
+        }
+        return total;
+    }
+
+    private static class Counts {
+        private final AtomicInteger chunks = new AtomicInteger();
+        private final AtomicInteger entities = new AtomicInteger();
+        private volatile long chunksCountedAt = 0L;
+        private volatile long entitiesCountedAt = 0L;
+    }
+}
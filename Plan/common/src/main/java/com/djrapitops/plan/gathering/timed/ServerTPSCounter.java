@@ -43,6 +43,8 @@ public class ServerTPSCounter<W> extends TPSCounter {
     private final boolean noDirectTPS;
     private final ServerSensor<W> serverSensor;
     private final SystemUsageBuffer systemUsage;
+    private final TickDurationRecorder tickDurations;
+    private final EntityChunkCounter<W> entityChunkCounter;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private TPSCalculator indirectTPS;
@@ -55,6 +57,8 @@ public class ServerTPSCounter<W> extends TPSCounter {
     public ServerTPSCounter(
             ServerSensor<W> serverSensor,
             SystemUsageBuffer systemUsage,
+            TickDurationRecorder tickDurations,
+            EntityChunkCounter<W> entityChunkCounter,
             DBSystem dbSystem,
             ServerInfo serverInfo,
             PluginLogger logger,
@@ -67,6 +71,8 @@ public class ServerTPSCounter<W> extends TPSCounter {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.systemUsage = systemUsage;
+        this.tickDurations = tickDurations;
+        this.entityChunkCounter = entityChunkCounter;
         if (noDirectTPS) {
             indirectTPS = new TPSCalculator();
         } else {
@@ -84,6 +90,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
         playersOnline.add(serverSensor.getOnlinePlayerCount());
         cpu.add(systemUsage.getCpu());
         ram.add(systemUsage.getRam());
+        entityChunkCounter.pulse(time);
         result.ifPresent(tps -> save(tps, time));
     }
 
@@ -92,27 +99,30 @@ public class ServerTPSCounter<W> extends TPSCounter {
         int maxPlayers = playersOnline.getMaxAndReset();
         double averageCPU = cpu.getAverageAndReset();
         long averageRAM = (long) ram.getAverageAndReset();
-        int entityCount = 0;
-        int chunkCount = 0;
-        for (W world : serverSensor.getWorlds()) {
-            entityCount += serverSensor.getEntityCount(world);
-            chunkCount += serverSensor.getChunkCount(world);
-        }
+        int entityCount = entityChunkCounter.getEntityCount();
+        int chunkCount = entityChunkCounter.getChunkCount();
         long freeDiskSpace = systemUsage.getFreeDiskSpace();
 
+        TPSBuilder tps = TPSBuilder.get()
+                .date(timeLastMinute)
+                .tps(averageTPS)
+                .playersOnline(maxPlayers)
+                .usedCPU(averageCPU)
+                .usedMemory(averageRAM)
+                .entities(entityCount)
+                .chunksLoaded(chunkCount)
+                .freeDiskSpace(freeDiskSpace);
+        tickDurations.getAndReset().ifPresent(percentiles -> tps.tickDurations(
+                percentiles.getP50(),
+                percentiles.getP95(),
+                percentiles.getP99(),
+                percentiles.getMax()
+        ));
+
         dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
                 logger,
                 serverInfo.getServerUUID(),
-                TPSBuilder.get()
-                        .date(timeLastMinute)
-                        .tps(averageTPS)
-                        .playersOnline(maxPlayers)
-                        .usedCPU(averageCPU)
-                        .usedMemory(averageRAM)
-                        .entities(entityCount)
-                        .chunksLoaded(chunkCount)
-                        .freeDiskSpace(freeDiskSpace)
-                        .toTPS()
+                tps.toTPS()
         ));
     }
 
@@ -0,0 +1,167 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Records durations of individual server ticks into a fixed-bucket histogram.
+ * <p>
+ * Platforms that expose tick start/end hooks call {@link #recordTick(double)} once per tick,
+ * {@link ServerTPSCounter} then reads the percentiles once per minute with {@link #getAndReset()}.
+ * <p>
+ * Bucket layout (upper bounds):
+ * - 0-100ms with 1ms precision
+ * - 100-1000ms with 10ms precision
+ * - 1-10s with 100ms precision
+ * - one overflow bucket for anything longer.
+ * The maximum is tracked exactly.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class TickDurationRecorder {
+
+    private static final int FINE_BUCKETS = 100;    // 1ms each, up to 100ms
+    private static final int MEDIUM_BUCKETS = 90;   // 10ms each, up to 1000ms
+    private static final int COARSE_BUCKETS = 90;   // 100ms each, up to 10000ms
+    private static final int BUCKET_COUNT = FINE_BUCKETS + MEDIUM_BUCKETS + COARSE_BUCKETS + 1;
+
+    private final int[] buckets;
+    private int count;
+    private double max;
+
+    @Inject
+    public TickDurationRecorder() {
+        buckets = new int[BUCKET_COUNT];
+        count = 0;
+        max = -1;
+    }
+
+    static int bucketOf(double durationMs) {
+        if (durationMs < 0) return 0;
+        if (durationMs < 100) return (int) durationMs;
+        if (durationMs < 1000) return FINE_BUCKETS + (int) ((durationMs - 100) / 10);
+        if (durationMs < 10000) return FINE_BUCKETS + MEDIUM_BUCKETS + (int) ((durationMs - 1000) / 100);
+        return BUCKET_COUNT - 1;
+    }
+
+    static double upperBoundOf(int bucket) {
+        if (bucket < FINE_BUCKETS) return bucket + 1.0;
+        if (bucket < FINE_BUCKETS + MEDIUM_BUCKETS) return 100.0 + (bucket - FINE_BUCKETS + 1) * 10.0;
+        if (bucket < BUCKET_COUNT - 1) return 1000.0 + (bucket - FINE_BUCKETS - MEDIUM_BUCKETS + 1) * 100.0;
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Record the duration of a single tick.
+     * <p>
+     * Called on the server thread, does not allocate.
+     *
+     * @param durationMs How long the tick took in milliseconds.
+     */
+    public void recordTick(double durationMs) {
+        synchronized (buckets) {
+            buckets[bucketOf(durationMs)]++;
+            count++;
+            if (durationMs > max) max = durationMs;
+        }
+    }
+
+    /**
+     * Calculate percentiles of the ticks recorded since last call and reset the histogram.
+     *
+     * @return Percentiles or empty if no ticks were recorded.
+     */
+    public Optional<Percentiles> getAndReset() {
+        synchronized (buckets) {
+            if (count == 0) return Optional.empty();
+
+            Percentiles percentiles = new Percentiles(
+                    percentile(0.50),
+                    percentile(0.95),
+                    percentile(0.99),
+                    max
+            );
+
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = 0;
+            }
+            count = 0;
+            max = -1;
+            return Optional.of(percentiles);
+        }
+    }
+
+    private double percentile(double percentile) {
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                // Don't report a bound above the longest seen tick
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Tick duration percentiles of a period, in milliseconds.
+     */
+    public static class Percentiles {
+        private final double p50;
+        private final double p95;
+        private final double p99;
+        private final double max;
+
+        public Percentiles(double p50, double p95, double p99, double max) {
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP95() {
+            return p95;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "Percentiles{" +
+                    "p50=" + p50 +
+                    ", p95=" + p95 +
+                    ", p99=" + p99 +
+                    ", max=" + max +
+                    '}';
+        }
+    }
+}
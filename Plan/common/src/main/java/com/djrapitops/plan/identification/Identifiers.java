@@ -130,9 +130,15 @@ public class Identifiers {
         return parsed.orElseGet(() -> getPlayerUUIDFromName(playerIdentifier));
     }
 
+    /**
+     * Obtain UUID of a player known to Plan.
+     *
+     * @param name Name of the player.
+     * @return UUID of the player, or null if the player is not cached or in the database.
+     */
     @Nullable
     public UUID getPlayerUUID(String name) {
-        return uuidUtility.getUUIDOf(name);
+        return uuidUtility.getKnownUUIDOf(name);
     }
 
     public Optional<Integer> getPlayerUserId(UUID playerUUID) {
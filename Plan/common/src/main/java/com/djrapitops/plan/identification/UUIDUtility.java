@@ -17,17 +17,22 @@
 package com.djrapitops.plan.identification;
 
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.playeranalytics.plugin.player.UUIDFetcher;
 import org.jetbrains.annotations.Nullable;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.*;
 
 /**
  * Utility for fetching a user's UUID.
@@ -36,19 +41,61 @@ import java.util.UUID;
  * - Parse UUID out of the given String
  * - Find an UUID from the database matching the player name
  * - Find an UUID from Mojang API that matches the player name
+ * <p>
+ * Found names and UUIDs are cached in both directions, and names or UUIDs that could not be found are remembered for
+ * a while so that repeated lookups do not query the database or Mojang API again.
  *
  * @author AuroraLS3
  */
 @Singleton
 public class UUIDUtility {
 
+    private static final int MAX_CACHED = 10_000;
+    private static final long REMOTE_LOOKUP_TIMEOUT_SECONDS = 30;
+
     private final DBSystem dbSystem;
     private final ErrorLogger errorLogger;
+    private final Executor remoteLookupExecutor;
+    private final RemoteUUIDLookup remoteUUIDLookup;
+
+    // Names are stored in lower case, since player names are case-insensitive.
+    private final Cache<String, UUID> uuidsByName;
+    private final Cache<UUID, String> namesByUUID;
+    private final Cache<String, Boolean> missingNames;
+    private final Cache<UUID, Boolean> missingUUIDs;
+    private final ConcurrentMap<String, CompletableFuture<Optional<UUID>>> remoteLookups;
 
     @Inject
-    public UUIDUtility(DBSystem dbSystem, ErrorLogger errorLogger) {
+    public UUIDUtility(DBSystem dbSystem, Processing processing, ErrorLogger errorLogger) {
+        this(dbSystem, errorLogger,
+                runnable -> processing.getNonCriticalExecutor().execute(runnable),
+                // Lambda so that a missing UUIDFetcher class is only noticed when it is called.
+                playerName -> UUIDFetcher.getUUIDOf(playerName));
+    }
+
+    UUIDUtility(DBSystem dbSystem, ErrorLogger errorLogger, Executor remoteLookupExecutor, RemoteUUIDLookup remoteUUIDLookup) {
         this.dbSystem = dbSystem;
         this.errorLogger = errorLogger;
+        this.remoteLookupExecutor = remoteLookupExecutor;
+        this.remoteUUIDLookup = remoteUUIDLookup;
+
+        uuidsByName = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build();
+        namesByUUID = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build();
+        missingNames = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED)
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .build();
+        missingUUIDs = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED)
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .build();
+        remoteLookups = new ConcurrentHashMap<>();
     }
 
     public static Optional<UUID> parseFromString(@Untrusted String uuidString) {
@@ -59,6 +106,52 @@ public class UUIDUtility {
         }
     }
 
+    private static String cacheKey(@Untrusted String playerName) {
+        return playerName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Remember the name of a player, for example when the player joins.
+     *
+     * @param playerUUID UUID of the player.
+     * @param playerName Current name of the player.
+     */
+    public void cachePlayer(UUID playerUUID, String playerName) {
+        if (playerUUID == null || playerName == null) return;
+        String key = cacheKey(playerName);
+        String previousName = namesByUUID.getIfPresent(playerUUID);
+        if (previousName != null && !previousName.equalsIgnoreCase(playerName)) {
+            uuidsByName.invalidate(cacheKey(previousName));
+        }
+        uuidsByName.put(key, playerUUID);
+        namesByUUID.put(playerUUID, playerName);
+        missingNames.invalidate(key);
+        missingUUIDs.invalidate(playerUUID);
+    }
+
+    /**
+     * Forget cached name of a player, when the player is removed from the database.
+     *
+     * @param playerUUID UUID of the removed player.
+     */
+    public void playerRemoved(UUID playerUUID) {
+        if (playerUUID == null) return;
+        // Names are checked from the cache directly, since the name may be cached without the UUID.
+        uuidsByName.asMap().values().removeIf(playerUUID::equals);
+        namesByUUID.invalidate(playerUUID);
+        missingUUIDs.invalidate(playerUUID);
+    }
+
+    /**
+     * Forget all cached names and UUIDs, when all data is removed from the database.
+     */
+    public void clearCache() {
+        uuidsByName.invalidateAll();
+        namesByUUID.invalidateAll();
+        missingNames.invalidateAll();
+        missingUUIDs.invalidateAll();
+    }
+
     public Optional<String> getNameOf(@Untrusted String possiblePlayerUUID) {
         try {
             return getNameOf(UUID.fromString(possiblePlayerUUID));
@@ -69,7 +162,17 @@ public class UUIDUtility {
 
     public Optional<String> getNameOf(UUID playerUUID) {
         if (playerUUID == null) throw new IllegalArgumentException("Player uuid can not be null!");
-        return dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID));
+        String cached = namesByUUID.getIfPresent(playerUUID);
+        if (cached != null) return Optional.of(cached);
+        if (missingUUIDs.getIfPresent(playerUUID) != null) return Optional.empty();
+
+        Optional<String> found = dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID));
+        if (found.isPresent()) {
+            cachePlayer(playerUUID, found.get());
+        } else {
+            missingUUIDs.put(playerUUID, true);
+        }
+        return found;
     }
 
     /**
@@ -80,12 +183,65 @@ public class UUIDUtility {
      */
     @Nullable
     public UUID getUUIDOf(@Untrusted String playerName) {
+        try {
+            // Mojang API is called on this thread, unless another thread is already looking up the same name.
+            return getUUIDOf(playerName, Runnable::run).get(REMOTE_LOOKUP_TIMEOUT_SECONDS, TimeUnit.SECONDS).orElse(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get UUID of a player that is known to Plan, without waiting for Mojang API.
+     * <p>
+     * If the name is not cached or in the database, Mojang API is called in the background so that the UUID is
+     * cached for later calls.
+     *
+     * @param playerName Player's name
+     * @return UUID of the player, or null if the UUID is not known yet.
+     */
+    @Nullable
+    public UUID getKnownUUIDOf(@Untrusted String playerName) {
+        return getUUIDOfAsync(playerName).getNow(Optional.empty()).orElse(null);
+    }
+
+    /**
+     * Get UUID of a player without waiting for Mojang API.
+     * <p>
+     * The database is queried on the calling thread, Mojang API is only called if the name is not found from the
+     * database or from the cache, and the call is shared by concurrent lookups of the same name.
+     *
+     * @param playerName Player's name
+     * @return Future that completes with the UUID of the player, or empty if the player could not be found.
+     */
+    public CompletableFuture<Optional<UUID>> getUUIDOfAsync(@Untrusted String playerName) {
+        return getUUIDOf(playerName, remoteLookupExecutor);
+    }
+
+    private CompletableFuture<Optional<UUID>> getUUIDOf(@Untrusted String playerName, Executor remoteLookupExecutor) {
         if (playerName == null) throw new IllegalArgumentException("Player name can not be null!");
         UUID uuid = getUUIDFromString(playerName);
-        if (uuid != null) return uuid;
+        if (uuid != null) return CompletableFuture.completedFuture(Optional.of(uuid));
+
+        String key = cacheKey(playerName);
+        UUID cached = uuidsByName.getIfPresent(key);
+        if (cached != null) return CompletableFuture.completedFuture(Optional.of(cached));
+        if (missingNames.getIfPresent(key) != null) return CompletableFuture.completedFuture(Optional.empty());
 
-        return getUUIDFromDB(playerName)
-                .orElse(getUUIDViaUUIDFetcher(playerName));
+        Optional<UUID> fromDB = getUUIDFromDB(playerName);
+        if (fromDB.isPresent()) {
+            uuidsByName.put(key, fromDB.get());
+            return CompletableFuture.completedFuture(fromDB);
+        }
+
+        CompletableFuture<Optional<UUID>> lookup = new CompletableFuture<>();
+        CompletableFuture<Optional<UUID>> ongoingLookup = remoteLookups.putIfAbsent(key, lookup);
+        if (ongoingLookup != null) return ongoingLookup;
+        getUUIDViaUUIDFetcher(playerName, lookup, remoteLookupExecutor);
+        return lookup;
     }
 
     private UUID getUUIDFromString(@Untrusted String playerName) {
@@ -96,11 +252,29 @@ public class UUIDUtility {
         }
     }
 
-    private UUID getUUIDViaUUIDFetcher(@Untrusted String playerName) {
+    private void getUUIDViaUUIDFetcher(@Untrusted String playerName, CompletableFuture<Optional<UUID>> lookup, Executor remoteLookupExecutor) {
+        String key = cacheKey(playerName);
+        // Cache is updated and the lookup removed before completing, so that callers see the result in the cache.
+        Runnable fetch = () -> {
+            UUID found = null;
+            try {
+                found = remoteUUIDLookup.getUUIDOf(playerName);
+            } catch (@Untrusted Exception | NoClassDefFoundError ignored) {
+                // Treated as not found, Mojang API is not called again until the miss expires.
+            }
+            if (found != null) {
+                uuidsByName.put(key, found);
+            } else {
+                missingNames.put(key, true);
+            }
+            remoteLookups.remove(key, lookup);
+            lookup.complete(Optional.ofNullable(found));
+        };
         try {
-            return UUIDFetcher.getUUIDOf(playerName);
-        } catch (@Untrusted Exception | NoClassDefFoundError ignored) {
-            return null;
+            remoteLookupExecutor.execute(fetch);
+        } catch (RejectedExecutionException shuttingDown) {
+            remoteLookups.remove(key, lookup);
+            lookup.complete(Optional.empty());
         }
     }
 
@@ -112,4 +286,13 @@ public class UUIDUtility {
             return Optional.empty();
         }
     }
+
+    /**
+     * Finds UUID of a player name from outside of Plan, Mojang API by default.
+     */
+    @FunctionalInterface
+    interface RemoteUUIDLookup {
+        @Nullable
+        UUID getUUIDOf(@Untrusted String playerName) throws Exception;
+    }
 }
@@ -31,6 +31,7 @@ import com.djrapitops.plan.settings.locale.LocaleSystem;
 import com.djrapitops.plan.storage.file.JarResource;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plan.utilities.logging.PluginErrorLogger;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import com.google.gson.Gson;
 import dagger.Module;
 import dagger.Provides;
@@ -118,9 +119,10 @@ public class SystemObjectProvidingModule {
     @Singleton
     JSONStorage provideJSONStorage(
             PlanConfig config,
-            JSONFileStorage jsonFileStorage
+            JSONFileStorage jsonFileStorage,
+            PlanMetrics metrics
     ) {
-        return new JSONMemoryStorageShim(config, jsonFileStorage);
+        return new JSONMemoryStorageShim(config, jsonFileStorage, metrics);
     }
 
 }
\ No newline at end of file
@@ -33,6 +33,9 @@ import java.util.concurrent.*;
 @Singleton
 public class Processing implements SubSystem {
 
+    // Extension provider calls that do not return keep their thread, so the amount of threads is limited.
+    private static final int MAX_EXTENSION_CALL_THREADS = 16;
+
     private final Lazy<Locale> locale;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
@@ -40,6 +43,8 @@ public class Processing implements SubSystem {
     private ExecutorService nonCriticalExecutor;
     private ExecutorService nonCriticalSingleThreadExecutor;
     private ExecutorService criticalExecutor;
+    private ExecutorService extensionExecutor;
+    private ExecutorService extensionCallExecutor;
 
     @Inject
     public Processing(
@@ -53,6 +58,8 @@ public class Processing implements SubSystem {
         nonCriticalExecutor = createExecutor(6, "Plan Non critical-pool-%d");
         nonCriticalSingleThreadExecutor = createExecutor(1, "Plan Non critical-pool-single-threaded-%d");
         criticalExecutor = createExecutor(2, "Plan Critical-pool-%d");
+        extensionExecutor = createExecutor(4, "Plan Extension-pool-%d");
+        extensionCallExecutor = createBoundedExecutor(MAX_EXTENSION_CALL_THREADS, "Plan Extension-call-%d");
     }
 
     protected ExecutorService createExecutor(int i, String s) {
@@ -64,6 +71,17 @@ public class Processing implements SubSystem {
                         ).build());
     }
 
+    protected ExecutorService createBoundedExecutor(int maxThreads, String s) {
+        // Threads are only created when needed, and tasks are rejected when all threads are in use.
+        return new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new BasicThreadFactory.Builder()
+                        .namingPattern(s)
+                        .daemon(true)
+                        .uncaughtExceptionHandler((thread, throwable) ->
+                                errorLogger.warn(throwable, ErrorContext.builder().build())
+                        ).build());
+    }
+
     public void submit(Runnable runnable) {
         if (runnable instanceof CriticalRunnable) {
             submitCritical(runnable);
@@ -87,6 +105,42 @@ public class Processing implements SubSystem {
         }, executorService).handle(this::exceptionHandlerNonCritical);
     }
 
+    /**
+     * Submit a DataExtension data update.
+     * <p>
+     * Extensions are run in their own pool so that slow extensions do not hold up other processing.
+     *
+     * @param runnable Update to run.
+     * @return Future that completes when the update has finished, or null if the pool has shut down.
+     */
+    public CompletableFuture<Boolean> submitExtensionUpdate(Runnable runnable) {
+        if (runnable == null || extensionExecutor.isShutdown()) {
+            return null;
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            runnable.run();
+            return true;
+        }, extensionExecutor).handle(this::exceptionHandlerNonCritical);
+    }
+
+    /**
+     * Submit a call to a DataExtension provider method.
+     * <p>
+     * Each call runs on its own thread so that the caller can stop waiting for a call that does not return,
+     * and cancel it, without losing a thread of the extension pool.
+     *
+     * @param call Provider call.
+     * @param <T>  Type of the returned value.
+     * @return Future that can be cancelled, or null if the pool has shut down.
+     * @throws RejectedExecutionException If all call threads are in use.
+     */
+    public <T> Future<T> submitExtensionCall(Callable<T> call) {
+        if (call == null || extensionCallExecutor.isShutdown()) {
+            return null;
+        }
+        return extensionCallExecutor.submit(call);
+    }
+
     public CompletableFuture<Boolean> submitCritical(Runnable runnable) {
         if (runnable == null) return null;
         return CompletableFuture.supplyAsync(() -> {
@@ -151,6 +205,12 @@ public class Processing implements SubSystem {
         if (criticalExecutor.isShutdown()) {
             criticalExecutor = createExecutor(2, "Plan Critical-pool-%d");
         }
+        if (extensionExecutor.isShutdown()) {
+            extensionExecutor = createExecutor(4, "Plan Extension-pool-%d");
+        }
+        if (extensionCallExecutor.isShutdown()) {
+            extensionCallExecutor = createBoundedExecutor(MAX_EXTENSION_CALL_THREADS, "Plan Extension-call-%d");
+        }
     }
 
     @Override
@@ -164,6 +224,8 @@ public class Processing implements SubSystem {
     private void shutdownNonCriticalExecutors() {
         nonCriticalExecutor.shutdownNow();
         nonCriticalSingleThreadExecutor.shutdownNow();
+        extensionExecutor.shutdownNow();
+        extensionCallExecutor.shutdownNow();
     }
 
     private void shutdownCriticalExecutor() {
@@ -198,6 +260,12 @@ public class Processing implements SubSystem {
             if (!nonCriticalSingleThreadExecutor.isTerminated()) {
                 nonCriticalSingleThreadExecutor.shutdownNow();
             }
+            if (!extensionExecutor.isTerminated()) {
+                extensionExecutor.shutdownNow();
+            }
+            if (!extensionCallExecutor.isTerminated()) {
+                extensionCallExecutor.shutdownNow();
+            }
             if (!criticalExecutor.isTerminated() && !criticalExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
                 criticalExecutor.shutdownNow();
             }
@@ -205,6 +273,8 @@ public class Processing implements SubSystem {
             logger.error("Processing shutdown thread interrupted: " + e.getMessage());
             nonCriticalExecutor.shutdownNow();
             nonCriticalSingleThreadExecutor.shutdownNow();
+            extensionExecutor.shutdownNow();
+            extensionCallExecutor.shutdownNow();
             criticalExecutor.shutdownNow();
             Thread.currentThread().interrupt();
         }
@@ -213,4 +283,8 @@ public class Processing implements SubSystem {
     public Executor getCriticalExecutor() {
         return criticalExecutor;
     }
+
+    public Executor getNonCriticalExecutor() {
+        return nonCriticalExecutor;
+    }
 }
@@ -37,6 +37,7 @@ public enum Permissions {
     SET_GROUP("plan.setgroup.other"),
     LOGOUT_OTHER("plan.logout.other"),
     INFO("plan.info"),
+    METRICS("plan.metrics"),
     RELOAD("plan.reload"),
     DISABLE("plan.disable"),
     USERS("plan.users"),
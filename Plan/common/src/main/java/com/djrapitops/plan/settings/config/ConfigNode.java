@@ -137,6 +137,7 @@ public class ConfigNode {
         parent.childNodes.remove(key);
         nodeModificationLock.exit();
 
+        parent.valuesChanged();
         updateParent(null);
 
         // Remove children recursively to avoid memory leaks
@@ -163,6 +164,7 @@ public class ConfigNode {
         nodeModificationLock.exit();
 
         child.updateParent(this);
+        valuesChanged();
         return child;
     }
 
@@ -248,6 +250,18 @@ public class ConfigNode {
             ConfigValueParser<T> parser = ConfigValueParser.getParserFor(value.getClass());
             this.value = parser.decompose(value);
         }
+        valuesChanged();
+    }
+
+    /**
+     * Called after a value or a node in the tree has changed.
+     * <p>
+     * The change is passed up to the root node, so that the root can drop anything computed from old values.
+     */
+    protected void valuesChanged() {
+        if (parent != null) {
+            parent.valuesChanged();
+        }
     }
 
     public List<String> getComment() {
@@ -365,6 +379,7 @@ public class ConfigNode {
         boolean otherNodeHasValue = from.value != null && !from.value.isEmpty();
         if (currentValueIsMissing && otherNodeHasValue) {
             value = from.value;
+            valuesChanged();
         }
 
         // Copy all nodes from 'from'
@@ -381,6 +396,7 @@ public class ConfigNode {
         // Override comment and value unconditionally.
         comment = from.comment;
         value = from.value;
+        valuesChanged();
 
         // Copy all nodes from 'from'
         for (String childKey : from.nodeOrder) {
@@ -395,6 +411,7 @@ public class ConfigNode {
     public void copyValue(ConfigNode from) {
         comment = from.comment;
         value = from.value;
+        valuesChanged();
     }
 
     protected int getNodeDepth() {
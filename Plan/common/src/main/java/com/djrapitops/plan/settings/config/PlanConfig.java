@@ -51,6 +51,9 @@ public class PlanConfig extends Config {
     private final WorldAliasSettings worldAliasSettings;
     private final PluginLogger logger;
 
+    // Replaced with an empty snapshot whenever the config changes.
+    private volatile SettingsSnapshot settings = new SettingsSnapshot();
+
     @Inject
     public PlanConfig(
             PlanFiles files,
@@ -76,7 +79,21 @@ public class PlanConfig extends Config {
         this.logger = logger;
     }
 
+    /**
+     * Get the value of a setting.
+     * <p>
+     * The value is parsed and validated on the first read after the config changes, later reads are a map lookup.
+     *
+     * @param setting Setting to get.
+     * @param <T>     Type of the value.
+     * @return Value of the setting, or the default value of the setting if the value in config is not valid.
+     * @throws IllegalStateException If the value is not valid and the setting has no default value.
+     */
     public <T> T get(Setting<T> setting) {
+        return settings.get(setting, this::resolve);
+    }
+
+    private <T> T resolve(Setting<T> setting) {
         T value = setting.getValueFrom(this);
         if (setting.isInvalid(value)) {
             T defaultValue = setting.getDefaultValue();
@@ -113,6 +130,11 @@ public class PlanConfig extends Config {
         set(setting.getPath(), value);
     }
 
+    @Override
+    protected void valuesChanged() {
+        settings = new SettingsSnapshot();
+    }
+
     public TimeZone getTimeZone() {
         String timeZone = get(FormatSettings.TIMEZONE);
         Optional<TimeZone> foundTZ = TimeZoneUtility.parseTimeZone(timeZone);
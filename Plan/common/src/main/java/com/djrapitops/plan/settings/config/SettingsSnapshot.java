@@ -0,0 +1,62 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.settings.config;
+
+import com.djrapitops.plan.settings.config.paths.key.Setting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolved values of {@link Setting}s for one state of {@link PlanConfig}.
+ * <p>
+ * Each value is parsed and validated when it is first read, and later reads only look it up by the setting.
+ * A snapshot never changes a value once it has been resolved - the config replaces the whole snapshot when it changes.
+ *
+ * @author AuroraLS3
+ */
+final class SettingsSnapshot {
+
+    // ConcurrentHashMap does not allow null values.
+    private static final Object NULL = new Object();
+
+    private final Map<Setting<?>, Object> values = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> T get(Setting<T> setting, Function<Setting<T>, T> resolver) {
+        Object value = values.get(setting);
+        if (value == null) {
+            T resolved = resolver.apply(setting);
+            value = resolved != null ? immutable(resolved) : NULL;
+            Object previous = values.putIfAbsent(setting, value);
+            if (previous != null) value = previous;
+        }
+        return value == NULL ? null : (T) value;
+    }
+
+    private static Object immutable(Object value) {
+        // Values are shared between readers, so lists are copied to prevent modification.
+        if (value instanceof List) {
+            return Collections.unmodifiableList(new ArrayList<>((List<?>) value));
+        }
+        return value;
+    }
+}
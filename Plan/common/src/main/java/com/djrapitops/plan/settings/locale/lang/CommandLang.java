@@ -76,6 +76,7 @@ public enum CommandLang implements Lang {
     HEADER_SEARCH("command.header.search", "Cmd Header - Search", "> §2${0} Results for §f${1}§2:"),
     HEADER_ANALYSIS("command.header.analysis", "Cmd Header - Analysis", "> §2Analysis Results"),
     HEADER_INFO("command.header.info", "Cmd Header - Info", "> §2Player Analytics"),
+    HEADER_METRICS("command.header.metrics", "Cmd Header - Metrics", "> §2Plan Metrics"),
     HEADER_INSPECT("command.header.inspect", "Cmd Header - Inspect", "> §2Player: §f${0}"),
     HEADER_SERVERS("command.header.servers", "Cmd Header - Servers", "> §2Servers"),
     HEADER_PLAYERS("command.header.players", "Cmd Header - Players", "> §2Players"),
@@ -33,6 +33,7 @@ public enum DeepHelpLang implements Lang {
     UNREGISTER("command.help.unregister.inDepth", "In Depth Help - /plan unregister", "Use without arguments to unregister player linked user, or with username argument to unregister another user."),
     LOGOUT("command.help.logout.inDepth", "In Depth Help - /plan logout", "Give username argument to log out another user from the panel, give * as argument to log out everyone."),
     INFO("command.help.info.inDepth", "In Depth Help - /plan info", "Display the current status of the plugin."),
+    METRICS("command.help.metrics.inDepth", "In Depth Help - /plan metrics", "Display database, cache and webserver counters and timings measured by the plugin, to find what is slow under load."),
     RELOAD("command.help.reload.inDepth", "In Depth Help - /plan reload", "Disable and enable the plugin to reload any changes in config."),
     DISABLE("command.help.disable.inDepth", "In Depth Help - /plan disable", "Disable the plugin or part of it until next reload/restart."),
     USERS("command.help.users.inDepth", "In Depth Help - /plan users", "Lists web users as a table."),
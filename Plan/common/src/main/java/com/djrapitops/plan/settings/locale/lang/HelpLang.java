@@ -58,6 +58,7 @@ public enum HelpLang implements Lang {
     REGISTER("command.help.register.description", "Command Help - /plan register", "Register a user for Plan website"),
     UNREGISTER("command.help.unregister.description", "Command Help - /plan unregister", "Unregister a user of Plan website"),
     INFO("command.help.info.description", "Command Help - /plan info", "Information about the plugin"),
+    METRICS("command.help.metrics.description", "Command Help - /plan metrics", "View performance metrics of the plugin"),
     RELOAD("command.help.reload.description", "Command Help - /plan reload", "Restart Plan"),
     DISABLE("command.help.disable.description", "Command Help - /plan disable", "Disable the plugin or part of it"),
     USERS("command.help.users.description", "Command Help - /plan users", "List all web users"),
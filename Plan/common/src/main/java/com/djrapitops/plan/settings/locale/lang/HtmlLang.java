@@ -182,6 +182,8 @@ public enum HtmlLang implements Lang {
     TITLE_RECENT_KILLS("html.label.recentKills", "Recent Kills"),
     TITLE_ALL("html.label.all", "All"),
     TITLE_TPS("html.label.tps", "TPS"),
+    LABEL_TICK_DURATION_P95("html.label.tickDurationP95", "Tick Duration (95th percentile)"),
+    LABEL_TICK_DURATION_MAX("html.label.tickDurationMax", "Longest Tick"),
     TITLE_CPU_RAM("html.label.cpuRam", "CPU & RAM"),
     TITLE_WORLD("html.label.world", "World Load"),
     TITLE_PING("html.label.ping", "Ping"),
@@ -23,6 +23,7 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import net.playeranalytics.plugin.server.PluginLogger;
 import org.jetbrains.annotations.NotNull;
 
@@ -55,13 +56,18 @@ public class DBSystem implements SubSystem {
             PlanConfig config,
             Locale locale,
             SQLiteDB.Factory sqLiteDB,
-            PluginLogger logger
+            PluginLogger logger,
+            PlanMetrics metrics
     ) {
         this.config = config;
         this.locale = locale;
         this.sqLiteFactory = sqLiteDB;
         this.logger = logger;
         databases = new HashSet<>();
+
+        // Gauges read the active database, which can change with hotswap
+        metrics.gauge("database.transactionQueue.size", () -> db instanceof SQLDB ? ((SQLDB) db).getTransactionQueueSize() : 0);
+        metrics.gauge("database.transactionQueue.oldestWaitMs", () -> db instanceof SQLDB ? ((SQLDB) db).getOldestQueuedTransactionAge() : 0);
     }
 
     public Database getActiveDatabaseByName(String dbName) {
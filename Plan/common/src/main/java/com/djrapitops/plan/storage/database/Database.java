@@ -20,6 +20,7 @@ import com.djrapitops.plan.exceptions.database.DBInitException;
 import com.djrapitops.plan.storage.database.queries.*;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -57,6 +58,23 @@ public interface Database {
      */
     <T> T query(Query<T> query);
 
+    /**
+     * Start an SQL Query that can run at the same time as other queries started this way.
+     * <p>
+     * Used to run independent queries of a response concurrently, so that waiting for them takes about as long as the
+     * slowest query. Databases that can not run queries concurrently run the query immediately.
+     * <p>
+     * This method should only be called from an asynchronous thread.
+     *
+     * @param query QueryStatement to execute.
+     * @param <T>   Type of the object to be returned.
+     * @return Supplier that waits for the query to finish and returns the result, or throws the exception of the query.
+     */
+    default <T> Supplier<T> queryInParallel(Query<T> query) {
+        T result = query(query);
+        return () -> result;
+    }
+
     default <T> Optional<T> queryOptional(String sql, RowExtractor<T> rowExtractor, Object... parameters) {
         return query(new QueryStatement<>(sql) {
             @Override
@@ -127,6 +145,18 @@ public interface Database {
      */
     CompletableFuture<?> executeTransaction(Transaction transaction);
 
+    /**
+     * Check if work of given priority should be postponed or combined, because the database is falling behind.
+     * <p>
+     * Producers of periodic data can use this to slow down, instead of the work being thrown away later.
+     *
+     * @param priority Priority of the transactions the caller is about to submit.
+     * @return true if the caller should defer the work.
+     */
+    default boolean shouldDefer(TransactionPriority priority) {
+        return false;
+    }
+
     /**
      * Used to get the {@code DBType} of the Database
      *
@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.queries.KeyedQuery;
+import com.djrapitops.plan.storage.database.queries.Query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs queries for building one response, so that equal queries are only run once.
+ * <p>
+ * Results of {@link KeyedQuery}s are kept until the context is discarded, other queries are always run. A new context
+ * should be created for each response, so that results are never older than the response.
+ *
+ * @author AuroraLS3
+ */
+public class MemoizingQueryContext {
+
+    private final Database db;
+    private final Map<KeyedQuery<?>, Supplier<?>> results = new ConcurrentHashMap<>();
+
+    public MemoizingQueryContext(Database db) {
+        this.db = db;
+    }
+
+    /**
+     * Run a query, or get the result of an equal query that was run in this context.
+     *
+     * @param query Query to run.
+     * @param <T>   Type of the result.
+     * @return Result of the query.
+     * @see Database#query(Query)
+     */
+    public <T> T query(Query<T> query) {
+        return queryInParallel(query).get();
+    }
+
+    /**
+     * Start a query, or get the result of an equal query that was started in this context.
+     *
+     * @param query Query to start.
+     * @param <T>   Type of the result.
+     * @return Supplier that waits for the query to finish and returns the result.
+     * @see Database#queryInParallel(Query)
+     */
+    @SuppressWarnings("unchecked") // Equal keyed queries have results of the same type.
+    public <T> Supplier<T> queryInParallel(Query<T> query) {
+        if (!(query instanceof KeyedQuery)) return db.queryInParallel(query);
+        return (Supplier<T>) results.computeIfAbsent((KeyedQuery<?>) query, key -> db.queryInParallel(query));
+    }
+
+    public Database getDatabase() {
+        return db;
+    }
+}
\ No newline at end of file
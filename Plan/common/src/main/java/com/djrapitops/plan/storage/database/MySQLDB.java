@@ -29,6 +29,7 @@ import com.djrapitops.plan.storage.database.transactions.init.OperationCriticalT
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.pool.HikariPool;
@@ -55,6 +56,8 @@ public class MySQLDB extends SQLDB {
 
     private static boolean useMariaDbDriver = false;
 
+    private static final int MAX_PARALLEL_QUERIES = 8;
+
     protected HikariDataSource dataSource;
 
     @Inject
@@ -65,9 +68,10 @@ public class MySQLDB extends SQLDB {
             Lazy<ServerInfo> serverInfo,
             RunnableFactory runnableFactory,
             PluginLogger pluginLogger,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            PlanMetrics metrics
     ) {
-        super(() -> serverInfo.get().getServerUUID(), locale, config, files, runnableFactory, pluginLogger, errorLogger);
+        super(() -> serverInfo.get().getServerUUID(), locale, config, files, runnableFactory, pluginLogger, errorLogger, metrics);
     }
 
     private static synchronized void increment() {
@@ -180,6 +184,12 @@ public class MySQLDB extends SQLDB {
         });
     }
 
+    @Override
+    protected int getMaxParallelQueries() {
+        // One connection is left for the transaction thread.
+        return Math.min(MAX_PARALLEL_QUERIES, config.getOrDefault(DatabaseSettings.MAX_CONNECTIONS, 1) - 1);
+    }
+
     private void setMaxConnections(HikariConfig hikariConfig) {
         try {
             hikariConfig.setMaximumPoolSize(config.get(DatabaseSettings.MAX_CONNECTIONS));
@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database;
 
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
@@ -37,9 +38,10 @@ public class ProxyDBSystem extends DBSystem {
             Locale locale,
             MySQLDB mySQLDB,
             SQLiteDB.Factory sqLiteDB,
-            PluginLogger logger
+            PluginLogger logger,
+            PlanMetrics metrics
     ) {
-        super(config, locale, sqLiteDB, logger);
+        super(config, locale, sqLiteDB, logger, metrics);
         databases.add(mySQLDB);
         db = mySQLDB;
     }
@@ -22,13 +22,18 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
+import com.djrapitops.plan.storage.database.queries.KeyedQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.transactions.ReplayWriteSpoolTransaction;
+import com.djrapitops.plan.storage.database.transactions.SpoolableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.OperationCriticalTransaction;
@@ -38,6 +43,9 @@ import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.java.ThrowableUtils;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.Counter;
+import com.djrapitops.plan.utilities.metrics.LatencyHistogram;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import dev.vankka.dependencydownload.DependencyManager;
 import dev.vankka.dependencydownload.classloader.IsolatedClassLoader;
 import dev.vankka.dependencydownload.repository.Repository;
@@ -46,8 +54,11 @@ import net.playeranalytics.plugin.scheduling.PluginRunnable;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.PluginLogger;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
@@ -86,9 +97,25 @@ public abstract class SQLDB extends AbstractDatabase {
     private ExecutorService transactionExecutor;
 
     private final AtomicInteger transactionQueueSize = new AtomicInteger(0);
+    private final Map<TransactionPriority, Queue<QueuedTransaction>> transactionQueues = new EnumMap<>(TransactionPriority.class);
+    private static final int LOWER_PRIORITY_QUOTA = 10;
+    private int servedWhileLowerPriorityWaited = 0; // Guarded by transactionQueues
+    private long submittedTransactions = 0L; // Guarded by transactionQueues
     private final AtomicBoolean dropUnimportantTransactions = new AtomicBoolean(false);
     private final AtomicBoolean ranIntoFatalError = new AtomicBoolean(false);
 
+    private static final String READ_THREAD_NAME_PREFIX = "Plan SQLDB-read-thread-";
+    private ExecutorService readExecutor;
+
+    private final LatencyHistogram transactionWaitTime;
+    private final LatencyHistogram transactionExecutionTime;
+    private final Counter droppedTransactions;
+    private final ClassValue<LatencyHistogram> queryExecutionTimes;
+
+    private volatile WriteSpool writeSpool;
+    private final AtomicBoolean spooling = new AtomicBoolean(false);
+    private final AtomicBoolean replayingSpool = new AtomicBoolean(false);
+
     protected SQLDB(
             Supplier<ServerUUID> serverUUIDSupplier,
             Locale locale,
@@ -96,7 +123,8 @@ public abstract class SQLDB extends AbstractDatabase {
             PlanFiles files,
             RunnableFactory runnableFactory,
             PluginLogger logger,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            PlanMetrics metrics
     ) {
         this.serverUUIDSupplier = serverUUIDSupplier;
         this.locale = locale;
@@ -106,6 +134,22 @@ public abstract class SQLDB extends AbstractDatabase {
         this.logger = logger;
         this.errorLogger = errorLogger;
 
+        for (TransactionPriority priority : TransactionPriority.values()) {
+            transactionQueues.put(priority, new ConcurrentLinkedQueue<>());
+        }
+
+        transactionWaitTime = metrics.histogram("database.transaction.wait");
+        transactionExecutionTime = metrics.histogram("database.transaction.execution");
+        droppedTransactions = metrics.counter("database.transaction.dropped");
+        // Queries are grouped by the class that defines them, eg. SessionQueries, so that lambdas are not listed separately.
+        queryExecutionTimes = new ClassValue<>() {
+            @Override
+            protected LatencyHistogram computeValue(Class<?> type) {
+                String className = StringUtils.substringAfterLast(type.getName(), ".");
+                return metrics.histogram("database.query." + StringUtils.substringBefore(className, "$"));
+            }
+        };
+
         this.transactionExecutorServiceProvider = () -> {
             String nameFormat = "Plan " + getClass().getSimpleName() + "-transaction-thread-%d";
             return Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
@@ -150,6 +194,7 @@ public abstract class SQLDB extends AbstractDatabase {
     public void init() {
         List<Runnable> unfinishedTransactions = closeTransactionExecutor(transactionExecutor);
         this.transactionExecutor = transactionExecutorServiceProvider.get();
+        openWriteSpool();
 
         setState(State.PATCHING);
 
@@ -167,6 +212,29 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
+    private void openWriteSpool() {
+        if (writeSpool != null || !config.isTrue(DatabaseSettings.WRITE_SPOOL)) return;
+        Path file = files.getDataDirectory().resolve("db-write-spool-" + getType().getConfigName() + ".log");
+        long maxSize = config.getOrDefault(DatabaseSettings.WRITE_SPOOL_MAX_SIZE, 64) * 1024L * 1024L;
+        try {
+            writeSpool = WriteSpool.open(file, maxSize, logger);
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder()
+                    .whatToDo("Check that Plan can write to " + file + ", data gathered while database is unavailable will not be preserved.")
+                    .build());
+        }
+    }
+
+    private void closeWriteSpool() {
+        if (writeSpool == null) return;
+        try {
+            writeSpool.close();
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder().build());
+        }
+        writeSpool = null;
+    }
+
     private List<Runnable> closeTransactionExecutor(ExecutorService transactionExecutor) {
         if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
             return Collections.emptyList();
@@ -247,7 +315,8 @@ public abstract class SQLDB extends AbstractDatabase {
                 new WebGroupDefaultGroupsPatch(),
                 new WebGroupAddMissingAdminGroupPatch(),
                 new LegacyPermissionLevelGroupsPatch(),
-                new SecurityTableGroupPatch()
+                new SecurityTableGroupPatch(),
+                new TPSTickDurationPatch()
         };
     }
 
@@ -275,6 +344,38 @@ public abstract class SQLDB extends AbstractDatabase {
             }
         });
         registerIndexCreationTask();
+        registerSpoolReplayTask();
+    }
+
+    private void registerSpoolReplayTask() {
+        if (writeSpool == null) return;
+        try {
+            runnableFactory.create(new PluginRunnable() {
+                @Override
+                public void run() {
+                    if (getState() == State.CLOSED || getState() == State.CLOSING) {
+                        cancel();
+                        return;
+                    }
+                    replayWriteSpool();
+                }
+            }).runTaskTimerAsynchronously(TimeAmount.toTicks(10, TimeUnit.SECONDS), TimeAmount.toTicks(10, TimeUnit.SECONDS));
+        } catch (Exception ignore) {
+            // Task failed to register because plugin is being disabled
+        }
+    }
+
+    private void replayWriteSpool() {
+        WriteSpool spool = writeSpool;
+        if (spool == null || getState() != State.OPEN || !spool.hasPending()) return;
+        if (isUnderHeavyLoad() || shouldDropUnimportantTransactions()) return;
+        if (replayingSpool.getAndSet(true)) return;
+
+        executeTransaction(new ReplayWriteSpoolTransaction(spool, logger))
+                .whenComplete((result, failure) -> {
+                    replayingSpool.set(false);
+                    if (!spool.hasPending()) spooling.set(false);
+                });
     }
 
     private void registerIndexCreationTask() {
@@ -309,6 +410,8 @@ public abstract class SQLDB extends AbstractDatabase {
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
         closeTransactionExecutor(transactionExecutor);
+        closeReadExecutor();
+        closeWriteSpool();
         unloadDriverClassloader();
         setState(State.CLOSED);
     }
@@ -326,7 +429,78 @@ public abstract class SQLDB extends AbstractDatabase {
 
     @Override
     public <T> T query(Query<T> query) {
-        return accessLock.performDatabaseOperation(() -> query.executeQuery(this));
+        long start = System.nanoTime();
+        try {
+            return accessLock.performDatabaseOperation(() -> query.executeQuery(this));
+        } finally {
+            queryExecutionTimes.get(getDefiningClass(query)).recordSince(start);
+        }
+    }
+
+    private static Class<?> getDefiningClass(Query<?> query) {
+        // Cached queries are wrapped, record them under the query they wrap instead.
+        Query<?> unwrapped = query;
+        while (unwrapped instanceof KeyedQuery) {
+            unwrapped = ((KeyedQuery<?>) unwrapped).getQuery();
+        }
+        return unwrapped.getClass();
+    }
+
+    /**
+     * Get how many queries can run at the same time with {@link #queryInParallel(Query)}.
+     *
+     * @return 1 if queries can not run concurrently.
+     */
+    protected int getMaxParallelQueries() {
+        return 1;
+    }
+
+    @Override
+    public <T> Supplier<T> queryInParallel(Query<T> query) {
+        ExecutorService executor = getReadExecutor();
+        // Queries started from a read thread run immediately, waiting on the pool from inside it could deadlock.
+        if (executor == null || Thread.currentThread().getName().startsWith(READ_THREAD_NAME_PREFIX)) {
+            T result = query(query);
+            return () -> result;
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> query(query), executor);
+        } catch (RejectedExecutionException closing) {
+            T result = query(query);
+            return () -> result;
+        }
+        return () -> {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new DBOpException("Query failed: " + cause.getMessage(), cause);
+            }
+        };
+    }
+
+    private synchronized ExecutorService getReadExecutor() {
+        if (readExecutor == null && getState() == State.OPEN) {
+            int threads = getMaxParallelQueries();
+            if (threads <= 1) return null;
+            readExecutor = Executors.newFixedThreadPool(threads, new BasicThreadFactory.Builder()
+                    .namingPattern(READ_THREAD_NAME_PREFIX + "%d")
+                    .daemon(true)
+                    .build());
+        }
+        return readExecutor;
+    }
+
+    private synchronized void closeReadExecutor() {
+        if (readExecutor != null) {
+            // Started queries are allowed to finish, so that nothing is left waiting for them.
+            readExecutor.shutdown();
+            readExecutor = null;
+        }
     }
 
     public <T> T queryWithinTransaction(Query<T> query, Transaction transaction) {
@@ -341,22 +515,176 @@ public abstract class SQLDB extends AbstractDatabase {
 
         Exception origin = new Exception();
 
-        if (determineIfShouldDropUnimportantTransactions(transactionQueueSize.incrementAndGet())
-                && transaction instanceof ThrowawayTransaction) {
+        boolean dropUnimportantTransactions = determineIfShouldDropUnimportantTransactions(transactionQueueSize.incrementAndGet());
+        if (transaction instanceof SpoolableTransaction && shouldSpool(dropUnimportantTransactions)
+                && spool((SpoolableTransaction) transaction)) {
+            // Keeps order of spooled data, which is stored by replaying the spool when database has recovered.
+            transactionQueueSize.decrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        TransactionPriority priority = transaction.getPriority();
+        if (dropUnimportantTransactions && priority.isDeferrable() && transaction instanceof ThrowawayTransaction) {
             // Drop throwaway transaction immediately.
+            transactionQueueSize.decrementAndGet();
+            droppedTransactions.increment();
             return CompletableFuture.completedFuture(null);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                accessLock.performDatabaseOperation(() -> {
-                    if (!ranIntoFatalError.get()) {transaction.executeTransaction(this);}
-                }, transaction);
-                return CompletableFuture.completedFuture(null);
-            } finally {
+        Queue<QueuedTransaction> queue = transactionQueues.get(priority);
+        QueuedTransaction queued;
+        synchronized (transactionQueues) {
+            queued = new QueuedTransaction(transaction, ++submittedTransactions);
+            queue.add(queued);
+        }
+        try {
+            // Each submitted task executes the transaction with the highest priority that is waiting at that time.
+            getTransactionExecutor().execute(this::executeNextTransaction);
+        } catch (RejectedExecutionException shutDown) {
+            // If the transaction is not in the queue anymore, an earlier task already executed it.
+            boolean removed;
+            synchronized (transactionQueues) {
+                removed = queue.remove(queued);
+            }
+            if (removed) {
                 transactionQueueSize.decrementAndGet();
+                queued.future.completeExceptionally(new CompletionException(
+                        new DBClosedException("Transaction executor has shut down, " + transaction.getName() + " was not executed.")));
             }
-        }, getTransactionExecutor()).exceptionally(errorHandler(transaction, origin));
+        }
+        return queued.future.exceptionally(errorHandler(transaction, origin));
+    }
+
+    private void executeNextTransaction() {
+        QueuedTransaction next = pollNextTransaction();
+        if (next == null) return;
+        transactionWaitTime.record(System.currentTimeMillis() - next.queuedAt, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        try {
+            accessLock.performDatabaseOperation(() -> {
+                if (!ranIntoFatalError.get()) {next.transaction.executeTransaction(this);}
+            }, next.transaction);
+            next.future.complete(null);
+        } catch (Throwable failure) {
+            next.future.completeExceptionally(new CompletionException(failure));
+        } finally {
+            transactionExecutionTime.recordSince(start);
+            transactionQueueSize.decrementAndGet();
+        }
+    }
+
+    private QueuedTransaction pollNextTransaction() {
+        synchronized (transactionQueues) {
+            Queue<QueuedTransaction> next = selectNextQueue();
+            if (next == null) return null;
+            if (!next.element().transaction.keepsSubmissionOrder()) return next.poll();
+
+            // Transactions submitted before this one are executed first, regardless of their priority.
+            Queue<QueuedTransaction> earliest = next;
+            for (Queue<QueuedTransaction> queue : transactionQueues.values()) {
+                QueuedTransaction head = queue.peek();
+                if (head != null && head.sequence < earliest.element().sequence) earliest = queue;
+            }
+            return earliest.poll();
+        }
+    }
+
+    // Guarded by transactionQueues
+    private Queue<QueuedTransaction> selectNextQueue() {
+        Queue<QueuedTransaction> highest = null;
+        Queue<QueuedTransaction> longestWaitingLower = null;
+        long longestWaitingLowerSequence = Long.MAX_VALUE;
+        for (TransactionPriority priority : TransactionPriority.values()) {
+            Queue<QueuedTransaction> queue = transactionQueues.get(priority);
+            QueuedTransaction head = queue.peek();
+            if (head == null) continue;
+            if (highest == null) {
+                // Schema patches are never passed, as other transactions wait for them to finish.
+                if (priority == TransactionPriority.SCHEMA) return queue;
+                highest = queue;
+            } else if (head.sequence < longestWaitingLowerSequence) {
+                longestWaitingLower = queue;
+                longestWaitingLowerSequence = head.sequence;
+            }
+        }
+        if (highest == null) return null;
+        if (longestWaitingLower == null) {
+            servedWhileLowerPriorityWaited = 0;
+            return highest;
+        }
+        // Lower priority work gets a turn every now and then, so that a steady stream of higher priority work does not starve it.
+        if (servedWhileLowerPriorityWaited >= LOWER_PRIORITY_QUOTA) {
+            servedWhileLowerPriorityWaited = 0;
+            return longestWaitingLower;
+        }
+        servedWhileLowerPriorityWaited++;
+        return highest;
+    }
+
+    /**
+     * Get how long a transaction of given priority would wait before it is executed.
+     *
+     * @param priority Priority of the transaction.
+     * @return Milliseconds that the oldest waiting transaction of same or higher priority has waited.
+     */
+    public long getTransactionQueueLatency(TransactionPriority priority) {
+        long now = System.currentTimeMillis();
+        long latency = 0L;
+        for (TransactionPriority waitingPriority : TransactionPriority.values()) {
+            if (waitingPriority.compareTo(priority) > 0) break;
+            QueuedTransaction oldest = transactionQueues.get(waitingPriority).peek();
+            if (oldest != null) latency = Math.max(latency, now - oldest.queuedAt);
+        }
+        return latency;
+    }
+
+    /**
+     * Get how long the oldest transaction in the queue has waited, regardless of priority.
+     *
+     * @return Milliseconds the oldest waiting transaction has waited, 0 if the queue is empty.
+     */
+    public long getOldestQueuedTransactionAge() {
+        long now = System.currentTimeMillis();
+        long age = 0L;
+        for (Queue<QueuedTransaction> queue : transactionQueues.values()) {
+            QueuedTransaction oldest = queue.peek();
+            if (oldest != null) age = Math.max(age, now - oldest.queuedAt);
+        }
+        return age;
+    }
+
+    @Override
+    public boolean shouldDefer(TransactionPriority priority) {
+        if (!priority.isDeferrable()) return false;
+        if (shouldDropUnimportantTransactions() || isUnderHeavyLoad()) return true;
+        return getTransactionQueueLatency(priority) >= priority.getDeferThresholdMs();
+    }
+
+    private boolean shouldSpool(boolean dropUnimportantTransactions) {
+        WriteSpool spool = writeSpool;
+        return spool != null && (dropUnimportantTransactions || isUnderHeavyLoad() || spool.hasPending());
+    }
+
+    private boolean spool(SpoolableTransaction transaction) {
+        WriteSpool spool = writeSpool;
+        if (spool == null) return false;
+        try {
+            boolean spooled = spool.append(transaction);
+            if (spooled && !spooling.getAndSet(true)) {
+                logger.warn("Database is unavailable or under heavy load, storing gathered data to disk until it recovers.");
+            }
+            return spooled;
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder()
+                    .related("Writing to database write spool")
+                    .build());
+            return false;
+        }
+    }
+
+    private static boolean isConnectionFailure(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        return cause instanceof DBOpException && ((DBOpException) cause).isConnectionFailure();
     }
 
     private boolean determineIfShouldDropUnimportantTransactions(int queueSize) {
@@ -377,6 +705,13 @@ public abstract class SQLDB extends AbstractDatabase {
             if (throwable == null) {
                 return CompletableFuture.completedFuture(null);
             }
+            if (writeSpool != null && isConnectionFailure(throwable)) {
+                // Spool is replayed again once the database is reachable.
+                if (transaction instanceof ReplayWriteSpoolTransaction) return CompletableFuture.completedFuture(null);
+                if (transaction instanceof SpoolableTransaction && spool((SpoolableTransaction) transaction)) {
+                    return CompletableFuture.completedFuture(null);
+                }
+            }
             if (throwable.getCause() instanceof FatalDBException) {
                 ranIntoFatalError.set(true);
                 logger.error("Database failed to open, " + transaction.getClass().getName() + " failed to be executed.");
@@ -450,4 +785,18 @@ public abstract class SQLDB extends AbstractDatabase {
     public int getTransactionQueueSize() {
         return transactionQueueSize.get();
     }
+
+    private static class QueuedTransaction {
+        private final Transaction transaction;
+        private final long sequence;
+        private final long queuedAt;
+        private final CompletableFuture<Object> future;
+
+        QueuedTransaction(Transaction transaction, long sequence) {
+            this.transaction = transaction;
+            this.sequence = sequence;
+            this.queuedAt = System.currentTimeMillis();
+            this.future = new CompletableFuture<>();
+        }
+    }
 }
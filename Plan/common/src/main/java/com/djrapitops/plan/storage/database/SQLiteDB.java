@@ -26,6 +26,7 @@ import com.djrapitops.plan.storage.upkeep.DBKeepAliveTask;
 import com.djrapitops.plan.utilities.MiscUtils;
 import com.djrapitops.plan.utilities.SemaphoreAccessCounter;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import dagger.Lazy;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
 import net.playeranalytics.plugin.scheduling.Task;
@@ -71,9 +72,10 @@ public class SQLiteDB extends SQLDB {
             Lazy<ServerInfo> serverInfo,
             RunnableFactory runnableFactory,
             PluginLogger logger,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            PlanMetrics metrics
     ) {
-        super(() -> serverInfo.get().getServerUUID(), locale, config, files, runnableFactory, logger, errorLogger);
+        super(() -> serverInfo.get().getServerUUID(), locale, config, files, runnableFactory, logger, errorLogger, metrics);
         dbName = databaseFile.getName();
         this.databaseFile = databaseFile;
     }
@@ -240,6 +242,7 @@ public class SQLiteDB extends SQLDB {
         private final PluginLogger logger;
         private final ErrorLogger errorLogger1;
         private final PlanFiles files;
+        private final PlanMetrics metrics;
 
         @Inject
         public Factory(
@@ -249,7 +252,8 @@ public class SQLiteDB extends SQLDB {
                 Lazy<ServerInfo> serverInfo,
                 RunnableFactory runnableFactory,
                 PluginLogger logger,
-                ErrorLogger errorLogger1
+                ErrorLogger errorLogger1,
+                PlanMetrics metrics
         ) {
             this.locale = locale;
             this.config = config;
@@ -258,6 +262,7 @@ public class SQLiteDB extends SQLDB {
             this.runnableFactory = runnableFactory;
             this.logger = logger;
             this.errorLogger1 = errorLogger1;
+            this.metrics = metrics;
         }
 
         public SQLiteDB usingDefaultFile() {
@@ -271,7 +276,7 @@ public class SQLiteDB extends SQLDB {
         public SQLiteDB usingFile(File databaseFile) {
             return new SQLiteDB(databaseFile,
                     locale, config, files, serverInfo,
-                    runnableFactory, logger, errorLogger1
+                    runnableFactory, logger, errorLogger1, metrics
             );
         }
 
@@ -0,0 +1,302 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.SpoolableTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import net.playeranalytics.plugin.server.PluginLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file that holds gathered data while the database is unavailable or saturated.
+ * <p>
+ * The file starts with a header that contains the position of the first record that has not been replayed.
+ * Each record is {@code [payload length][CRC32 of payload][payload]}, where payload is
+ * {@code spool type + '\n' + serialized transaction}. A record that fails the checksum, for example due to a crash
+ * during a write, ends the spool and is discarded with everything after it.
+ *
+ * @author AuroraLS3
+ * @see SpoolableTransaction for transactions that can be spooled.
+ */
+public class WriteSpool implements AutoCloseable {
+
+    private static final int MAGIC = 0x504C5350; // "PLSP"
+    private static final long MAGIC_POSITION = 0L;
+    private static final long OFFSET_POSITION = Integer.BYTES;
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final Map<String, Function<String, Optional<Transaction>>> DESERIALIZERS = Map.of(
+            StoreSessionTransaction.SPOOL_TYPE, StoreSessionTransaction::fromSpool,
+            PingStoreTransaction.SPOOL_TYPE, PingStoreTransaction::fromSpool,
+            TPSStoreTransaction.SPOOL_TYPE, TPSStoreTransaction::fromSpool
+    );
+
+    private final Path file;
+    private final long maxSize;
+    private final PluginLogger logger;
+    private final FileChannel channel;
+
+    private long readOffset;
+    private long size;
+    private boolean warnedAboutFullSpool = false;
+
+    private WriteSpool(Path file, long maxSize, PluginLogger logger) throws IOException {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.logger = logger;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Open the spool, or create it if it does not exist.
+     *
+     * @param file    File for the spool.
+     * @param maxSize Maximum size of the file in bytes, transactions are not spooled beyond this size.
+     * @param logger  Logger for warnings about discarded data.
+     * @return Opened spool, with the records that were not replayed earlier.
+     * @throws IOException If the file can not be read or written.
+     */
+    public static WriteSpool open(Path file, long maxSize, PluginLogger logger) throws IOException {
+        WriteSpool spool = new WriteSpool(file, maxSize, logger);
+        try {
+            spool.recover();
+        } catch (IOException e) {
+            spool.close();
+            throw e;
+        }
+        return spool;
+    }
+
+    private void recover() throws IOException {
+        if (channel.size() < HEADER_SIZE || readInt(MAGIC_POSITION) != MAGIC) {
+            reset();
+            return;
+        }
+        readOffset = readLong(OFFSET_POSITION);
+        long end = channel.size();
+        if (readOffset < HEADER_SIZE || readOffset > end) {
+            logger.warn("Database write spool " + file.getFileName() + " had invalid header, discarding it.");
+            reset();
+            return;
+        }
+
+        long position = readOffset;
+        while (position < end) {
+            Optional<String> payload = readPayload(position, end);
+            if (payload.isEmpty()) {
+                logger.warn("Database write spool " + file.getFileName() + " had a partially written record, discarding " + (end - position) + " bytes.");
+                channel.truncate(position);
+                break;
+            }
+            position += RECORD_HEADER_SIZE + payload.get().getBytes(StandardCharsets.UTF_8).length;
+        }
+        size = position;
+    }
+
+    private int readInt(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+        readFully(buffer, position);
+        return buffer.getInt(0);
+    }
+
+    private long readLong(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        readFully(buffer, position);
+        return buffer.getLong(0);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new IOException("Unexpected end of " + file.getFileName());
+        }
+    }
+
+    private Optional<String> readPayload(long position, long end) throws IOException {
+        if (end - position < RECORD_HEADER_SIZE) return Optional.empty();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(header, position);
+        int length = header.getInt(0);
+        int checksum = header.getInt(Integer.BYTES);
+        if (length < 0 || end - position - RECORD_HEADER_SIZE < length) return Optional.empty();
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, position + RECORD_HEADER_SIZE);
+        byte[] bytes = payload.array();
+        if (checksum(bytes) != checksum) return Optional.empty();
+        return Optional.of(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private void reset() throws IOException {
+        channel.truncate(0L);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putLong(HEADER_SIZE).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        readOffset = HEADER_SIZE;
+        size = HEADER_SIZE;
+    }
+
+    /**
+     * Append a transaction to the end of the spool.
+     *
+     * @param transaction Transaction to write.
+     * @return false if the spool is full and the transaction was not written.
+     * @throws IOException If the write fails.
+     */
+    public synchronized boolean append(SpoolableTransaction transaction) throws IOException {
+        byte[] payload = (transaction.getSpoolType() + '\n' + transaction.serializeForSpool()).getBytes(StandardCharsets.UTF_8);
+        if (size + RECORD_HEADER_SIZE + payload.length > maxSize) {
+            if (!warnedAboutFullSpool) {
+                logger.warn("Database write spool " + file.getFileName() + " is full (" + maxSize / 1024 / 1024 + " MB), some gathered data will be lost.");
+                warnedAboutFullSpool = true;
+            }
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length).putInt(checksum(payload)).put(payload).flip();
+        long position = size;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        channel.force(false);
+        size = position;
+        return true;
+    }
+
+    /**
+     * Check if there are records that have not been replayed yet.
+     *
+     * @return true if there is something to replay.
+     */
+    public synchronized boolean hasPending() {
+        return readOffset < size;
+    }
+
+    /**
+     * Read the next records that have not been replayed.
+     * <p>
+     * The records are not removed until {@link #markReplayed(Batch)} is called.
+     *
+     * @param maxRecords Maximum number of records to read.
+     * @return Batch of transactions in the order they were appended, records of unknown type are skipped.
+     * @throws IOException If the read fails.
+     */
+    public synchronized Batch readBatch(int maxRecords) throws IOException {
+        List<Transaction> transactions = new ArrayList<>();
+        long position = readOffset;
+        int records = 0;
+        while (position < size && records < maxRecords) {
+            Optional<String> found = readPayload(position, size);
+            if (found.isEmpty()) {
+                // Appends are validated when written, so this only happens if the file was modified.
+                logger.warn("Database write spool " + file.getFileName() + " is corrupted, discarding " + (size - position) + " bytes.");
+                channel.truncate(position);
+                size = position;
+                break;
+            }
+            String payload = found.get();
+            position += RECORD_HEADER_SIZE + payload.getBytes(StandardCharsets.UTF_8).length;
+            records++;
+            deserialize(payload).ifPresent(transactions::add);
+        }
+        return new Batch(transactions, position);
+    }
+
+    private Optional<Transaction> deserialize(String payload) {
+        int split = payload.indexOf('\n');
+        if (split < 0) return Optional.empty();
+        Function<String, Optional<Transaction>> deserializer = DESERIALIZERS.get(payload.substring(0, split));
+        if (deserializer == null) return Optional.empty();
+        try {
+            return deserializer.apply(payload.substring(split + 1));
+        } catch (RuntimeException badFormat) {
+            logger.warn("Database write spool had a record in bad format, skipping it: " + badFormat.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Remove records of a batch from the spool after they have been stored in the database.
+     *
+     * @param batch Batch given by {@link #readBatch(int)}.
+     * @throws IOException If the write fails.
+     */
+    public synchronized void markReplayed(Batch batch) throws IOException {
+        if (batch.endOffset <= readOffset) return;
+        if (batch.endOffset >= size) {
+            // Everything has been replayed, so the file can start over.
+            reset();
+            warnedAboutFullSpool = false;
+            return;
+        }
+        ByteBuffer offset = ByteBuffer.allocate(Long.BYTES);
+        offset.putLong(batch.endOffset).flip();
+        while (offset.hasRemaining()) {
+            channel.write(offset, OFFSET_POSITION + offset.position());
+        }
+        channel.force(false);
+        readOffset = batch.endOffset;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Records read from the spool.
+     */
+    public static class Batch {
+        private final List<Transaction> transactions;
+        private final long endOffset;
+
+        Batch(List<Transaction> transactions, long endOffset) {
+            this.transactions = transactions;
+            this.endOffset = endOffset;
+        }
+
+        public List<Transaction> getTransactions() {
+            return transactions;
+        }
+
+        public boolean isEmpty() {
+            return transactions.isEmpty();
+        }
+    }
+}
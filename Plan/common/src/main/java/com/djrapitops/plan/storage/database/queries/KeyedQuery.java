@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.storage.database.SQLDB;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query that is identified by its name and parameters, so that its result can be reused.
+ * <p>
+ * Two keyed queries are equal when they have the same name and equal parameters. The name and parameters must
+ * determine the result completely, so that running either query against the same data gives an equal result.
+ *
+ * @param <T> Type of the result.
+ * @author AuroraLS3
+ * @see com.djrapitops.plan.storage.database.MemoizingQueryContext
+ */
+public final class KeyedQuery<T> implements Query<T> {
+
+    private final Query<T> query;
+    private final String name;
+    private final List<Object> parameters;
+
+    private KeyedQuery(Query<T> query, String name, List<Object> parameters) {
+        this.query = query;
+        this.name = name;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Give a query a key.
+     *
+     * @param query      Query to run.
+     * @param name       Name of the query, for example the class and method that created it.
+     * @param parameters Every parameter that affects the result of the query.
+     * @param <T>        Type of the result.
+     * @return Keyed query that runs the given query.
+     */
+    public static <T> KeyedQuery<T> of(Query<T> query, String name, Object... parameters) {
+        return new KeyedQuery<>(query, name, Arrays.asList(parameters));
+    }
+
+    public Query<T> getQuery() {
+        return query;
+    }
+
+    @Override
+    public T executeQuery(SQLDB db) {
+        return query.executeQuery(db);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KeyedQuery<?> that = (KeyedQuery<?>) o;
+        return name.equals(that.name) && parameters.equals(that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedQuery{" + name + parameters + '}';
+    }
+}
\ No newline at end of file
@@ -25,12 +25,11 @@ import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -62,6 +61,10 @@ public class LargeFetchQueries {
                 TPSTable.ENTITIES + ',' +
                 TPSTable.CHUNKS + ',' +
                 TPSTable.FREE_DISK + ',' +
+                TPSTable.MSPT_P50 + ',' +
+                TPSTable.MSPT_P95 + ',' +
+                TPSTable.MSPT_P99 + ',' +
+                TPSTable.MSPT_MAX + ',' +
                 serverUUIDColumn +
                 FROM + TPSTable.TABLE_NAME +
                 INNER_JOIN + ServerTable.TABLE_NAME + " on " + serverIDColumn + "=" + TPSTable.SERVER_ID;
@@ -84,6 +87,12 @@ public class LargeFetchQueries {
                             .entities(set.getInt(TPSTable.ENTITIES))
                             .chunksLoaded(set.getInt(TPSTable.CHUNKS))
                             .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
+                            .tickDurations(
+                                    set.getDouble(TPSTable.MSPT_P50),
+                                    set.getDouble(TPSTable.MSPT_P95),
+                                    set.getDouble(TPSTable.MSPT_P99),
+                                    set.getDouble(TPSTable.MSPT_MAX)
+                            )
                             .toTPS();
 
                     tpsList.add(tps);
@@ -114,4 +123,72 @@ public class LargeFetchQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Query a page of rows of any Plan table, ordered by the id column.
+     * <p>
+     * Pages are keyset paginated: the next page is fetched after the last id of the previous page, so large tables
+     * can be read without holding the whole table in memory.
+     *
+     * @param tableName Name of the table, every Plan table has an {@code id} primary key.
+     * @param afterId   Rows with id larger than this are fetched.
+     * @param pageSize  Maximum number of rows in the page.
+     * @return Rows of the table with column names and types.
+     */
+    public static Query<TablePage> fetchTablePage(String tableName, int afterId, int pageSize) {
+        String sql = SELECT + '*' + FROM + tableName +
+                WHERE + "id>?" +
+                ORDER_BY + "id" +
+                LIMIT + pageSize;
+
+        return new QueryStatement<>(sql, Math.min(pageSize, 1000)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+            }
+
+            @Override
+            public TablePage processResults(ResultSet set) throws SQLException {
+                ResultSetMetaData metaData = set.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                List<String> columns = new ArrayList<>(columnCount);
+                int[] columnTypes = new int[columnCount];
+                int idIndex = -1;
+                for (int i = 0; i < columnCount; i++) {
+                    String column = metaData.getColumnLabel(i + 1);
+                    columns.add(column);
+                    columnTypes[i] = metaData.getColumnType(i + 1);
+                    if ("id".equalsIgnoreCase(column)) idIndex = i;
+                }
+
+                List<Object[]> rows = new ArrayList<>();
+                int lastId = afterId;
+                while (set.next()) {
+                    Object[] row = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        row[i] = set.getObject(i + 1);
+                    }
+                    rows.add(row);
+                    if (idIndex != -1) lastId = ((Number) row[idIndex]).intValue();
+                }
+                return new TablePage(tableName, columns, columnTypes, rows, lastId);
+            }
+        };
+    }
+
+    /**
+     * Query the largest id of any Plan table.
+     *
+     * @param tableName Name of the table, every Plan table has an {@code id} primary key.
+     * @return Largest id in the table, or 0 if the table is empty.
+     */
+    public static Query<Integer> fetchLargestId(String tableName) {
+        String sql = SELECT + "MAX(id) as max_id" + FROM + tableName;
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("max_id") : 0;
+            }
+        };
+    }
+}
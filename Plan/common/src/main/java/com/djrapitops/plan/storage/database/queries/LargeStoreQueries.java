@@ -26,6 +26,7 @@ import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.objects.JoinAddressQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.sql.tables.webuser.*;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
@@ -193,6 +194,10 @@ public class LargeStoreQueries {
                         statement.setDouble(7, tps.getEntityCount());
                         statement.setDouble(8, tps.getChunksLoaded());
                         statement.setLong(9, tps.getFreeDiskSpace());
+                        statement.setDouble(10, tps.getMsptP50());
+                        statement.setDouble(11, tps.getMsptP95());
+                        statement.setDouble(12, tps.getMsptP99());
+                        statement.setDouble(13, tps.getMsptMax());
                         statement.addBatch();
                     }
                 }
@@ -501,4 +506,38 @@ public class LargeStoreQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Execute a batch of insert statements that copy rows of any Plan table as they are.
+     * <p>
+     * The id column is copied as well, so rows of other tables that refer to the ids stay valid.
+     *
+     * @param page Rows of the table, from {@link LargeFetchQueries#fetchTablePage(String, int, int)}
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeTablePage(TablePage page) {
+        if (page.isEmpty()) return Executable.empty();
+
+        List<String> columns = page.getColumns();
+        int[] columnTypes = page.getColumnTypes();
+        String sql = "INSERT INTO " + page.getTableName() + " (" +
+                String.join(",", columns) +
+                ") VALUES (" + Sql.nParameters(columns.size()) + ')';
+
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Object[] row : page.getRows()) {
+                    for (int i = 0; i < row.length; i++) {
+                        if (row[i] == null) {
+                            statement.setNull(i + 1, columnTypes[i]);
+                        } else {
+                            statement.setObject(i + 1, row[i]);
+                        }
+                    }
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+}
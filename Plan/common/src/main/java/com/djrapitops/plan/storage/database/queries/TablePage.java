@@ -0,0 +1,90 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import java.util.List;
+
+/**
+ * Rows of a database table, as they are in the database.
+ * <p>
+ * Used for copying tables between databases one page at a time.
+ *
+ * @author AuroraLS3
+ */
+public class TablePage {
+
+    private final String tableName;
+    private final List<String> columns;
+    private final int[] columnTypes;
+    private final List<Object[]> rows;
+    private final int lastId;
+
+    public TablePage(String tableName, List<String> columns, int[] columnTypes, List<Object[]> rows, int lastId) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.columnTypes = columnTypes;
+        this.rows = rows;
+        this.lastId = lastId;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get SQL types of the columns.
+     *
+     * @return {@link java.sql.Types} of each column, in same order as {@link #getColumns()}.
+     */
+    public int[] getColumnTypes() {
+        return columnTypes;
+    }
+
+    public List<Object[]> getRows() {
+        return rows;
+    }
+
+    /**
+     * Get the primary key of the last row on this page.
+     *
+     * @return id of the last row, or the id the page was fetched after if the page is empty.
+     */
+    public int getLastId() {
+        return lastId;
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public String toString() {
+        return "TablePage{" +
+                "tableName='" + tableName + '\'' +
+                ", rows=" + rows.size() +
+                ", lastId=" + lastId +
+                '}';
+    }
+}
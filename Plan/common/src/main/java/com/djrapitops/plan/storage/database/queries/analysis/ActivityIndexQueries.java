@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.queries.analysis;
 
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.KeyedQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -25,12 +26,14 @@ import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.utilities.dev.Benchmark;
+import org.apache.commons.text.TextStringBuilder;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -77,10 +80,24 @@ public class ActivityIndexQueries {
 
     @Benchmark.Slow("407ms")
     public static Query<Integer> fetchRegularPlayerCount(long date, ServerUUID serverUUID, long playtimeThreshold) {
-        return fetchActivityGroupCount(date, serverUUID, playtimeThreshold, ActivityIndex.REGULAR, 5.1);
+        return KeyedQuery.of(fetchActivityGroupCount(date, serverUUID, playtimeThreshold, ActivityIndex.REGULAR, 5.1),
+                "ActivityIndexQueries.fetchRegularPlayerCount", date, serverUUID, playtimeThreshold);
     }
 
     public static String selectActivityIndexSQL() {
+        return selectActivityIndexSQLOfUsers(Collections.emptyList());
+    }
+
+    /**
+     * Create SQL that selects activity index of specific users.
+     * <p>
+     * Takes the same parameters as {@link #selectActivityIndexSQL()}.
+     *
+     * @param userIds Database IDs of the users, empty for all users.
+     * @return SQL that selects activity_index and user_id.
+     */
+    public static String selectActivityIndexSQLOfUsers(Collection<Integer> userIds) {
+        String userIdsIn = " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ')';
         String selectActivePlaytimeSQL = SELECT +
                 "ax_ux." + UserInfoTable.USER_ID + ",COALESCE(active_playtime,0) AS active_playtime" +
                 FROM + UserInfoTable.TABLE_NAME + " ax_ux" +
@@ -90,8 +107,10 @@ public class ActivityIndexQueries {
                 WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
                 AND + SessionsTable.SESSION_END + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?" +
+                (userIds.isEmpty() ? "" : AND + SessionsTable.USER_ID + userIdsIn) +
                 GROUP_BY + SessionsTable.USER_ID +
-                ") ax_sx on ax_sx." + SessionsTable.USER_ID + "=ax_ux." + UserInfoTable.USER_ID;
+                ") ax_sx on ax_sx." + SessionsTable.USER_ID + "=ax_ux." + UserInfoTable.USER_ID +
+                (userIds.isEmpty() ? "" : WHERE + "ax_ux." + UserInfoTable.USER_ID + userIdsIn);
 
         String selectThreeWeeks = selectActivePlaytimeSQL + UNION_ALL + selectActivePlaytimeSQL + UNION_ALL + selectActivePlaytimeSQL;
 
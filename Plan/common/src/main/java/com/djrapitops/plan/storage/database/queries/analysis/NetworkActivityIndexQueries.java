@@ -80,6 +80,23 @@ public class NetworkActivityIndexQueries {
     }
 
     public static String selectActivityIndexSQL(Collection<ServerUUID> onServers) {
+        return selectActivityIndexSQL(onServers, Collections.emptyList());
+    }
+
+    /**
+     * Create SQL that selects activity index of specific users.
+     * <p>
+     * Takes the same parameters as {@link #selectActivityIndexSQL()}.
+     *
+     * @param userIds Database IDs of the users, empty for all users.
+     * @return SQL that selects activity_index and user_id.
+     */
+    public static String selectActivityIndexSQLOfUsers(Collection<Integer> userIds) {
+        return selectActivityIndexSQL(Collections.emptyList(), userIds);
+    }
+
+    private static String selectActivityIndexSQL(Collection<ServerUUID> onServers, Collection<Integer> userIds) {
+        String userIdsIn = " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ')';
         String selectServerIds = SELECT + ServerTable.ID +
                 FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.SERVER_UUID + " IN ('" + new TextStringBuilder().appendWithSeparators(onServers, "','") + "')";
@@ -95,8 +112,10 @@ public class NetworkActivityIndexQueries {
                 WHERE + SessionsTable.SESSION_END + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?" +
                 (onServers.isEmpty() ? "" : AND + SessionsTable.SERVER_ID + " IN (" + selectServerIds + ")") +
+                (userIds.isEmpty() ? "" : AND + SessionsTable.USER_ID + userIdsIn) +
                 GROUP_BY + SessionsTable.USER_ID +
-                ") ax_sx on ax_sx." + SessionsTable.USER_ID + "=ax_ux." + UsersTable.ID;
+                ") ax_sx on ax_sx." + SessionsTable.USER_ID + "=ax_ux." + UsersTable.ID +
+                (userIds.isEmpty() ? "" : WHERE + "ax_ux." + UsersTable.ID + userIdsIn);
 
         String selectThreeWeeks = selectActivePlaytimeSQL + UNION_ALL + selectActivePlaytimeSQL + UNION_ALL + selectActivePlaytimeSQL;
 
@@ -0,0 +1,295 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries that calculate the same numbers for multiple time windows in a single pass over the rows.
+ * <p>
+ * Rows of the widest range are read once, and each window is calculated with a conditional sum, so
+ * eg. 30 day, 7 day and 24 hour values do not each scan the same rows again.
+ *
+ * @author AuroraLS3
+ */
+public class WindowedAggregateQueries {
+
+    private WindowedAggregateQueries() {
+        // Static method class
+    }
+
+    /**
+     * Calculate playtime, session count and unique player count of each window on a server.
+     * <p>
+     * Playtime and session count match {@code SessionQueries#playtime} and {@code SessionQueries#sessionCount}
+     * (sessions that overlap the window), unique players match {@code PlayerCountQueries#uniquePlayerCount}
+     * (sessions within the window).
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param windows    Time windows to calculate.
+     * @return Map - Window : Numbers of that window.
+     */
+    public static Query<Map<Window, SessionAggregate>> sessionAggregates(ServerUUID serverUUID, Window... windows) {
+        return sessionAggregates(SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID, serverUUID, windows);
+    }
+
+    /**
+     * Calculate playtime, session count and unique player count of each window on all servers.
+     *
+     * @param windows Time windows to calculate.
+     * @return Map - Window : Numbers of that window.
+     * @see #sessionAggregates(ServerUUID, Window...)
+     */
+    public static Query<Map<Window, SessionAggregate>> sessionAggregates(Window... windows) {
+        return sessionAggregates(null, null, windows);
+    }
+
+    private static Query<Map<Window, SessionAggregate>> sessionAggregates(String serverCondition, ServerUUID serverUUID, Window... windows) {
+        if (windows.length == 0) return db -> Collections.emptyMap();
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> parameters = new ArrayList<>();
+        for (int i = 0; i < windows.length; i++) {
+            Window window = windows[i];
+            if (i > 0) sql.append(',');
+            sql.append("SUM(CASE WHEN ").append(SessionsTable.SESSION_END).append(">=?")
+                    .append(AND).append(SessionsTable.SESSION_START).append("<=?")
+                    .append(" THEN ").append(SessionsTable.SESSION_END).append('-').append(SessionsTable.SESSION_START)
+                    .append(" ELSE 0 END) as playtime_").append(i)
+                    .append(",SUM(CASE WHEN ").append(SessionsTable.SESSION_END).append(">=?")
+                    .append(AND).append(SessionsTable.SESSION_START).append("<=?")
+                    .append(" THEN 1 ELSE 0 END) as session_count_").append(i)
+                    .append(",COUNT(DISTINCT CASE WHEN ").append(SessionsTable.SESSION_END).append("<=?")
+                    .append(AND).append(SessionsTable.SESSION_START).append(">=?")
+                    .append(" THEN ").append(SessionsTable.USER_ID).append(" END) as player_count_").append(i);
+            parameters.addAll(List.of(window.getAfter(), window.getBefore(), window.getAfter(), window.getBefore(), window.getBefore(), window.getAfter()));
+        }
+        sql.append(FROM).append(SessionsTable.TABLE_NAME)
+                .append(WHERE).append(SessionsTable.SESSION_END).append(">=?")
+                .append(AND).append(SessionsTable.SESSION_START).append("<=?");
+        parameters.add(earliestStart(windows));
+        parameters.add(latestEnd(windows));
+        if (serverCondition != null) {
+            sql.append(AND).append(serverCondition);
+            parameters.add(serverUUID);
+        }
+
+        return db -> db.queryOptional(sql.toString(), set -> {
+            Map<Window, SessionAggregate> aggregates = new HashMap<>();
+            for (int i = 0; i < windows.length; i++) {
+                aggregates.put(windows[i], new SessionAggregate(
+                        set.getLong("playtime_" + i),
+                        set.getLong("session_count_" + i),
+                        set.getInt("player_count_" + i)
+                ));
+            }
+            return aggregates;
+        }, parameters.toArray()).orElseGet(() -> emptyAggregates(windows));
+    }
+
+    private static Map<Window, SessionAggregate> emptyAggregates(Window... windows) {
+        Map<Window, SessionAggregate> aggregates = new HashMap<>();
+        for (Window window : windows) {
+            aggregates.put(window, new SessionAggregate(0L, 0L, 0));
+        }
+        return aggregates;
+    }
+
+    /**
+     * Count players who registered on a server within each window.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param windows    Time windows to calculate.
+     * @return Map - Window : New player count, matches {@code PlayerCountQueries#newPlayerCount} for the window.
+     */
+    public static Query<Map<Window, Integer>> newPlayerCounts(ServerUUID serverUUID, Window... windows) {
+        return newPlayerCounts(UserInfoTable.TABLE_NAME, UserInfoTable.REGISTERED,
+                UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID, serverUUID, windows);
+    }
+
+    /**
+     * Count players who registered on any server within each window.
+     *
+     * @param windows Time windows to calculate.
+     * @return Map - Window : New player count, matches {@code PlayerCountQueries#newPlayerCount} for the window.
+     */
+    public static Query<Map<Window, Integer>> newPlayerCounts(Window... windows) {
+        return newPlayerCounts(UsersTable.TABLE_NAME, UsersTable.REGISTERED, null, null, windows);
+    }
+
+    private static Query<Map<Window, Integer>> newPlayerCounts(String table, String registered, String serverCondition, ServerUUID serverUUID, Window... windows) {
+        if (windows.length == 0) return db -> Collections.emptyMap();
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> parameters = new ArrayList<>();
+        for (int i = 0; i < windows.length; i++) {
+            Window window = windows[i];
+            if (i > 0) sql.append(',');
+            sql.append("SUM(CASE WHEN ").append(registered).append("<=?")
+                    .append(AND).append(registered).append(">=?")
+                    .append(" THEN 1 ELSE 0 END) as player_count_").append(i);
+            parameters.add(window.getBefore());
+            parameters.add(window.getAfter());
+        }
+        sql.append(FROM).append(table)
+                .append(WHERE).append(registered).append("<=?")
+                .append(AND).append(registered).append(">=?");
+        parameters.add(latestEnd(windows));
+        parameters.add(earliestStart(windows));
+        if (serverCondition != null) {
+            sql.append(AND).append(serverCondition);
+            parameters.add(serverUUID);
+        }
+
+        return db -> db.queryOptional(sql.toString(), set -> {
+            Map<Window, Integer> counts = new HashMap<>();
+            for (int i = 0; i < windows.length; i++) {
+                counts.put(windows[i], set.getInt("player_count_" + i));
+            }
+            return counts;
+        }, parameters.toArray()).orElseGet(() -> {
+            Map<Window, Integer> counts = new HashMap<>();
+            for (Window window : windows) {
+                counts.put(window, 0);
+            }
+            return counts;
+        });
+    }
+
+    private static long earliestStart(Window... windows) {
+        return Arrays.stream(windows).mapToLong(Window::getAfter).min().orElse(0L);
+    }
+
+    private static long latestEnd(Window... windows) {
+        return Arrays.stream(windows).mapToLong(Window::getBefore).max().orElse(0L);
+    }
+
+    /**
+     * Time window between two epoch ms.
+     */
+    public static final class Window {
+        private final long after;
+        private final long before;
+
+        private Window(long after, long before) {
+            this.after = after;
+            this.before = before;
+        }
+
+        /**
+         * Create a new time window.
+         *
+         * @param after  After epoch ms
+         * @param before Before epoch ms
+         * @return the window.
+         */
+        public static Window of(long after, long before) {
+            return new Window(after, before);
+        }
+
+        public long getAfter() {
+            return after;
+        }
+
+        public long getBefore() {
+            return before;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Window window = (Window) o;
+            return after == window.after && before == window.before;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(after, before);
+        }
+
+        @Override
+        public String toString() {
+            return "Window{" +
+                    "after=" + after +
+                    ", before=" + before +
+                    '}';
+        }
+    }
+
+    /**
+     * Session numbers of a time window.
+     */
+    public static final class SessionAggregate {
+        private final long playtime;
+        private final long sessionCount;
+        private final int uniquePlayers;
+
+        public SessionAggregate(long playtime, long sessionCount, int uniquePlayers) {
+            this.playtime = playtime;
+            this.sessionCount = sessionCount;
+            this.uniquePlayers = uniquePlayers;
+        }
+
+        public long getPlaytime() {
+            return playtime;
+        }
+
+        public long getSessionCount() {
+            return sessionCount;
+        }
+
+        public int getUniquePlayers() {
+            return uniquePlayers;
+        }
+
+        public long getAverageSessionLength() {
+            return sessionCount != 0 ? playtime / sessionCount : 0L;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SessionAggregate that = (SessionAggregate) o;
+            return playtime == that.playtime && sessionCount == that.sessionCount && uniquePlayers == that.uniquePlayers;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playtime, sessionCount, uniquePlayers);
+        }
+
+        @Override
+        public String toString() {
+            return "SessionAggregate{" +
+                    "playtime=" + playtime +
+                    ", sessionCount=" + sessionCount +
+                    ", uniquePlayers=" + uniquePlayers +
+                    '}';
+        }
+    }
+}
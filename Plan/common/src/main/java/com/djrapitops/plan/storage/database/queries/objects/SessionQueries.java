@@ -25,6 +25,7 @@ import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.KeyedQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -279,6 +280,41 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query start dates of sessions on a server that started after given time.
+     *
+     * @param serverUUID UUID of the server.
+     * @param after      Epoch ms, sessions that started before this are not included.
+     * @return Map: Player UUID - Set of session start dates.
+     */
+    public static Query<Map<UUID, Set<Long>>> fetchSessionStartsOfServer(ServerUUID serverUUID, long after) {
+        String sql = SELECT + "u." + UsersTable.USER_UUID + ',' +
+                "s." + SessionsTable.SESSION_START +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+                WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + "s." + SessionsTable.SESSION_START + ">=?";
+
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+            }
+
+            @Override
+            public Map<UUID, Set<Long>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Set<Long>> sessionStarts = new HashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
+                    sessionStarts.computeIfAbsent(playerUUID, Maps::createSet)
+                            .add(set.getLong(SessionsTable.SESSION_START));
+                }
+                return sessionStarts;
+            }
+        };
+    }
+
     private static Query<Long> fetchLatestSessionStartLimitForServer(ServerUUID serverUUID, int limit) {
         String sql = SELECT + SessionsTable.SESSION_START + FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
@@ -498,7 +534,7 @@ public class SessionQueries {
                 WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
                 AND + SessionsTable.SESSION_END + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?";
-        return new QueryStatement<>(sql) {
+        return KeyedQuery.of(new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, serverUUID.toString());
@@ -510,7 +546,7 @@ public class SessionQueries {
             public Long processResults(ResultSet set) throws SQLException {
                 return set.next() ? set.getLong("playtime") : 0L;
             }
-        };
+        }, "SessionQueries.playtime", after, before, serverUUID);
     }
 
     public static Query<Map<ServerUUID, Long>> playtimeOfPlayer(long after, long before, UUID playerUUID) {
@@ -876,6 +912,31 @@ public class SessionQueries {
                 .orElse(0L);
     }
 
+    public static Query<Map<UUID, Long>> lastSeenOfAllPlayers() {
+        String sql = SELECT + "u." + UsersTable.USER_UUID + ",MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+                GROUP_BY + "u." + UsersTable.USER_UUID;
+        return new QueryAllStatement<>(sql, 10000) {
+            @Override
+            public Map<UUID, Long> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Long> lastSeen = new HashMap<>();
+                while (set.next()) {
+                    lastSeen.put(UUID.fromString(set.getString(UsersTable.USER_UUID)), set.getLong("last_seen"));
+                }
+                return lastSeen;
+            }
+        };
+    }
+
+    public static Query<Long> lastSessionEnd(ServerUUID serverUUID) {
+        String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
+        return db -> db.queryOptional(sql, set -> set.getLong("last_seen"), serverUUID)
+                .orElse(0L);
+    }
+
     public static Query<Long> lastSeen(UUID playerUUID, ServerUUID serverUUID) {
         String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
                 FROM + SessionsTable.TABLE_NAME +
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.KeyedQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -58,7 +59,11 @@ public class TPSQueries {
                     max("t." + CPU_USAGE) + " as " + CPU_USAGE + ',' +
                     max("t." + ENTITIES) + " as " + ENTITIES + ',' +
                     max("t." + CHUNKS) + " as " + CHUNKS + ',' +
-                    max("t." + FREE_DISK) + " as " + FREE_DISK +
+                    max("t." + FREE_DISK) + " as " + FREE_DISK + ',' +
+                    max("t." + MSPT_P50) + " as " + MSPT_P50 + ',' +
+                    max("t." + MSPT_P95) + " as " + MSPT_P95 + ',' +
+                    max("t." + MSPT_P99) + " as " + MSPT_P99 + ',' +
+                    max("t." + MSPT_MAX) + " as " + MSPT_MAX +
                     FROM + TABLE_NAME + " t" +
                     WHERE + SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
                     AND + DATE + ">=?" +
@@ -97,6 +102,12 @@ public class TPSQueries {
                 .entities(set.getInt(ENTITIES))
                 .chunksLoaded(set.getInt(CHUNKS))
                 .freeDiskSpace(set.getLong(FREE_DISK))
+                .tickDurations(
+                        set.getDouble(MSPT_P50),
+                        set.getDouble(MSPT_P95),
+                        set.getDouble(MSPT_P99),
+                        set.getDouble(MSPT_MAX)
+                )
                 .toTPS();
     }
 
@@ -107,7 +118,7 @@ public class TPSQueries {
                 AND + DATE + "<=?" +
                 ORDER_BY + DATE;
 
-        return new QueryStatement<>(sql, 50000) {
+        return KeyedQuery.of(new QueryStatement<List<TPS>>(sql, 50000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, serverUUID.toString());
@@ -124,7 +135,7 @@ public class TPSQueries {
                 }
                 return data;
             }
-        };
+        }, "TPSQueries.fetchTPSDataOfServer", after, before, serverUUID);
     }
 
     public static Query<List<DateObj<Integer>>> fetchViewPreviewGraphData(ServerUUID serverUUID) {
@@ -270,16 +281,7 @@ public class TPSQueries {
             @Override
             public Optional<TPS> processResults(ResultSet set) throws SQLException {
                 if (set.next()) {
-                    return Optional.of(TPSBuilder.get()
-                            .date(set.getLong(DATE))
-                            .tps(set.getDouble(TPS))
-                            .playersOnline(set.getInt(PLAYERS_ONLINE))
-                            .usedCPU(set.getDouble(CPU_USAGE))
-                            .usedMemory(set.getLong(RAM_USAGE))
-                            .entities(set.getInt(ENTITIES))
-                            .chunksLoaded(set.getInt(CHUNKS))
-                            .freeDiskSpace(set.getLong(FREE_DISK))
-                            .toTPS());
+                    return Optional.of(extractTPS(set));
                 }
                 return Optional.empty();
             }
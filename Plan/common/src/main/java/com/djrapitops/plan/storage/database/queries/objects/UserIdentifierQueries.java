@@ -74,7 +74,7 @@ public class UserIdentifierQueries {
      */
     public static Query<Set<UUID>> fetchPlayerUUIDsOfServer(ServerUUID serverUUID) {
         String sql = SELECT +
-                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + ',' +
+                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID +
                 FROM + UsersTable.TABLE_NAME +
                 INNER_JOIN + UserInfoTable.TABLE_NAME + " on " +
                 UsersTable.TABLE_NAME + '.' + UsersTable.ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
@@ -97,6 +97,76 @@ public class UserIdentifierQueries {
         };
     }
 
+    /**
+     * Query database for which of the given player UUIDs are stored in the Plan database.
+     *
+     * @param playerUUIDs UUIDs to look for, keep the amount reasonable (some hundreds) since each is a parameter.
+     * @return Set of UUIDs that are stored.
+     */
+    public static Query<Set<UUID>> fetchExistingPlayerUUIDs(Collection<UUID> playerUUIDs) {
+        if (playerUUIDs.isEmpty()) return db -> new HashSet<>();
+
+        String sql = SELECT + UsersTable.USER_UUID +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (" + nParameters(playerUUIDs.size()) + ')';
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (UUID playerUUID : playerUUIDs) {
+                    statement.setString(index++, playerUUID.toString());
+                }
+            }
+
+            @Override
+            public Set<UUID> processResults(ResultSet set) throws SQLException {
+                Set<UUID> existing = new HashSet<>();
+                while (set.next()) {
+                    existing.add(UUID.fromString(set.getString(UsersTable.USER_UUID)));
+                }
+                return existing;
+            }
+        };
+    }
+
+    /**
+     * Query database for which of the given player UUIDs have joined a server.
+     *
+     * @param serverUUID  UUID of the Plan server.
+     * @param playerUUIDs UUIDs to look for, keep the amount reasonable (some hundreds) since each is a parameter.
+     * @return Set of UUIDs that have joined the server.
+     */
+    public static Query<Set<UUID>> fetchPlayerUUIDsOfServer(ServerUUID serverUUID, Collection<UUID> playerUUIDs) {
+        if (playerUUIDs.isEmpty()) return db -> new HashSet<>();
+
+        String sql = SELECT +
+                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID +
+                FROM + UsersTable.TABLE_NAME +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " on " +
+                UsersTable.TABLE_NAME + '.' + UsersTable.ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + " IN (" + nParameters(playerUUIDs.size()) + ')';
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                int index = 2;
+                for (UUID playerUUID : playerUUIDs) {
+                    statement.setString(index++, playerUUID.toString());
+                }
+            }
+
+            @Override
+            public Set<UUID> processResults(ResultSet set) throws SQLException {
+                Set<UUID> playerUUIDs = new HashSet<>();
+                while (set.next()) {
+                    playerUUIDs.add(UUID.fromString(set.getString(UsersTable.USER_UUID)));
+                }
+                return playerUUIDs;
+            }
+        };
+    }
+
     /**
      * Query database for a Map for all UUIDs and Player names.
      *
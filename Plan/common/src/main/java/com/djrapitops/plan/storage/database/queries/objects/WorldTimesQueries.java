@@ -214,4 +214,30 @@ public class WorldTimesQueries {
             }
         };
     }
+
+    /**
+     * Query database for world names of a server.
+     *
+     * @param serverUUID Server UUID of the Plan server.
+     * @return Set of world names.
+     */
+    public static Query<Set<String>> fetchWorldNames(ServerUUID serverUUID) {
+        String sql = SELECT + WorldTable.NAME + FROM + WorldTable.TABLE_NAME +
+                WHERE + WorldTable.SERVER_UUID + "=?";
+        return new QueryStatement<>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Set<String> processResults(ResultSet set) throws SQLException {
+                Set<String> worldNames = new HashSet<>();
+                while (set.next()) {
+                    worldNames.add(set.getString(WorldTable.NAME));
+                }
+                return worldNames;
+            }
+        };
+    }
 }
\ No newline at end of file
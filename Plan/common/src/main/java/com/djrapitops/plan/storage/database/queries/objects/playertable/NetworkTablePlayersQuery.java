@@ -24,11 +24,13 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
+import org.apache.commons.text.TextStringBuilder;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,15 +46,39 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
     private final long date;
     private final long activeMsThreshold;
     private final int xMostRecentPlayers;
+    private final Collection<Integer> userIds;
 
     public NetworkTablePlayersQuery(long date, long activeMsThreshold, int xMostRecentPlayers) {
+        this(date, activeMsThreshold, xMostRecentPlayers, null);
+    }
+
+    /**
+     * Create a new query for specific players, for example one page of the players table.
+     * <p>
+     * Aggregates are only calculated for the given players.
+     *
+     * @param date              Date used for Activity Index calculation
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param userIds           Database IDs of the players
+     */
+    public NetworkTablePlayersQuery(long date, long activeMsThreshold, Collection<Integer> userIds) {
+        this(date, activeMsThreshold, userIds.size(), userIds);
+    }
+
+    private NetworkTablePlayersQuery(long date, long activeMsThreshold, int xMostRecentPlayers, Collection<Integer> userIds) {
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.userIds = userIds;
     }
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        if (userIds != null && userIds.isEmpty()) return new ArrayList<>();
+
+        String selectActivityIndex = userIds != null ? NetworkActivityIndexQueries.selectActivityIndexSQLOfUsers(userIds)
+                : NetworkActivityIndexQueries.selectActivityIndexSQL();
+
         String selectLatestGeolocations = SELECT +
                 "a." + GeoInfoTable.USER_ID + ',' +
                 "a." + GeoInfoTable.GEOLOCATION +
@@ -61,13 +87,15 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
-                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL;
+                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
+                inUsers(AND, "a." + GeoInfoTable.USER_ID);
 
         String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
                 "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
                 "COUNT(1) as count," +
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
                 FROM + SessionsTable.TABLE_NAME + " s" +
+                inUsers(WHERE, "s." + SessionsTable.USER_ID) +
                 GROUP_BY + "s." + SessionsTable.USER_ID;
 
         String selectPingData = SELECT +
@@ -76,11 +104,13 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 "MAX(p." + PingTable.MAX_PING + ") as " + PingTable.MAX_PING + "," +
                 "MIN(p." + PingTable.MIN_PING + ") as " + PingTable.MIN_PING +
                 FROM + PingTable.TABLE_NAME + " p" +
+                inUsers(WHERE, "p." + PingTable.USER_ID) +
                 GROUP_BY + "p." + PingTable.USER_ID;
 
         String selectBanned = SELECT + DISTINCT + "ub." + UserInfoTable.USER_ID +
                 FROM + UserInfoTable.TABLE_NAME + " ub" +
-                WHERE + UserInfoTable.BANNED + "=?";
+                WHERE + UserInfoTable.BANNED + "=?" +
+                inUsers(AND, "ub." + UserInfoTable.USER_ID);
 
         String selectBaseUsers = SELECT +
                 "u." + UsersTable.USER_UUID + ',' +
@@ -99,8 +129,9 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + selectBanned + ") ban on ban." + UserInfoTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + selectLatestGeolocations + ") geo on geo." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
-                LEFT_JOIN + '(' + NetworkActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
+                LEFT_JOIN + '(' + selectActivityIndex + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID +
+                inUsers(WHERE, "u." + UsersTable.ID) +
                 ORDER_BY + "ses.last_seen DESC LIMIT ?";
 
         return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
@@ -137,4 +168,9 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
             }
         });
     }
+
+    private String inUsers(String keyword, String userIdColumn) {
+        if (userIds == null) return "";
+        return keyword + userIdColumn + " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ')';
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * One page of the players table.
+ *
+ * @author AuroraLS3
+ * @see PlayersTablePageQuery
+ */
+public class PlayersTablePage {
+
+    private final List<TablePlayer> players;
+    private final PlayersTablePageRequest.Cursor next;
+
+    public PlayersTablePage(List<TablePlayer> players, PlayersTablePageRequest.Cursor next) {
+        this.players = players;
+        this.next = next;
+    }
+
+    /**
+     * Get the players on this page.
+     *
+     * @return Players in the requested order.
+     */
+    public List<TablePlayer> getPlayers() {
+        return players;
+    }
+
+    public List<UUID> getPlayerUUIDs() {
+        return players.stream().map(TablePlayer::getPlayerUUID).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the cursor for fetching the next page.
+     *
+     * @return Position of the last player on this page, or empty if this is the last page.
+     */
+    public Optional<PlayersTablePageRequest.Cursor> getNext() {
+        return Optional.ofNullable(next);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayersTablePage{" +
+                "players=" + players.size() +
+                ", next=" + next +
+                '}';
+    }
+}
\ No newline at end of file
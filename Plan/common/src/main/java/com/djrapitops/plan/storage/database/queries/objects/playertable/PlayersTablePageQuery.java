@@ -0,0 +1,297 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest.Cursor;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest.SortBy;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Query for one page of players on /server page players tab or /players page.
+ * <p>
+ * Players of the page are selected first, using only the sorted column. The rest of the table is then calculated only
+ * for the players on the page, so apart from sorting the cost of a page does not depend on the number of players.
+ *
+ * @author AuroraLS3
+ */
+public class PlayersTablePageQuery implements Query<PlayersTablePage> {
+
+    private static final String LIKE_ESCAPE = "!";
+
+    private final ServerUUID serverUUID;
+    private final long date;
+    private final long activeMsThreshold;
+    private final PlayersTablePageRequest request;
+
+    private PlayersTablePageQuery(ServerUUID serverUUID, long date, long activeMsThreshold, PlayersTablePageRequest request) {
+        this.serverUUID = serverUUID;
+        this.date = date;
+        this.activeMsThreshold = activeMsThreshold;
+        this.request = request;
+    }
+
+    /**
+     * Create a query for a page of players of a server.
+     *
+     * @param serverUUID        UUID of the Plan server.
+     * @param date              Date used for Activity Index calculation, later pages use the date of the cursor
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param request           Parameters of the page
+     * @return the query.
+     */
+    public static PlayersTablePageQuery ofServer(ServerUUID serverUUID, long date, long activeMsThreshold, PlayersTablePageRequest request) {
+        return new PlayersTablePageQuery(serverUUID, date, activeMsThreshold, request);
+    }
+
+    /**
+     * Create a query for a page of all players.
+     *
+     * @param date              Date used for Activity Index calculation, later pages use the date of the cursor
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param request           Parameters of the page
+     * @return the query.
+     */
+    public static PlayersTablePageQuery ofNetwork(long date, long activeMsThreshold, PlayersTablePageRequest request) {
+        return new PlayersTablePageQuery(null, date, activeMsThreshold, request);
+    }
+
+    /**
+     * Get the date values are calculated at.
+     *
+     * @return Date of the first page, so that activity index does not change between pages.
+     */
+    private long getDate() {
+        return request.getAfter().map(Cursor::getDate).orElse(date);
+    }
+
+    @Override
+    public PlayersTablePage executeQuery(SQLDB db) {
+        List<Position> positions = db.query(selectPositions());
+        // One extra row is fetched to know if there is a next page.
+        boolean hasNextPage = positions.size() > request.getLimit();
+        if (hasNextPage) positions = positions.subList(0, request.getLimit());
+
+        List<Integer> userIds = positions.stream().map(position -> position.cursor.getUserId()).collect(Collectors.toList());
+        List<TablePlayer> players = db.query(serverUUID != null
+                ? new ServerTablePlayersQuery(serverUUID, getDate(), activeMsThreshold, userIds)
+                : new NetworkTablePlayersQuery(getDate(), activeMsThreshold, userIds));
+
+        Map<UUID, TablePlayer> playersByUUID = players.stream()
+                .collect(Collectors.toMap(TablePlayer::getPlayerUUID, Function.identity(), (one, two) -> one));
+        List<TablePlayer> inPageOrder = positions.stream()
+                .map(position -> playersByUUID.get(position.playerUUID))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PlayersTablePage(inPageOrder, hasNextPage ? positions.get(positions.size() - 1).cursor : null);
+    }
+
+    private Query<List<Position>> selectPositions() {
+        SortBy sortBy = request.getSortBy();
+        String order = request.isDescending() ? " DESC" : " ASC";
+        String comparison = request.isDescending() ? "<" : ">";
+
+        String selectSortValues = SELECT + DISTINCT +
+                "u." + UsersTable.ID + " as user_id," +
+                "u." + UsersTable.USER_UUID + " as uuid," +
+                getSortValueSQL(sortBy) + " as sort_value" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                (serverUUID != null ? INNER_JOIN + UserInfoTable.TABLE_NAME + " ui on ui." + UserInfoTable.USER_ID + "=u." + UsersTable.ID +
+                        AND + "ui." + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID : "") +
+                getSortValueJoinSQL(sortBy) +
+                (request.getSearch().isPresent() ? WHERE + "LOWER(u." + UsersTable.USER_NAME + ") LIKE LOWER(?) ESCAPE '" + LIKE_ESCAPE + "'" : "");
+
+        String sql = SELECT + '*' + FROM + '(' + selectSortValues + ") q" +
+                (request.getAfter().isPresent() ? WHERE + "(q.sort_value" + comparison + "?" +
+                        OR + "q.sort_value=?" + AND + "q.user_id" + comparison + "?)" : "") +
+                ORDER_BY + "q.sort_value" + order + ",q.user_id" + order +
+                LIMIT + "?";
+
+        return new QueryStatement<>(sql, request.getLimit() + 1) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                if (serverUUID != null) {
+                    statement.setString(index++, serverUUID.toString());
+                }
+                index = setSortValueJoinParameters(statement, index, sortBy);
+                Optional<String> search = request.getSearch();
+                if (search.isPresent()) {
+                    statement.setString(index++, '%' + escapeLike(search.get()) + '%');
+                }
+                Optional<Cursor> after = request.getAfter();
+                if (after.isPresent()) {
+                    setSortValue(statement, index++, after.get().getSortValue());
+                    setSortValue(statement, index++, after.get().getSortValue());
+                    statement.setInt(index++, after.get().getUserId());
+                }
+                statement.setInt(index, request.getLimit() + 1);
+            }
+
+            @Override
+            public List<Position> processResults(ResultSet set) throws SQLException {
+                List<Position> positions = new ArrayList<>();
+                while (set.next()) {
+                    positions.add(new Position(
+                            UUID.fromString(set.getString("uuid")),
+                            new Cursor(sortBy, getDate(), set.getInt("user_id"), getSortValue(set, sortBy))
+                    ));
+                }
+                return positions;
+            }
+        };
+    }
+
+    private String getSortValueSQL(SortBy sortBy) {
+        switch (sortBy) {
+            case ACTIVITY_INDEX:
+                return "COALESCE(act.activity_index,0)";
+            case PLAYTIME_ACTIVE:
+                return "COALESCE(ses.active_playtime,0)";
+            case SESSIONS:
+                return "COALESCE(ses.count,0)";
+            case REGISTERED:
+                return "u." + UsersTable.REGISTERED;
+            case LAST_SEEN:
+                return "COALESCE(ses.last_seen,0)";
+            case COUNTRY:
+                return "COALESCE(geo." + GeoInfoTable.GEOLOCATION + ",'')";
+            case PING:
+                return "COALESCE(pi." + PingTable.AVG_PING + ",0)";
+            case NAME:
+            default:
+                return "u." + UsersTable.USER_NAME;
+        }
+    }
+
+    private String getSortValueJoinSQL(SortBy sortBy) {
+        switch (sortBy) {
+            case ACTIVITY_INDEX:
+                String selectActivityIndex = serverUUID != null ? ActivityIndexQueries.selectActivityIndexSQL()
+                        : NetworkActivityIndexQueries.selectActivityIndexSQL();
+                return LEFT_JOIN + '(' + selectActivityIndex + ") act on act.user_id=u." + UsersTable.ID;
+            case PLAYTIME_ACTIVE:
+            case SESSIONS:
+            case LAST_SEEN:
+                String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
+                        "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
+                        "COUNT(1) as count," +
+                        "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
+                        FROM + SessionsTable.TABLE_NAME + " s" +
+                        (serverUUID != null ? WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID : "") +
+                        GROUP_BY + "s." + SessionsTable.USER_ID;
+                return LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID;
+            case COUNTRY:
+                // Grouped so that a player with two geolocations last used at the same time is only on one row.
+                String selectLatestGeolocations = SELECT +
+                        "a." + GeoInfoTable.USER_ID + ',' +
+                        "MAX(a." + GeoInfoTable.GEOLOCATION + ") as " + GeoInfoTable.GEOLOCATION +
+                        FROM + GeoInfoTable.TABLE_NAME + " a" +
+                        LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
+                        WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
+                        GROUP_BY + "a." + GeoInfoTable.USER_ID;
+                return LEFT_JOIN + '(' + selectLatestGeolocations + ") geo on geo." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID;
+            case PING:
+                String selectPingData = SELECT +
+                        "p." + PingTable.USER_ID + ',' +
+                        "AVG(p." + PingTable.AVG_PING + ") as " + PingTable.AVG_PING +
+                        FROM + PingTable.TABLE_NAME + " p" +
+                        (serverUUID != null ? WHERE + "p." + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID : "") +
+                        GROUP_BY + "p." + PingTable.USER_ID;
+                return LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID;
+            case NAME:
+            case REGISTERED:
+            default:
+                return "";
+        }
+    }
+
+    private int setSortValueJoinParameters(PreparedStatement statement, int index, SortBy sortBy) throws SQLException {
+        switch (sortBy) {
+            case ACTIVITY_INDEX:
+                if (serverUUID != null) {
+                    ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, index, activeMsThreshold, serverUUID, getDate());
+                    return index + 11;
+                }
+                NetworkActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, index, activeMsThreshold, getDate());
+                return index + 8;
+            case PLAYTIME_ACTIVE:
+            case SESSIONS:
+            case LAST_SEEN:
+            case PING:
+                if (serverUUID == null) return index;
+                statement.setString(index, serverUUID.toString());
+                return index + 1;
+            default:
+                return index;
+        }
+    }
+
+    private static String escapeLike(@Untrusted String search) {
+        return search.replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + '%')
+                .replace("_", LIKE_ESCAPE + '_');
+    }
+
+    private static void setSortValue(PreparedStatement statement, int index, Object sortValue) throws SQLException {
+        if (sortValue instanceof Long) {
+            statement.setLong(index, (Long) sortValue);
+        } else if (sortValue instanceof Double) {
+            statement.setDouble(index, (Double) sortValue);
+        } else {
+            statement.setString(index, sortValue.toString());
+        }
+    }
+
+    private static Object getSortValue(ResultSet set, SortBy sortBy) throws SQLException {
+        switch (sortBy.getValueType()) {
+            case LONG:
+                return set.getLong("sort_value");
+            case DOUBLE:
+                return set.getDouble("sort_value");
+            case STRING:
+            default:
+                return set.getString("sort_value");
+        }
+    }
+
+    private static class Position {
+        private final UUID playerUUID;
+        private final Cursor cursor;
+
+        Position(UUID playerUUID, Cursor cursor) {
+            this.playerUUID = playerUUID;
+            this.cursor = cursor;
+        }
+    }
+}
\ No newline at end of file
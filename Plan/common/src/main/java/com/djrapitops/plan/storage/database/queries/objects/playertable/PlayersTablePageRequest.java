@@ -0,0 +1,231 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Parameters for one page of the players table.
+ * <p>
+ * Pages are fetched with keyset pagination: the next page starts after the last player of the previous page, in the
+ * order of the sorted column. The position is given to the browser as an opaque cursor.
+ *
+ * @author AuroraLS3
+ */
+public class PlayersTablePageRequest {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 1000;
+
+    private final SortBy sortBy;
+    private final boolean descending;
+    private final String search;
+    private final Cursor after;
+    private final int limit;
+
+    /**
+     * Create parameters for a page.
+     *
+     * @param sortBy     Column to sort by.
+     * @param descending Should the players be in descending order.
+     * @param search     Part of the player name to search for, or null to include every player.
+     * @param after      Position of the last player of the previous page, or null for the first page.
+     * @param limit      Maximum number of players on the page.
+     * @throws IllegalArgumentException If the cursor was created for a different sort column, or limit is out of range.
+     */
+    public PlayersTablePageRequest(SortBy sortBy, boolean descending, @Untrusted String search, Cursor after, int limit) {
+        if (after != null && after.getSortBy() != sortBy) {
+            throw new IllegalArgumentException("Cursor was created for a different sort column");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        this.sortBy = sortBy;
+        this.descending = descending;
+        this.search = search == null || search.isBlank() ? null : search;
+        this.after = after;
+        this.limit = limit;
+    }
+
+    public SortBy getSortBy() {
+        return sortBy;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public Optional<String> getSearch() {
+        return Optional.ofNullable(search);
+    }
+
+    public Optional<Cursor> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayersTablePageRequest{" +
+                "sortBy=" + sortBy +
+                ", descending=" + descending +
+                ", search='" + search + '\'' +
+                ", after=" + after +
+                ", limit=" + limit +
+                '}';
+    }
+
+    /**
+     * Columns the players table can be sorted by.
+     */
+    public enum SortBy {
+        NAME(ValueType.STRING),
+        ACTIVITY_INDEX(ValueType.DOUBLE),
+        PLAYTIME_ACTIVE(ValueType.LONG),
+        SESSIONS(ValueType.LONG),
+        REGISTERED(ValueType.LONG),
+        LAST_SEEN(ValueType.LONG),
+        COUNTRY(ValueType.STRING),
+        PING(ValueType.DOUBLE);
+
+        private final ValueType valueType;
+
+        SortBy(ValueType valueType) {
+            this.valueType = valueType;
+        }
+
+        public static Optional<SortBy> getByName(@Untrusted String name) {
+            if (name == null) return Optional.empty();
+            for (SortBy sortBy : values()) {
+                if (sortBy.name().equalsIgnoreCase(name)) return Optional.of(sortBy);
+            }
+            return Optional.empty();
+        }
+
+        ValueType getValueType() {
+            return valueType;
+        }
+    }
+
+    enum ValueType {
+        STRING, LONG, DOUBLE
+    }
+
+    /**
+     * Position of a player in the sorted players table.
+     */
+    public static class Cursor {
+
+        private final SortBy sortBy;
+        private final long date;
+        private final int userId;
+        private final Object sortValue;
+
+        Cursor(SortBy sortBy, long date, int userId, Object sortValue) {
+            this.sortBy = sortBy;
+            this.date = date;
+            this.userId = userId;
+            this.sortValue = sortValue;
+        }
+
+        /**
+         * Read a cursor given to the browser with an earlier page.
+         *
+         * @param cursor Cursor created with {@link #toString()}.
+         * @return The cursor.
+         * @throws IllegalArgumentException If the cursor is not valid.
+         */
+        public static Cursor parse(@Untrusted String cursor) {
+            String decoded;
+            try {
+                decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException notBase64) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String[] parts = decoded.split(":", 4);
+            if (parts.length != 4) throw new IllegalArgumentException("Invalid cursor");
+            SortBy sortBy = SortBy.getByName(parts[0])
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid cursor"));
+            try {
+                long date = Long.parseLong(parts[1]);
+                int userId = Integer.parseInt(parts[2]);
+                switch (sortBy.getValueType()) {
+                    case LONG:
+                        return new Cursor(sortBy, date, userId, Long.parseLong(parts[3]));
+                    case DOUBLE:
+                        return new Cursor(sortBy, date, userId, Double.parseDouble(parts[3]));
+                    case STRING:
+                    default:
+                        return new Cursor(sortBy, date, userId, parts[3]);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+
+        public SortBy getSortBy() {
+            return sortBy;
+        }
+
+        /**
+         * Get the date the first page was calculated at.
+         * <p>
+         * Later pages use the same date, so that values that depend on time, like activity index, do not change
+         * between pages and move players across the cursor.
+         *
+         * @return Epoch ms.
+         */
+        long getDate() {
+            return date;
+        }
+
+        int getUserId() {
+            return userId;
+        }
+
+        Object getSortValue() {
+            return sortValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Cursor cursor = (Cursor) o;
+            return date == cursor.date && userId == cursor.userId && sortBy == cursor.sortBy && Objects.equals(sortValue, cursor.sortValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sortBy, date, userId, sortValue);
+        }
+
+        @Override
+        public String toString() {
+            String value = sortBy.name() + ':' + date + ':' + userId + ':' + sortValue;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
\ No newline at end of file
@@ -25,11 +25,13 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
+import org.apache.commons.text.TextStringBuilder;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -46,6 +48,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
     private final long date;
     private final long activeMsThreshold;
     private final int xMostRecentPlayers;
+    private final Collection<Integer> userIds;
 
     /**
      * Create a new query.
@@ -56,14 +59,38 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
      * @param xMostRecentPlayers Limit query size
      */
     public ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, int xMostRecentPlayers) {
+        this(serverUUID, date, activeMsThreshold, xMostRecentPlayers, null);
+    }
+
+    /**
+     * Create a new query for specific players, for example one page of the players table.
+     * <p>
+     * Aggregates are only calculated for the given players.
+     *
+     * @param serverUUID        UUID of the Plan server.
+     * @param date              Date used for Activity Index calculation
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param userIds           Database IDs of the players
+     */
+    public ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, Collection<Integer> userIds) {
+        this(serverUUID, date, activeMsThreshold, userIds.size(), userIds);
+    }
+
+    private ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, int xMostRecentPlayers, Collection<Integer> userIds) {
         this.serverUUID = serverUUID;
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.userIds = userIds;
     }
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        if (userIds != null && userIds.isEmpty()) return new ArrayList<>();
+
+        String selectActivityIndex = userIds != null ? ActivityIndexQueries.selectActivityIndexSQLOfUsers(userIds)
+                : ActivityIndexQueries.selectActivityIndexSQL();
+
         String selectLatestGeolocations = SELECT +
                 "a." + GeoInfoTable.USER_ID + ',' +
                 "a." + GeoInfoTable.GEOLOCATION +
@@ -72,7 +99,8 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
-                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL;
+                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
+                inUsers(AND, "a." + GeoInfoTable.USER_ID);
 
         String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
                 "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
@@ -80,6 +108,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
                 FROM + SessionsTable.TABLE_NAME + " s" +
                 WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                inUsers(AND, "s." + SessionsTable.USER_ID) +
                 GROUP_BY + "s." + SessionsTable.USER_ID;
 
         String selectPingData = SELECT +
@@ -89,6 +118,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 "MIN(p." + PingTable.MIN_PING + ") as " + PingTable.MIN_PING +
                 FROM + PingTable.TABLE_NAME + " p" +
                 WHERE + "p." + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                inUsers(AND, "p." + PingTable.USER_ID) +
                 GROUP_BY + "p." + PingTable.USER_ID;
 
         String selectBaseUsers = SELECT +
@@ -108,9 +138,10 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 INNER_JOIN + UserInfoTable.TABLE_NAME + " on u." + UsersTable.ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectLatestGeolocations + ") geo on geo." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
-                LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
+                LEFT_JOIN + '(' + selectActivityIndex + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                inUsers(AND, "u." + UsersTable.ID) +
                 ORDER_BY + "ses.last_seen DESC LIMIT ?";
 
         return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
@@ -149,4 +180,9 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
             }
         });
     }
+
+    private String inUsers(String keyword, String userIdColumn) {
+        if (userIds == null) return "";
+        return keyword + userIdColumn + " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ')';
+    }
 }
\ No newline at end of file
@@ -57,6 +57,9 @@ public class NicknamesTable {
             WHERE + NICKNAME + "=?" +
             AND + USER_UUID + "=?" +
             AND + SERVER_UUID + "=?";
+    // Last used date is only moved forward, an older date may be saved after a newer one.
+    public static final String UPDATE_LAST_USED_STATEMENT = UPDATE_STATEMENT +
+            AND + LAST_USED + "<?";
 
     private NicknamesTable() {
         /* Static information class */
@@ -39,6 +39,10 @@ public class TPSTable {
     public static final String ENTITIES = "entities";
     public static final String CHUNKS = "chunks_loaded";
     public static final String FREE_DISK = "free_disk_space";
+    public static final String MSPT_P50 = "mspt_p50";
+    public static final String MSPT_P95 = "mspt_p95";
+    public static final String MSPT_P99 = "mspt_p99";
+    public static final String MSPT_MAX = "mspt_max";
 
     public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
             + SERVER_ID + ','
@@ -49,10 +53,14 @@ public class TPSTable {
             + RAM_USAGE + ','
             + ENTITIES + ','
             + CHUNKS + ','
-            + FREE_DISK
+            + FREE_DISK + ','
+            + MSPT_P50 + ','
+            + MSPT_P95 + ','
+            + MSPT_P99 + ','
+            + MSPT_MAX
             + ") VALUES ("
             + ServerTable.SELECT_SERVER_ID + ','
-            + "?, ?, ?, ?, ?, ?, ?, ?)";
+            + "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
     private TPSTable() {
         /* Static information class */
@@ -70,6 +78,10 @@ public class TPSTable {
                 .column(ENTITIES, Sql.INT).notNull()
                 .column(CHUNKS, Sql.INT).notNull()
                 .column(FREE_DISK, Sql.LONG).notNull()
+                .column(MSPT_P50, Sql.DOUBLE).notNull().defaultValue("-1")
+                .column(MSPT_P95, Sql.DOUBLE).notNull().defaultValue("-1")
+                .column(MSPT_P99, Sql.DOUBLE).notNull().defaultValue("-1")
+                .column(MSPT_MAX, Sql.DOUBLE).notNull().defaultValue("-1")
                 .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
                 .toString();
     }
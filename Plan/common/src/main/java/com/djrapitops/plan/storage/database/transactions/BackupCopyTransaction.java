@@ -16,28 +16,106 @@
  */
 package com.djrapitops.plan.storage.database.transactions;
 
+import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
-import com.djrapitops.plan.storage.database.queries.Query;
-import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.queries.TablePage;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.sql.tables.extension.*;
+import com.djrapitops.plan.storage.database.sql.tables.webuser.*;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
-import java.util.function.Function;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Tables are copied row by row in pages ordered by id, so the whole database is never held in memory.
+ * Pages of tables that do not depend on each other are read from the source database concurrently while earlier pages
+ * are written.
+ * <p>
+ * If a stored {@link CopyCheckpoint} is given, each page is committed separately and the copy continues from the
+ * checkpoint if it was interrupted earlier. Rows past the checkpoint are removed before continuing, since they were
+ * either committed right before the interruption or created in the destination after it.
  *
  * @author AuroraLS3
  */
 public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
+    private static final int PAGE_SIZE = 5000;
+    private static final int PAGES_IN_MEMORY = 8;
+    private static final int MAX_READER_THREADS = 4;
+
+    // Tables on the same level only refer to tables on earlier levels, so they can be copied at the same time.
+    private static final List<List<String>> TABLE_LEVELS = List.of(
+            List.of(
+                    ServerTable.TABLE_NAME,
+                    UsersTable.TABLE_NAME,
+                    JoinAddressTable.TABLE_NAME,
+                    WorldTable.TABLE_NAME,
+                    SettingsTable.TABLE_NAME,
+                    CookieTable.TABLE_NAME,
+                    AccessLogTable.TABLE_NAME,
+                    WebGroupTable.TABLE_NAME,
+                    WebPermissionTable.TABLE_NAME,
+                    ExtensionIconTable.TABLE_NAME
+            ),
+            List.of(
+                    SessionsTable.TABLE_NAME,
+                    TPSTable.TABLE_NAME,
+                    PingTable.TABLE_NAME,
+                    UserInfoTable.TABLE_NAME,
+                    GeoInfoTable.TABLE_NAME,
+                    NicknamesTable.TABLE_NAME,
+                    PluginVersionTable.TABLE_NAME,
+                    SecurityTable.TABLE_NAME,
+                    WebGroupToPermissionTable.TABLE_NAME,
+                    ExtensionPluginTable.TABLE_NAME
+            ),
+            List.of(
+                    WorldTimesTable.TABLE_NAME,
+                    KillsTable.TABLE_NAME,
+                    WebUserPreferencesTable.TABLE_NAME,
+                    ExtensionTabTable.TABLE_NAME
+            ),
+            List.of(
+                    ExtensionProviderTable.TABLE_NAME,
+                    ExtensionTableProviderTable.TABLE_NAME
+            ),
+            List.of(
+                    ExtensionGroupsTable.TABLE_NAME,
+                    ExtensionPlayerValueTable.TABLE_NAME,
+                    ExtensionServerValueTable.TABLE_NAME,
+                    ExtensionPlayerTableValueTable.TABLE_NAME,
+                    ExtensionServerTableValueTable.TABLE_NAME
+            )
+    );
+
     private final Database sourceDB;
     private final Database destinationDB;
+    private final CopyCheckpoint checkpoint;
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, CopyCheckpoint.none());
+    }
+
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, CopyCheckpoint checkpoint) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.checkpoint = checkpoint;
+    }
+
+    public static List<List<String>> getCopiedTables() {
+        return TABLE_LEVELS;
     }
 
     @Override
@@ -47,72 +125,103 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
     @Override
     protected void performOperations() {
-        // Clear the database.
-        super.performOperations();
-
-        copyPlanServerInformation();
-        copyCommonUserInformation();
-        copyWorldNames();
-        copyTPSData();
-        copyWebGroups();
-        copyPlanWebUsers();
-        copyGeoInformation();
-        copyNicknameData();
-        copySessionsWithKillAndWorldData();
-        copyPerServerUserInformation();
-        copyPingData();
-    }
-
-    private void copyWebGroups() {
-        copy(LargeStoreQueries::storeGroupNames, WebUserQueries.fetchGroupNames());
-        copy(LargeStoreQueries::storePermissions, WebUserQueries.fetchAvailablePermissions());
-        copy(LargeStoreQueries::storeGroupPermissionRelations, WebUserQueries.fetchAllGroupPermissions());
-    }
-
-    private <T> void copy(Function<T, Executable> executableCreator, Query<T> dataQuery) {
-        // Creates a new Executable from the queried data of the source database
-        execute(executableCreator.apply(sourceDB.query(dataQuery)));
-    }
-
-    private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
-    }
-
-    private void copyGeoInformation() {
-        copy(LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries.fetchAllGeoInformation());
-    }
-
-    private void copyNicknameData() {
-        copy(LargeStoreQueries::storeAllNicknameData, NicknameQueries.fetchAllNicknameData());
-    }
-
-    private void copyPlanWebUsers() {
-        copy(LargeStoreQueries::storeAllPlanWebUsers, WebUserQueries.fetchAllUsers());
-        copy(LargeStoreQueries::storeAllPreferences, WebUserQueries.fetchAllPreferences());
-    }
-
-    private void copyPlanServerInformation() {
-        copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchUninstalledServerInformation());
-        copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchPlanServerInformationCollection());
+        if (!checkpoint.isStarted()) {
+            // Clear the database.
+            super.performOperations();
+            // Join addresses are copied with their ids, so the default address needs to be removed.
+            execute("DELETE FROM " + JoinAddressTable.TABLE_NAME);
+            commitPage(checkpoint::started);
+        } else {
+            removeRowsAfterCheckpoint();
+            commitMidTransaction();
+        }
+
+        ExecutorService readers = Executors.newFixedThreadPool(MAX_READER_THREADS, new BasicThreadFactory.Builder()
+                .namingPattern("Plan DB copy-%d")
+                .daemon(true)
+                .build());
+        try {
+            for (List<String> tables : TABLE_LEVELS) {
+                copyTables(tables, readers);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        checkpoint.finished();
     }
 
-    private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
+    private void removeRowsAfterCheckpoint() {
+        // Later levels refer to earlier ones, so rows are removed in reverse order.
+        for (int level = TABLE_LEVELS.size() - 1; level >= 0; level--) {
+            List<String> tables = TABLE_LEVELS.get(level);
+            for (int i = tables.size() - 1; i >= 0; i--) {
+                String table = tables.get(i);
+                int lastId = checkpoint.getLastId(table);
+                execute(new ExecStatement(DELETE_FROM + table + WHERE + "id>?") {
+                    @Override
+                    public void prepare(PreparedStatement statement) throws SQLException {
+                        statement.setInt(1, lastId);
+                    }
+                });
+            }
+        }
     }
 
-    private void copyPerServerUserInformation() {
-        copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
+    private void commitPage(Runnable checkpointUpdate) {
+        if (checkpoint.isStored()) {
+            commitMidTransaction();
+            checkpointUpdate.run();
+        }
     }
 
-    private void copyWorldNames() {
-        copy(LargeStoreQueries::storeAllWorldNames, LargeFetchQueries.fetchAllWorldNames());
+    private void copyTables(List<String> tables, ExecutorService readers) {
+        BlockingQueue<TablePage> pages = new ArrayBlockingQueue<>(PAGES_IN_MEMORY);
+        List<Future<?>> reads = new ArrayList<>();
+        for (String table : tables) {
+            if (checkpoint.isCopied(table)) continue;
+
+            int afterId = checkpoint.getLastId(table);
+            reads.add(readers.submit(() -> readTable(table, afterId, pages)));
+        }
+
+        int tablesLeft = reads.size();
+        while (tablesLeft > 0) {
+            TablePage page = nextPage(pages, reads);
+            execute(LargeStoreQueries.storeTablePage(page));
+            commitPage(() -> checkpoint.pageCopied(page.getTableName(), page.getLastId()));
+
+            if (page.size() < PAGE_SIZE) {
+                tablesLeft--;
+                commitPage(() -> checkpoint.tableCopied(page.getTableName()));
+            }
+        }
     }
 
-    private void copyCommonUserInformation() {
-        copy(LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries.fetchAllBaseUsers());
+    private Void readTable(String table, int afterId, BlockingQueue<TablePage> pages) throws InterruptedException {
+        int after = afterId;
+        TablePage page;
+        do {
+            page = sourceDB.query(LargeFetchQueries.fetchTablePage(table, after, PAGE_SIZE));
+            pages.put(page); // Blocks until writing has caught up
+            after = page.getLastId();
+        } while (page.size() == PAGE_SIZE);
+        return null;
     }
 
-    private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+    private TablePage nextPage(BlockingQueue<TablePage> pages, List<Future<?>> reads) {
+        try {
+            while (true) {
+                TablePage page = pages.poll(1, TimeUnit.SECONDS);
+                if (page != null) return page;
+                for (Future<?> read : reads) {
+                    if (read.isDone()) read.get(); // Throws if reading failed
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DBOpException("Copying the database was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new DBOpException("Reading the database that is being copied failed: " + e.getCause().getMessage(), e.getCause());
+        }
     }
-}
\ No newline at end of file
+}
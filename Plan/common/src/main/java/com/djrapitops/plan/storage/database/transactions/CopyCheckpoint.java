@@ -0,0 +1,148 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Progress of {@link BackupCopyTransaction} that is stored in a file, so that an interrupted copy can be resumed.
+ * <p>
+ * The file contains an identifier of the copy operation on the first line, and a line
+ * {@code table;last copied id;true if table is copied} for each table the copy has progressed in.
+ *
+ * @author AuroraLS3
+ */
+public class CopyCheckpoint {
+
+    private final Path file;
+    private final String copyId;
+    private final Map<String, Integer> lastIds;
+    private final Set<String> copiedTables;
+    private boolean started;
+
+    private CopyCheckpoint(Path file, String copyId) {
+        this.file = file;
+        this.copyId = copyId;
+        lastIds = new LinkedHashMap<>();
+        copiedTables = new HashSet<>();
+    }
+
+    /**
+     * Create a checkpoint that is not stored anywhere, so that the copy can not be resumed.
+     *
+     * @return New checkpoint.
+     */
+    public static CopyCheckpoint none() {
+        return new CopyCheckpoint(null, null);
+    }
+
+    /**
+     * Load an earlier checkpoint of the same copy operation, or create a new one.
+     *
+     * @param file   File the checkpoint is stored in.
+     * @param copyId Identifier for the copy operation, such as the names of source and destination database.
+     *               Checkpoint of a different copy operation in the file is discarded.
+     * @return Checkpoint that has been started if an earlier copy was interrupted.
+     */
+    public static CopyCheckpoint load(Path file, String copyId) {
+        CopyCheckpoint checkpoint = new CopyCheckpoint(file, copyId);
+        if (!Files.exists(file)) return checkpoint;
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !copyId.equals(lines.get(0))) return checkpoint;
+
+            for (String line : lines.subList(1, lines.size())) {
+                String[] split = line.split(";");
+                if (split.length != 3) continue;
+                checkpoint.lastIds.put(split[0], Integer.parseInt(split[1]));
+                if (Boolean.parseBoolean(split[2])) checkpoint.copiedTables.add(split[0]);
+            }
+            checkpoint.started = true;
+        } catch (IOException | NumberFormatException e) {
+            // Checkpoint is unreadable, the copy is started from the beginning.
+            checkpoint.lastIds.clear();
+            checkpoint.copiedTables.clear();
+        }
+        return checkpoint;
+    }
+
+    public boolean isStored() {
+        return file != null;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public boolean isCopied(String tableName) {
+        return copiedTables.contains(tableName);
+    }
+
+    public int getLastId(String tableName) {
+        return lastIds.getOrDefault(tableName, 0);
+    }
+
+    void started() {
+        started = true;
+        save();
+    }
+
+    void pageCopied(String tableName, int lastId) {
+        lastIds.put(tableName, lastId);
+        save();
+    }
+
+    void tableCopied(String tableName) {
+        copiedTables.add(tableName);
+        save();
+    }
+
+    void finished() {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not delete " + file.toFile().getAbsolutePath() + ", " + e.getMessage(), e);
+        }
+    }
+
+    private void save() {
+        if (file == null) return;
+
+        List<String> lines = new ArrayList<>();
+        lines.add(copyId);
+        for (String tableName : lastIds.keySet()) {
+            lines.add(tableName + ';' + lastIds.get(tableName) + ';' + copiedTables.contains(tableName));
+        }
+        for (String tableName : copiedTables) {
+            if (!lastIds.containsKey(tableName)) lines.add(tableName + ";0;true");
+        }
+        try {
+            // Written to a temporary file first so that a crash does not leave a half-written checkpoint.
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temporary, lines, StandardCharsets.UTF_8);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write " + file.toFile().getAbsolutePath() + ", " + e.getMessage(), e);
+        }
+    }
+}
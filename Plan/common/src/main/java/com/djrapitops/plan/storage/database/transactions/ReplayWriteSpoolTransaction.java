@@ -0,0 +1,132 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.WriteSpool;
+import net.playeranalytics.plugin.server.PluginLogger;
+
+import java.io.IOException;
+import java.sql.Savepoint;
+import java.util.*;
+
+/**
+ * Stores transactions from {@link WriteSpool} in the database in the order they were spooled.
+ * <p>
+ * Each batch is committed before it is removed from the spool, so a failure leaves the remaining records in the spool.
+ * Records that fail are rolled back and skipped, unless the database was busy with other transactions, in which case
+ * the batch is left in the spool for the next replay.
+ *
+ * @author AuroraLS3
+ */
+public class ReplayWriteSpoolTransaction extends Transaction {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES = 20;
+
+    private final WriteSpool spool;
+    private final PluginLogger logger;
+
+    public ReplayWriteSpoolTransaction(WriteSpool spool, PluginLogger logger) {
+        this.spool = spool;
+        this.logger = logger;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return spool.hasPending();
+    }
+
+    @Override
+    protected void performOperations() {
+        try {
+            int replayed = 0;
+            int skipped = 0;
+            for (int i = 0; i < MAX_BATCHES && spool.hasPending(); i++) {
+                WriteSpool.Batch batch = spool.readBatch(BATCH_SIZE);
+                List<Transaction> records = batch.getTransactions();
+                OptionalInt failed = replayBatch(records);
+                if (failed.isEmpty()) {
+                    logger.warn("Database is busy, storing spooled data will be attempted again later.");
+                    break;
+                }
+                commitMidTransaction();
+                spool.markReplayed(batch);
+                replayed += records.size() - failed.getAsInt();
+                skipped += failed.getAsInt();
+            }
+            if (skipped > 0) {
+                logger.warn("Skipped " + skipped + " spooled database writes that could not be stored, stored " + replayed + ".");
+            }
+            if (!spool.hasPending()) {
+                logger.info("Stored all spooled data to the database.");
+            }
+        } catch (IOException e) {
+            throw new DBOpException("Failed to read database write spool: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Store a batch of records, undoing the changes of records that fail.
+     *
+     * @param records Records of the batch.
+     * @return Number of records that could not be stored, or empty if the batch was rolled back to be attempted again later.
+     */
+    private OptionalInt replayBatch(List<Transaction> records) {
+        Set<Integer> failed = new HashSet<>();
+        int index = 0;
+        while (index < records.size()) {
+            if (failed.contains(index)) {
+                index++;
+                continue;
+            }
+            Optional<Savepoint> savepoint = setSavepoint();
+            try {
+                replay(records.get(index));
+                savepoint.ifPresent(this::releaseSavepoint);
+                index++;
+            } catch (DBOpException e) {
+                if (e.isConnectionFailure()) throw e;
+                if (e.isLockContention()) {
+                    // Records are fine, the database was busy with other transactions.
+                    rollbackMidTransaction();
+                    return OptionalInt.empty();
+                }
+                // Data that can not be stored would otherwise block the whole spool.
+                failed.add(index);
+                if (savepoint.isPresent() && rollbackToSavepoint(savepoint.get())) {
+                    index++;
+                } else {
+                    // Changes of the failed record can only be undone by starting the batch over without it.
+                    rollbackMidTransaction();
+                    index = 0;
+                }
+            }
+        }
+        return OptionalInt.of(failed.size());
+    }
+
+    /**
+     * Store a single spooled record.
+     *
+     * @param record Transaction read from the spool.
+     * @throws DBOpException if the record could not be stored.
+     */
+    protected void replay(Transaction record) {
+        executeOther(record);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+/**
+ * Interface for transactions that can be written to {@link com.djrapitops.plan.storage.database.WriteSpool} when the
+ * database is unavailable, and replayed later.
+ * <p>
+ * Implementing class should also have a static {@code fromSpool(String)} method that is registered in the spool.
+ *
+ * @author AuroraLS3
+ */
+public interface SpoolableTransaction {
+
+    /**
+     * Get the identifier used to find the deserializer of this transaction.
+     *
+     * @return Identifier that does not contain line breaks.
+     */
+    String getSpoolType();
+
+    /**
+     * Serialize the data of this transaction.
+     *
+     * @return Serialized data that can be given to the {@code fromSpool} method.
+     */
+    String serializeForSpool();
+}
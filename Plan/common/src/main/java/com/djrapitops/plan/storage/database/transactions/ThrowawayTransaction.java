@@ -29,6 +29,17 @@ public abstract class ThrowawayTransaction extends Transaction {
 
     @Override
     protected boolean shouldBeExecuted() {
-        return getDBState() != Database.State.CLOSING && dbIsNotUnderHeavyLoad();
+        // Transactions that are not deferrable are executed later instead of being thrown away under load.
+        return getDBState() != Database.State.CLOSING && (!getPriority().isDeferrable() || dbIsNotUnderHeavyLoad());
+    }
+
+    /**
+     * Throwaway transactions are dropped under heavy load unless they override this with a non-deferrable priority.
+     *
+     * @return {@link TransactionPriority#THROWAWAY} by default.
+     */
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.THROWAWAY;
     }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.KeyedQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAPIQuery;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -32,6 +33,7 @@ import com.djrapitops.plan.utilities.logging.ErrorContext;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 
 import java.sql.*;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -157,6 +159,68 @@ public abstract class Transaction {
         }
     }
 
+    /**
+     * Undo all changes made since the transaction started or was last committed with {@link #commitMidTransaction()}.
+     */
+    protected void rollbackMidTransaction() {
+        try {
+            connection.rollback();
+            initializeTransaction();
+        } catch (SQLException e) {
+            throw new DBOpException(getClass().getSimpleName() + " rollback failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Mark current state of the transaction so that later changes can be undone with {@link #rollbackToSavepoint(Savepoint)}.
+     *
+     * @return Save point, or empty if the database does not support save points.
+     */
+    protected Optional<Savepoint> setSavepoint() {
+        if (!SUPPORTS_SAVE_POINTS.get()) return Optional.empty();
+        try {
+            return Optional.of(connection.setSavepoint());
+        } catch (SQLFeatureNotSupportedException noSavePoints) {
+            SUPPORTS_SAVE_POINTS.set(false);
+            return Optional.empty();
+        } catch (SQLException e) {
+            try {
+                handleUnsupportedSQLiteSavePoints(e);
+                return Optional.empty();
+            } catch (SQLException failed) {
+                throw new DBOpException(getClass().getSimpleName() + " save point creation failed: " + failed.getMessage(), failed);
+            }
+        }
+    }
+
+    /**
+     * Undo changes made after the given save point.
+     *
+     * @param savepoint Save point from {@link #setSavepoint()}.
+     * @return false if the rollback failed, for example because the database already rolled back the whole transaction.
+     */
+    protected boolean rollbackToSavepoint(Savepoint savepoint) {
+        try {
+            connection.rollback(savepoint);
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Keep changes made after the given save point and free the save point.
+     *
+     * @param savepoint Save point from {@link #setSavepoint()}.
+     */
+    protected void releaseSavepoint(Savepoint savepoint) {
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException ignored) {
+            // Save point is released on commit instead.
+        }
+    }
+
     /**
      * Override this method for conditional execution.
      * <p>
@@ -169,6 +233,27 @@ public abstract class Transaction {
         return true;
     }
 
+    /**
+     * Override this method to change the order this transaction is executed in relative to other transactions.
+     *
+     * @return Priority class of this transaction, {@link TransactionPriority#CRITICAL} by default.
+     */
+    public TransactionPriority getPriority() {
+        return TransactionPriority.CRITICAL;
+    }
+
+    /**
+     * Override this method if this transaction depends on transactions submitted before it.
+     * <p>
+     * Such a transaction is not executed before earlier transactions, even if they have a lower priority.
+     * For example removing a player should not be followed by an earlier submitted transaction storing their data.
+     *
+     * @return false by default.
+     */
+    public boolean keepsSubmissionOrder() {
+        return false;
+    }
+
     /**
      * Implement this method for transaction execution.
      */
@@ -210,7 +295,9 @@ public abstract class Transaction {
     }
 
     protected <T> T query(Query<T> query) {
-        if (query instanceof QueryStatement) {
+        if (query instanceof KeyedQuery) {
+            return query(((KeyedQuery<T>) query).getQuery());
+        } else if (query instanceof QueryStatement) {
             return ((QueryStatement<T>) query).executeWithConnection(connection);
         } else if (query instanceof QueryAPIQuery) {
             return ((QueryAPIQuery<T>) query).executeWithConnection(connection);
@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Priority classes of {@link Transaction}s, in the order they are served by the database.
+ * <p>
+ * Transactions of the same priority are executed in the order they were submitted.
+ * Transactions that depend on earlier ones can keep the submission order with {@link Transaction#keepsSubmissionOrder()}.
+ * Lower priorities are deferred while higher priority work is waiting, except that one lower priority transaction is
+ * executed after every few higher priority ones so that it is not starved. Producers of lower priority work can
+ * check {@link com.djrapitops.plan.storage.database.Database#shouldDefer(TransactionPriority)} to slow down or
+ * combine their work when the queue falls behind.
+ *
+ * @author AuroraLS3
+ */
+public enum TransactionPriority {
+
+    /**
+     * Schema creation and patches that other transactions depend on.
+     */
+    SCHEMA(Long.MAX_VALUE),
+    /**
+     * Player data and other data that should never be lost, the default.
+     */
+    CRITICAL(Long.MAX_VALUE),
+    /**
+     * Data that can be thrown away under heavy load, the default of {@link ThrowawayTransaction}.
+     */
+    THROWAWAY(TimeUnit.SECONDS.toMillis(10L)),
+    /**
+     * Periodically sampled data like ping and TPS, where samples can be combined.
+     */
+    SAMPLED_METRICS(TimeUnit.SECONDS.toMillis(10L)),
+    /**
+     * Refreshing values of DataExtensions, which are refreshed again later.
+     */
+    EXTENSION_REFRESH(TimeUnit.SECONDS.toMillis(5L)),
+    /**
+     * Cleaning and maintenance that can wait until the database has time for it.
+     */
+    HOUSEKEEPING(TimeUnit.SECONDS.toMillis(2L));
+
+    private final long deferThresholdMs;
+
+    TransactionPriority(long deferThresholdMs) {
+        this.deferThresholdMs = deferThresholdMs;
+    }
+
+    /**
+     * Get the queue latency after which work of this priority should be deferred.
+     *
+     * @return Latency in milliseconds.
+     */
+    public long getDeferThresholdMs() {
+        return deferThresholdMs;
+    }
+
+    public boolean isDeferrable() {
+        return deferThresholdMs != Long.MAX_VALUE;
+    }
+}
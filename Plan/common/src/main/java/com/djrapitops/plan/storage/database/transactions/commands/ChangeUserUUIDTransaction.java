@@ -33,6 +33,8 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 
 /**
  * Intends to correct UUID of a user.
+ * <p>
+ * Fails if a user with the new UUID already exists, use {@link CombineUserTransaction} to combine the two users.
  *
  * @author AuroraLS3
  */
@@ -69,4 +71,9 @@ public class ChangeUserUUIDTransaction extends Transaction {
             }
         };
     }
-}
+
+    @Override
+    public boolean keepsSubmissionOrder() {
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.commands;
+
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionGroupsTable;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerTableValueTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.utilities.java.Lists;
+import org.apache.commons.text.TextStringBuilder;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Changes UUIDs of many users at once, combining the data if a user with the new UUID already exists.
+ * <p>
+ * UUIDs are converted in batches. Each table is updated once per batch with a statement that maps old values to new
+ * values with a CASE expression, and each batch is committed separately.
+ *
+ * @author AuroraLS3
+ */
+public class ConvertUserUUIDsTransaction extends Transaction {
+
+    private static final int BATCH_SIZE = 200;
+    private static final String[] OPTIONAL_TABLES = {"plan_platforms", "plan_tebex_payments", "plan_version_protocol"};
+
+    private final Map<UUID, UUID> newUUIDs;
+
+    /**
+     * Create a new conversion.
+     *
+     * @param newUUIDs Map: Old UUID - New UUID
+     */
+    public ConvertUserUUIDsTransaction(Map<UUID, UUID> newUUIDs) {
+        this.newUUIDs = new LinkedHashMap<>(newUUIDs);
+        this.newUUIDs.entrySet().removeIf(entry -> entry.getKey().equals(entry.getValue()));
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !newUUIDs.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        List<String> optionalTables = new ArrayList<>();
+        for (String table : OPTIONAL_TABLES) {
+            if (hasTable(table)) optionalTables.add(table);
+        }
+
+        List<List<Map.Entry<UUID, UUID>>> batches = new ArrayList<>();
+        for (List<Map.Entry<UUID, UUID>> round : splitToRounds()) {
+            batches.addAll(Lists.partition(round, BATCH_SIZE));
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            if (i > 0) commitMidTransaction();
+            convert(batches.get(i), optionalTables);
+        }
+    }
+
+    /**
+     * Split the conversions so that each new UUID appears only once per round.
+     * <p>
+     * If multiple old UUIDs change to the same new UUID, the first one moves the user and rest are combined to it in
+     * later rounds.
+     *
+     * @return Rounds of conversions in the order they should be performed.
+     */
+    private List<List<Map.Entry<UUID, UUID>>> splitToRounds() {
+        List<List<Map.Entry<UUID, UUID>>> rounds = new ArrayList<>();
+        Map<UUID, Integer> roundsOfNewUUIDs = new HashMap<>();
+        for (Map.Entry<UUID, UUID> entry : newUUIDs.entrySet()) {
+            int round = roundsOfNewUUIDs.merge(entry.getValue(), 1, Integer::sum) - 1;
+            if (rounds.size() <= round) rounds.add(new ArrayList<>());
+            rounds.get(round).add(entry);
+        }
+        return rounds;
+    }
+
+    private void convert(List<Map.Entry<UUID, UUID>> batch, List<String> optionalTables) {
+        Set<UUID> uuids = new HashSet<>();
+        for (Map.Entry<UUID, UUID> entry : batch) {
+            uuids.add(entry.getKey());
+            uuids.add(entry.getValue());
+        }
+        Map<UUID, Integer> userIds = query(fetchUserIds(uuids));
+
+        Map<Integer, Integer> combinedIds = new HashMap<>();
+        for (Map.Entry<UUID, UUID> entry : batch) {
+            Integer oldId = userIds.get(entry.getKey());
+            Integer newId = userIds.get(entry.getValue());
+            if (oldId != null && newId != null) combinedIds.put(oldId, newId);
+        }
+        if (!combinedIds.isEmpty()) combineUsers(combinedIds);
+
+        // Change UUID fields to match where user_id is not used
+        updateUUIDs(ExtensionGroupsTable.TABLE_NAME, ExtensionGroupsTable.USER_UUID, batch);
+        updateUUIDs(ExtensionPlayerTableValueTable.TABLE_NAME, ExtensionPlayerTableValueTable.USER_UUID, batch);
+        updateUUIDs(NicknamesTable.TABLE_NAME, NicknamesTable.USER_UUID, batch);
+        updateUUIDs(UsersTable.TABLE_NAME, UsersTable.USER_UUID, batch);
+        updateUUIDs(KillsTable.TABLE_NAME, KillsTable.VICTIM_UUID, batch);
+        updateUUIDs(KillsTable.TABLE_NAME, KillsTable.KILLER_UUID, batch);
+        for (String table : optionalTables) {
+            updateUUIDs(table, "uuid", batch);
+        }
+    }
+
+    private void combineUsers(Map<Integer, Integer> combinedIds) {
+        String oldIdsInSet = " IN (" + new TextStringBuilder().appendWithSeparators(combinedIds.keySet(), ",") + ')';
+
+        execute(updateUserIds(GeoInfoTable.TABLE_NAME, GeoInfoTable.USER_ID, combinedIds, oldIdsInSet));
+        execute(updateUserIds(PingTable.TABLE_NAME, PingTable.USER_ID, combinedIds, oldIdsInSet));
+        execute(updateUserIds(SessionsTable.TABLE_NAME, SessionsTable.USER_ID, combinedIds, oldIdsInSet));
+        execute(updateUserIds(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID, combinedIds, oldIdsInSet));
+
+        combineUserInfo(combinedIds);
+        execute(DELETE_FROM + UserInfoTable.TABLE_NAME + WHERE + UserInfoTable.USER_ID + oldIdsInSet);
+        execute(DELETE_FROM + UsersTable.TABLE_NAME + WHERE + UsersTable.ID + oldIdsInSet);
+    }
+
+    private void combineUserInfo(Map<Integer, Integer> combinedIds) {
+        Set<Integer> ids = new HashSet<>(combinedIds.keySet());
+        ids.addAll(combinedIds.values());
+        String sql = SELECT + UserInfoTable.ID + ',' + UserInfoTable.USER_ID + ',' + UserInfoTable.SERVER_ID +
+                FROM + UserInfoTable.TABLE_NAME +
+                WHERE + UserInfoTable.USER_ID + " IN (" + new TextStringBuilder().appendWithSeparators(ids, ",") + ')';
+        List<int[]> rows = query(new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                // No parameters
+            }
+
+            @Override
+            public List<int[]> processResults(ResultSet set) throws SQLException {
+                List<int[]> rows = new ArrayList<>();
+                while (set.next()) {
+                    rows.add(new int[]{set.getInt(UserInfoTable.ID), set.getInt(UserInfoTable.USER_ID), set.getInt(UserInfoTable.SERVER_ID)});
+                }
+                return rows;
+            }
+        });
+
+        Set<String> serversOfNewUsers = new HashSet<>();
+        for (int[] row : rows) {
+            if (!combinedIds.containsKey(row[1])) serversOfNewUsers.add(row[1] + "-" + row[2]);
+        }
+        // Rows of old user are moved to the new user only on servers the new user has not joined.
+        Map<Integer, Integer> movedRows = new HashMap<>();
+        for (int[] row : rows) {
+            Integer newId = combinedIds.get(row[1]);
+            if (newId != null && serversOfNewUsers.add(newId + "-" + row[2])) {
+                movedRows.put(row[0], newId);
+            }
+        }
+        if (movedRows.isEmpty()) return;
+
+        execute("UPDATE " + UserInfoTable.TABLE_NAME +
+                " SET " + UserInfoTable.USER_ID + '=' + caseOf(UserInfoTable.ID, movedRows) +
+                WHERE + UserInfoTable.ID + " IN (" + new TextStringBuilder().appendWithSeparators(movedRows.keySet(), ",") + ')');
+    }
+
+    private static String updateUserIds(String tableName, String columnName, Map<Integer, Integer> combinedIds, String oldIdsInSet) {
+        return "UPDATE " + tableName + " SET " + columnName + '=' + caseOf(columnName, combinedIds) + WHERE + columnName + oldIdsInSet;
+    }
+
+    private static String caseOf(String columnName, Map<Integer, Integer> mapping) {
+        // Ids come from the database, so they are safe to place in the statement.
+        StringBuilder caseOf = new StringBuilder("CASE " + columnName);
+        for (Map.Entry<Integer, Integer> entry : mapping.entrySet()) {
+            caseOf.append(" WHEN ").append(entry.getKey()).append(" THEN ").append(entry.getValue());
+        }
+        return caseOf.append(" END").toString();
+    }
+
+    private void updateUUIDs(String tableName, String columnName, List<Map.Entry<UUID, UUID>> batch) {
+        StringBuilder caseOf = new StringBuilder("CASE " + columnName);
+        for (int i = 0; i < batch.size(); i++) {
+            caseOf.append(" WHEN ? THEN ?");
+        }
+        caseOf.append(" END");
+        String sql = "UPDATE " + tableName + " SET " + columnName + '=' + caseOf +
+                WHERE + columnName + " IN (" + nParameters(batch.size()) + ')';
+
+        execute(new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (Map.Entry<UUID, UUID> entry : batch) {
+                    statement.setString(index++, entry.getKey().toString());
+                    statement.setString(index++, entry.getValue().toString());
+                }
+                for (Map.Entry<UUID, UUID> entry : batch) {
+                    statement.setString(index++, entry.getKey().toString());
+                }
+            }
+        });
+    }
+
+    private QueryStatement<Map<UUID, Integer>> fetchUserIds(Collection<UUID> playerUUIDs) {
+        String sql = SELECT + UsersTable.ID + ',' + UsersTable.USER_UUID +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (" + nParameters(playerUUIDs.size()) + ')';
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (UUID playerUUID : playerUUIDs) {
+                    statement.setString(index++, playerUUID.toString());
+                }
+            }
+
+            @Override
+            public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Integer> userIds = new HashMap<>();
+                while (set.next()) {
+                    userIds.put(UUID.fromString(set.getString(UsersTable.USER_UUID)), set.getInt(UsersTable.ID));
+                }
+                return userIds;
+            }
+        };
+    }
+
+    @Override
+    public boolean keepsSubmissionOrder() {
+        return true;
+    }
+}
\ No newline at end of file
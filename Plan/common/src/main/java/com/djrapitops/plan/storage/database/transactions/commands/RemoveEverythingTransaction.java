@@ -48,6 +48,7 @@ public class RemoveEverythingTransaction extends Patch {
         clearTable(UserInfoTable.TABLE_NAME);
         clearTable(UsersTable.TABLE_NAME);
         clearTable(TPSTable.TABLE_NAME);
+        clearTable(PluginVersionTable.TABLE_NAME);
         clearTable(WebGroupToPermissionTable.TABLE_NAME);
         clearTable(WebPermissionTable.TABLE_NAME);
         clearTable(WebGroupTable.TABLE_NAME);
@@ -55,6 +56,7 @@ public class RemoveEverythingTransaction extends Patch {
         clearTable(SecurityTable.TABLE_NAME);
         clearTable(ServerTable.TABLE_NAME);
         clearTable(CookieTable.TABLE_NAME);
+        clearTable(AccessLogTable.TABLE_NAME);
         clearTable(ExtensionPlayerValueTable.TABLE_NAME);
         clearTable(ExtensionServerValueTable.TABLE_NAME);
         clearTable(ExtensionGroupsTable.TABLE_NAME);
@@ -72,4 +74,9 @@ public class RemoveEverythingTransaction extends Patch {
     private void clearTable(String tableName) {
         execute("DELETE FROM " + tableName);
     }
+
+    @Override
+    public boolean keepsSubmissionOrder() {
+        return true;
+    }
 }
\ No newline at end of file
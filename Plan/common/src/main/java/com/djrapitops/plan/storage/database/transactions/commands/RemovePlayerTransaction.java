@@ -16,24 +16,17 @@
  */
 package com.djrapitops.plan.storage.database.transactions.commands;
 
-import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
-import com.djrapitops.plan.storage.database.sql.tables.*;
-import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionGroupsTable;
-import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerTableValueTable;
-import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerValueTable;
-import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.util.Collections;
 import java.util.UUID;
 
-import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
-
 /**
  * Transaction for removing a player's data from the database.
  *
  * @author AuroraLS3
+ * @see RemovePlayersTransaction for removing many players at once.
  */
 public class RemovePlayerTransaction extends ThrowawayTransaction {
 
@@ -50,54 +43,17 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
 
     @Override
     protected void performOperations() {
-        query(PlayerFetchQueries.playerUserName(playerUUID)).ifPresent(this::deleteWebUser);
-
-        deleteFromUserIdTable(GeoInfoTable.TABLE_NAME);
-        deleteFromTable(NicknamesTable.TABLE_NAME);
-        deleteFromKillsTable();
-        deleteFromUserIdTable(WorldTimesTable.TABLE_NAME);
-        deleteFromUserIdTable(SessionsTable.TABLE_NAME);
-        deleteFromUserIdTable(PingTable.TABLE_NAME);
-        deleteFromUserIdTable(UserInfoTable.TABLE_NAME);
-        deleteFromTable(UsersTable.TABLE_NAME);
-
-        deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME);
-        deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME);
-        deleteFromTable(ExtensionGroupsTable.TABLE_NAME);
-    }
-
-    private void deleteWebUser(String username) {
-        executeOther(new RemoveWebUserTransaction(username));
+        executeOther(new RemovePlayersTransaction(Collections.singletonList(playerUUID)));
     }
 
-    private void deleteFromTable(String tableName) {
-        execute(new ExecStatement(DELETE_FROM + tableName + WHERE + "uuid=?") {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
-            }
-        });
-    }
-
-    private void deleteFromUserIdTable(String tableName) {
-        execute(new ExecStatement(DELETE_FROM + tableName + WHERE + "user_id=" + UsersTable.SELECT_USER_ID) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
-            }
-        });
+    @Override
+    public boolean keepsSubmissionOrder() {
+        return true;
     }
 
-    private void deleteFromKillsTable() {
-        String sql = DELETE_FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.KILLER_UUID + "=?" +
-                OR + KillsTable.VICTIM_UUID + "=?";
-        execute(new ExecStatement(sql) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
-                statement.setString(2, playerUUID.toString());
-            }
-        });
+    @Override
+    public TransactionPriority getPriority() {
+        // Removal is requested by a user, so it is not thrown away under load.
+        return TransactionPriority.CRITICAL;
     }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.commands;
+
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionGroupsTable;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerTableValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.webuser.SecurityTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
+import com.djrapitops.plan.utilities.java.Lists;
+import org.apache.commons.text.TextStringBuilder;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction for removing data of many players from the database at once.
+ * <p>
+ * Players are removed in batches: the user ids of a batch are looked up once, and each table is cleared of the whole
+ * batch with a single statement. Each batch is committed separately so that locks are not held for long.
+ *
+ * @author AuroraLS3
+ */
+public class RemovePlayersTransaction extends ThrowawayTransaction {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final List<UUID> playerUUIDs;
+
+    public RemovePlayersTransaction(Collection<UUID> playerUUIDs) {
+        this.playerUUIDs = new ArrayList<>(playerUUIDs);
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !playerUUIDs.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        List<List<UUID>> batches = Lists.partition(playerUUIDs, BATCH_SIZE);
+        for (int i = 0; i < batches.size(); i++) {
+            if (i > 0) commitMidTransaction();
+            removePlayers(batches.get(i));
+        }
+    }
+
+    private void removePlayers(List<UUID> batch) {
+        List<Integer> userIds = query(fetchUserIds(batch));
+
+        for (String username : query(fetchWebUsernames(batch))) {
+            executeOther(new RemoveWebUserTransaction(username));
+        }
+
+        deleteFromUserIdTable(GeoInfoTable.TABLE_NAME, userIds);
+        deleteFromTable(NicknamesTable.TABLE_NAME, batch);
+        deleteFromKillsTable(batch);
+        deleteFromUserIdTable(WorldTimesTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(SessionsTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(PingTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(UserInfoTable.TABLE_NAME, userIds);
+        deleteFromTable(UsersTable.TABLE_NAME, batch);
+
+        deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME, batch);
+        deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME, batch);
+        deleteFromTable(ExtensionGroupsTable.TABLE_NAME, batch);
+    }
+
+    private QueryStatement<List<Integer>> fetchUserIds(List<UUID> batch) {
+        String sql = SELECT + UsersTable.ID +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (" + nParameters(batch.size()) + ')';
+        return new QueryStatement<>(sql, BATCH_SIZE) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setUUIDs(statement, batch, 1);
+            }
+
+            @Override
+            public List<Integer> processResults(ResultSet set) throws SQLException {
+                List<Integer> userIds = new ArrayList<>();
+                while (set.next()) {
+                    userIds.add(set.getInt(UsersTable.ID));
+                }
+                return userIds;
+            }
+        };
+    }
+
+    private QueryStatement<List<String>> fetchWebUsernames(List<UUID> batch) {
+        // Web users that have the same name as the removed players, like RemovePlayerTransaction does.
+        String sql = SELECT + SecurityTable.USERNAME +
+                FROM + SecurityTable.TABLE_NAME +
+                WHERE + SecurityTable.USERNAME + " IN (" +
+                SELECT + UsersTable.USER_NAME +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (" + nParameters(batch.size()) + "))";
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setUUIDs(statement, batch, 1);
+            }
+
+            @Override
+            public List<String> processResults(ResultSet set) throws SQLException {
+                List<String> usernames = new ArrayList<>();
+                while (set.next()) {
+                    usernames.add(set.getString(SecurityTable.USERNAME));
+                }
+                return usernames;
+            }
+        };
+    }
+
+    private static void setUUIDs(PreparedStatement statement, List<UUID> batch, int startIndex) throws SQLException {
+        int index = startIndex;
+        for (UUID playerUUID : batch) {
+            statement.setString(index++, playerUUID.toString());
+        }
+    }
+
+    private void deleteFromTable(String tableName, List<UUID> batch) {
+        execute(new ExecStatement(DELETE_FROM + tableName + WHERE + "uuid IN (" + nParameters(batch.size()) + ')') {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setUUIDs(statement, batch, 1);
+            }
+        });
+    }
+
+    private void deleteFromUserIdTable(String tableName, List<Integer> userIds) {
+        if (userIds.isEmpty()) return;
+        // User ids come from the database, so they are safe to place in the statement.
+        String userIdsInSet = " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ')';
+        execute(DELETE_FROM + tableName + WHERE + "user_id" + userIdsInSet);
+    }
+
+    private void deleteFromKillsTable(List<UUID> batch) {
+        String uuidsInSet = " IN (" + nParameters(batch.size()) + ')';
+        String sql = DELETE_FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.KILLER_UUID + uuidsInSet +
+                OR + KillsTable.VICTIM_UUID + uuidsInSet;
+        execute(new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setUUIDs(statement, batch, 1);
+                setUUIDs(statement, batch, batch.size() + 1);
+            }
+        });
+    }
+
+    @Override
+    public boolean keepsSubmissionOrder() {
+        return true;
+    }
+
+    @Override
+    public TransactionPriority getPriority() {
+        // Removal is requested by a user, so it is not thrown away under load.
+        return TransactionPriority.CRITICAL;
+    }
+}
\ No newline at end of file
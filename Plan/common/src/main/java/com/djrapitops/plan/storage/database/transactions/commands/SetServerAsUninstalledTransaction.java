@@ -21,6 +21,7 @@ import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -57,4 +58,15 @@ public class SetServerAsUninstalledTransaction extends ThrowawayTransaction {
             }
         };
     }
+
+    @Override
+    public boolean keepsSubmissionOrder() {
+        return true;
+    }
+
+    @Override
+    public TransactionPriority getPriority() {
+        // Requested by a user, so it is not thrown away under load.
+        return TransactionPriority.CRITICAL;
+    }
 }
\ No newline at end of file
@@ -22,12 +22,16 @@ import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.transactions.SpoolableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import com.djrapitops.plan.utilities.Predicates;
 import com.djrapitops.plan.utilities.analysis.Median;
 import com.djrapitops.plan.utilities.java.Lists;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -35,7 +39,9 @@ import java.util.UUID;
  *
  * @author AuroraLS3
  */
-public class PingStoreTransaction extends Transaction {
+public class PingStoreTransaction extends Transaction implements SpoolableTransaction {
+
+    public static final String SPOOL_TYPE = "ping";
 
     private final UUID playerUUID;
     private final ServerUUID serverUUID;
@@ -47,6 +53,33 @@ public class PingStoreTransaction extends Transaction {
         this.pingList = pingList;
     }
 
+    public static Optional<Transaction> fromSpool(String serialized) {
+        String[] split = serialized.split(";");
+        if (split.length != 3) return Optional.empty();
+        List<DateObj<Integer>> pingList = new ArrayList<>();
+        for (String ping : split[2].split(",")) {
+            String[] dateAndValue = ping.split(":");
+            pingList.add(new DateObj<>(Long.parseLong(dateAndValue[0]), Integer.parseInt(dateAndValue[1])));
+        }
+        return Optional.of(new PingStoreTransaction(UUID.fromString(split[0]), ServerUUID.fromString(split[1]), pingList));
+    }
+
+    @Override
+    public String getSpoolType() {
+        return SPOOL_TYPE;
+    }
+
+    @Override
+    public String serializeForSpool() {
+        StringBuilder serialized = new StringBuilder(playerUUID.toString()).append(';').append(serverUUID).append(';');
+        for (int i = 0; i < pingList.size(); i++) {
+            if (i > 0) serialized.append(',');
+            DateObj<Integer> ping = pingList.get(i);
+            serialized.append(ping.getDate()).append(':').append(ping.getValue());
+        }
+        return serialized.toString();
+    }
+
     @Override
     protected void performOperations() {
         Ping ping = calculateAggregatePing();
@@ -118,4 +151,9 @@ public class PingStoreTransaction extends Transaction {
         List<Integer> values = Lists.map(pingList, DateObj::getValue);
         return (int) Median.forList(values).calculate();
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.SAMPLED_METRICS;
+    }
 }
\ No newline at end of file
@@ -20,16 +20,26 @@ import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.gathering.domain.PlayerKills;
+import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.util.*;
 import java.util.function.LongSupplier;
 
+/**
+ * Transaction for storing sessions that were preserved on disk, either on shutdown or by session journal.
+ * <p>
+ * Sessions that are already in the database are skipped, since the preserved data can overlap with sessions that were
+ * saved normally.
+ *
+ * @author AuroraLS3
+ */
 public class ShutdownDataPreservationTransaction extends Transaction {
 
-    private final List<FinishedSession> finishedSessions;
+    private List<FinishedSession> finishedSessions;
 
     public ShutdownDataPreservationTransaction(List<FinishedSession> finishedSessions) {
         this.finishedSessions = finishedSessions;
@@ -37,11 +47,36 @@ public class ShutdownDataPreservationTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
+        finishedSessions = removeAlreadyStoredSessions();
+        if (finishedSessions.isEmpty()) return;
+
         ensureAllPlayersAreRegistered();
 
         execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(finishedSessions));
     }
 
+    private List<FinishedSession> removeAlreadyStoredSessions() {
+        Map<ServerUUID, Long> earliestStarts = new HashMap<>();
+        for (FinishedSession session : finishedSessions) {
+            earliestStarts.merge(session.getServerUUID(), session.getStart(), Math::min);
+        }
+
+        Map<ServerUUID, Map<UUID, Set<Long>>> storedStarts = new HashMap<>();
+        for (Map.Entry<ServerUUID, Long> entry : earliestStarts.entrySet()) {
+            storedStarts.put(entry.getKey(), query(SessionQueries.fetchSessionStartsOfServer(entry.getKey(), entry.getValue())));
+        }
+
+        List<FinishedSession> notStored = new ArrayList<>();
+        for (FinishedSession session : finishedSessions) {
+            // Set#add returns false if the session is already stored, or preserved twice.
+            boolean notYetStored = storedStarts.computeIfAbsent(session.getServerUUID(), serverUUID -> new HashMap<>())
+                    .computeIfAbsent(session.getPlayerUUID(), playerUUID -> new HashSet<>())
+                    .add(session.getStart());
+            if (notYetStored) notStored.add(session);
+        }
+        return notStored;
+    }
+
     private void ensureAllPlayersAreRegistered() {
         Set<UUID> playerUUIDs = new HashSet<>();
         Map<UUID, String> playerNames = new HashMap<>();
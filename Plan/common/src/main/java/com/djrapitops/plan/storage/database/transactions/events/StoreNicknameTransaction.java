@@ -18,22 +18,36 @@ package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.util.UUID;
 import java.util.function.BiPredicate;
 
 /**
  * Transaction to store player's nickname information in the database.
+ * <p>
+ * Not a {@link com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction}, since
+ * {@link com.djrapitops.plan.gathering.cache.NicknameCache} has already cached the nickname and would not store it again.
  *
  * @author AuroraLS3
  */
-public class StoreNicknameTransaction extends ThrowawayTransaction {
+public class StoreNicknameTransaction extends Transaction {
 
     private final UUID playerUUID;
     private final Nickname nickname;
     private final BiPredicate<UUID, String> isNicknameCachedCheck;
 
+    /**
+     * Store a nickname that is known to have changed.
+     *
+     * @param playerUUID UUID of the player.
+     * @param nickname   Nickname to store.
+     * @see com.djrapitops.plan.gathering.cache.NicknameCache#updateDisplayName(UUID, Nickname)
+     */
+    public StoreNicknameTransaction(UUID playerUUID, Nickname nickname) {
+        this(playerUUID, nickname, (uuid, name) -> false);
+    }
+
     public StoreNicknameTransaction(UUID playerUUID, Nickname nickname, BiPredicate<UUID, String> isNicknameCachedCheck) {
         this.playerUUID = playerUUID;
         this.nickname = nickname;
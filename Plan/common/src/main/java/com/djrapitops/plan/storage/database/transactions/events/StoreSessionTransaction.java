@@ -22,8 +22,10 @@ import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.transactions.SpoolableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -31,7 +33,9 @@ import java.util.UUID;
  *
  * @author AuroraLS3
  */
-public class StoreSessionTransaction extends Transaction {
+public class StoreSessionTransaction extends Transaction implements SpoolableTransaction {
+
+    public static final String SPOOL_TYPE = "session";
 
     private final FinishedSession session;
 
@@ -39,6 +43,20 @@ public class StoreSessionTransaction extends Transaction {
         this.session = session;
     }
 
+    public static Optional<Transaction> fromSpool(String serialized) {
+        return FinishedSession.deserializeCSV(serialized).map(StoreSessionTransaction::new);
+    }
+
+    @Override
+    public String getSpoolType() {
+        return SPOOL_TYPE;
+    }
+
+    @Override
+    public String serializeForSpool() {
+        return session.serializeCSV();
+    }
+
     @Override
     protected void performOperations() {
         if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(session.getPlayerUUID())))) {
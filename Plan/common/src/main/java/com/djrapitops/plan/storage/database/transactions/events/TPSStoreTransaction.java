@@ -20,9 +20,13 @@ import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.transactions.SpoolableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
+import com.google.gson.Gson;
 import net.playeranalytics.plugin.server.PluginLogger;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -30,7 +34,9 @@ import java.util.concurrent.TimeUnit;
  *
  * @author AuroraLS3
  */
-public class TPSStoreTransaction extends Transaction {
+public class TPSStoreTransaction extends Transaction implements SpoolableTransaction {
+
+    public static final String SPOOL_TYPE = "tps";
 
     private static long lastStorageCheck = 0L;
 
@@ -54,6 +60,24 @@ public class TPSStoreTransaction extends Transaction {
         TPSStoreTransaction.lastStorageCheck = lastStorageCheck;
     }
 
+    public static Optional<Transaction> fromSpool(String serialized) {
+        int split = serialized.indexOf(';');
+        if (split < 0) return Optional.empty();
+        ServerUUID serverUUID = ServerUUID.fromString(serialized.substring(0, split));
+        TPS tps = new Gson().fromJson(serialized.substring(split + 1), TPS.class);
+        return Optional.of(new TPSStoreTransaction(serverUUID, tps));
+    }
+
+    @Override
+    public String getSpoolType() {
+        return SPOOL_TYPE;
+    }
+
+    @Override
+    public String serializeForSpool() {
+        return serverUUID.toString() + ';' + new Gson().toJson(tps);
+    }
+
     @Override
     protected void performOperations() {
         long now = System.currentTimeMillis();
@@ -69,9 +93,14 @@ public class TPSStoreTransaction extends Transaction {
         Long lastStoredData = query(TPSQueries.fetchLastStoredTpsDate(serverUUID))
                 .orElse(0L);
         long diff = now - lastStoredData;
-        if (logger != null && diff < TimeUnit.SECONDS.toMillis(30)) {
+        if (diff < TimeUnit.SECONDS.toMillis(30)) {
             logger.warn("Database had TPS data which was stored " + diff + "ms ago, this is a sign that two servers are storing data as " + serverUUID +
                     " - Check that you have not copied /plugins/Plan/ServerInfoFile.yml between two servers. (This warning will show on both servers)");
         }
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.SAMPLED_METRICS;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.storage.database.sql.tables.NicknamesTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Transaction to update last used date of nicknames that have not changed.
+ *
+ * @author AuroraLS3
+ */
+public class UpdateNicknameLastUsedTransaction extends ThrowawayTransaction {
+
+    private final Map<UUID, Nickname> nicknames;
+
+    public UpdateNicknameLastUsedTransaction(Map<UUID, Nickname> nicknames) {
+        this.nicknames = nicknames;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !nicknames.isEmpty() && super.shouldBeExecuted();
+    }
+
+    @Override
+    protected void performOperations() {
+        execute(new ExecBatchStatement(NicknamesTable.UPDATE_LAST_USED_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<UUID, Nickname> entry : nicknames.entrySet()) {
+                    Nickname nickname = entry.getValue();
+                    statement.setLong(1, nickname.getDate());
+                    statement.setString(2, nickname.getName());
+                    statement.setString(3, entry.getKey().toString());
+                    statement.setString(4, nickname.getServerUUID().toString());
+                    statement.setLong(5, nickname.getDate());
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.queries.schema.MySQLSchemaQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 import org.apache.commons.text.TextStringBuilder;
 
 /**
@@ -102,4 +103,9 @@ public class CreateIndexTransaction extends Transaction {
             execute("DROP INDEX IF EXISTS " + indexName);
         }
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.HOUSEKEEPING;
+    }
 }
\ No newline at end of file
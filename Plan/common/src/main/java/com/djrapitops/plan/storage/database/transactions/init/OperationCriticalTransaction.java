@@ -20,6 +20,7 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 /**
  * Transaction that is required to be executed before a database is operable.
@@ -41,4 +42,9 @@ public abstract class OperationCriticalTransaction extends Transaction {
             throw new FatalDBException(getClass().getName() + " failed to execute and database could not be opened: ", e);
         }
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.SCHEMA;
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -76,4 +77,9 @@ public class RemoveDuplicateUserInfoTransaction extends ThrowawayTransaction {
             }
         });
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.HOUSEKEEPING;
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.transactions.init;
 
 import com.djrapitops.plan.storage.database.sql.tables.AccessLogTable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
@@ -34,4 +35,9 @@ public class RemoveOldAccessLogTransaction extends ThrowawayTransaction {
     protected void performOperations() {
         execute(DELETE_FROM + AccessLogTable.TABLE_NAME + WHERE + AccessLogTable.TIME + "<" + (System.currentTimeMillis() - thresholdMs));
     }
+
+    @Override
+    public TransactionPriority getPriority() {
+        return TransactionPriority.HOUSEKEEPING;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+import static com.djrapitops.plan.storage.database.sql.tables.TPSTable.*;
+
+/**
+ * Adds tick duration percentile columns to plan_tps table.
+ *
+ * @author AuroraLS3
+ */
+public class TPSTickDurationPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasColumn(TABLE_NAME, MSPT_P50)
+                && hasColumn(TABLE_NAME, MSPT_P95)
+                && hasColumn(TABLE_NAME, MSPT_P99)
+                && hasColumn(TABLE_NAME, MSPT_MAX);
+    }
+
+    @Override
+    protected void applyPatch() {
+        addColumnIfMissing(MSPT_P50);
+        addColumnIfMissing(MSPT_P95);
+        addColumnIfMissing(MSPT_P99);
+        addColumnIfMissing(MSPT_MAX);
+    }
+
+    private void addColumnIfMissing(String column) {
+        if (!hasColumn(TABLE_NAME, column)) {
+            addColumn(TABLE_NAME, column + ' ' + Sql.DOUBLE + " NOT NULL DEFAULT -1");
+        }
+    }
+}
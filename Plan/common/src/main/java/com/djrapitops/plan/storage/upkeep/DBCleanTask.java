@@ -34,7 +34,7 @@ import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
-import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayersTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveDuplicateUserInfoTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveOldAccessLogTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveOldExtensionsTransaction;
@@ -167,9 +167,12 @@ public class DBCleanTask extends TaskSystem.Task {
             long keepActiveAfter = now - config.get(TimeSettings.DELETE_INACTIVE_PLAYERS_AFTER);
 
             List<UUID> inactivePlayers = database.query(fetchInactivePlayerUUIDs(keepActiveAfter));
+            if (inactivePlayers.isEmpty()) return 0;
+
+            // One transaction for all players keeps the transaction queue free for other data.
+            database.executeTransaction(new RemovePlayersTransaction(inactivePlayers));
             for (UUID playerUUID : inactivePlayers) {
                 queryService.playerRemoved(playerUUID);
-                database.executeTransaction(new RemovePlayerTransaction(playerUUID));
             }
             return inactivePlayers.size();
         }
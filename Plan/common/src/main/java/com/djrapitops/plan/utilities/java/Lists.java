@@ -91,6 +91,23 @@ public class Lists {
         return mapped;
     }
 
+    /**
+     * Split a list into consecutive sublists of given size.
+     *
+     * @param original List to split, the sublists are views of this list.
+     * @param size     Maximum size of each sublist, the last sublist may be smaller.
+     * @param <T>      Type of the list objects
+     * @return List of sublists, empty if original is empty.
+     */
+    public static <T> List<List<T>> partition(List<T> original, int size) {
+        if (size <= 0) throw new IllegalArgumentException("Partition size must be positive, was " + size);
+        List<List<T>> partitions = new ArrayList<>();
+        for (int from = 0; from < original.size(); from += size) {
+            partitions.add(original.subList(from, Math.min(from + size, original.size())));
+        }
+        return partitions;
+    }
+
     public static class Builder<V> {
         private final List<V> list;
 
@@ -0,0 +1,130 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metric that records how long something took, in fixed buckets.
+ * <p>
+ * Recording does not allocate or lock, so it can be used on hot paths. Percentiles are estimated from the bucket
+ * upper bounds.
+ *
+ * @author AuroraLS3
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private static final long[] BUCKET_UPPER_BOUNDS_NS = new long[BUCKET_UPPER_BOUNDS_MS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+            BUCKET_UPPER_BOUNDS_NS[i] = TimeUnit.MILLISECONDS.toNanos(BUCKET_UPPER_BOUNDS_MS[i]);
+        }
+    }
+
+    // Last bucket holds everything above the last upper bound.
+    private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_NS.length + 1];
+    private final LongAdder totalTimeNs = new LongAdder();
+    private final AtomicLong maxTimeNs = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param startNs {@link System#nanoTime()} before the measured operation.
+     */
+    public void recordSince(long startNs) {
+        record(System.nanoTime() - startNs);
+    }
+
+    public void record(long duration, TimeUnit unit) {
+        record(unit.toNanos(duration));
+    }
+
+    public void record(long durationNs) {
+        long duration = Math.max(0L, durationNs);
+        int bucket = 0;
+        while (bucket < BUCKET_UPPER_BOUNDS_NS.length && duration > BUCKET_UPPER_BOUNDS_NS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        totalTimeNs.add(duration);
+        if (duration > maxTimeNs.get()) maxTimeNs.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getCount() {
+        long count = 0L;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double getAverageMs() {
+        long count = getCount();
+        return count != 0 ? totalTimeNs.sum() / (double) count / 1_000_000.0 : 0.0;
+    }
+
+    public double getMaxMs() {
+        return maxTimeNs.get() / 1_000_000.0;
+    }
+
+    /**
+     * Estimate a percentile of recorded durations.
+     *
+     * @param percentile Percentile between 0.0 and 1.0, eg. 0.95.
+     * @return Upper bound of the bucket the percentile falls in, or the maximum if it is above the last bucket.
+     */
+    public double getPercentileMs(double percentile) {
+        long[] counts = new long[buckets.length];
+        long count = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0L) return 0.0;
+
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(BUCKET_UPPER_BOUNDS_MS[i], getMaxMs());
+        }
+        return getMaxMs();
+    }
+
+    Map<String, Object> asMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", getCount());
+        values.put("averageMs", getAverageMs());
+        values.put("p50Ms", getPercentileMs(0.5));
+        values.put("p95Ms", getPercentileMs(0.95));
+        values.put("p99Ms", getPercentileMs(0.99));
+        values.put("maxMs", getMaxMs());
+        return values;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registry of metrics that measure how Plan itself performs.
+ * <p>
+ * Metrics are identified by dot separated names, eg. "database.transaction.wait", and created on first use.
+ * Subsystems should look up their metrics once and keep a reference, so that recording does not need a map lookup.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class PlanMetrics {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Inject
+    public PlanMetrics() {
+        // Inject Constructor.
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Register a gauge, a value that is read when metrics are viewed.
+     * <p>
+     * Registering a gauge again with the same name replaces the previous one.
+     *
+     * @param name  Name of the gauge.
+     * @param value Supplier for the current value, should be cheap to call.
+     */
+    public void gauge(String name, DoubleSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    public Map<String, Double> getGauges() {
+        Map<String, Double> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsDouble()));
+        return values;
+    }
+
+    public Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Get current values of all metrics, for serializing as json.
+     *
+     * @return Map with "counters", "gauges" and "histograms".
+     */
+    public Map<String, Object> asMap() {
+        Map<String, Object> histogramValues = new TreeMap<>();
+        histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.asMap()));
+
+        Map<String, Object> values = new TreeMap<>();
+        values.put("counters", getCounters());
+        values.put("gauges", getGauges());
+        values.put("histograms", histogramValues);
+        return values;
+    }
+}
\ No newline at end of file
@@ -25,9 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import utilities.RandomData;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -42,11 +40,17 @@ class TabCompleteCacheTest {
     @InjectMocks
     TabCompleteCache underTest;
 
+    private static NavigableSet<String> sorted(Collection<String> searchList) {
+        NavigableSet<String> sorted = new TreeSet<>(TabCompleteCache.IDENTIFIER_ORDER);
+        sorted.addAll(searchList);
+        return sorted;
+    }
+
     @Test
     @DisplayName("Tab completion limit check: {limit} + 1 results returns empty")
     void tooManyMatchesGetsEmptyTabCompletionOneOver() {
         Collection<String> searchList = RandomData.pickMultiple(101, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        List<String> matches = underTest.findMatches(sorted(searchList), null);
         assertTrue(matches.isEmpty());
     }
 
@@ -54,7 +58,7 @@ class TabCompleteCacheTest {
     @DisplayName("Tab completion limit check: {limit} results returns empty")
     void tooManyMatchesGetsEmptyTabCompletionAtLimit() {
         Collection<String> searchList = RandomData.pickMultiple(100, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        List<String> matches = underTest.findMatches(sorted(searchList), null);
         assertTrue(matches.isEmpty());
     }
 
@@ -62,7 +66,7 @@ class TabCompleteCacheTest {
     @DisplayName("Tab completion limit check: {limit} - 1 results returns results")
     void tooManyMatchesGetsResultsTabCompletionOneUnder() {
         Collection<String> searchList = RandomData.pickMultiple(99, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        List<String> matches = underTest.findMatches(sorted(searchList), null);
         assertEquals(99, matches.size());
     }
 
@@ -70,7 +74,7 @@ class TabCompleteCacheTest {
     @DisplayName("Tab completion empty search string returns results")
     void emptyStringReturnsAllResults() {
         Collection<String> searchList = RandomData.pickMultiple(99, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, "");
+        List<String> matches = underTest.findMatches(sorted(searchList), "");
         assertEquals(99, matches.size());
     }
 
@@ -84,10 +88,19 @@ class TabCompleteCacheTest {
             searchList.add("nope-" + i);
         }
 
-        List<String> matches = underTest.findMatches(searchList, "start-");
+        List<String> matches = underTest.findMatches(sorted(searchList), "start-");
         assertEquals(25, matches.size());
     }
 
+    @Test
+    @DisplayName("Tab completion matches are case sensitive and sorted ignoring case")
+    void searchGetsStartsInCaseInsensitiveOrder() {
+        Collection<String> searchList = List.of("startB", "StartC", "starta", "Start", "startC", "star", "starts", "stop");
+
+        List<String> matches = underTest.findMatches(sorted(searchList), "start");
+        assertEquals(List.of("starta", "startB", "startC", "starts"), matches);
+    }
+
     @Test
     @DisplayName("Tab completion coverage")
     void tabCompletionCommonMethodCoverage() {
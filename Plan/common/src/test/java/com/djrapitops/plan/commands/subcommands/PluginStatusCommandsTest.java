@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.commands.subcommands;
+
+import com.djrapitops.plan.commands.use.CMDSender;
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.settings.locale.lang.CommandLang;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PluginStatusCommandsTest {
+
+    private PlanMetrics metrics;
+    private PluginStatusCommands underTest;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new PlanMetrics();
+        underTest = new PluginStatusCommands(null, null, new Locale(), null, null, null, null, null, metrics);
+    }
+
+    private List<String> runMetricsCommand() {
+        CMDSender sender = mock(CMDSender.class);
+        underTest.onMetrics(sender);
+
+        ArgumentCaptor<String[]> captor = ArgumentCaptor.forClass(String[].class);
+        verify(sender).send(captor.capture());
+        return Arrays.asList(captor.getValue());
+    }
+
+    @Test
+    void metricsCommandListsGaugesCountersAndHistograms() {
+        metrics.gauge("test.gauge", () -> 1.5);
+        metrics.counter("test.counter").add(4);
+        metrics.histogram("test.histogram").record(3, TimeUnit.MILLISECONDS);
+
+        List<String> messages = runMetricsCommand();
+
+        assertEquals(CommandLang.HEADER_METRICS.getDefault(), messages.get(0));
+        assertEquals("  §2test.gauge: §f1.50", messages.get(2));
+        assertEquals("  §2test.counter: §f4", messages.get(3));
+        assertTrue(messages.get(4).startsWith("  §2test.histogram: §f1x §7avg §f3.00ms"), messages.get(4));
+        assertEquals(">", messages.get(messages.size() - 1));
+    }
+
+    @Test
+    void emptyHistogramsAreNotListed() {
+        metrics.histogram("test.histogram");
+
+        List<String> messages = runMetricsCommand();
+
+        assertFalse(messages.stream().anyMatch(message -> message.contains("test.histogram")), messages::toString);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.export;
+
+import com.djrapitops.plan.storage.file.PlanFiles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class ExportManifestTest {
+
+    private PlanFiles files;
+    private Path tempDir;
+    private ExportManifest underTest;
+    private FileExporter fileExporter;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        this.tempDir = tempDir;
+        files = Mockito.mock(PlanFiles.class);
+        when(files.getDataDirectory()).thenReturn(tempDir);
+
+        underTest = new ExportManifest(files);
+        fileExporter = new FileExporter(underTest) {};
+    }
+
+    @Test
+    void exportedFileIsWritten() throws IOException {
+        Path file = tempDir.resolve("export/data/test.json");
+        fileExporter.export(file, "{\"test\":1}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("{\"test\":1}", Files.readString(file));
+        assertTrue(underTest.isUnchanged(file, ExportManifest.hash("{\"test\":1}".getBytes(StandardCharsets.UTF_8))));
+        try (var temporaryFiles = Files.list(file.getParent())) {
+            assertEquals(1L, temporaryFiles.count());
+        }
+    }
+
+    @Test
+    void unchangedFileIsNotWrittenAgain() throws IOException {
+        Path file = tempDir.resolve("test.html");
+        fileExporter.export(file, Collections.singletonList("<html></html>"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0L));
+
+        fileExporter.export(file, Collections.singletonList("<html></html>"));
+        assertEquals(0L, Files.getLastModifiedTime(file).toMillis());
+
+        fileExporter.export(file, Collections.singletonList("<html>changed</html>"));
+        assertEquals(List.of("<html>changed</html>"), Files.readAllLines(file));
+    }
+
+    @Test
+    void deletedFileIsWrittenAgain() throws IOException {
+        Path file = tempDir.resolve("test.html");
+        fileExporter.export(file, "<html></html>");
+        Files.delete(file);
+
+        fileExporter.export(file, "<html></html>");
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void sourceIsUpToDateUntilDataChanges() {
+        String source = "server-page/test";
+        assertFalse(underTest.isUpToDate(source, 100L));
+
+        underTest.exported(source, 100L);
+        assertTrue(underTest.isUpToDate(source, 100L));
+        assertTrue(underTest.isUpToDate(source, 50L));
+        assertFalse(underTest.isUpToDate(source, 101L));
+    }
+
+    @Test
+    void manifestIsLoadedAfterSave() throws IOException {
+        Path file = tempDir.resolve("test.html");
+        fileExporter.export(file, "<html></html>");
+        underTest.exported("player-page/test", 100L);
+        underTest.save();
+
+        ExportManifest loaded = new ExportManifest(files);
+        assertTrue(loaded.isUnchanged(file, ExportManifest.hash(("<html></html>" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8))));
+        assertTrue(loaded.isUpToDate("player-page/test", 100L));
+    }
+}
\ No newline at end of file
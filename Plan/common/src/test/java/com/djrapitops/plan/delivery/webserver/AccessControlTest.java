@@ -141,6 +141,7 @@ class AccessControlTest {
                 Arguments.of("/v1/query?q=%5B%7B%22kind%22%3A%22geolocations%22%2C%22parameters%22%3A%7B%22selected%22%3A%22%5B%5C%22FIN%5C%22%5D%22%7D%7D%5D&view=" + QUERY_VIEW_SIMPLE, WebPermission.PAGE_SERVER_GEOLOCATIONS_MAP, 200, 403),
                 Arguments.of("/v1/errors", WebPermission.ACCESS_ERRORS, 200, 403),
                 Arguments.of("/errors", WebPermission.ACCESS_ERRORS, 200, 403),
+                Arguments.of("/v1/metrics", WebPermission.ACCESS_ERRORS, 200, 403),
                 Arguments.of("/v1/network/listServers", WebPermission.PAGE_NETWORK_PERFORMANCE, 200, 403),
                 Arguments.of("/v1/network/serverOptions", WebPermission.PAGE_NETWORK_PERFORMANCE, 200, 403),
                 Arguments.of("/v1/network/performanceOverview?servers=[" + TestConstants.SERVER_UUID_STRING + "]", WebPermission.PAGE_NETWORK_PERFORMANCE, 200, 403),
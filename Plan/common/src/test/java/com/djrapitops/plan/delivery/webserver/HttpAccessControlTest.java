@@ -92,6 +92,7 @@ class HttpAccessControlTest {
             "/v1/deleteGroup",
             "/v1/storePreferences",
             "/v1/pluginHistory?server=" + TestConstants.SERVER_UUID_STRING,
+            "/v1/metrics",
             "/manage",
             "/auth/register",
             "/auth/login",
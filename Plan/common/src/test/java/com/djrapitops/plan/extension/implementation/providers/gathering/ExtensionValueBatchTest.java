@@ -0,0 +1,143 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerNumberResultTransaction;
+import com.djrapitops.plan.extension.table.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ExtensionValueBatch} dirty checking.
+ *
+ * @author AuroraLS3
+ */
+class ExtensionValueBatchTest {
+
+    private StoredValueCache cache;
+    private Parameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StoredValueCache();
+        parameters = Parameters.player(TestConstants.SERVER_UUID, UUID.randomUUID(), "Test");
+    }
+
+    private ProviderInformation provider(String text) {
+        return ProviderInformation.builder("Extension")
+                .setName("value")
+                .setText(text)
+                .setIcon(Icon.called("circle").build())
+                .build();
+    }
+
+    @Test
+    void unchangedValueIsNotStoredAgain() {
+        ProviderInformation information = provider("Value");
+        cache.valueStored(StoredValueCache.keyOf(parameters, information.getName()), StoredValueCache.snapshotOf(5L));
+
+        ExtensionValueBatch batch = new ExtensionValueBatch(cache, parameters);
+        batch.storeValue(information, 5L, new StorePlayerNumberResultTransaction(information, parameters, 5L));
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    void changedValueIsStored() {
+        ProviderInformation information = provider("Value");
+        cache.valueStored(StoredValueCache.keyOf(parameters, information.getName()), StoredValueCache.snapshotOf(5L));
+
+        ExtensionValueBatch batch = new ExtensionValueBatch(cache, parameters);
+        batch.storeValue(information, 6L, new StorePlayerNumberResultTransaction(information, parameters, 6L));
+        assertFalse(batch.isEmpty());
+    }
+
+    @Test
+    void unavailableValueIsStoredAgain() {
+        ProviderInformation information = provider("Value");
+        cache.valueStored(StoredValueCache.keyOf(parameters, information.getName()), StoredValueCache.snapshotOf(5L));
+
+        ExtensionValueBatch batch = new ExtensionValueBatch(cache, parameters);
+        batch.valueNotAvailable(information);
+        batch.storeValue(information, 5L, new StorePlayerNumberResultTransaction(information, parameters, 5L));
+        assertFalse(batch.isEmpty());
+    }
+
+    @Test
+    void providerIsStoredOnlyWhenDefinitionChanges() {
+        cache.providerStored(provider("Value"));
+
+        ExtensionValueBatch batch = new ExtensionValueBatch(cache, parameters);
+        batch.storeProvider(provider("Value"));
+        assertTrue(batch.isEmpty());
+
+        batch.storeProvider(provider("Changed text"));
+        assertFalse(batch.isEmpty());
+    }
+
+    @Test
+    void valuesWithCollidingHashCodesAreStored() {
+        ProviderInformation information = provider("Value");
+        String key = StoredValueCache.keyOf(parameters, information.getName());
+        assertEquals(Long.hashCode(0L), Long.hashCode(-1L));
+        cache.valueStored(key, StoredValueCache.snapshotOf(0L));
+
+        ExtensionValueBatch batch = new ExtensionValueBatch(cache, parameters);
+        batch.storeValue(information, -1L, new StorePlayerNumberResultTransaction(information, parameters, -1L));
+        assertFalse(batch.isEmpty());
+
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        cache.valueStored(key, StoredValueCache.snapshotOf("Aa"));
+        assertFalse(cache.isValueStored(key, StoredValueCache.snapshotOf("BB")));
+    }
+
+    @Test
+    void tablesDifferingOutsideFirstColumnAreNotEqual() {
+        Table first = Table.builder()
+                .columnOne("Column", Icon.called("circle").build())
+                .columnTwo("Second", Icon.called("circle").build())
+                .addRow("Value", 1).build();
+        Table second = Table.builder()
+                .columnOne("Column", Icon.called("circle").build())
+                .columnTwo("Second", Icon.called("circle").build())
+                .addRow("Value", 2).build();
+
+        assertNotEquals(StoredValueCache.snapshotOf(first), StoredValueCache.snapshotOf(second));
+    }
+
+    @Test
+    void tablesWithSameContentAreEqual() {
+        Table first = Table.builder().columnOne("Column", Icon.called("circle").build()).addRow("Value").build();
+        Table second = Table.builder().columnOne("Column", Icon.called("circle").build()).addRow("Value").build();
+        Table third = Table.builder().columnOne("Column", Icon.called("circle").build()).addRow("Other").build();
+
+        assertEquals(StoredValueCache.snapshotOf(first), StoredValueCache.snapshotOf(second));
+        assertNotEquals(StoredValueCache.snapshotOf(first), StoredValueCache.snapshotOf(third));
+    }
+
+    @Test
+    void groupsWithSameContentAreEqual() {
+        assertEquals(StoredValueCache.snapshotOf(new String[]{"a", "b"}), StoredValueCache.snapshotOf(new String[]{"a", "b"}));
+    }
+}
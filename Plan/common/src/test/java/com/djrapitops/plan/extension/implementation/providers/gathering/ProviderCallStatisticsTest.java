@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ProviderCallStatistics} circuit breaker.
+ *
+ * @author AuroraLS3
+ */
+class ProviderCallStatisticsTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void circuitOpensAfterConsecutiveSlowCalls() {
+        ProviderCallStatistics statistics = new ProviderCallStatistics(100, 3, 1000);
+
+        assertFalse(statistics.recordCall(0, 200 * MS));
+        assertFalse(statistics.recordCall(0, 200 * MS));
+        assertTrue(statistics.recordCall(0, 200 * MS));
+
+        assertFalse(statistics.allowCall(500 * MS));
+        assertEquals(1, statistics.getSkippedCallCount());
+        assertTrue(statistics.allowCall(1300 * MS));
+    }
+
+    @Test
+    void fastCallResetsSlowCalls() {
+        ProviderCallStatistics statistics = new ProviderCallStatistics(100, 3, 1000);
+
+        assertFalse(statistics.recordCall(0, 200 * MS));
+        assertFalse(statistics.recordCall(0, 200 * MS));
+        assertFalse(statistics.recordCall(0, 10 * MS));
+        assertFalse(statistics.recordCall(0, 200 * MS));
+        assertTrue(statistics.allowCall(300 * MS));
+    }
+
+    @Test
+    void singleSlowCallReopensClosedCircuit() {
+        ProviderCallStatistics statistics = new ProviderCallStatistics(100, 3, 1000);
+        statistics.recordCall(0, 200 * MS);
+        statistics.recordCall(0, 200 * MS);
+        statistics.recordCall(0, 200 * MS);
+
+        assertTrue(statistics.allowCall(1300 * MS));
+        assertTrue(statistics.recordCall(1300 * MS, 1500 * MS));
+        assertFalse(statistics.allowCall(1600 * MS));
+    }
+
+    @Test
+    void timingsAreRecorded() {
+        ProviderCallStatistics statistics = new ProviderCallStatistics(100, 3, 1000);
+        statistics.recordCall(0, 10 * MS);
+        statistics.recordCall(0, 30 * MS);
+
+        assertEquals(2, statistics.getCallCount());
+        assertEquals(20.0, statistics.getAverageTimeMs(), 0.001);
+        assertEquals(30.0, statistics.getMaxTimeMs(), 0.001);
+    }
+
+    @Test
+    void timeoutsInARowAreCounted() {
+        ProviderCallStatistics statistics = new ProviderCallStatistics(100, 3, 1000);
+
+        assertEquals(1, statistics.callTimedOut(0, 5000 * MS));
+        assertEquals(2, statistics.callTimedOut(0, 5000 * MS));
+        assertFalse(statistics.allowCall(5500 * MS));
+
+        statistics.recordCall(7000 * MS, 7010 * MS);
+        assertEquals(1, statistics.callTimedOut(8000 * MS, 13000 * MS));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.RandomData;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionJournalTest {
+
+    private Path directory;
+    private SessionJournal journal;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws Exception {
+        directory = temporaryFolder;
+        journal = new SessionJournal(temporaryFolder);
+        journal.reset();
+    }
+
+    @Test
+    void latestCheckpointIsRecovered() throws Exception {
+        journal.checkpoint(RandomData.randomSessions(), 1000L);
+        List<FinishedSession> expected = RandomData.randomSessions();
+        journal.checkpoint(expected, 2000L);
+        journal.close();
+
+        assertEquals(expected, journal.recover());
+    }
+
+    @Test
+    void latestCheckpointIsRecoveredAfterRollover() throws Exception {
+        List<FinishedSession> expected = null;
+        long time = 0L;
+        while (!Files.exists(directory.resolve("session-journal-1.dat"))) {
+            expected = RandomData.randomSessions();
+            journal.checkpoint(expected, ++time);
+        }
+        journal.close();
+
+        assertEquals(expected, journal.recover());
+    }
+
+    @Test
+    void journalIsNotOpenAfterClose() throws Exception {
+        journal.checkpoint(RandomData.randomSessions(), 1000L);
+        journal.close();
+
+        assertFalse(journal.isOpen());
+        journal.reset();
+        assertTrue(journal.isOpen());
+        assertTrue(journal.recover().isEmpty());
+    }
+}
\ No newline at end of file
@@ -34,14 +34,17 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ShutdownDataPreservationTest {
 
     private ShutdownDataPreservation underTest;
+    private SessionJournal journal;
 
     @BeforeEach
     void setupPreservation(@TempDir Path temporaryFolder) throws Exception {
         PluginMockComponent pluginMockComponent = new PluginMockComponent(temporaryFolder);
+        journal = new SessionJournal(temporaryFolder);
         PlanSystem system = pluginMockComponent.getPlanSystem();
         PlatformAbstractionLayer abstractionLayer = pluginMockComponent.getAbstractionLayer();
 
@@ -62,7 +65,8 @@ class ShutdownDataPreservationTest {
                     public Optional<AFKTracker> getAfkTracker() {
                         return Optional.empty();
                     }
-                });
+                },
+                journal);
     }
 
     @Test
@@ -83,4 +87,18 @@ class ShutdownDataPreservationTest {
         assertEquals(expected, result);
     }
 
-}
\ No newline at end of file
+    @Test
+    void journaledSessionsAreMovedToStorageFile() throws Exception {
+        List<FinishedSession> expected = RandomData.randomSessions();
+        journal.reset();
+        journal.checkpoint(expected, System.currentTimeMillis());
+        journal.close();
+
+        underTest.recoverJournaledSessions();
+
+        List<FinishedSession> result = underTest.loadFinishedSessions();
+        assertEquals(expected, result);
+        assertTrue(journal.recover().isEmpty());
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.commands.TabCompleteCache;
+import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
+import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CacheSystemTest {
+
+    @Test
+    void geolocationIsDisabledWithCaches() {
+        GeolocationCache geolocationCache = mock(GeolocationCache.class);
+        CacheSystem underTest = new CacheSystem(
+                mock(TabCompleteCache.class),
+                mock(SessionCache.class),
+                mock(NicknameCache.class),
+                mock(WorldCache.class),
+                geolocationCache,
+                mock(JSONStorage.class)
+        );
+
+        underTest.disable();
+
+        // Saves the geolocation network cache and closes the geolocation database.
+        verify(geolocationCache).disable();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.events.UpdateNicknameLastUsedTransaction;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NicknameCacheTest {
+
+    private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
+    private Database database;
+    private NicknameCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        database = mock(Database.class);
+        DBSystem dbSystem = mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+        underTest = new NicknameCache(dbSystem, mock(ServerInfo.class), mock(ErrorLogger.class));
+    }
+
+    private Nickname nickname(String name, long date) {
+        return new Nickname(name, date, TestConstants.SERVER_UUID);
+    }
+
+    @Test
+    void firstDisplayNameIsChanged() {
+        assertTrue(underTest.updateDisplayName(uuid, nickname("Nick", 1L)));
+    }
+
+    @Test
+    void sameDisplayNameIsNotChanged() {
+        underTest.updateDisplayName(uuid, nickname("Nick", 1L));
+        assertFalse(underTest.updateDisplayName(uuid, nickname("Nick", 2L)));
+        assertFalse(underTest.updateDisplayName(uuid, nickname("Nick", 3L)));
+        assertTrue(underTest.updateDisplayName(uuid, nickname("Other", 4L)));
+    }
+
+    @Test
+    void cachedDisplayNameIsReturned() {
+        underTest.updateDisplayName(uuid, nickname("Nick", 1L));
+        assertTrue(underTest.getDisplayName(uuid).map("Nick"::equals).orElse(false));
+        verify(database, never()).query(any());
+    }
+
+    @Test
+    void lastUsedDatesAreStoredInOneTransaction() {
+        underTest.updateDisplayName(uuid, nickname("Nick", 1L));
+        underTest.updateDisplayName(uuid, nickname("Nick", 2L));
+        underTest.updateDisplayName(TestConstants.PLAYER_TWO_UUID, nickname("Nick2", 1L));
+        underTest.updateDisplayName(TestConstants.PLAYER_TWO_UUID, nickname("Nick2", 2L));
+
+        underTest.storeLastUsedDates();
+        underTest.storeLastUsedDates(); // Nothing new to store
+
+        verify(database, times(1)).executeTransaction(any(UpdateNicknameLastUsedTransaction.class));
+    }
+}
\ No newline at end of file
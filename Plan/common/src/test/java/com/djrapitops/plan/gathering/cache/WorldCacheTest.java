@@ -0,0 +1,104 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.settings.config.WorldAliasSettings;
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+import utilities.TestErrorLogger;
+import utilities.TestPluginLogger;
+import utilities.mocks.TestProcessing;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WorldCacheTest {
+
+    private Database database;
+    private WorldAliasSettings worldAliasSettings;
+    private WorldCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        database = mock(Database.class);
+        when(database.query(any())).thenReturn(Set.of("world"));
+        // Store transactions stay pending unless a test completes them.
+        when(database.executeTransaction(any())).thenReturn(new CompletableFuture<>());
+        DBSystem dbSystem = mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+        ServerInfo serverInfo = mock(ServerInfo.class);
+        when(serverInfo.getServer()).thenReturn(mock(Server.class));
+        when(serverInfo.getServerUUID()).thenReturn(TestConstants.SERVER_UUID);
+        worldAliasSettings = mock(WorldAliasSettings.class);
+
+        TestProcessing processing = new TestProcessing(Locale::new, new TestPluginLogger(), new TestErrorLogger());
+        underTest = new WorldCache(dbSystem, serverInfo, worldAliasSettings, processing, mock(ErrorLogger.class));
+        underTest.enable();
+    }
+
+    @Test
+    void storedWorldIsOnlyAddedToAliases() {
+        underTest.registerWorld("world");
+        underTest.registerWorld("world");
+
+        verify(database, never()).executeTransaction(any());
+        verify(worldAliasSettings, times(1)).addWorld("world");
+    }
+
+    @Test
+    void worldIsAddedToAliasesAgainAfterReload() {
+        underTest.registerWorld("world");
+        underTest.disable();
+        underTest.enable();
+        underTest.registerWorld("world");
+
+        verify(database, never()).executeTransaction(any());
+        verify(worldAliasSettings, times(2)).addWorld("world");
+    }
+
+    @Test
+    void newWorldIsStoredOnce() {
+        underTest.registerWorld("world_nether");
+        underTest.registerWorld("world_nether");
+        underTest.registerWorld("world_nether");
+
+        verify(database, times(1)).executeTransaction(any(StoreWorldNameTransaction.class));
+        verify(worldAliasSettings, times(1)).addWorld("world_nether");
+    }
+
+    @Test
+    void worldIsStoredAgainIfStoringFails() {
+        // Transaction that was not executed successfully
+        when(database.executeTransaction(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        underTest.registerWorld("world_nether");
+        underTest.registerWorld("world_nether");
+
+        verify(database, times(2)).executeTransaction(any(StoreWorldNameTransaction.class));
+    }
+}
\ No newline at end of file
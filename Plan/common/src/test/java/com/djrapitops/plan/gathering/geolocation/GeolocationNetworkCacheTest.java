@@ -0,0 +1,85 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.geolocation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GeolocationNetworkCache}.
+ *
+ * @author AuroraLS3
+ */
+class GeolocationNetworkCacheTest {
+
+    private static final long BUILD_DATE = 1700000000000L;
+
+    @TempDir
+    Path tempDir;
+
+    private static InetAddress address(String address) throws IOException {
+        return InetAddress.getByName(address);
+    }
+
+    @Test
+    void addressesInCachedNetworkAreFound() throws IOException {
+        GeolocationNetworkCache underTest = GeolocationNetworkCache.load(tempDir.resolve("networks.dat"), BUILD_DATE);
+        underTest.put(address("156.53.0.0"), 16, "United States");
+        underTest.put(address("156.53.159.0"), 24, "Canada");
+        underTest.put(address("2001:db8::"), 32, "Finland");
+
+        assertEquals(Optional.of("Canada"), underTest.getCountry(address("156.53.159.86")));
+        assertEquals(Optional.of("United States"), underTest.getCountry(address("156.53.1.1")));
+        assertEquals(Optional.of("Finland"), underTest.getCountry(address("2001:db8:1234::1")));
+        assertTrue(underTest.getCountry(address("156.54.1.1")).isEmpty());
+        assertTrue(underTest.getCountry(address("2001:db9::1")).isEmpty());
+    }
+
+    @Test
+    void savedNetworksAreLoaded() throws IOException {
+        Path file = tempDir.resolve("networks.dat");
+        GeolocationNetworkCache saved = GeolocationNetworkCache.load(file, BUILD_DATE);
+        saved.put(address("208.67.222.0"), 24, "United States");
+        saved.put(address("2001:db8::"), 32, "Finland");
+        saved.save();
+
+        GeolocationNetworkCache underTest = GeolocationNetworkCache.load(file, BUILD_DATE);
+        assertEquals(2, underTest.size());
+        assertEquals(Optional.of("United States"), underTest.getCountry(address("208.67.222.222")));
+        assertEquals(Optional.of("Finland"), underTest.getCountry(address("2001:db8::1")));
+    }
+
+    @Test
+    void networksOfDifferentDatabaseAreNotLoaded() throws IOException {
+        Path file = tempDir.resolve("networks.dat");
+        GeolocationNetworkCache saved = GeolocationNetworkCache.load(file, BUILD_DATE);
+        saved.put(address("208.67.222.0"), 24, "United States");
+        saved.save();
+
+        GeolocationNetworkCache underTest = GeolocationNetworkCache.load(file, BUILD_DATE + 1);
+        assertEquals(0, underTest.size());
+        assertTrue(underTest.getCountry(address("208.67.222.222")).isEmpty());
+    }
+}
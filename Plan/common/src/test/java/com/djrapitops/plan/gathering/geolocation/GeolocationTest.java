@@ -23,6 +23,7 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import extension.FullSystemExtension;
 import net.playeranalytics.plugin.server.PluginLogger;
 import org.junit.jupiter.api.AfterEach;
@@ -37,7 +38,9 @@ import utilities.mocks.TestProcessing;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -71,11 +74,11 @@ class GeolocationTest {
         config.set(DataGatheringSettings.GEOLOCATIONS, true);
         config.set(DataGatheringSettings.ACCEPT_GEOLITE2_EULA, true);
 
-        GeoLite2Geolocator geoLite2Geolocator = new GeoLite2Geolocator(files, config);
         PluginLogger logger = new TestPluginLogger();
         Processing processing = new TestProcessing(Locale::new, logger, new TestErrorLogger());
+        GeoLite2Geolocator geoLite2Geolocator = new GeoLite2Geolocator(files, config, processing);
 
-        underTest = new GeolocationCache(new Locale(), config, geoLite2Geolocator, logger, processing);
+        underTest = new GeolocationCache(new Locale(), config, geoLite2Geolocator, logger, processing, new PlanMetrics());
         files.enable();
         configSystem.enable();
         underTest.enable();
@@ -85,8 +88,9 @@ class GeolocationTest {
 
     @AfterEach
     void tearDownCache(PlanSystem system, PlanFiles files) throws IOException {
-        Files.deleteIfExists(files.getFileFromPluginFolder("GeoLite2-Country.mmdb").toPath());
         underTest.disable();
+        Files.deleteIfExists(files.getFileFromPluginFolder("GeoLite2-Country.mmdb").toPath());
+        Files.deleteIfExists(files.getDataDirectory().resolve("geolocation-networks.dat"));
         system.disable();
     }
 
@@ -117,4 +121,25 @@ class GeolocationTest {
             assertEquals(expIp, countryThirdCall);
         }
     }
-}
+
+    @Test
+    void countriesAreFetchedInBulk() {
+        List<String> ips = new ArrayList<>(TEST_DATA.keySet());
+        ips.addAll(TEST_DATA.keySet()); // Duplicates
+
+        Map<String, String> result = underTest.getCountries(ips);
+
+        assertEquals(TEST_DATA, result);
+        for (String ip : TEST_DATA.keySet()) {
+            assertTrue(underTest.isCached(ip));
+        }
+    }
+
+    @Test
+    void networkCacheIsSavedOnDisable(PlanFiles files) {
+        underTest.getCountry("156.53.159.86");
+        underTest.disable();
+
+        assertTrue(Files.exists(files.getDataDirectory().resolve("geolocation-networks.dat")));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.ServerSensor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EntityChunkCounterTest {
+
+    private Map<String, Integer> chunks;
+    private Map<String, Integer> entities;
+    private Map<String, Integer> recounts;
+    private EntityChunkCounter<String> underTest;
+
+    @BeforeEach
+    void setUp() {
+        chunks = new HashMap<>(Map.of("world", 100, "world_nether", 50));
+        entities = new HashMap<>(Map.of("world", 10, "world_nether", 5));
+        recounts = new HashMap<>();
+        underTest = new EntityChunkCounter<>(new ServerSensor<>() {
+            @Override
+            public boolean supportsDirectTPS() {
+                return false;
+            }
+
+            @Override
+            public int getOnlinePlayerCount() {
+                return 0;
+            }
+
+            @Override
+            public Iterable<String> getWorlds() {
+                return List.copyOf(chunks.keySet());
+            }
+
+            @Override
+            public int getChunkCount(String world) {
+                recounts.merge(world, 1, Integer::sum);
+                return chunks.get(world);
+            }
+
+            @Override
+            public int getEntityCount(String world) {
+                return entities.get(world);
+            }
+        });
+    }
+
+    @Test
+    void onlyOneWorldIsCountedPerPulse() {
+        long time = EntityChunkCounter.SAMPLING_INTERVAL_MS;
+        underTest.pulse(time);
+        assertEquals(1, recounts.values().stream().mapToInt(Integer::intValue).sum());
+
+        underTest.pulse(time + 1000);
+        assertEquals(150, underTest.getChunkCount());
+        assertEquals(15, underTest.getEntityCount());
+        assertEquals(Map.of("world", 1, "world_nether", 1), recounts);
+    }
+
+    @Test
+    void worldsAreSampledOncePerIntervalWithoutEvents() {
+        long time = EntityChunkCounter.SAMPLING_INTERVAL_MS;
+        underTest.pulse(time);
+        underTest.pulse(time + 1000);
+        chunks.put("world", 200);
+
+        underTest.pulse(time + 2000);
+        assertEquals(150, underTest.getChunkCount());
+
+        underTest.pulse(time + EntityChunkCounter.SAMPLING_INTERVAL_MS);
+        assertEquals(250, underTest.getChunkCount());
+    }
+
+    @Test
+    void eventsKeepTotalsUpToDateBetweenRecounts() {
+        underTest.setTrackingChunks(true);
+        underTest.setTrackingEntities(true);
+        long time = EntityChunkCounter.RECONCILE_INTERVAL_MS;
+        underTest.pulse(time);
+        underTest.pulse(time + 1000);
+
+        underTest.chunkLoaded("world");
+        underTest.chunkLoaded("world");
+        underTest.chunkUnloaded("world_nether");
+        underTest.entityAdded("world_nether");
+        underTest.pulse(time + EntityChunkCounter.SAMPLING_INTERVAL_MS);
+
+        assertEquals(151, underTest.getChunkCount());
+        assertEquals(16, underTest.getEntityCount());
+        assertEquals(Map.of("world", 1, "world_nether", 1), recounts);
+    }
+
+    @Test
+    void recountCorrectsDrift() {
+        underTest.setTrackingChunks(true);
+        long time = EntityChunkCounter.RECONCILE_INTERVAL_MS;
+        underTest.pulse(time);
+        underTest.pulse(time + 1000);
+        underTest.chunkLoaded("world"); // Event that platform did not actually do
+
+        underTest.pulse(time + EntityChunkCounter.RECONCILE_INTERVAL_MS);
+        assertEquals(150, underTest.getChunkCount());
+    }
+
+    @Test
+    void unloadedWorldsAreNotCounted() {
+        long time = EntityChunkCounter.SAMPLING_INTERVAL_MS;
+        underTest.pulse(time);
+        underTest.pulse(time + 1000);
+        chunks.remove("world_nether");
+        entities.remove("world_nether");
+
+        underTest.pulse(time + 2000);
+        assertEquals(100, underTest.getChunkCount());
+        assertEquals(10, underTest.getEntityCount());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickDurationRecorderTest {
+
+    @Test
+    void nothingRecordedGivesEmpty() {
+        TickDurationRecorder underTest = new TickDurationRecorder();
+        assertFalse(underTest.getAndReset().isPresent());
+    }
+
+    @Test
+    void singleSpikeShowsInMaxButNotMedian() {
+        TickDurationRecorder underTest = new TickDurationRecorder();
+        for (int i = 0; i < 1199; i++) {
+            underTest.recordTick(20.4);
+        }
+        underTest.recordTick(2000.0);
+
+        TickDurationRecorder.Percentiles result = underTest.getAndReset().orElseThrow(AssertionError::new);
+        assertEquals(21.0, result.getP50());
+        assertEquals(21.0, result.getP99());
+        assertEquals(2000.0, result.getMax());
+    }
+
+    @Test
+    void constantLagShowsInPercentiles() {
+        TickDurationRecorder underTest = new TickDurationRecorder();
+        for (int i = 0; i < 100; i++) {
+            underTest.recordTick(i < 90 ? 60.0 : 150.0);
+        }
+
+        TickDurationRecorder.Percentiles result = underTest.getAndReset().orElseThrow(AssertionError::new);
+        assertEquals(61.0, result.getP50());
+        assertEquals(150.0, result.getP95());
+        assertEquals(150.0, result.getMax());
+    }
+
+    @Test
+    void resetClearsHistogram() {
+        TickDurationRecorder underTest = new TickDurationRecorder();
+        underTest.recordTick(5000.0);
+        underTest.getAndReset();
+        underTest.recordTick(10.0);
+
+        TickDurationRecorder.Percentiles result = underTest.getAndReset().orElseThrow(AssertionError::new);
+        assertEquals(10.0, result.getMax());
+        assertEquals(10.0, result.getP99());
+    }
+
+    @Test
+    void bucketBoundsCoverWholeRange() {
+        assertEquals(0, TickDurationRecorder.bucketOf(0.5));
+        assertEquals(1.0, TickDurationRecorder.upperBoundOf(TickDurationRecorder.bucketOf(0.5)));
+        assertEquals(110.0, TickDurationRecorder.upperBoundOf(TickDurationRecorder.bucketOf(105.0)));
+        assertEquals(1100.0, TickDurationRecorder.upperBoundOf(TickDurationRecorder.bucketOf(1050.0)));
+        assertEquals(Double.POSITIVE_INFINITY, TickDurationRecorder.upperBoundOf(TickDurationRecorder.bucketOf(60000.0)));
+    }
+}
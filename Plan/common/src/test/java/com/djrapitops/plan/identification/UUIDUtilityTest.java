@@ -16,11 +16,23 @@
  */
 package com.djrapitops.plan.identification;
 
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests for {@link UUIDUtility}.
@@ -29,9 +41,122 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 class UUIDUtilityTest {
 
+    private static final UUID PLAYER_UUID = UUID.fromString("f3cc3e96-1bc9-35ad-994f-d894e9764b93");
+
+    private Database database;
+    private DBSystem dbSystem;
+    private AtomicInteger remoteLookups;
+    private UUID remoteUUID;
+
+    @BeforeEach
+    void setUp() {
+        database = Mockito.mock(Database.class);
+        dbSystem = Mockito.mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+        remoteLookups = new AtomicInteger();
+        remoteUUID = null;
+    }
+
+    private UUIDUtility createUUIDUtility() {
+        return new UUIDUtility(dbSystem, Mockito.mock(ErrorLogger.class), Runnable::run, playerName -> {
+            remoteLookups.incrementAndGet();
+            return remoteUUID;
+        });
+    }
+
     @Test
     void stringUUIDIsParsed() {
         String test = "f3cc3e96-1bc9-35ad-994f-d894e9764b93";
         assertEquals(UUID.fromString(test), UUIDUtility.parseFromString(test).orElse(null));
     }
+
+    @Test
+    void uuidFoundFromDatabaseIsCachedWithoutRemoteLookup() {
+        doReturn(Optional.of(PLAYER_UUID)).when(database).query(any());
+        UUIDUtility underTest = createUUIDUtility();
+
+        assertEquals(PLAYER_UUID, underTest.getUUIDOf("Player"));
+        assertEquals(PLAYER_UUID, underTest.getUUIDOf("player"));
+
+        assertEquals(0, remoteLookups.get());
+        verify(database, times(1)).query(any());
+    }
+
+    @Test
+    void uuidFoundRemotelyIsCached() {
+        doReturn(Optional.empty()).when(database).query(any());
+        remoteUUID = PLAYER_UUID;
+        UUIDUtility underTest = createUUIDUtility();
+
+        assertEquals(PLAYER_UUID, underTest.getUUIDOfAsync("Player").join().orElse(null));
+        assertEquals(PLAYER_UUID, underTest.getUUIDOf("Player"));
+
+        assertEquals(1, remoteLookups.get());
+        verify(database, times(1)).query(any());
+    }
+
+    @Test
+    void missingNameIsNotLookedUpAgain() {
+        doReturn(Optional.empty()).when(database).query(any());
+        UUIDUtility underTest = createUUIDUtility();
+
+        assertNull(underTest.getUUIDOf("Player"));
+        assertNull(underTest.getUUIDOf("Player"));
+
+        assertEquals(1, remoteLookups.get());
+        verify(database, times(1)).query(any());
+    }
+
+    @Test
+    void missingUUIDIsNotLookedUpAgain() {
+        doReturn(Optional.empty()).when(database).query(any());
+        UUIDUtility underTest = createUUIDUtility();
+
+        assertEquals(Optional.empty(), underTest.getNameOf(PLAYER_UUID));
+        assertEquals(Optional.empty(), underTest.getNameOf(PLAYER_UUID));
+
+        verify(database, times(1)).query(any());
+    }
+
+    @Test
+    void cachedPlayerIsFoundInBothDirections() {
+        UUIDUtility underTest = createUUIDUtility();
+        underTest.cachePlayer(PLAYER_UUID, "Player");
+
+        assertEquals(PLAYER_UUID, underTest.getUUIDOf("PLAYER"));
+        assertEquals(Optional.of("Player"), underTest.getNameOf(PLAYER_UUID));
+
+        assertEquals(0, remoteLookups.get());
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void knownUUIDDoesNotWaitForRemoteLookup() {
+        doReturn(Optional.empty()).when(database).query(any());
+        remoteUUID = PLAYER_UUID;
+        List<Runnable> remoteCalls = new ArrayList<>();
+        UUIDUtility underTest = new UUIDUtility(dbSystem, Mockito.mock(ErrorLogger.class), remoteCalls::add, playerName -> {
+            remoteLookups.incrementAndGet();
+            return remoteUUID;
+        });
+
+        assertNull(underTest.getKnownUUIDOf("Player"));
+        assertEquals(1, remoteCalls.size());
+
+        remoteCalls.get(0).run();
+        assertEquals(PLAYER_UUID, underTest.getKnownUUIDOf("Player"));
+    }
+
+    @Test
+    void removedPlayerIsNotFoundFromCache() {
+        doReturn(Optional.empty()).when(database).query(any());
+        UUIDUtility underTest = createUUIDUtility();
+        underTest.cachePlayer(PLAYER_UUID, "Player");
+
+        underTest.playerRemoved(PLAYER_UUID);
+
+        assertNull(underTest.getUUIDOf("Player"));
+        assertEquals(Optional.empty(), underTest.getNameOf(PLAYER_UUID));
+        verify(database, times(2)).query(any());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.settings.config;
+
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.TestPluginLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for reading settings from {@link PlanConfig}.
+ *
+ * @author AuroraLS3
+ */
+class PlanConfigTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path configPath;
+    private PlanConfig underTest;
+
+    @BeforeEach
+    void prepareConfig() {
+        configPath = tempDir.resolve("config.yml");
+        underTest = new PlanConfig(configPath.toFile(), null, null, new TestPluginLogger());
+    }
+
+    @Test
+    void setValueIsReadAfterPreviousRead() {
+        underTest.set(WebserverSettings.PORT, 8804);
+        assertEquals(8804, underTest.get(WebserverSettings.PORT));
+
+        underTest.set(WebserverSettings.PORT, 8805);
+        assertEquals(8805, underTest.get(WebserverSettings.PORT));
+    }
+
+    @Test
+    void changedFileIsReadAfterPreviousRead() throws IOException {
+        underTest.set(WebserverSettings.PORT, 8804);
+        underTest.save();
+        assertEquals(8804, underTest.get(WebserverSettings.PORT));
+
+        Files.write(configPath, List.of("Webserver:", "    Port: 8805"));
+        underTest.read();
+        assertEquals(8805, underTest.get(WebserverSettings.PORT));
+    }
+
+    @Test
+    void removedValueIsNotRead() {
+        underTest.set(WebserverSettings.WHITELIST, List.of("192.168.0.1"));
+        assertEquals(List.of("192.168.0.1"), underTest.get(WebserverSettings.WHITELIST));
+
+        underTest.removeNode(WebserverSettings.WHITELIST.getPath());
+        assertEquals(List.of(), underTest.get(WebserverSettings.WHITELIST));
+    }
+
+    @Test
+    void listValuesCanNotBeModified() {
+        underTest.set(WebserverSettings.WHITELIST, List.of("192.168.0.1"));
+        List<String> whitelist = underTest.get(WebserverSettings.WHITELIST);
+        assertThrows(UnsupportedOperationException.class, () -> whitelist.add("192.168.0.2"));
+    }
+}
@@ -46,6 +46,7 @@ import com.djrapitops.plan.storage.database.transactions.StoreConfigTransaction;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayersTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.patches.BadFabricJoinAddressValuePatch;
@@ -65,6 +66,7 @@ import java.time.ZoneOffset;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -126,6 +128,30 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         assertQueryIsEmpty(db(), SessionQueries.fetchSessionsOfPlayer(playerUUID));
     }
 
+    @Test
+    default void testRemovalOfManyUsers() {
+        saveUserTwo();
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        saveTwoWorlds();
+
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, player2UUID, playerUUID)));
+        db().executeTransaction(new StoreGeoInfoTransaction(player2UUID, new GeoInfo("TestLoc", RandomData.randomTime())));
+
+        List<UUID> removed = new ArrayList<>(List.of(playerUUID, player2UUID));
+        for (int i = 0; i < 1000; i++) {
+            removed.add(UUID.randomUUID()); // Not in database, spans multiple batches
+        }
+        db().executeTransaction(new RemovePlayersTransaction(removed));
+
+        for (UUID uuid : List.of(playerUUID, player2UUID)) {
+            assertFalse(db().query(PlayerFetchQueries.isPlayerRegistered(uuid)));
+            assertTrue(db().query(GeoInfoQueries.fetchPlayerGeoInformation(uuid)).isEmpty());
+            assertQueryIsEmpty(db(), SessionQueries.fetchSessionsOfPlayer(uuid));
+        }
+    }
+
     default <T extends Map<?, ?>> void assertQueryIsEmpty(Database database, Query<T> query) {
         assertTrue(database.query(query).isEmpty());
     }
@@ -224,6 +250,21 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         assertEquals(expected, result);
     }
 
+    @Test
+    default void queriesInParallelGiveSameResultsAsQueries() {
+        saveUserOne();
+        saveUserTwo();
+
+        Map<ServerUUID, Integer> expectedCounts = db().query(ServerAggregateQueries.serverUserCounts());
+        Set<UUID> expectedUUIDs = db().query(UserIdentifierQueries.fetchAllPlayerUUIDs());
+
+        Supplier<Map<ServerUUID, Integer>> counts = db().queryInParallel(ServerAggregateQueries.serverUserCounts());
+        Supplier<Set<UUID>> uuids = db().queryInParallel(UserIdentifierQueries.fetchAllPlayerUUIDs());
+
+        assertEquals(expectedCounts, counts.get());
+        assertEquals(expectedUUIDs, uuids.get());
+    }
+
     @Test
     default void sqlDateConversionSanityCheck() {
         Database db = db();
@@ -20,7 +20,10 @@ import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionQue
 import com.djrapitops.plan.storage.database.queries.*;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueriesTest;
 import com.djrapitops.plan.storage.database.queries.analysis.TopListQueriesTest;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueriesTest;
 import com.djrapitops.plan.storage.database.queries.objects.PluginMetadataQueriesTest;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageQueryTest;
+import com.djrapitops.plan.storage.database.transactions.ReplayWriteSpoolTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.commands.ChangeUserUUIDTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.commands.CombineUserTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.patches.AfterBadJoinAddressDataCorrectionPatchTest;
@@ -47,6 +50,10 @@ public interface DatabaseTestAggregate extends
         BadJoinAddressDataCorrectionPatchTest,
         AfterBadJoinAddressDataCorrectionPatchTest,
         PlayerRetentionQueriesTest,
-        PluginMetadataQueriesTest {
+        WindowedAggregateQueriesTest,
+        PluginMetadataQueriesTest,
+        PlayersTablePageQueryTest,
+        ReplayWriteSpoolTransactionTest,
+        TransactionQueueTest {
     /* Collects all query tests together so its easier to implement database tests */
 }
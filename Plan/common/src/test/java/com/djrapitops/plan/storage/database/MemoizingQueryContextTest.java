@@ -0,0 +1,79 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.queries.KeyedQuery;
+import com.djrapitops.plan.storage.database.queries.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link MemoizingQueryContext}.
+ *
+ * @author AuroraLS3
+ */
+class MemoizingQueryContextTest {
+
+    private AtomicInteger runs;
+    private MemoizingQueryContext underTest;
+
+    @BeforeEach
+    void setUp() {
+        runs = new AtomicInteger();
+        Database database = Mockito.mock(Database.class);
+        when(database.queryInParallel(any())).thenAnswer(invocation -> {
+            int result = runs.incrementAndGet();
+            return (Supplier<Integer>) () -> result;
+        });
+        underTest = new MemoizingQueryContext(database);
+    }
+
+    private static Query<Integer> query(long after, long before) {
+        return KeyedQuery.of(db -> 0, "MemoizingQueryContextTest.query", after, before);
+    }
+
+    @Test
+    void equalKeyedQueriesAreRunOnce() {
+        assertEquals(1, underTest.query(query(0L, 10L)));
+        assertEquals(1, underTest.query(query(0L, 10L)));
+        assertEquals(1, underTest.queryInParallel(query(0L, 10L)).get());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void keyedQueriesWithDifferentParametersAreRunSeparately() {
+        assertEquals(1, underTest.query(query(0L, 10L)));
+        assertEquals(2, underTest.query(query(0L, 20L)));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void queriesWithoutKeyAreAlwaysRun() {
+        Query<Integer> query = db -> 0;
+        assertEquals(1, underTest.query(query));
+        assertEquals(2, underTest.query(query));
+        assertEquals(2, runs.get());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,240 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.exceptions.database.DBClosedException;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionPriority;
+import org.junit.jupiter.api.Test;
+import utilities.TestErrorLogger;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the order and handling of transactions waiting in {@link SQLDB} transaction queue.
+ *
+ * @author AuroraLS3
+ */
+public interface TransactionQueueTest extends DatabaseTestPreparer {
+
+    default SQLiteDB openQueueTestDB(ExecutorService executor) throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "queue-", ".db").toFile();
+        tempFile.deleteOnExit();
+        SQLiteDB database = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        database.setTransactionExecutorServiceProvider(() -> executor);
+        database.init();
+        // Waits for the schema to be created
+        database.executeTransaction(recording(new ArrayList<>(), "ready", TransactionPriority.CRITICAL)).get(10, TimeUnit.SECONDS);
+        return database;
+    }
+
+    default Transaction recording(List<String> executed, String name, TransactionPriority priority) {
+        return new Transaction() {
+            @Override
+            protected void performOperations() {
+                executed.add(name);
+            }
+
+            @Override
+            public TransactionPriority getPriority() {
+                return priority;
+            }
+        };
+    }
+
+    default CountDownLatch blockQueue(SQLiteDB database) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        database.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        return release;
+    }
+
+    @Test
+    default void higherPriorityTransactionsAreExecutedFirst() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SQLiteDB database = openQueueTestDB(executor);
+        try {
+            List<String> executed = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch release = blockQueue(database);
+            database.executeTransaction(recording(executed, "housekeeping", TransactionPriority.HOUSEKEEPING));
+            database.executeTransaction(recording(executed, "sampled", TransactionPriority.SAMPLED_METRICS));
+            CompletableFuture<?> last = database.executeTransaction(recording(executed, "critical", TransactionPriority.CRITICAL));
+            release.countDown();
+            last.get(10, TimeUnit.SECONDS);
+            database.executeTransaction(recording(executed, "after", TransactionPriority.HOUSEKEEPING)).get(10, TimeUnit.SECONDS);
+
+            assertEquals(List.of("critical", "sampled", "housekeeping", "after"), executed);
+        } finally {
+            database.close();
+        }
+    }
+
+    @Test
+    default void lowerPriorityTransactionIsNotStarved() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SQLiteDB database = openQueueTestDB(executor);
+        try {
+            List<String> executed = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch release = blockQueue(database);
+            CompletableFuture<?> housekeeping = database.executeTransaction(recording(executed, "housekeeping", TransactionPriority.HOUSEKEEPING));
+            List<CompletableFuture<?>> critical = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                critical.add(database.executeTransaction(recording(executed, "critical", TransactionPriority.CRITICAL)));
+            }
+            release.countDown();
+            housekeeping.get(10, TimeUnit.SECONDS);
+            for (CompletableFuture<?> future : critical) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(21, executed.size());
+            assertEquals(10, executed.indexOf("housekeeping"));
+        } finally {
+            database.close();
+        }
+    }
+
+    @Test
+    default void transactionKeepingSubmissionOrderWaitsForEarlierTransactions() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SQLiteDB database = openQueueTestDB(executor);
+        try {
+            List<String> executed = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch release = blockQueue(database);
+            database.executeTransaction(recording(executed, "housekeeping", TransactionPriority.HOUSEKEEPING));
+            database.executeTransaction(new Transaction() {
+                @Override
+                protected void performOperations() {
+                    executed.add("ordered");
+                }
+
+                @Override
+                public boolean keepsSubmissionOrder() {
+                    return true;
+                }
+            });
+            CompletableFuture<?> last = database.executeTransaction(recording(executed, "sampled", TransactionPriority.SAMPLED_METRICS));
+            release.countDown();
+            last.get(10, TimeUnit.SECONDS);
+
+            assertEquals(List.of("housekeeping", "ordered", "sampled"), executed);
+        } finally {
+            database.close();
+        }
+    }
+
+    @Test
+    default void lowerPrioritiesAreDeferredWhileQueueIsSlow() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SQLiteDB database = openQueueTestDB(executor);
+        try {
+            CountDownLatch release = blockQueue(database);
+            CompletableFuture<?> waiting = database.executeTransaction(recording(new ArrayList<>(), "housekeeping", TransactionPriority.HOUSEKEEPING));
+            Thread.sleep(50L);
+
+            assertTrue(database.getTransactionQueueLatency(TransactionPriority.HOUSEKEEPING) >= 50L);
+            assertEquals(0L, database.getTransactionQueueLatency(TransactionPriority.CRITICAL));
+            assertFalse(database.shouldDefer(TransactionPriority.CRITICAL));
+
+            database.increaseHeavyLoadDelay();
+            try {
+                assertTrue(database.shouldDefer(TransactionPriority.SAMPLED_METRICS));
+                assertFalse(database.shouldDefer(TransactionPriority.CRITICAL));
+            } finally {
+                database.assumeNoMoreHeavyLoad();
+            }
+
+            release.countDown();
+            waiting.get(10, TimeUnit.SECONDS);
+            assertFalse(database.shouldDefer(TransactionPriority.HOUSEKEEPING));
+        } finally {
+            database.close();
+        }
+    }
+
+    @Test
+    default void throwawayTransactionsAreDroppedWhenQueueIsFull() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SQLiteDB database = openQueueTestDB(executor);
+        try {
+            List<String> executed = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch release = blockQueue(database);
+            List<CompletableFuture<?>> queued = new ArrayList<>();
+            for (int i = 0; i < 499; i++) {
+                queued.add(database.executeTransaction(recording(executed, "critical", TransactionPriority.CRITICAL)));
+            }
+            CompletableFuture<?> dropped = database.executeTransaction(new ThrowawayTransaction() {
+                @Override
+                protected void performOperations() {
+                    executed.add("throwaway");
+                }
+            });
+
+            assertTrue(dropped.isDone());
+            assertTrue(database.shouldDropUnimportantTransactions());
+
+            release.countDown();
+            for (CompletableFuture<?> future : queued) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(499, executed.size());
+            assertFalse(executed.contains("throwaway"));
+            assertEquals(0, database.getTransactionQueueSize());
+        } finally {
+            database.close();
+        }
+    }
+
+    @Test
+    default void rejectedTransactionIsRemovedFromQueue() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SQLiteDB database = openQueueTestDB(executor);
+        TestErrorLogger.throwErrors(false);
+        try {
+            executor.shutdown();
+            List<String> executed = new ArrayList<>();
+            database.executeTransaction(recording(executed, "rejected", TransactionPriority.CRITICAL)).get(10, TimeUnit.SECONDS);
+
+            assertTrue(executed.isEmpty());
+            assertEquals(0, database.getTransactionQueueSize());
+            assertEquals(0L, database.getTransactionQueueLatency(TransactionPriority.HOUSEKEEPING));
+            assertTrue(TestErrorLogger.getLatest().orElseThrow().getCause() instanceof DBClosedException);
+        } finally {
+            TestErrorLogger.throwErrors(true);
+            database.close();
+        }
+    }
+}
\ No newline at end of file
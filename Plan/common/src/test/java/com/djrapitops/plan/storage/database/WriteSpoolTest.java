@@ -0,0 +1,135 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.storage.database.transactions.SpoolableTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.TestConstants;
+import utilities.TestPluginLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WriteSpool}.
+ *
+ * @author AuroraLS3
+ */
+class WriteSpoolTest {
+
+    private static final long MAX_SIZE = 1024L * 1024L;
+
+    @TempDir
+    Path tempDir;
+
+    private static PingStoreTransaction ping(int value) {
+        return new PingStoreTransaction(TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID,
+                List.of(new DateObj<>(1000L, value), new DateObj<>(2000L, value + 1)));
+    }
+
+    private static List<String> serialized(WriteSpool.Batch batch) {
+        return batch.getTransactions().stream()
+                .map(SpoolableTransaction.class::cast)
+                .map(SpoolableTransaction::serializeForSpool)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void spooledTransactionsAreReadInOrder() throws IOException {
+        Path file = tempDir.resolve("spool.log");
+        TPSStoreTransaction tps = new TPSStoreTransaction(TestConstants.SERVER_UUID, new TPS(1000L, 20.0, 5, 0.5, 1024L, 100, 50, 2048L));
+        try (WriteSpool spool = WriteSpool.open(file, MAX_SIZE, new TestPluginLogger())) {
+            assertFalse(spool.hasPending());
+            assertTrue(spool.append(ping(50)));
+            assertTrue(spool.append(tps));
+            assertTrue(spool.hasPending());
+
+            List<Transaction> found = spool.readBatch(10).getTransactions();
+            assertEquals(2, found.size());
+            assertEquals(ping(50).serializeForSpool(), ((SpoolableTransaction) found.get(0)).serializeForSpool());
+            assertEquals(tps.serializeForSpool(), ((SpoolableTransaction) found.get(1)).serializeForSpool());
+        }
+    }
+
+    @Test
+    void replayedRecordsAreNotReadAgainAfterReopening() throws IOException {
+        Path file = tempDir.resolve("spool.log");
+        try (WriteSpool spool = WriteSpool.open(file, MAX_SIZE, new TestPluginLogger())) {
+            for (int i = 0; i < 3; i++) {
+                spool.append(ping(i));
+            }
+            spool.markReplayed(spool.readBatch(2));
+        }
+        try (WriteSpool spool = WriteSpool.open(file, MAX_SIZE, new TestPluginLogger())) {
+            assertEquals(List.of(ping(2).serializeForSpool()), serialized(spool.readBatch(10)));
+        }
+    }
+
+    @Test
+    void spoolIsEmptiedAfterEverythingIsReplayed() throws IOException {
+        Path file = tempDir.resolve("spool.log");
+        try (WriteSpool spool = WriteSpool.open(file, MAX_SIZE, new TestPluginLogger())) {
+            spool.append(ping(1));
+            long sizeWithRecord = Files.size(file);
+            spool.markReplayed(spool.readBatch(10));
+
+            assertFalse(spool.hasPending());
+            assertTrue(Files.size(file) < sizeWithRecord);
+        }
+    }
+
+    @Test
+    void partiallyWrittenRecordIsDiscarded() throws IOException {
+        Path file = tempDir.resolve("spool.log");
+        try (WriteSpool spool = WriteSpool.open(file, MAX_SIZE, new TestPluginLogger())) {
+            spool.append(ping(1));
+            spool.append(ping(2));
+        }
+        // Length of 100 bytes, bad checksum and only part of the payload
+        Files.write(file, new byte[]{0, 0, 0, 100, 1, 2, 3, 4, 'p', 'i'}, StandardOpenOption.APPEND);
+
+        try (WriteSpool spool = WriteSpool.open(file, MAX_SIZE, new TestPluginLogger())) {
+            spool.append(ping(3));
+            List<String> expected = List.of(ping(1).serializeForSpool(), ping(2).serializeForSpool(), ping(3).serializeForSpool());
+            assertEquals(expected, serialized(spool.readBatch(10)));
+        }
+    }
+
+    @Test
+    void fullSpoolDoesNotAcceptMoreData() throws IOException {
+        Path file = tempDir.resolve("spool.log");
+        try (WriteSpool spool = WriteSpool.open(file, 150L, new TestPluginLogger())) {
+            assertTrue(spool.append(ping(1)));
+            assertFalse(spool.append(new PingStoreTransaction(UUID.randomUUID(), TestConstants.SERVER_UUID,
+                    List.of(new DateObj<>(1000L, 1), new DateObj<>(2000L, 2)))));
+            assertEquals(1, spool.readBatch(10).getTransactions().size());
+        }
+    }
+}
@@ -26,7 +26,10 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.SQLiteDB;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
 import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
+import com.djrapitops.plan.storage.database.transactions.CopyCheckpoint;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.StoreWebUserTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import com.djrapitops.plan.storage.database.transactions.webuser.StoreWebUserPreferencesTransaction;
@@ -38,11 +41,15 @@ import utilities.RandomData;
 import utilities.TestConstants;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public interface DatabaseBackupTest extends DatabaseTestPreparer {
 
@@ -111,6 +118,107 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
         }
     }
 
+    @Test
+    default void interruptedCopyIsResumedFromCheckpoint() throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "backup-", ".db").toFile();
+        tempFile.deleteOnExit();
+        Path checkpointFile = system().getPlanFiles().getDataDirectory().resolve("test-copy.checkpoint");
+        SQLiteDB backup = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        try {
+            backup.init();
+
+            saveDataForBackup();
+
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup));
+            int copiedTPSId = interruptCopyInTPSTable(backup, checkpointFile);
+
+            CopyCheckpoint checkpoint = CopyCheckpoint.load(checkpointFile, "test");
+            assertTrue(checkpoint.isStarted());
+            assertEquals(copiedTPSId, checkpoint.getLastId(TPSTable.TABLE_NAME));
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup, checkpoint));
+
+            assertCopyIsEqual(backup);
+            assertFalse(Files.exists(checkpointFile));
+        } finally {
+            backup.close();
+        }
+    }
+
+    @Test
+    default void interruptedCopyIsResumedIntoDatabaseWithExtraRows() throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "backup-", ".db").toFile();
+        tempFile.deleteOnExit();
+        Path checkpointFile = system().getPlanFiles().getDataDirectory().resolve("test-copy.checkpoint");
+        SQLiteDB backup = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        try {
+            backup.init();
+
+            saveDataForBackup();
+
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup));
+            interruptCopyInTPSTable(backup, checkpointFile);
+
+            // Rows created by the destination after the interruption get ids past the checkpoint.
+            backup.executeTransaction(new Transaction() {
+                @Override
+                protected void performOperations() {
+                    for (TPS tps : RandomData.randomTPS()) {
+                        execute(DataStoreQueries.storeTPS(serverUUID(), tps));
+                    }
+                }
+            });
+            backup.executeTransaction(new StoreServerPlayerTransaction(UUID.randomUUID(), RandomData::randomTime,
+                    "ExtraPlayer", serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+            assertNotEquals(db().query(BaseUserQueries.fetchAllBaseUsers()), backup.query(BaseUserQueries.fetchAllBaseUsers()));
+
+            CopyCheckpoint checkpoint = CopyCheckpoint.load(checkpointFile, "test");
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup, checkpoint));
+
+            assertCopyIsEqual(backup);
+            assertFalse(Files.exists(checkpointFile));
+        } finally {
+            backup.close();
+        }
+    }
+
+    /**
+     * Turn a finished copy into one that was interrupted half way through TPS table.
+     *
+     * @return Last TPS id in the checkpoint.
+     */
+    default int interruptCopyInTPSTable(Database backup, Path checkpointFile) throws IOException {
+        int copiedTPSId = backup.query(LargeFetchQueries.fetchLargestId(TPSTable.TABLE_NAME)) / 2;
+        List<String> checkpointLines = new ArrayList<>();
+        checkpointLines.add("test");
+        for (String table : BackupCopyTransaction.getCopiedTables().get(0)) {
+            checkpointLines.add(table + ';' + backup.query(LargeFetchQueries.fetchLargestId(table)) + ";true");
+        }
+        checkpointLines.add(TPSTable.TABLE_NAME + ';' + copiedTPSId + ";false");
+
+        backup.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute("DELETE FROM " + TPSTable.TABLE_NAME + " WHERE id>" + copiedTPSId);
+            }
+        });
+        Files.write(checkpointFile, checkpointLines);
+        return copiedTPSId;
+    }
+
+    default void assertCopyIsEqual(Database backup) {
+        assertQueryResultIsEqual(db(), backup, BaseUserQueries.fetchAllBaseUsers());
+        assertQueryResultIsEqual(db(), backup, UserInfoQueries.fetchAllUserInformation());
+        assertQueryResultIsEqual(db(), backup, SessionQueries.fetchAllSessions());
+        assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllTPSData());
+        for (List<String> tables : BackupCopyTransaction.getCopiedTables()) {
+            for (String table : tables) {
+                assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchLargestId(table));
+            }
+        }
+    }
+
     default <T> void assertQueryResultIsEqual(Database one, Database two, Query<T> query) {
         assertEquals(one.query(query), two.query(query));
     }
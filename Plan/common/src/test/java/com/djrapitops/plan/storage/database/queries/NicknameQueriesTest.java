@@ -24,11 +24,13 @@ import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythi
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreNicknameTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.UpdateNicknameLastUsedTransaction;
 import org.junit.jupiter.api.Test;
 import utilities.RandomData;
 import utilities.TestConstants;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,6 +54,23 @@ public interface NicknameQueriesTest extends DatabaseTestPreparer {
         assertEquals(saved, fetched);
     }
 
+    @Test
+    default void olderLastUsedDateDoesNotReplaceNewerOne() {
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+
+        Nickname stored = new Nickname("Nick", 2000L, serverUUID());
+        db().executeTransaction(new StoreNicknameTransaction(playerUUID, stored));
+        // Last used date that was pending from before the player rejoined
+        db().executeTransaction(new UpdateNicknameLastUsedTransaction(Map.of(playerUUID, new Nickname("Nick", 1000L, serverUUID()))));
+
+        forcePersistenceCheck();
+
+        List<Nickname> fetched = db().query(NicknameQueries.fetchNicknameDataOfPlayer(playerUUID));
+        assertEquals(List.of(stored), fetched);
+        assertEquals(2000L, fetched.get(0).getDate());
+    }
+
     @Test
     default void nicknameMatchingFindsNicknames() {
         UUID uuid = UUID.randomUUID();
@@ -114,6 +114,26 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(session, savedSessions.get(0));
     }
 
+    @Test
+    default void shutdownDataPreservationTransactionDoesNotStoreSameSessionTwice() {
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        db().executeTransaction(new ShutdownDataPreservationTransaction(List.of(session)));
+        db().executeTransaction(new ShutdownDataPreservationTransaction(List.of(session, session)));
+
+        Map<ServerUUID, List<FinishedSession>> sessions = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID));
+        List<FinishedSession> savedSessions = sessions.get(serverUUID());
+
+        assertNotNull(savedSessions);
+        assertEquals(1, savedSessions.size());
+    }
+
     @Test
     default void shutdownDataPreservationTransactionOutOfOrderDoesNotFailDueToMissingKilledUser() {
         db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
@@ -106,6 +106,19 @@ public interface UserInfoQueriesTest extends DatabaseTestPreparer {
         OptionalAssert.equals(random, db().query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID)).map(BaseUser::getTimesKicked));
     }
 
+    @Test
+    default void existingPlayerUUIDsAreFoundFromGivenUUIDs() {
+        db().executeTransaction(new PlayerRegisterTransaction(playerUUID, () -> TestConstants.REGISTER_TIME, TestConstants.PLAYER_ONE_NAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, () -> TestConstants.REGISTER_TIME,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        UUID notStored = UUID.randomUUID();
+        List<UUID> lookFor = List.of(playerUUID, player2UUID, notStored);
+
+        assertEquals(Set.of(playerUUID, player2UUID), db().query(UserIdentifierQueries.fetchExistingPlayerUUIDs(lookFor)));
+        assertEquals(Set.of(player2UUID), db().query(UserIdentifierQueries.fetchPlayerUUIDsOfServer(serverUUID(), lookFor)));
+        assertEquals(Set.of(player2UUID), db().query(UserIdentifierQueries.fetchPlayerUUIDsOfServer(serverUUID())));
+    }
+
     @Test
     default void matchingByNameFindsNamesCaseInsensitive() {
         String exp1 = "TestName";
@@ -0,0 +1,110 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.SessionAggregate;
+import com.djrapitops.plan.storage.database.queries.analysis.WindowedAggregateQueries.Window;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public interface WindowedAggregateQueriesTest extends DatabaseTestPreparer {
+
+    private Window[] storeSessionsForWindowedQueries(long now) {
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        for (FinishedSession session : RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID)) {
+            db().executeTransaction(new StoreSessionTransaction(session));
+        }
+
+        long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
+        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
+        long halfMonthAgo = now - TimeUnit.DAYS.toMillis(15L);
+        long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
+        return new Window[]{
+                Window.of(monthAgo, now),
+                Window.of(weekAgo, now),
+                Window.of(dayAgo, now),
+                Window.of(monthAgo, halfMonthAgo),
+                Window.of(halfMonthAgo, now)
+        };
+    }
+
+    @Test
+    default void sessionAggregatesMatchSingleWindowQueries() {
+        long now = System.currentTimeMillis();
+        Window[] windows = storeSessionsForWindowedQueries(now);
+
+        Map<Window, SessionAggregate> serverResults = db().query(WindowedAggregateQueries.sessionAggregates(serverUUID(), windows));
+        Map<Window, SessionAggregate> networkResults = db().query(WindowedAggregateQueries.sessionAggregates(windows));
+        for (Window window : windows) {
+            long after = window.getAfter();
+            long before = window.getBefore();
+            SessionAggregate expected = new SessionAggregate(
+                    db().query(SessionQueries.playtime(after, before, serverUUID())),
+                    db().query(SessionQueries.sessionCount(after, before, serverUUID())),
+                    db().query(PlayerCountQueries.uniquePlayerCount(after, before, serverUUID()))
+            );
+            assertEquals(expected, serverResults.get(window), window::toString);
+
+            SessionAggregate expectedNetwork = new SessionAggregate(
+                    db().query(SessionQueries.playtime(after, before)),
+                    db().query(SessionQueries.sessionCount(after, before)),
+                    db().query(PlayerCountQueries.uniquePlayerCount(after, before))
+            );
+            assertEquals(expectedNetwork, networkResults.get(window), window::toString);
+        }
+    }
+
+    @Test
+    default void newPlayerCountsMatchSingleWindowQueries() {
+        long now = System.currentTimeMillis();
+        Window[] windows = storeSessionsForWindowedQueries(now);
+
+        Map<Window, Integer> serverResults = db().query(WindowedAggregateQueries.newPlayerCounts(serverUUID(), windows));
+        Map<Window, Integer> networkResults = db().query(WindowedAggregateQueries.newPlayerCounts(windows));
+        for (Window window : windows) {
+            long after = window.getAfter();
+            long before = window.getBefore();
+            assertEquals(db().query(PlayerCountQueries.newPlayerCount(after, before, serverUUID())), serverResults.get(window), window::toString);
+            assertEquals(db().query(PlayerCountQueries.newPlayerCount(after, before)), networkResults.get(window), window::toString);
+        }
+    }
+
+    @Test
+    default void windowsWithoutDataAreZero() {
+        Window window = Window.of(0L, 1000L);
+
+        assertEquals(new SessionAggregate(0L, 0L, 0), db().query(WindowedAggregateQueries.sessionAggregates(serverUUID(), window)).get(window));
+        assertEquals(0, db().query(WindowedAggregateQueries.newPlayerCounts(serverUUID(), window)).get(window));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.GeoInfo;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest.Cursor;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageRequest.SortBy;
+import com.djrapitops.plan.storage.database.transactions.events.StoreGeoInfoTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface PlayersTablePageQueryTest extends DatabaseTestPreparer {
+
+    private void storeTwoPlayers() {
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        for (FinishedSession session : RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID)) {
+            db().executeTransaction(new StoreSessionTransaction(session));
+        }
+    }
+
+    private List<String> names(PlayersTablePage page) {
+        return page.getPlayers().stream()
+                .map(TablePlayer::getName)
+                .map(Optional::orElseThrow)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    default void playersArePagedInSortOrder() {
+        storeTwoPlayers();
+        long now = System.currentTimeMillis();
+
+        PlayersTablePage first = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.NAME, false, null, null, 1)));
+        assertEquals(List.of(TestConstants.PLAYER_ONE_NAME), names(first));
+        Cursor next = first.getNext().orElseThrow(AssertionError::new);
+
+        PlayersTablePage second = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.NAME, false, null, Cursor.parse(next.toString()), 1)));
+        assertEquals(List.of(TestConstants.PLAYER_TWO_NAME), names(second));
+        assertFalse(second.getNext().isPresent());
+    }
+
+    @Test
+    default void playersAreSortedDescending() {
+        storeTwoPlayers();
+        long now = System.currentTimeMillis();
+
+        PlayersTablePage page = db().query(PlayersTablePageQuery.ofNetwork(now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.NAME, true, null, null, 10)));
+        assertEquals(List.of(TestConstants.PLAYER_TWO_NAME, TestConstants.PLAYER_ONE_NAME), names(page));
+        assertFalse(page.getNext().isPresent());
+    }
+
+    @Test
+    default void everySortColumnCanBeQueried() {
+        storeTwoPlayers();
+        long now = System.currentTimeMillis();
+
+        for (SortBy sortBy : SortBy.values()) {
+            PlayersTablePage page = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                    new PlayersTablePageRequest(sortBy, true, null, null, 1)));
+            assertEquals(1, page.getPlayers().size(), sortBy::name);
+            Cursor next = page.getNext().orElseThrow(AssertionError::new);
+
+            PlayersTablePage nextPage = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                    new PlayersTablePageRequest(sortBy, true, null, next, 1)));
+            assertEquals(1, nextPage.getPlayers().size(), sortBy::name);
+            assertNotEquals(page.getPlayerUUIDs(), nextPage.getPlayerUUIDs(), sortBy::name);
+        }
+    }
+
+    @Test
+    default void playersAreSearchedByName() {
+        storeTwoPlayers();
+        long now = System.currentTimeMillis();
+
+        PlayersTablePage page = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.LAST_SEEN, true, "PLAYER_TW", null, 10)));
+        assertEquals(List.of(TestConstants.PLAYER_TWO_NAME), names(page));
+    }
+
+    @Test
+    default void searchWildcardsAreMatchedLiterally() {
+        storeTwoPlayers();
+        long now = System.currentTimeMillis();
+
+        PlayersTablePage percent = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.NAME, false, "%", null, 10)));
+        assertEquals(List.of(), names(percent));
+
+        PlayersTablePage underscore = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.NAME, false, "_player_", null, 10)));
+        assertEquals(List.of(TestConstants.PLAYER_ONE_NAME, TestConstants.PLAYER_TWO_NAME), names(underscore));
+    }
+
+    @Test
+    default void playerWithTiedGeolocationsIsListedOnce() {
+        storeTwoPlayers();
+        long now = System.currentTimeMillis();
+        db().executeTransaction(new StoreGeoInfoTransaction(playerUUID, new GeoInfo("Finland", now)));
+        db().executeTransaction(new StoreGeoInfoTransaction(playerUUID, new GeoInfo("Sweden", now)));
+        db().executeTransaction(new StoreGeoInfoTransaction(player2UUID, new GeoInfo("Norway", now)));
+
+        PlayersTablePage page = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.COUNTRY, false, null, null, 10)));
+        assertEquals(List.of(TestConstants.PLAYER_TWO_NAME, TestConstants.PLAYER_ONE_NAME), names(page));
+    }
+
+    @Test
+    default void laterPagesUseDateOfFirstPage() {
+        storeTwoPlayers();
+        long now = System.currentTimeMillis();
+
+        PlayersTablePage first = db().query(PlayersTablePageQuery.ofServer(serverUUID(), now, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.ACTIVITY_INDEX, true, null, null, 1)));
+        Cursor next = Cursor.parse(first.getNext().orElseThrow(AssertionError::new).toString());
+        assertEquals(now, next.getDate());
+
+        long later = now + TimeUnit.DAYS.toMillis(30L);
+        PlayersTablePage second = db().query(PlayersTablePageQuery.ofServer(serverUUID(), later, TimeUnit.HOURS.toMillis(1L),
+                new PlayersTablePageRequest(SortBy.ACTIVITY_INDEX, true, null, next, 1)));
+        assertEquals(1, second.getPlayers().size());
+        assertNotEquals(first.getPlayerUUIDs(), second.getPlayerUUIDs());
+    }
+}
\ No newline at end of file
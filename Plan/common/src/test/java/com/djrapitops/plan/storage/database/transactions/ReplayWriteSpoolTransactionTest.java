@@ -0,0 +1,118 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.WriteSpool;
+import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.TestPluginLogger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ReplayWriteSpoolTransaction}.
+ *
+ * @author AuroraLS3
+ */
+public interface ReplayWriteSpoolTransactionTest extends DatabaseTestPreparer {
+
+    private static TPS tps(long date) {
+        return new TPS(date, 20.0, 5, 0.5, 1024L, 100, 50, 2048L);
+    }
+
+    private List<Long> storedTPSDates() {
+        return db().query(TPSQueries.fetchTPSDataOfServer(0L, 10000L, serverUUID())).stream()
+                .map(TPS::getDate)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private WriteSpool spoolWithThreeRecords() throws Exception {
+        Path file = Files.createTempFile(system().getPlanFiles().getDataDirectory(), "spool-", ".log");
+        WriteSpool spool = WriteSpool.open(file, 1024L * 1024L, new TestPluginLogger());
+        for (long date = 1000L; date <= 3000L; date += 1000L) {
+            spool.append(new TPSStoreTransaction(serverUUID(), tps(date)));
+        }
+        return spool;
+    }
+
+    @Test
+    default void spooledRecordsAreStored() throws Exception {
+        try (WriteSpool spool = spoolWithThreeRecords()) {
+            db().executeTransaction(new ReplayWriteSpoolTransaction(spool, new TestPluginLogger())).get();
+
+            assertEquals(List.of(1000L, 2000L, 3000L), storedTPSDates());
+            assertTrue(spool.readBatch(10).isEmpty());
+        }
+    }
+
+    @Test
+    default void recordsSurviveLockWaitTimeout() throws Exception {
+        try (WriteSpool spool = spoolWithThreeRecords()) {
+            AtomicInteger calls = new AtomicInteger();
+            db().executeTransaction(new ReplayWriteSpoolTransaction(spool, new TestPluginLogger()) {
+                @Override
+                protected void replay(Transaction record) {
+                    if (calls.incrementAndGet() == 2) {
+                        SQLException lockTimeout = new SQLException("Lock wait timeout exceeded; try restarting transaction", "HY000", 1205);
+                        throw DBOpException.forCause("INSERT INTO plan_tps", lockTimeout);
+                    }
+                    super.replay(record);
+                }
+            }).get();
+
+            assertEquals(List.of(), storedTPSDates());
+            assertEquals(3, spool.readBatch(10).getTransactions().size());
+
+            db().executeTransaction(new ReplayWriteSpoolTransaction(spool, new TestPluginLogger())).get();
+
+            assertEquals(List.of(1000L, 2000L, 3000L), storedTPSDates());
+            assertTrue(spool.readBatch(10).isEmpty());
+        }
+    }
+
+    @Test
+    default void changesOfFailedRecordAreRolledBack() throws Exception {
+        try (WriteSpool spool = spoolWithThreeRecords()) {
+            AtomicInteger calls = new AtomicInteger();
+            db().executeTransaction(new ReplayWriteSpoolTransaction(spool, new TestPluginLogger()) {
+                @Override
+                protected void replay(Transaction record) {
+                    super.replay(record);
+                    if (calls.incrementAndGet() == 2) {
+                        throw DBOpException.forCause("INSERT INTO plan_tps", new SQLException("Constraint failed", "23000", 19));
+                    }
+                }
+            }).get();
+
+            assertEquals(List.of(1000L, 3000L), storedTPSDates());
+            assertTrue(spool.readBatch(10).isEmpty());
+        }
+    }
+}
\ No newline at end of file
@@ -33,10 +33,7 @@ import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTr
 import org.junit.jupiter.api.Test;
 import utilities.TestConstants;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -90,4 +87,30 @@ public interface CombineUserTransactionTest extends DatabaseTestPreparer {
         assertTrue(db.query(KillQueries.fetchPlayerKillsOfPlayer(oldUUID)).isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    default void manyUUIDsAreMovedAndCombinedInOneTransaction() {
+        Database db = db();
+        Map<UUID, UUID> newUUIDs = new HashMap<>();
+        for (int i = 0; i < 450; i++) {
+            UUID oldUUID = UUID.randomUUID();
+            db.executeTransaction(new StoreServerPlayerTransaction(oldUUID, System::currentTimeMillis, "Player" + i, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+            newUUIDs.put(oldUUID, UUID.randomUUID());
+        }
+        // Two offline profiles of the same player combine to an existing online profile.
+        UUID onlineUUID = UUID.randomUUID();
+        UUID offlineUUID1 = UUID.randomUUID();
+        UUID offlineUUID2 = UUID.randomUUID();
+        db.executeTransaction(new StoreServerPlayerTransaction(onlineUUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db.executeTransaction(new StoreServerPlayerTransaction(offlineUUID1, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db.executeTransaction(new StoreServerPlayerTransaction(offlineUUID2, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        newUUIDs.put(offlineUUID1, onlineUUID);
+        newUUIDs.put(offlineUUID2, onlineUUID);
+
+        db.executeTransaction(new ConvertUserUUIDsTransaction(newUUIDs));
+
+        Set<UUID> expected = new HashSet<>(newUUIDs.values());
+        Set<UUID> result = db.query(BaseUserQueries.fetchAllBaseUsersByUUID()).keySet();
+        assertEquals(expected, result);
+        assertEquals(1, db.query(UserInfoQueries.fetchUserInformationOfUser(onlineUUID)).size());
+    }
+}
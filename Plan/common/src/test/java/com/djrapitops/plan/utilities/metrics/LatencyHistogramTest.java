@@ -0,0 +1,56 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZeroes() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0.0, histogram.getAverageMs());
+        assertEquals(0.0, histogram.getPercentileMs(0.95));
+    }
+
+    @Test
+    void percentileIsUpperBoundOfBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 19; i++) {
+            histogram.record(3, TimeUnit.MILLISECONDS);
+        }
+        histogram.record(40, TimeUnit.MILLISECONDS);
+
+        assertEquals(20L, histogram.getCount());
+        assertEquals(5.0, histogram.getPercentileMs(0.95));
+        assertEquals(40.0, histogram.getPercentileMs(1.0));
+        assertEquals(40.0, histogram.getMaxMs());
+        assertEquals(4.85, histogram.getAverageMs(), 0.0001);
+    }
+
+    @Test
+    void durationsAboveLastBucketUseMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(30, TimeUnit.SECONDS);
+        assertEquals(30000.0, histogram.getPercentileMs(0.5));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanMetricsTest {
+
+    @Test
+    void sameNameReturnsSameMetric() {
+        PlanMetrics metrics = new PlanMetrics();
+        assertSame(metrics.counter("test.counter"), metrics.counter("test.counter"));
+        assertSame(metrics.histogram("test.histogram"), metrics.histogram("test.histogram"));
+        assertNotSame(metrics.counter("test.counter"), metrics.counter("test.other"));
+    }
+
+    @Test
+    void countersAreReportedByName() {
+        PlanMetrics metrics = new PlanMetrics();
+        metrics.counter("test.counter").increment();
+        metrics.counter("test.counter").add(2);
+
+        assertEquals(Map.of("test.counter", 3L), metrics.getCounters());
+    }
+
+    @Test
+    void gaugeRegisteredAgainReplacesPrevious() {
+        PlanMetrics metrics = new PlanMetrics();
+        metrics.gauge("test.gauge", () -> 1.0);
+        metrics.gauge("test.gauge", () -> 2.0);
+
+        assertEquals(Map.of("test.gauge", 2.0), metrics.getGauges());
+    }
+
+    @Test
+    void metricsAreSortedByName() {
+        PlanMetrics metrics = new PlanMetrics();
+        metrics.counter("b");
+        metrics.counter("c");
+        metrics.counter("a");
+        metrics.gauge("z", () -> 0.0);
+        metrics.gauge("y", () -> 0.0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(metrics.getCounters().keySet()));
+        assertEquals(Arrays.asList("y", "z"), new ArrayList<>(metrics.getGauges().keySet()));
+    }
+
+    @Test
+    void asMapContainsAllMetricTypes() {
+        PlanMetrics metrics = new PlanMetrics();
+        metrics.counter("test.counter").increment();
+        metrics.gauge("test.gauge", () -> 5.0);
+        metrics.histogram("test.histogram").record(3, TimeUnit.MILLISECONDS);
+
+        Map<String, Object> values = metrics.asMap();
+        assertEquals(Arrays.asList("counters", "gauges", "histograms"), new ArrayList<>(values.keySet()));
+        assertEquals(Map.of("test.counter", 1L), values.get("counters"));
+        assertEquals(Map.of("test.gauge", 5.0), values.get("gauges"));
+        assertTrue(((Map<?, ?>) values.get("histograms")).containsKey("test.histogram"));
+    }
+}
\ No newline at end of file
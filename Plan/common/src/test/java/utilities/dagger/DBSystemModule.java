@@ -22,6 +22,7 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.MySQLDB;
 import com.djrapitops.plan.storage.database.SQLiteDB;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import dagger.Module;
 import dagger.Provides;
 import net.playeranalytics.plugin.server.PluginLogger;
@@ -37,9 +38,10 @@ public class DBSystemModule {
             Locale locale,
             SQLiteDB.Factory sqLiteDB,
             MySQLDB mySQLDB,
-            PluginLogger logger
+            PluginLogger logger,
+            PlanMetrics metrics
     ) {
-        return new DBSystem(config, locale, sqLiteDB, logger) {
+        return new DBSystem(config, locale, sqLiteDB, logger, metrics) {
             @Override
             public void enable() {
                 databases.add(sqLiteDB.usingDefaultFile());
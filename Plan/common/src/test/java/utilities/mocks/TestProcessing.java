@@ -48,4 +48,9 @@ public class TestProcessing extends Processing {
     protected ExecutorService createExecutor(int i, String s) {
         return MoreExecutors.newDirectExecutorService();
     }
+
+    @Override
+    protected ExecutorService createBoundedExecutor(int maxThreads, String s) {
+        return MoreExecutors.newDirectExecutorService();
+    }
 }
\ No newline at end of file
@@ -16,67 +16,56 @@
  */
 package net.playeranalytics.plan.gathering;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.locks.ReentrantLock;
-
+/**
+ * Last position of a player, used for detecting movement for AFK tracking.
+ * <p>
+ * Every connection has its own tracker, attached to it by ServerPlayNetworkHandlerMixin. Movement packets of a
+ * connection are handled on the server thread, so the tracker needs no locking and checks do not allocate.
+ * <p>
+ * Positions are compared at 1/16 of a block and rotation at 1/8 of a degree, so rounding noise in the packets
+ * does not count as movement.
+ *
+ * @author AuroraLS3
+ */
 public class FabricPlayerPositionTracker {
-    private static final ReentrantLock WRITE_LOCK = new ReentrantLock();
-    private static final Map<UUID, double[]> POSITIONS = new HashMap<>();
-
-    private static final double[] EMPTY_POSITION = new double[5];
 
-    private FabricPlayerPositionTracker() {
-        // Static method class
-    }
-
-    public static void removePlayer(UUID playerUUID) {
-        try {
-            WRITE_LOCK.lock();
-            POSITIONS.remove(playerUUID);
-        } finally {
-            WRITE_LOCK.unlock();
-        }
-    }
-
-    public static double[] getPosition(UUID playerUUID) {
-        return POSITIONS.getOrDefault(playerUUID, EMPTY_POSITION);
-    }
-
-    public static boolean moved(UUID playerUUID, double x, double y, double z, float yaw, float pitch) {
-        double[] previous = POSITIONS.get(playerUUID);
-        if (isDifferent(previous, x, y, z, yaw, pitch)) {
-            writeNewPosition(playerUUID, x, y, z, yaw, pitch, previous);
-            return true;
-        }
-        return false;
-    }
+    private static final double POSITION_PRECISION = 16.0;
+    private static final double ROTATION_PRECISION = 8.0;
 
-    private static void writeNewPosition(UUID playerUUID, double x, double y, double z, float yaw, float pitch, double[] previous) {
-        try {
-            WRITE_LOCK.lock();
-            if (previous == null) {
-                previous = new double[5];
-                POSITIONS.put(playerUUID, previous);
-            }
-            previous[0] = x;
-            previous[1] = y;
-            previous[2] = z;
-            previous[3] = yaw;
-            previous[4] = pitch;
+    private boolean hasPosition;
+    private long x;
+    private long y;
+    private long z;
+    private long yaw;
+    private long pitch;
 
-        } finally {
-            WRITE_LOCK.unlock();
+    /**
+     * Check if the player moved and remember the new position.
+     *
+     * @return true if the position is different from the previous one, or if this is the first position.
+     */
+    public boolean moved(double x, double y, double z, float yaw, float pitch) {
+        long newX = Math.round(x * POSITION_PRECISION);
+        long newY = Math.round(y * POSITION_PRECISION);
+        long newZ = Math.round(z * POSITION_PRECISION);
+        long newYaw = Math.round(yaw * ROTATION_PRECISION);
+        long newPitch = Math.round(pitch * ROTATION_PRECISION);
+        if (hasPosition && this.x == newX && this.y == newY && this.z == newZ && this.yaw == newYaw && this.pitch == newPitch) {
+            return false;
         }
+        hasPosition = true;
+        this.x = newX;
+        this.y = newY;
+        this.z = newZ;
+        this.yaw = newYaw;
+        this.pitch = newPitch;
+        return true;
     }
 
-    private static boolean isDifferent(double[] previous, double x, double y, double z, float yaw, float pitch) {
-        return previous == null
-                || Double.compare(previous[0], x) != 0
-                || Double.compare(previous[1], y) != 0
-                || Double.compare(previous[2], z) != 0
-                || Double.compare(previous[3], yaw) != 0
-                || Double.compare(previous[4], pitch) != 0;
+    /**
+     * Implemented by the connection of a player, see ServerPlayNetworkHandlerMixin.
+     */
+    public interface Holder {
+        FabricPlayerPositionTracker plan$getPositionTracker();
     }
-}
+}
\ No newline at end of file
@@ -39,6 +39,8 @@ public class FabricListenerSystem extends ListenerSystem {
     private final GameModeChangeListener gameModeChangeListener;
     private final PlayerOnlineListener playerOnlineListener;
     private final WorldChangeListener worldChangeListener;
+    private final TickDurationListener tickDurationListener;
+    private final EntityChunkCountListener entityChunkCountListener;
     private final Listeners listeners;
 
     @Inject
@@ -49,6 +51,8 @@ public class FabricListenerSystem extends ListenerSystem {
             GameModeChangeListener gameModeChangeListener,
             PlayerOnlineListener playerOnlineListener,
             WorldChangeListener worldChangeListener,
+            TickDurationListener tickDurationListener,
+            EntityChunkCountListener entityChunkCountListener,
             Listeners listeners
     ) {
         this.chatListener = chatListener;
@@ -57,6 +61,8 @@ public class FabricListenerSystem extends ListenerSystem {
         this.playerOnlineListener = playerOnlineListener;
         this.gameModeChangeListener = gameModeChangeListener;
         this.worldChangeListener = worldChangeListener;
+        this.tickDurationListener = tickDurationListener;
+        this.entityChunkCountListener = entityChunkCountListener;
         this.listeners = listeners;
 
     }
@@ -69,6 +75,8 @@ public class FabricListenerSystem extends ListenerSystem {
         listeners.registerListener(gameModeChangeListener);
         listeners.registerListener(playerOnlineListener);
         listeners.registerListener(worldChangeListener);
+        listeners.registerListener(tickDurationListener);
+        listeners.registerListener(entityChunkCountListener);
     }
 
     @Override
@@ -79,6 +87,8 @@ public class FabricListenerSystem extends ListenerSystem {
         listeners.unregisterListener(gameModeChangeListener);
         listeners.unregisterListener(playerOnlineListener);
         listeners.unregisterListener(worldChangeListener);
+        listeners.unregisterListener(tickDurationListener);
+        listeners.unregisterListener(entityChunkCountListener);
     }
 
     @Override
@@ -33,7 +33,6 @@ import net.playeranalytics.plan.gathering.FabricPlayerPositionTracker;
 
 import java.net.SocketAddress;
 import java.util.Collection;
-import java.util.UUID;
 
 public class PlanFabricEvents {
 
@@ -50,17 +49,15 @@ public class PlanFabricEvents {
     });
 
     public static final Event<OnMove> ON_MOVE = EventFactory.createArrayBacked(OnMove.class, callbacks -> (handler, packet) -> {
+        // Player has not been moved yet, so current position is used for values missing from the packet.
+        ServerPlayerEntity player = handler.player;
+        FabricPlayerPositionTracker positionTracker = ((FabricPlayerPositionTracker.Holder) handler).plan$getPositionTracker();
+        if (!positionTracker.moved(packet.getX(player.getX()), packet.getY(player.getY()), packet.getZ(player.getZ()),
+                packet.getYaw(player.getYaw()), packet.getPitch(player.getPitch()))) {
+            return;
+        }
         for (OnMove callback : callbacks) {
-            UUID playerUUID = handler.player.getUuid();
-            double[] position = FabricPlayerPositionTracker.getPosition(playerUUID);
-            double x = position[0];
-            double y = position[1];
-            double z = position[2];
-            float yaw = (float) position[3];
-            float pitch = (float) position[4];
-            if (FabricPlayerPositionTracker.moved(playerUUID, packet.getX(x), packet.getY(y), packet.getZ(z), packet.getYaw(yaw), packet.getPitch(pitch))) {
-                callback.onMove(handler, packet);
-            }
+            callback.onMove(handler, packet);
         }
     });
 
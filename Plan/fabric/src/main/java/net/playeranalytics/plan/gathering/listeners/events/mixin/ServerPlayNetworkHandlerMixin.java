@@ -19,14 +19,24 @@ package net.playeranalytics.plan.gathering.listeners.events.mixin;
 import net.minecraft.network.packet.c2s.play.CommandExecutionC2SPacket;
 import net.minecraft.network.packet.c2s.play.PlayerMoveC2SPacket;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.playeranalytics.plan.gathering.FabricPlayerPositionTracker;
 import net.playeranalytics.plan.gathering.listeners.events.PlanFabricEvents;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(ServerPlayNetworkHandler.class)
-public class ServerPlayNetworkHandlerMixin {
+public class ServerPlayNetworkHandlerMixin implements FabricPlayerPositionTracker.Holder {
+
+    @Unique
+    private final FabricPlayerPositionTracker plan$positionTracker = new FabricPlayerPositionTracker();
+
+    @Override
+    public FabricPlayerPositionTracker plan$getPositionTracker() {
+        return plan$positionTracker;
+    }
 
     @Inject(method = "onCommandExecution", at = @At("TAIL"))
     public void onCommand(CommandExecutionC2SPacket packet, CallbackInfo ci) {
@@ -74,10 +74,10 @@ public class ChatListener implements FabricListener {
         UUID uuid = player.getUuid();
         String displayName = player.getDisplayName().getString();
 
-        dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(
-                uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
-                (playerUUID, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+        Nickname nickname = new Nickname(displayName, time, serverInfo.getServerUUID());
+        if (nicknameCache.updateDisplayName(uuid, nickname)) {
+            dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(uuid, nickname));
+        }
     }
 
     @Override
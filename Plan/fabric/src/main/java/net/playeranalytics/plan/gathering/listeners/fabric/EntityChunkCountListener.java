@@ -0,0 +1,87 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.playeranalytics.plan.gathering.listeners.fabric;
+
+import com.djrapitops.plan.gathering.timed.EntityChunkCounter;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.playeranalytics.plan.gathering.listeners.FabricListener;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Keeps loaded chunk and entity counts up to date in {@link EntityChunkCounter}.
+ */
+@Singleton
+public class EntityChunkCountListener implements FabricListener {
+
+    private final EntityChunkCounter<ServerWorld> entityChunkCounter;
+
+    private boolean isEnabled = false;
+    private boolean wasRegistered = false;
+
+    @Inject
+    public EntityChunkCountListener(EntityChunkCounter<ServerWorld> entityChunkCounter) {
+        this.entityChunkCounter = entityChunkCounter;
+    }
+
+    @Override
+    public void register() {
+        if (this.wasRegistered) {
+            return;
+        }
+
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            if (this.isEnabled) entityChunkCounter.chunkLoaded(world);
+        });
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            if (this.isEnabled) entityChunkCounter.chunkUnloaded(world);
+        });
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (this.isEnabled) entityChunkCounter.entityAdded(world);
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (this.isEnabled) entityChunkCounter.entityRemoved(world);
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> entityChunkCounter.worldUnloaded(world));
+
+        this.enable();
+        this.wasRegistered = true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    @Override
+    public void enable() {
+        this.isEnabled = true;
+        entityChunkCounter.setTrackingChunks(true);
+        entityChunkCounter.setTrackingEntities(true);
+    }
+
+    @Override
+    public void disable() {
+        this.isEnabled = false;
+        entityChunkCounter.setTrackingChunks(false);
+        entityChunkCounter.setTrackingEntities(false);
+    }
+}
@@ -17,11 +17,8 @@
 package net.playeranalytics.plan.gathering.listeners.fabric;
 
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.cache.WorldCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
-import com.djrapitops.plan.identification.ServerInfo;
-import com.djrapitops.plan.settings.config.WorldAliasSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -42,9 +39,7 @@ import java.util.UUID;
 @Singleton
 public class GameModeChangeListener implements FabricListener {
 
-    private final WorldAliasSettings worldAliasSettings;
-    private final ServerInfo serverInfo;
-    private final DBSystem dbSystem;
+    private final WorldCache worldCache;
     private final ErrorLogger errorLogger;
 
     private boolean isEnabled = false;
@@ -52,14 +47,10 @@ public class GameModeChangeListener implements FabricListener {
 
     @Inject
     public GameModeChangeListener(
-            WorldAliasSettings worldAliasSettings,
-            ServerInfo serverInfo,
-            DBSystem dbSystem,
+            WorldCache worldCache,
             ErrorLogger errorLogger
     ) {
-        this.worldAliasSettings = worldAliasSettings;
-        this.serverInfo = serverInfo;
-        this.dbSystem = dbSystem;
+        this.worldCache = worldCache;
         this.errorLogger = errorLogger;
     }
 
@@ -77,8 +68,7 @@ public class GameModeChangeListener implements FabricListener {
         String gameMode = newGameMode.name();
         String worldName = player.getWorld().getRegistryKey().getValue().toString();
 
-        dbSystem.getDatabase().executeTransaction(new StoreWorldNameTransaction(serverInfo.getServerUUID(), worldName));
-        worldAliasSettings.addWorld(worldName);
+        worldCache.registerWorld(worldName);
 
         Optional<ActiveSession> cachedSession = SessionCache.getCachedSession(uuid);
         cachedSession.ifPresent(session -> session.changeState(worldName, gameMode, time));
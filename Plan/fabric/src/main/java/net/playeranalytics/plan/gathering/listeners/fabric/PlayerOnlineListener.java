@@ -34,7 +34,6 @@ import net.minecraft.network.packet.c2s.handshake.ConnectionIntent;
 import net.minecraft.network.packet.c2s.handshake.HandshakeC2SPacket;
 import net.minecraft.server.dedicated.MinecraftDedicatedServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.playeranalytics.plan.gathering.FabricPlayerPositionTracker;
 import net.playeranalytics.plan.gathering.domain.FabricPlayerData;
 import net.playeranalytics.plan.gathering.listeners.FabricListener;
 import net.playeranalytics.plan.gathering.listeners.events.PlanFabricEvents;
@@ -206,7 +205,6 @@ public class PlayerOnlineListener implements FabricListener {
         UUID playerUUID = player.getUuid();
         long time = System.currentTimeMillis();
         FabricAFKListener.afkTracker.loggedOut(playerUUID, time);
-        FabricPlayerPositionTracker.removePlayer(playerUUID);
 
         leaveEventConsumer.onLeaveGameServer(PlayerLeave.builder()
                 .server(serverInfo.getServer())
@@ -0,0 +1,77 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.playeranalytics.plan.gathering.listeners.fabric;
+
+import com.djrapitops.plan.gathering.timed.TickDurationRecorder;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.playeranalytics.plan.gathering.listeners.FabricListener;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Measures how long each server tick takes for {@link TickDurationRecorder}.
+ */
+@Singleton
+public class TickDurationListener implements FabricListener {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final TickDurationRecorder tickDurationRecorder;
+
+    private long tickStart = -1; // Only accessed on the server thread
+    private boolean isEnabled = false;
+    private boolean wasRegistered = false;
+
+    @Inject
+    public TickDurationListener(TickDurationRecorder tickDurationRecorder) {
+        this.tickDurationRecorder = tickDurationRecorder;
+    }
+
+    @Override
+    public void register() {
+        if (this.wasRegistered) {
+            return;
+        }
+
+        ServerTickEvents.START_SERVER_TICK.register(server -> tickStart = System.nanoTime());
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (!this.isEnabled || tickStart < 0) {
+                return;
+            }
+            tickDurationRecorder.recordTick((System.nanoTime() - tickStart) / NANOS_PER_MILLI);
+        });
+
+        this.enable();
+        this.wasRegistered = true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    @Override
+    public void enable() {
+        this.isEnabled = true;
+    }
+
+    @Override
+    public void disable() {
+        this.isEnabled = false;
+    }
+}
@@ -17,11 +17,8 @@
 package net.playeranalytics.plan.gathering.listeners.fabric;
 
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.cache.WorldCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
-import com.djrapitops.plan.identification.ServerInfo;
-import com.djrapitops.plan.settings.config.WorldAliasSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
@@ -36,9 +33,7 @@ import java.util.UUID;
 @Singleton
 public class WorldChangeListener implements FabricListener {
 
-    private final WorldAliasSettings worldAliasSettings;
-    private final ServerInfo serverInfo;
-    private final DBSystem dbSystem;
+    private final WorldCache worldCache;
     private final ErrorLogger errorLogger;
 
     private boolean isEnabled = false;
@@ -46,14 +41,10 @@ public class WorldChangeListener implements FabricListener {
 
     @Inject
     public WorldChangeListener(
-            WorldAliasSettings worldAliasSettings,
-            ServerInfo serverInfo,
-            DBSystem dbSystem,
+            WorldCache worldCache,
             ErrorLogger errorLogger
     ) {
-        this.worldAliasSettings = worldAliasSettings;
-        this.serverInfo = serverInfo;
-        this.dbSystem = dbSystem;
+        this.worldCache = worldCache;
         this.errorLogger = errorLogger;
     }
 
@@ -73,8 +64,7 @@ public class WorldChangeListener implements FabricListener {
         String worldName = player.getWorld().getRegistryKey().getValue().toString();
         String gameMode = player.interactionManager.getGameMode().name();
 
-        dbSystem.getDatabase().executeTransaction(new StoreWorldNameTransaction(serverInfo.getServerUUID(), worldName));
-        worldAliasSettings.addWorld(worldName);
+        worldCache.registerWorld(worldName);
 
         Optional<ActiveSession> cachedSession = SessionCache.getCachedSession(uuid);
         cachedSession.ifPresent(session -> session.changeState(worldName, gameMode, time));
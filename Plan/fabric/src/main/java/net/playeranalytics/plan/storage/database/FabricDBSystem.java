@@ -22,6 +22,7 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.MySQLDB;
 import com.djrapitops.plan.storage.database.SQLiteDB;
+import com.djrapitops.plan.utilities.metrics.PlanMetrics;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
@@ -42,9 +43,10 @@ public class FabricDBSystem extends DBSystem {
             MySQLDB mySQLDB,
             SQLiteDB.Factory sqLiteDB,
             PlanConfig config,
-            PluginLogger logger
+            PluginLogger logger,
+            PlanMetrics metrics
     ) {
-        super(config, locale, sqLiteDB, logger);
+        super(config, locale, sqLiteDB, logger, metrics);
 
         databases.add(mySQLDB);
         databases.add(sqLiteDB.usingDefaultFile());
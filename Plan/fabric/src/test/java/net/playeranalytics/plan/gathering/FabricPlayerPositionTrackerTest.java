@@ -0,0 +1,77 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.playeranalytics.plan.gathering;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link FabricPlayerPositionTracker}.
+ *
+ * @author AuroraLS3
+ */
+class FabricPlayerPositionTrackerTest {
+
+    private FabricPlayerPositionTracker underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new FabricPlayerPositionTracker();
+        underTest.moved(10.0, 64.0, -10.0, 90.0f, 0.0f);
+    }
+
+    @Test
+    void firstPositionIsMovement() {
+        assertTrue(new FabricPlayerPositionTracker().moved(0.0, 0.0, 0.0, 0.0f, 0.0f));
+    }
+
+    @Test
+    void samePositionIsNotMovement() {
+        assertFalse(underTest.moved(10.0, 64.0, -10.0, 90.0f, 0.0f));
+    }
+
+    @Test
+    void movementUnderSixteenthOfBlockIsNotMovement() {
+        assertFalse(underTest.moved(10.01, 64.0, -10.0, 90.0f, 0.0f));
+        assertFalse(underTest.moved(10.0, 64.02, -10.0, 90.0f, 0.0f));
+        assertFalse(underTest.moved(10.0, 64.0, -10.01, 90.0f, 0.0f));
+    }
+
+    @Test
+    void movementOverSixteenthOfBlockIsMovement() {
+        assertTrue(underTest.moved(10.1, 64.0, -10.0, 90.0f, 0.0f));
+        assertTrue(underTest.moved(10.1, 64.1, -10.0, 90.0f, 0.0f));
+        assertTrue(underTest.moved(10.1, 64.1, -10.1, 90.0f, 0.0f));
+        assertFalse(underTest.moved(10.1, 64.1, -10.1, 90.0f, 0.0f));
+    }
+
+    @Test
+    void rotationUnderEighthOfDegreeIsNotMovement() {
+        assertFalse(underTest.moved(10.0, 64.0, -10.0, 90.05f, 0.0f));
+        assertFalse(underTest.moved(10.0, 64.0, -10.0, 90.0f, 0.05f));
+    }
+
+    @Test
+    void rotationOverEighthOfDegreeIsMovement() {
+        assertTrue(underTest.moved(10.0, 64.0, -10.0, 90.2f, 0.0f));
+        assertTrue(underTest.moved(10.0, 64.0, -10.0, 90.2f, -0.2f));
+        assertFalse(underTest.moved(10.0, 64.0, -10.0, 90.2f, -0.2f));
+    }
+}
\ No newline at end of file
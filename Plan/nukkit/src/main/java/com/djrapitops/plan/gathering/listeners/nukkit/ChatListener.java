@@ -76,9 +76,9 @@ public class ChatListener implements Listener {
         UUID uuid = player.getUniqueId();
         String displayName = player.getDisplayName();
 
-        dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(
-                uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
-                (playerUUID, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+        Nickname nickname = new Nickname(displayName, time, serverInfo.getServerUUID());
+        if (nicknameCache.updateDisplayName(uuid, nickname)) {
+            dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(uuid, nickname));
+        }
     }
 }
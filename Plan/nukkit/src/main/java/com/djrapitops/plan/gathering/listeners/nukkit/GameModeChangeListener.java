@@ -22,12 +22,9 @@ import cn.nukkit.event.EventPriority;
 import cn.nukkit.event.Listener;
 import cn.nukkit.event.player.PlayerGameModeChangeEvent;
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.cache.WorldCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.GMTimes;
-import com.djrapitops.plan.identification.ServerInfo;
-import com.djrapitops.plan.settings.config.WorldAliasSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 
@@ -42,21 +39,15 @@ import java.util.UUID;
  */
 public class GameModeChangeListener implements Listener {
 
-    private final WorldAliasSettings worldAliasSettings;
-    private final ServerInfo serverInfo;
-    private final DBSystem dbSystem;
+    private final WorldCache worldCache;
     private final ErrorLogger errorLogger;
 
     @Inject
     public GameModeChangeListener(
-            WorldAliasSettings worldAliasSettings,
-            ServerInfo serverInfo,
-            DBSystem dbSystem,
+            WorldCache worldCache,
             ErrorLogger errorLogger
     ) {
-        this.worldAliasSettings = worldAliasSettings;
-        this.serverInfo = serverInfo;
-        this.dbSystem = dbSystem;
+        this.worldCache = worldCache;
         this.errorLogger = errorLogger;
     }
 
@@ -79,8 +70,7 @@ public class GameModeChangeListener implements Listener {
         String gameMode = GMTimes.magicNumberToGMName(event.getNewGamemode());
         String worldName = player.getLevel().getName();
 
-        dbSystem.getDatabase().executeTransaction(new StoreWorldNameTransaction(serverInfo.getServerUUID(), worldName));
-        worldAliasSettings.addWorld(worldName);
+        worldCache.registerWorld(worldName);
 
         Optional<ActiveSession> cachedSession = SessionCache.getCachedSession(uuid);
         cachedSession.ifPresent(session -> session.changeState(worldName, gameMode, time));
@@ -45,8 +45,24 @@ const TpsPerformanceGraph = ({id, data, dataSeries, pluginHistorySeries}) => {
                 tooltip: tooltip.twoDecimals,
                 data: dataSeries.tps,
                 yAxis: 1
+            }, msptP95: {
+                name: t('html.label.tickDurationP95'),
+                type: spline,
+                color: nightModeEnabled ? withReducedSaturation(data.colors.med) : data.colors.med,
+                tooltip: tooltip.twoDecimals,
+                data: dataSeries.msptP95,
+                yAxis: 2
+            }, msptMax: {
+                name: t('html.label.tickDurationMax'),
+                type: spline,
+                color: nightModeEnabled ? withReducedSaturation(data.colors.low) : data.colors.low,
+                tooltip: tooltip.twoDecimals,
+                data: dataSeries.msptMax,
+                yAxis: 2,
+                visible: false
             }
         };
+        const hasTickDurations = dataSeries.msptP95.some(point => point[1] !== null && point[1] !== undefined);
 
         NoDataDisplay(Highcharts);
         Accessibility(Highcharts);
@@ -74,6 +90,15 @@ const TpsPerformanceGraph = ({id, data, dataSeries, pluginHistorySeries}) => {
                         return this.value + ' ' + t('html.label.tps')
                     }
                 }
+            }, {
+                labels: {
+                    formatter: function () {
+                        return this.value + ' ms'
+                    }
+                },
+                opposite: false,
+                showEmpty: false,
+                softMin: 0
             }],
             title: {text: ''},
             plotOptions: {
@@ -87,7 +112,9 @@ const TpsPerformanceGraph = ({id, data, dataSeries, pluginHistorySeries}) => {
             time: {
                 timezoneOffset: timeZoneOffsetMinutes
             },
-            series: [series.playersOnline, series.tps, pluginHistorySeries]
+            series: hasTickDurations
+                ? [series.playersOnline, series.tps, series.msptP95, series.msptMax, pluginHistorySeries]
+                : [series.playersOnline, series.tps, pluginHistorySeries]
         });
     }, [data, dataSeries, graphTheming, nightModeEnabled, id, t, timeZoneOffsetMinutes, pluginHistorySeries])
 
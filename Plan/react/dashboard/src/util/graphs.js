@@ -32,6 +32,8 @@ export const mapPerformanceDataToSeries = performanceData => {
     const entities = [];
     const chunks = [];
     const disk = [];
+    const msptP95 = [];
+    const msptMax = [];
 
     return new Promise((resolve => {
         let i = 0;
@@ -49,9 +51,11 @@ export const mapPerformanceDataToSeries = performanceData => {
                 entities[i] = [date, entry[5]];
                 chunks[i] = [date, entry[6]];
                 disk[i] = [date, entry[7]];
+                msptP95[i] = [date, entry[8]];
+                msptMax[i] = [date, entry[9]];
             }
             if (i >= length) {
-                resolve({playersOnline, tps, cpu, ram, entities, chunks, disk})
+                resolve({playersOnline, tps, cpu, ram, entities, chunks, disk, msptP95, msptMax})
             } else {
                 setTimeout(processNextThousand, 10);
             }
@@ -38,6 +38,7 @@ public class SpongeListenerSystem extends ListenerSystem {
     private final SpongeGMChangeListener gmChangeListener;
     private final PlayerOnlineListener playerListener;
     private final SpongeWorldChangeListener worldChangeListener;
+    private final SpongeTickDurationListener tickDurationListener;
     private final SpongeServerShutdownSave spongeServerShutdownSave;
 
     @Inject
@@ -49,6 +50,7 @@ public class SpongeListenerSystem extends ListenerSystem {
             SpongeGMChangeListener gmChangeListener,
             PlayerOnlineListener playerListener,
             SpongeWorldChangeListener worldChangeListener,
+            SpongeTickDurationListener tickDurationListener,
             SpongeServerShutdownSave spongeServerShutdownSave
     ) {
         this.listeners = listeners;
@@ -59,6 +61,7 @@ public class SpongeListenerSystem extends ListenerSystem {
         this.gmChangeListener = gmChangeListener;
         this.playerListener = playerListener;
         this.worldChangeListener = worldChangeListener;
+        this.tickDurationListener = tickDurationListener;
         this.spongeServerShutdownSave = spongeServerShutdownSave;
     }
 
@@ -70,12 +73,14 @@ public class SpongeListenerSystem extends ListenerSystem {
         listeners.registerListener(playerListener);
         listeners.registerListener(gmChangeListener);
         listeners.registerListener(worldChangeListener);
+        tickDurationListener.register();
         listeners.registerListener(spongeServerShutdownSave);
     }
 
     @Override
     protected void unregisterListeners() {
         listeners.unregisterListeners();
+        tickDurationListener.unregister();
     }
 
     @Override
@@ -72,9 +72,9 @@ public class SpongeChatListener {
         UUID uuid = player.uniqueId();
         String displayName = LegacyComponentSerializer.legacySection().serialize(player.displayName().get());
 
-        dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(
-                uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
-                (playerUUID, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+        Nickname nickname = new Nickname(displayName, time, serverInfo.getServerUUID());
+        if (nicknameCache.updateDisplayName(uuid, nickname)) {
+            dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(uuid, nickname));
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.sponge;
+
+import com.djrapitops.plan.gathering.timed.TickDurationRecorder;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Listener for server tick durations on Sponge.
+ * <p>
+ * Sponge API does not have a tick event, so TickDurationMixin calls the consumers.
+ *
+ * @author AuroraLS3
+ */
+public class SpongeTickDurationListener {
+
+    public static final List<DoubleConsumer> EVENT_CONSUMERS = new CopyOnWriteArrayList<>(); // Available to the mixin
+
+    private final TickDurationRecorder tickDurationRecorder;
+
+    @Inject
+    public SpongeTickDurationListener(TickDurationRecorder tickDurationRecorder) {
+        this.tickDurationRecorder = tickDurationRecorder;
+    }
+
+    public void register() {
+        EVENT_CONSUMERS.clear(); // Previous instance is stale after a reload
+        EVENT_CONSUMERS.add(tickDurationRecorder::recordTick);
+    }
+
+    public void unregister() {
+        EVENT_CONSUMERS.clear();
+    }
+}
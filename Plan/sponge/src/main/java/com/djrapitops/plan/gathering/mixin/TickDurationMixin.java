@@ -0,0 +1,49 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.mixin;
+
+import com.djrapitops.plan.gathering.listeners.sponge.SpongeTickDurationListener;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleConsumer;
+
+@Mixin(MinecraftServer.class)
+public class TickDurationMixin {
+
+    @Unique
+    private long plan$tickStart = -1;
+
+    @Inject(method = "tickServer", at = @At("HEAD"))
+    private void onTickStart(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        plan$tickStart = System.nanoTime();
+    }
+
+    @Inject(method = "tickServer", at = @At("RETURN"))
+    private void onTickEnd(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        if (plan$tickStart < 0) return;
+        double durationMs = (System.nanoTime() - plan$tickStart) / 1_000_000.0;
+        for (DoubleConsumer consumer : SpongeTickDurationListener.EVENT_CONSUMERS) {
+            consumer.accept(durationMs);
+        }
+    }
+}
@@ -22,8 +22,10 @@ import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieExpiryCleanupTask
 import com.djrapitops.plan.delivery.webserver.cache.JSONFileStorage;
 import com.djrapitops.plan.delivery.webserver.configuration.AddressAllowList;
 import com.djrapitops.plan.extension.ExtensionServerDataUpdater;
+import com.djrapitops.plan.gathering.SessionJournal;
 import com.djrapitops.plan.gathering.ShutdownDataPreservation;
 import com.djrapitops.plan.gathering.ShutdownHook;
+import com.djrapitops.plan.gathering.cache.NicknameCache;
 import com.djrapitops.plan.gathering.timed.InstalledPluginGatheringTask;
 import com.djrapitops.plan.gathering.timed.ServerTPSCounter;
 import com.djrapitops.plan.gathering.timed.SpongePingCounter;
@@ -80,10 +82,18 @@ public interface SpongeTaskModule {
     @IntoSet
     TaskSystem.Task bindJSONFileStorageCleanTask(JSONFileStorage.CleanTask cleanTask);
 
+    @Binds
+    @IntoSet
+    TaskSystem.Task bindNicknameStoreTask(NicknameCache.StoreTask storeTask);
+
     @Binds
     @IntoSet
     TaskSystem.Task bindShutdownDataPreservation(ShutdownDataPreservation dataPreservation);
 
+    @Binds
+    @IntoSet
+    TaskSystem.Task bindSessionJournalCheckpointTask(SessionJournal.CheckpointTask checkpointTask);
+
     @Binds
     @IntoSet
     TaskSystem.Task bindOldDependencyCacheDeletion(OldDependencyCacheDeletionTask deletionTask);